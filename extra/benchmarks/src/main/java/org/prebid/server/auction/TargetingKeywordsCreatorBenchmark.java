@@ -0,0 +1,93 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures targeting keywords creation for a typical auction response: winning and non-winning bids
+ * of several bidders, with prices spread over all price granularity ranges.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TargetingKeywordsCreatorBenchmark {
+
+    private static final String[] BIDDERS = {"appnexus", "rubicon", "openx", "pubmatic", "ix"};
+
+    @Param({"med", "dense"})
+    private String priceGranularity;
+
+    @Param({"true", "false"})
+    private boolean includeBidderKeys;
+
+    @Param({"20"})
+    private int bidsCount;
+
+    private TargetingKeywordsCreator targetingKeywordsCreator;
+    private List<Bid> bids;
+    private List<String> cacheIds;
+
+    @Setup
+    public void setUp() {
+        targetingKeywordsCreator = TargetingKeywordsCreator.create(
+                ExtPriceGranularity.from(PriceGranularity.createFromString(priceGranularity)),
+                true,
+                includeBidderKeys,
+                false,
+                true,
+                null,
+                0,
+                "prebid-cache.example.com",
+                "/cache",
+                null,
+                "hb");
+
+        bids = new ArrayList<>(bidsCount);
+        cacheIds = new ArrayList<>(bidsCount);
+        for (int i = 0; i < bidsCount; i++) {
+            bids.add(Bid.builder()
+                    .id("bid_id_" + i)
+                    .impid("imp_id_" + i % 4)
+                    .price(BigDecimal.valueOf(0.37 + i * 1.13))
+                    .w(300)
+                    .h(250)
+                    .dealid(i % 5 == 0 ? "deal_" + i : null)
+                    .build());
+            cacheIds.add("cache_id_" + i);
+        }
+    }
+
+    @Benchmark
+    public void makeFor(Blackhole blackhole) {
+        for (int i = 0; i < bids.size(); i++) {
+            blackhole.consume(targetingKeywordsCreator.makeFor(
+                    bids.get(i),
+                    BIDDERS[i % BIDDERS.length],
+                    i % 4 == 0,
+                    cacheIds.get(i),
+                    "banner",
+                    null,
+                    null));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.prebid.server.benchmark;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes auction stage events of a Java Flight Recorder recording and writes {@code auction-stages.md}
+ * with a markdown table of count, total and percentiles of duration and average allocation of each stage,
+ * sorted by total duration.
+ * <p>
+ * Usage: {@code AuctionStageSummary <recording.jfr> [stage|bidder|account]}.
+ * Stages are optionally split by bidder or account. Stages are nested, e.g. bidder calls are part of
+ * the whole auction, so totals of different stages are not additive. Allocation is recorded only for
+ * synchronous stages and is shown as {@code -} for the others.
+ */
+public class AuctionStageSummary {
+
+    private static final String EVENT_NAME = "org.prebid.server.AuctionStage";
+    private static final List<String> GROUPINGS = List.of("stage", "bidder", "account");
+
+    private static final String REPORT_FILE = "auction-stages.md";
+
+    private static final Logger logger = LoggerFactory.getLogger(AuctionStageSummary.class);
+
+    private AuctionStageSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        final String grouping = args.length > 1 ? args[1] : GROUPINGS.getFirst();
+        if (args.length < 1 || !GROUPINGS.contains(grouping)) {
+            throw new IllegalArgumentException("Usage: AuctionStageSummary <recording.jfr> [stage|bidder|account]");
+        }
+
+        final Map<String, StageStatistics> stages = new HashMap<>();
+        try (RecordingFile recording = new RecordingFile(Path.of(args[0]))) {
+            while (recording.hasMoreEvents()) {
+                final RecordedEvent event = recording.readEvent();
+                if (EVENT_NAME.equals(event.getEventType().getName())) {
+                    stages.computeIfAbsent(key(event, grouping), key -> new StageStatistics())
+                            .add(event.getDuration().toNanos(), event.getLong("allocated"));
+                }
+            }
+        }
+
+        final List<String> report = new ArrayList<>();
+        report.add("| Stage | Count | Total, ms | Mean, ms | p50, ms | p90, ms | p99, ms | Max, ms | Alloc, B/op |");
+        report.add("|---|---:|---:|---:|---:|---:|---:|---:|---:|");
+
+        stages.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, StageStatistics> entry) -> entry.getValue().totalNanos()).reversed())
+                .forEach(entry -> report.add(row(entry.getKey(), entry.getValue())));
+
+        final Path reportPath = Path.of(REPORT_FILE);
+        Files.write(reportPath, report);
+        report.forEach(logger::info);
+        logger.info("Auction stages summary written to " + reportPath.toAbsolutePath());
+    }
+
+    private static String key(RecordedEvent event, String grouping) {
+        final String stage = event.getString("stage");
+        return switch (grouping) {
+            case "bidder" -> stage + " " + ObjectUtils.defaultIfNull(event.getString("bidder"), "-");
+            case "account" -> stage + " " + ObjectUtils.defaultIfNull(event.getString("account"), "-");
+            default -> stage;
+        };
+    }
+
+    private static String row(String stage, StageStatistics statistics) {
+        final long[] durations = statistics.sortedDurations();
+        return "| %s | %d | %.1f | %.3f | %.3f | %.3f | %.3f | %.3f | %s |".formatted(
+                stage,
+                durations.length,
+                millis(statistics.totalNanos()),
+                millis(statistics.totalNanos()) / durations.length,
+                millis(percentile(durations, 50)),
+                millis(percentile(durations, 90)),
+                millis(percentile(durations, 99)),
+                millis(durations[durations.length - 1]),
+                statistics.allocatedBytes() > 0
+                        ? "%.0f".formatted((double) statistics.allocatedBytes() / durations.length)
+                        : "-");
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        final int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class StageStatistics {
+
+        private long[] durations = new long[1024];
+        private int count;
+        private long totalNanos;
+        private long allocatedBytes;
+
+        void add(long durationNanos, long allocated) {
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, durations.length * 2);
+            }
+            durations[count++] = durationNanos;
+            totalNanos += durationNanos;
+            allocatedBytes += allocated;
+        }
+
+        long[] sortedDurations() {
+            final long[] sorted = Arrays.copyOf(durations, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        long totalNanos() {
+            return totalNanos;
+        }
+
+        long allocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
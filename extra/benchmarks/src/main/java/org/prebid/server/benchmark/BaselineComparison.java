@@ -0,0 +1,147 @@
+package org.prebid.server.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and writes {@code benchmark-comparison.md} with a markdown table
+ * of score and allocation change of each benchmark present in both.
+ * <p>
+ * Usage: {@code BaselineComparison <baseline.json> <current.json> [threshold-percent]}.
+ * Fails when any score is worse than the baseline by more than the threshold (10 percent by default),
+ * so the JVM exits with non-zero status and it can gate a CI job.
+ */
+public class BaselineComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+    private static final String THROUGHPUT_MODE = "thrpt";
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private static final String REPORT_FILE = "benchmark-comparison.md";
+
+    private static final Logger logger = LoggerFactory.getLogger(BaselineComparison.class);
+
+    private static final ObjectMapper MAPPER = ObjectMapperProvider.mapper();
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                    "Usage: BaselineComparison <baseline.json> <current.json> [threshold-percent]");
+        }
+
+        final double thresholdPercent = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        final int regressions = compare(new File(args[0]), new File(args[1]), thresholdPercent);
+        if (regressions > 0) {
+            throw new IllegalStateException(
+                    "%d benchmark(s) regressed by more than %.1f%%".formatted(regressions, thresholdPercent));
+        }
+    }
+
+    /**
+     * Writes comparison report and returns the number of benchmarks regressed by more than the given threshold.
+     */
+    public static int compare(File baselineFile, File currentFile, double thresholdPercent) throws IOException {
+        final Map<String, Result> baseline = read(baselineFile);
+        final Map<String, Result> current = read(currentFile);
+
+        final List<String> report = new ArrayList<>();
+        report.add("| Benchmark | Mode | Baseline | Current | Change | Alloc baseline, B/op | Alloc current, B/op | |");
+        report.add("|---|---|---:|---:|---:|---:|---:|---|");
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            final Result baselineResult = baseline.get(entry.getKey());
+            if (baselineResult == null) {
+                continue;
+            }
+
+            final Result currentResult = entry.getValue();
+            final double changePercent = (currentResult.score() - baselineResult.score())
+                    / baselineResult.score() * 100;
+            final double worsePercent = THROUGHPUT_MODE.equals(currentResult.mode()) ? -changePercent : changePercent;
+            final boolean regression = worsePercent > thresholdPercent;
+            if (regression) {
+                regressions++;
+                logger.warn("%s regressed by %.1f%%".formatted(entry.getKey(), worsePercent));
+            }
+
+            report.add("| %s | %s | %.3f %s | %.3f %s | %+.1f%% | %s | %s | %s |".formatted(
+                    entry.getKey(),
+                    currentResult.mode(),
+                    baselineResult.score(),
+                    baselineResult.unit(),
+                    currentResult.score(),
+                    currentResult.unit(),
+                    changePercent,
+                    formatAllocation(baselineResult.allocation()),
+                    formatAllocation(currentResult.allocation()),
+                    regression ? "REGRESSION" : ""));
+        }
+
+        final Path reportPath = Path.of(REPORT_FILE);
+        Files.write(reportPath, report);
+        logger.info("Comparison report written to " + reportPath.toAbsolutePath());
+
+        return regressions;
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        final Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode benchmark : MAPPER.readTree(file)) {
+            final JsonNode primaryMetric = benchmark.path("primaryMetric");
+            results.put(
+                    key(benchmark),
+                    new Result(
+                            benchmark.path("mode").asText(),
+                            primaryMetric.path("score").asDouble(),
+                            primaryMetric.path("scoreUnit").asText(),
+                            allocation(benchmark.path("secondaryMetrics"))));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode benchmark) {
+        final Map<String, String> params = new TreeMap<>();
+        final Iterator<Map.Entry<String, JsonNode>> fields = benchmark.path("params").fields();
+        fields.forEachRemaining(field -> params.put(field.getKey(), field.getValue().asText()));
+
+        final String name = benchmark.path("benchmark").asText().replaceFirst("^org\\.prebid\\.server\\.", "");
+        return params.isEmpty() ? name : name + params;
+    }
+
+    private static Double allocation(JsonNode secondaryMetrics) {
+        final Iterator<Map.Entry<String, JsonNode>> metrics = secondaryMetrics.fields();
+        while (metrics.hasNext()) {
+            final Map.Entry<String, JsonNode> metric = metrics.next();
+            // older JMH versions prefix secondary metric names with a middle dot
+            if (metric.getKey().replaceFirst("^\\W+", "").equals(ALLOCATION_METRIC)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return null;
+    }
+
+    private static String formatAllocation(Double allocation) {
+        return allocation != null ? "%.0f".formatted(allocation) : "-";
+    }
+
+    private record Result(String mode, double score, String unit, Double allocation) {
+    }
+}
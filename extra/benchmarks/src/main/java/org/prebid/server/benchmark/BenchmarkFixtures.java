@@ -0,0 +1,203 @@
+package org.prebid.server.benchmark;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.BidderInstanceDeps;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Loads benchmark fixtures shared with PBS-Core tests and creates lightweight collaborators for benchmarked services.
+ * <p>
+ * Integration test fixtures contain JSON Unit placeholders, they are replaced with plain values on load.
+ */
+public class BenchmarkFixtures {
+
+    public static final String OPENRTB2_DIR = "org/prebid/server/it/openrtb2";
+
+    public static final JacksonMapper MAPPER = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    private static final Map<String, String> PLACEHOLDERS = Map.of(
+            "\"${json-unit.any-number}\"", "1000",
+            "${json-unit.any-string}", "any",
+            "{{ pbs.java.version }}", "1.0");
+
+    private BenchmarkFixtures() {
+    }
+
+    public static String read(String path) {
+        String content;
+        try {
+            content = ResourceUtil.readFromClasspath(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        for (Map.Entry<String, String> placeholder : PLACEHOLDERS.entrySet()) {
+            content = content.replace(placeholder.getKey(), placeholder.getValue());
+        }
+        return content;
+    }
+
+    public static <T> T read(String path, Class<T> type) {
+        return MAPPER.decodeValue(read(path), type);
+    }
+
+    public static boolean exists(String path) {
+        return BenchmarkFixtures.class.getClassLoader().getResource(path) != null;
+    }
+
+    /**
+     * Returns sorted names of classpath directory entries, works for both exploded and packaged fixtures.
+     */
+    public static List<String> list(String directory) {
+        final URL url = BenchmarkFixtures.class.getClassLoader().getResource(directory);
+        if (url == null) {
+            return Collections.emptyList();
+        }
+
+        try {
+            final URI uri = url.toURI();
+            if (!"jar".equals(uri.getScheme())) {
+                return list(Path.of(uri));
+            }
+
+            FileSystem fileSystem;
+            try {
+                fileSystem = FileSystems.getFileSystem(uri);
+            } catch (FileSystemNotFoundException e) {
+                fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap());
+            }
+            return list(fileSystem.getPath(directory));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static List<String> list(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> path.getFileName().toString().replace("/", ""))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Returns bidders having both auction request and bidder response fixtures.
+     */
+    public static List<String> biddersWithFixtures() {
+        return list(OPENRTB2_DIR).stream()
+                .filter(bidder -> exists(auctionRequestPath(bidder)) && exists(bidResponsePath(bidder)))
+                .toList();
+    }
+
+    public static String auctionRequestPath(String bidder) {
+        return "%s/%s/test-auction-%s-request.json".formatted(OPENRTB2_DIR, bidder, bidder);
+    }
+
+    public static String bidResponsePath(String bidder) {
+        return "%s/%s/test-%s-bid-response.json".formatted(OPENRTB2_DIR, bidder, bidder);
+    }
+
+    /**
+     * Reads auction request fixture and moves bidder params of each imp to imp.ext.bidder,
+     * making request the same as one passed by exchange to the bidder.
+     */
+    public static BidRequest bidderRequest(String bidder) {
+        final ObjectNode request = (ObjectNode) MAPPER.decodeValue(read(auctionRequestPath(bidder)), JsonNode.class);
+        final JsonNode imps = request.path("imp");
+        if (imps instanceof ArrayNode) {
+            for (JsonNode imp : imps) {
+                final JsonNode params = bidderParams(imp, bidder);
+                if (params != null && imp.get("ext") instanceof ObjectNode impExt) {
+                    impExt.remove(bidder);
+                    impExt.remove("prebid");
+                    impExt.set("bidder", params);
+                }
+            }
+        }
+        return MAPPER.mapper().convertValue(request, BidRequest.class);
+    }
+
+    /**
+     * Returns params of the given bidder from imp.ext.{bidder} or imp.ext.prebid.bidder.{bidder}.
+     */
+    public static JsonNode bidderParams(JsonNode imp, String bidder) {
+        final JsonNode impExt = imp.path("ext");
+        final JsonNode params = impExt.has(bidder)
+                ? impExt.get(bidder)
+                : impExt.path("prebid").path("bidder").get(bidder);
+        return params != null && params.isObject() ? params : null;
+    }
+
+    /**
+     * Creates catalog of enabled bidders with user syncers, bidder at index {@code i} has vendor id {@code i + 1}.
+     * Every tenth bidder has no user syncer, to have a realistic mix of syncable and not syncable bidders.
+     */
+    public static BidderCatalog bidderCatalog(Collection<String> bidders) {
+        final List<BidderDeps> bidderDeps = new ArrayList<>();
+
+        final Iterator<String> iterator = bidders.iterator();
+        for (int index = 0; iterator.hasNext(); index++) {
+            final String bidder = iterator.next();
+            final BidderInfo bidderInfo = BidderInfo.create(true, null, true, "https://" + bidder + ".com", null,
+                    null, null, null, null, null, index + 1, null, index % 3 == 0, false, CompressionType.NONE,
+                    Ortb.of(false));
+            final Usersyncer usersyncer = index % 10 != 9
+                    ? Usersyncer.of(true, bidder, CookieFamilySource.ROOT, null, null)
+                    : null;
+
+            bidderDeps.add(BidderDeps.of(Collections.singletonList(BidderInstanceDeps.builder()
+                    .name(bidder)
+                    .deprecatedNames(Collections.emptyList())
+                    .bidderInfo(bidderInfo)
+                    .usersyncer(usersyncer)
+                    .build())));
+        }
+
+        return new BidderCatalog(bidderDeps);
+    }
+
+    public static Metrics metrics() {
+        return new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+    }
+}
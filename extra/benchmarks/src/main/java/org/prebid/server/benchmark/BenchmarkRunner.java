@@ -0,0 +1,55 @@
+package org.prebid.server.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+/**
+ * Entry point of the benchmarks JAR.
+ * <p>
+ * Accepts the usual JMH command line, but always attaches the GC profiler, so allocation per operation
+ * is reported next to the score, and writes results as JSON to {@code benchmark-results.json}
+ * unless other result format or file is given. Such file can be compared with a baseline by
+ * {@link BaselineComparison}.
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "benchmark-results.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+                || commandLineOptions.shouldListProfilers() || commandLineOptions.shouldListResultFormats()) {
+
+            Main.main(args);
+            return;
+        }
+
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!gcProfilerRequested(commandLineOptions)) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+
+        new Runner(options.build()).run();
+    }
+
+    private static boolean gcProfilerRequested(CommandLineOptions commandLineOptions) {
+        return commandLineOptions.getProfilers().stream()
+                .map(ProfilerConfig::getKlass)
+                .anyMatch(klass -> "gc".equals(klass) || GCProfiler.class.getName().equals(klass));
+    }
+}
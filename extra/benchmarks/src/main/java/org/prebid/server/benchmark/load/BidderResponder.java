@@ -0,0 +1,22 @@
+package org.prebid.server.benchmark.load;
+
+/**
+ * Answers bidder requests received by {@link StubBidderServer}.
+ */
+public interface BidderResponder {
+
+    /**
+     * Returns response to the bidder request.
+     *
+     * @param bidderPath first segment of the request path, naming the bidder in integration test configuration,
+     *                   for example {@code /generic-exchange}
+     * @param body       request body, {@code null} if there is none
+     */
+    StubResponse respond(String bidderPath, String body);
+
+    /**
+     * Response of a stub bidder, sent after the given delay. Response with {@code null} body has no content.
+     */
+    record StubResponse(int status, String body, long delayMillis) {
+    }
+}
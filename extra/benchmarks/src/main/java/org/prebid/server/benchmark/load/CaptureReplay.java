@@ -0,0 +1,86 @@
+package org.prebid.server.benchmark.load;
+
+import io.vertx.core.Vertx;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.log.AuctionCaptureCodec;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.log.model.CapturedAuction;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays auctions captured by {@code /logging/httpinteraction?capture=true} against in-process PBS,
+ * with bidders answering by the captured responses at the captured response times, and reports
+ * throughput, latency, CPU time and allocations per auction in the format of {@link LoadHarness}.
+ * <p>
+ * Captured auctions are sent in round-robin in a closed loop, so CPU time and allocations per auction of two
+ * PBS versions are compared on the same traffic. PBS is configured as by {@link LoadHarness}; accounts and
+ * stored requests of the captured traffic are given by an additional properties file.
+ */
+public class CaptureReplay {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaptureReplay.class);
+
+    private static final Map<String, String> DEFAULTS = Map.of(
+            "capture", "",
+            "properties", "",
+            "concurrency", "8",
+            "warmup-seconds", "20",
+            "duration-seconds", "60",
+            "result", "replay-results.json");
+
+    private CaptureReplay() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> options = LoadHarnessOptions.parse(args, DEFAULTS);
+        final String capture = options.get("capture");
+        if (StringUtils.isEmpty(capture)) {
+            throw new IllegalArgumentException("Option --capture=<capture file> is required");
+        }
+
+        final List<CapturedAuction> auctions;
+        try (InputStream inputStream = Files.newInputStream(Path.of(capture))) {
+            auctions = AuctionCaptureCodec.decode(inputStream);
+        }
+        logger.info("Replaying %d captured auctions of %s".formatted(auctions.size(), capture));
+
+        final Vertx stubVertx = Vertx.vertx();
+        final HarnessThreads harnessThreads = new HarnessThreads();
+        final StubBidderServer stubServer = new StubBidderServer(
+                stubVertx, new CapturedBidderResponder(auctions), harnessThreads);
+        final int stubPort = LoadHarness.await(stubServer.start(0));
+
+        final String properties = options.get("properties");
+        final int pbsPort = LoadHarness.freePort();
+        final ConfigurableApplicationContext context = LoadHarness.startPbs(
+                stubPort, pbsPort, StringUtils.isNotEmpty(properties) ? Path.of(properties) : null);
+
+        final int concurrency = Integer.parseInt(options.get("concurrency"));
+        final LoadDriver driver = new LoadDriver(stubVertx, "localhost", pbsPort, concurrency, harnessThreads);
+        final ScenarioResult result = LoadHarness.measure(
+                driver,
+                Traffic.captured(auctions),
+                Duration.ofSeconds(Long.parseLong(options.get("warmup-seconds"))),
+                Duration.ofSeconds(Long.parseLong(options.get("duration-seconds"))),
+                harnessThreads);
+
+        LoadReport.write(Collections.singletonList(result), concurrency, Path.of(options.get("result")));
+
+        LoadHarness.await(driver.close());
+        LoadHarness.await(stubServer.stop());
+        context.close();
+        LoadHarness.await(stubVertx.close());
+
+        // PBS Vert.x threads are not daemons and may outlive the closed context
+        System.exit(0);
+    }
+}
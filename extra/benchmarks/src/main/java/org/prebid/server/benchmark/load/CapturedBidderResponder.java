@@ -0,0 +1,62 @@
+package org.prebid.server.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.prebid.server.log.model.CapturedAuction;
+import org.prebid.server.log.model.CapturedBidderCall;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Answers bidder requests with bidder responses of captured auctions, at their recorded response time.
+ * <p>
+ * Recorded call is chosen by bidder and the imp ids of the bidder request, so the replayed auction gets
+ * the responses of its own capture, falling back to any call recorded for the bidder. Bidder unknown to
+ * the capture and bidder timed out during the capture answer with no content.
+ */
+public class CapturedBidderResponder implements BidderResponder {
+
+    private static final String BIDDER_PATH_SUFFIX = "-exchange";
+
+    private final Map<String, List<CapturedBidderCall>> bidderToCalls = new HashMap<>();
+    private final Map<String, List<CapturedBidderCall>> bidderAndImpsToCalls = new HashMap<>();
+
+    public CapturedBidderResponder(List<CapturedAuction> auctions) {
+        for (CapturedAuction auction : auctions) {
+            for (CapturedBidderCall call : auction.getBidderCalls()) {
+                bidderToCalls.computeIfAbsent(call.getBidder(), key -> new ArrayList<>()).add(call);
+                bidderAndImpsToCalls.computeIfAbsent(key(call.getBidder(), call.getRequestBody()),
+                        key -> new ArrayList<>()).add(call);
+            }
+        }
+    }
+
+    @Override
+    public StubResponse respond(String bidderPath, String body) {
+        final String bidder = bidderPath.substring(1).replace(BIDDER_PATH_SUFFIX, "");
+
+        final List<CapturedBidderCall> calls = bidderAndImpsToCalls.getOrDefault(
+                key(bidder, body), bidderToCalls.getOrDefault(bidder, Collections.emptyList()));
+        if (calls.isEmpty()) {
+            return new StubResponse(204, null, 0);
+        }
+
+        final CapturedBidderCall call = calls.get(ThreadLocalRandom.current().nextInt(calls.size()));
+        return call.getStatus() != null
+                ? new StubResponse(call.getStatus(), call.getResponseBody(), call.getResponseTimeMillis())
+                : new StubResponse(204, null, call.getResponseTimeMillis());
+    }
+
+    private static String key(String bidder, String requestBody) {
+        final JsonNode request = StubBidderServer.parse(requestBody);
+        final TreeSet<String> impIds = new TreeSet<>();
+        request.path("imp").forEach(imp -> impIds.add(imp.path("id").asText()));
+
+        return bidder + impIds;
+    }
+}
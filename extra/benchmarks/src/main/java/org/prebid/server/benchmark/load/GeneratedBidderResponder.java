@@ -0,0 +1,134 @@
+package org.prebid.server.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Answers with recorded bidder response fixture when the bidder request asks for all imps it bids on,
+ * otherwise generates an OpenRTB response with a bid per imp. Each imp gets a bid with the configured bid rate,
+ * requests without bids are answered with 204, as real bidders do. Delay is taken from the configured
+ * {@link LatencyDistribution}.
+ */
+public class GeneratedBidderResponder implements BidderResponder {
+
+    private static final String FIXTURES_DIR = "org/prebid/server/it";
+    private static final Pattern BID_RESPONSE_FIXTURE = Pattern.compile("test-(.+)-bid-response\\.json");
+
+    private final LatencyDistribution latency;
+    private final double bidRate;
+    private final String adm;
+
+    private final Map<String, List<RecordedResponse>> recordedResponses;
+
+    public GeneratedBidderResponder(LatencyDistribution latency, double bidRate, int admSizeBytes) {
+        this.latency = Objects.requireNonNull(latency);
+        this.bidRate = bidRate;
+        this.adm = "<div>" + StringUtils.repeat('x', Math.max(admSizeBytes - 11, 0)) + "</div>";
+
+        recordedResponses = recordedResponses();
+    }
+
+    @Override
+    public StubResponse respond(String bidderPath, String body) {
+        final String response = bidderResponse(bidderPath, body);
+        return new StubResponse(response != null ? 200 : 204, response, latency.nextMillis());
+    }
+
+    private String bidderResponse(String bidderPath, String body) {
+        final JsonNode request = StubBidderServer.parse(body);
+        final Set<String> impIds = new HashSet<>();
+        request.path("imp").forEach(imp -> impIds.add(imp.path("id").asText()));
+
+        final List<RecordedResponse> recorded = recordedResponses.getOrDefault(bidderPath, Collections.emptyList());
+        for (RecordedResponse recordedResponse : recorded) {
+            if (impIds.containsAll(recordedResponse.impIds())) {
+                return ThreadLocalRandom.current().nextDouble() < bidRate ? recordedResponse.body() : null;
+            }
+        }
+
+        if (!impIds.isEmpty()) {
+            return generatedResponse(request);
+        }
+        return !recorded.isEmpty() && ThreadLocalRandom.current().nextDouble() < bidRate
+                ? recorded.getFirst().body()
+                : null;
+    }
+
+    private String generatedResponse(JsonNode request) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final ObjectNode response = BenchmarkFixtures.MAPPER.mapper().createObjectNode()
+                .put("id", request.path("id").asText())
+                .put("cur", "USD");
+        final ArrayNode bids = response.putArray("seatbid").addObject().putArray("bid");
+
+        for (JsonNode imp : request.path("imp")) {
+            if (random.nextDouble() >= bidRate) {
+                continue;
+            }
+
+            final String impId = imp.path("id").asText();
+            final JsonNode format = imp.path("banner").path("format").path(0);
+            bids.addObject()
+                    .put("id", UUID.randomUUID().toString())
+                    .put("impid", impId)
+                    .put("price", BigDecimal.valueOf(0.1 + random.nextDouble() * 5).setScale(2, RoundingMode.HALF_UP))
+                    .put("adm", adm)
+                    .put("crid", "creative-" + impId)
+                    .put("w", format.path("w").asInt(300))
+                    .put("h", format.path("h").asInt(250))
+                    .putArray("adomain").add("advertiser.example.com");
+        }
+
+        return !bids.isEmpty() ? response.toString() : null;
+    }
+
+    private static Map<String, List<RecordedResponse>> recordedResponses() {
+        final Map<String, List<RecordedResponse>> responses = new HashMap<>();
+
+        final List<String> directories = new ArrayList<>();
+        directories.add(FIXTURES_DIR + "/amp");
+        BenchmarkFixtures.list(BenchmarkFixtures.OPENRTB2_DIR)
+                .forEach(bidder -> directories.add(BenchmarkFixtures.OPENRTB2_DIR + "/" + bidder));
+
+        for (String directory : directories) {
+            for (String file : BenchmarkFixtures.list(directory)) {
+                final Matcher matcher = BID_RESPONSE_FIXTURE.matcher(file);
+                if (!matcher.matches()) {
+                    continue;
+                }
+
+                final String body = BenchmarkFixtures.read(directory + "/" + file);
+                final Set<String> impIds = new HashSet<>();
+                StubBidderServer.parse(body).path("seatbid")
+                        .forEach(seatBid -> seatBid.path("bid")
+                                .forEach(bid -> impIds.add(bid.path("impid").asText())));
+
+                responses.computeIfAbsent("/" + matcher.group(1) + "-exchange", key -> new ArrayList<>())
+                        .add(new RecordedResponse(body, impIds));
+            }
+        }
+
+        return responses;
+    }
+
+    private record RecordedResponse(String body, Set<String> impIds) {
+    }
+}
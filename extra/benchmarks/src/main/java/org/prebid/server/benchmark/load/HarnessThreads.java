@@ -0,0 +1,23 @@
+package org.prebid.server.benchmark.load;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Threads running the load driver and stub servers, registered by them on each request.
+ * <p>
+ * They share the JVM with PBS, so they are excluded when allocations and CPU time of PBS are taken
+ * by {@link JvmSnapshot}.
+ */
+public class HarnessThreads {
+
+    private final Set<Long> threadIds = ConcurrentHashMap.newKeySet();
+
+    public void register() {
+        threadIds.add(Thread.currentThread().threadId());
+    }
+
+    public boolean contains(long threadId) {
+        return threadIds.contains(threadId);
+    }
+}
@@ -0,0 +1,68 @@
+package org.prebid.server.benchmark.load;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GC counters of the JVM, and allocation and CPU time counters of PBS threads, taken before and after a measurement.
+ * <p>
+ * PBS, stub servers and load driver run in the same JVM, so allocations and CPU time are summed per thread,
+ * skipping {@link HarnessThreads}. Threads started during the measurement are counted from their start, threads
+ * terminated during it are not counted, which is fine for pooled PBS threads. CPU time of GC and JIT compiler
+ * is not counted either. GC counters are JVM-wide and include collections caused by the harness.
+ */
+public record JvmSnapshot(long gcCount, long gcTimeMillis, Map<Long, ThreadUsage> threadUsages) {
+
+    public static JvmSnapshot take(HarnessThreads harnessThreads) {
+        long gcCount = 0;
+        long gcTimeMillis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(collector.getCollectionCount(), 0);
+            gcTimeMillis += Math.max(collector.getCollectionTime(), 0);
+        }
+
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        final long[] threadIds = threadMXBean.getAllThreadIds();
+        final long[] allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadIds);
+        final long[] cpuTimeNanos = threadMXBean.getThreadCpuTime(threadIds);
+
+        final Map<Long, ThreadUsage> threadUsages = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            // terminated threads are reported with -1
+            if (!harnessThreads.contains(threadIds[i]) && allocatedBytes[i] >= 0) {
+                threadUsages.put(threadIds[i], new ThreadUsage(allocatedBytes[i], Math.max(cpuTimeNanos[i], 0)));
+            }
+        }
+
+        return new JvmSnapshot(gcCount, gcTimeMillis, threadUsages);
+    }
+
+    public JvmSnapshot minus(JvmSnapshot other) {
+        final Map<Long, ThreadUsage> threadUsagesDiff = new HashMap<>();
+        threadUsages.forEach((threadId, usage) -> threadUsagesDiff.put(
+                threadId, usage.minus(other.threadUsages.getOrDefault(threadId, ThreadUsage.NONE))));
+
+        return new JvmSnapshot(gcCount - other.gcCount, gcTimeMillis - other.gcTimeMillis, threadUsagesDiff);
+    }
+
+    public long allocatedBytes() {
+        return threadUsages.values().stream().mapToLong(ThreadUsage::allocatedBytes).sum();
+    }
+
+    public long cpuTimeNanos() {
+        return threadUsages.values().stream().mapToLong(ThreadUsage::cpuTimeNanos).sum();
+    }
+
+    public record ThreadUsage(long allocatedBytes, long cpuTimeNanos) {
+
+        static final ThreadUsage NONE = new ThreadUsage(0, 0);
+
+        ThreadUsage minus(ThreadUsage other) {
+            return new ThreadUsage(allocatedBytes - other.allocatedBytes, cpuTimeNanos - other.cpuTimeNanos);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.prebid.server.benchmark.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency of stub bidder responses.
+ * <p>
+ * Parsed from {@code fixed:<ms>}, {@code uniform:<min-ms>:<max-ms>} or {@code lognormal:<median-ms>:<p99-ms>}.
+ * Log-normal distribution is the closest to latencies of real bidders: most responses are near the median,
+ * while the long tail decides how many bidders miss the auction timeout.
+ */
+public class LatencyDistribution {
+
+    // standard normal quantile of 0.99
+    private static final double P99_Z_SCORE = 2.3263;
+
+    private final Type type;
+    private final double first;
+    private final double second;
+
+    private LatencyDistribution(Type type, double first, double second) {
+        this.type = type;
+        this.first = first;
+        this.second = second;
+    }
+
+    public static LatencyDistribution parse(String value) {
+        final String[] parts = value.split(":");
+        final Type type = Type.valueOf(parts[0]);
+        final int expectedParts = type == Type.fixed ? 2 : 3;
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + value);
+        }
+
+        final double first = Double.parseDouble(parts[1]);
+        final double second = expectedParts == 3 ? Double.parseDouble(parts[2]) : first;
+        if (first < 0 || second < first) {
+            throw new IllegalArgumentException("Invalid latency distribution bounds: " + value);
+        }
+
+        return switch (type) {
+            case fixed, uniform -> new LatencyDistribution(type, first, second);
+            // keeps mu and sigma of the underlying normal distribution
+            case lognormal -> new LatencyDistribution(
+                    type,
+                    Math.log(Math.max(first, 1)),
+                    (Math.log(Math.max(second, 1)) - Math.log(Math.max(first, 1))) / P99_Z_SCORE);
+        };
+    }
+
+    public long nextMillis() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (type) {
+            case fixed -> (long) first;
+            case uniform -> (long) (first + random.nextDouble() * (second - first));
+            case lognormal -> Math.round(Math.exp(first + second * random.nextGaussian()));
+        };
+    }
+
+    private enum Type {
+
+        fixed, uniform, lognormal
+    }
+}
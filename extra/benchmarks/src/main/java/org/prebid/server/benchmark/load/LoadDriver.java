@@ -0,0 +1,104 @@
+package org.prebid.server.benchmark.load;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.http.RequestOptions;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends requests to PBS in a closed loop: each of {@code concurrency} clients sends the next request
+ * as soon as the previous one is answered.
+ * <p>
+ * Closed loop finds the capacity of PBS, but hides queueing delays when PBS is saturated,
+ * so latency percentiles are meaningful when compared at the same concurrency.
+ */
+public class LoadDriver {
+
+    private static final long REQUEST_TIMEOUT_MS = 10000L;
+
+    private final Vertx vertx;
+    private final String host;
+    private final int port;
+    private final int concurrency;
+    private final HarnessThreads harnessThreads;
+    private final HttpClient httpClient;
+
+    public LoadDriver(Vertx vertx, String host, int port, int concurrency, HarnessThreads harnessThreads) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.host = Objects.requireNonNull(host);
+        this.port = port;
+        this.concurrency = concurrency;
+        this.harnessThreads = Objects.requireNonNull(harnessThreads);
+
+        httpClient = vertx.createHttpClient(
+                new HttpClientOptions().setKeepAlive(true),
+                new PoolOptions().setHttp1MaxSize(concurrency));
+    }
+
+    public Future<Void> run(Traffic traffic, Duration duration, LatencyRecorder recorder) {
+        final Promise<Void> promise = Promise.promise();
+        final long endNanos = System.nanoTime() + duration.toNanos();
+        final AtomicInteger activeClients = new AtomicInteger(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            sendNext(traffic, endNanos, recorder, activeClients, promise);
+        }
+
+        return promise.future();
+    }
+
+    public Future<Void> close() {
+        return httpClient.close();
+    }
+
+    private void sendNext(Traffic traffic,
+                          long endNanos,
+                          LatencyRecorder recorder,
+                          AtomicInteger activeClients,
+                          Promise<Void> promise) {
+
+        harnessThreads.register();
+        if (System.nanoTime() >= endNanos) {
+            if (activeClients.decrementAndGet() == 0) {
+                promise.complete();
+            }
+            return;
+        }
+
+        final LoadRequest loadRequest = traffic.next();
+        final long startNanos = System.nanoTime();
+        httpClient.request(new RequestOptions()
+                        .setMethod(loadRequest.method())
+                        .setHost(host)
+                        .setPort(port)
+                        .setURI(loadRequest.uri())
+                        .setHeaders(loadRequest.headers())
+                        .setIdleTimeout(REQUEST_TIMEOUT_MS))
+                .compose(request -> send(request, loadRequest))
+                .compose(response -> response.body().map(ignored -> response.statusCode()))
+                .onComplete(result -> {
+                    final long latencyNanos = System.nanoTime() - startNanos;
+                    if (result.succeeded()) {
+                        recorder.record(result.result(), latencyNanos);
+                        sendNext(traffic, endNanos, recorder, activeClients, promise);
+                    } else {
+                        recorder.recordFailure(latencyNanos);
+                        // failed requests may complete synchronously, so the stack is not grown by retries
+                        vertx.runOnContext(ignored -> sendNext(traffic, endNanos, recorder, activeClients, promise));
+                    }
+                });
+    }
+
+    private static Future<HttpClientResponse> send(HttpClientRequest request, LoadRequest loadRequest) {
+        return loadRequest.body() != null ? request.send(loadRequest.body()) : request.send();
+    }
+}
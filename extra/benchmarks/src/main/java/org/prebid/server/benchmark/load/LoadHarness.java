@@ -0,0 +1,174 @@
+package org.prebid.server.benchmark.load;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.prebid.server.Application;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.PropertiesPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Starts PBS in-process against {@link StubBidderServer} and loads its endpoints with {@link LoadDriver},
+ * measuring throughput, latency percentiles, GC and PBS allocations of each endpoint.
+ * <p>
+ * PBS is configured by the integration tests configuration with bidders, cache and currency rates
+ * pointed to the stub server, so it has to be run from the project root directory,
+ * where the stored requests and settings of integration tests are found.
+ */
+public class LoadHarness {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadHarness.class);
+
+    private static final String APPLICATION_PROPERTIES = "org/prebid/server/it/test-application.properties";
+    private static final String STUB_HOST = "localhost:8090";
+    private static final String LOCALHOST = "localhost";
+    private static final int COOKIE_SYNC_BIDDERS_PER_REQUEST = 10;
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final LoadHarnessOptions options = LoadHarnessOptions.parse(args);
+
+        // stub bidders get their own event loops, so their work does not compete with PBS verticles
+        final Vertx stubVertx = Vertx.vertx();
+        final HarnessThreads harnessThreads = new HarnessThreads();
+        final StubBidderServer stubServer = new StubBidderServer(
+                stubVertx,
+                new GeneratedBidderResponder(options.latency(), options.bidRate(), options.admSize()),
+                harnessThreads);
+        final int stubPort = await(stubServer.start(0));
+        logger.info("Stub bidders started on port " + stubPort);
+
+        final int pbsPort = freePort();
+        final ConfigurableApplicationContext context = startPbs(stubPort, pbsPort, null);
+
+        final LoadDriver driver = new LoadDriver(stubVertx, LOCALHOST, pbsPort, options.concurrency(), harnessThreads);
+        final List<ScenarioResult> results = new ArrayList<>();
+        for (String endpoint : options.endpoints()) {
+            final Traffic traffic = traffic(endpoint, options, context.getBean(BidderCatalog.class));
+            results.add(measure(driver, traffic, options.warmup(), options.duration(), harnessThreads));
+        }
+
+        LoadReport.write(results, options.concurrency(), Path.of(options.result()));
+
+        await(driver.close());
+        await(stubServer.stop());
+        context.close();
+        await(stubVertx.close());
+
+        // PBS Vert.x threads are not daemons and may outlive the closed context
+        System.exit(0);
+    }
+
+    /**
+     * Starts PBS with integration tests configuration pointed to the stub server,
+     * overridden by the given properties file if any.
+     */
+    static ConfigurableApplicationContext startPbs(int stubPort, int pbsPort, Path propertiesFile)
+            throws IOException {
+
+        final Properties properties = new Properties();
+        try (InputStream inputStream = LoadHarness.class.getClassLoader()
+                .getResourceAsStream(APPLICATION_PROPERTIES)) {
+
+            if (inputStream == null) {
+                throw new IllegalStateException(APPLICATION_PROPERTIES + " is not found in classpath");
+            }
+            properties.load(inputStream);
+        }
+
+        final String stubHost = LOCALHOST + ":" + stubPort;
+        properties.replaceAll((key, value) -> value.toString().replace(STUB_HOST, stubHost));
+        properties.setProperty("server.http.port", String.valueOf(pbsPort));
+        properties.setProperty("admin.port", String.valueOf(freePort()));
+        // logging of every request would measure the logging backend instead of PBS
+        properties.setProperty("logging.level.org.prebid.server", "WARN");
+        properties.setProperty("logging.level.org.prebid.server.benchmark", "INFO");
+
+        if (propertiesFile != null) {
+            try (InputStream inputStream = Files.newInputStream(propertiesFile)) {
+                properties.load(inputStream);
+            }
+        }
+
+        final SpringApplication application = new SpringApplication(Application.class);
+        application.addInitializers(context -> context.getEnvironment().getPropertySources()
+                .addFirst(new PropertiesPropertySource("load-harness", properties)));
+
+        final long startNanos = System.nanoTime();
+        // servers are deployed on context refresh, so PBS is serving once run returns
+        final ConfigurableApplicationContext context = application.run();
+        logger.info("PBS started on port %d in %d ms".formatted(
+                pbsPort, Duration.ofNanos(System.nanoTime() - startNanos).toMillis()));
+
+        return context;
+    }
+
+    private static Traffic traffic(String endpoint, LoadHarnessOptions options, BidderCatalog bidderCatalog) {
+        return switch (endpoint) {
+            case "auction" -> switch (options.traffic()) {
+                case "fixtures" -> Traffic.auctionFixtures();
+                case "generated" -> Traffic.generatedAuction(
+                        options.bidders(), options.imps(), options.tmax(), options.account());
+                default -> Traffic.auctionDirectory(Path.of(options.traffic()));
+            };
+            case "amp" -> Traffic.amp();
+            case "cookie_sync" -> Traffic.cookieSync(
+                    bidderCatalog.usersyncReadyBidders().stream().sorted().toList(),
+                    COOKIE_SYNC_BIDDERS_PER_REQUEST);
+            default -> throw new IllegalArgumentException("Unknown endpoint: " + endpoint);
+        };
+    }
+
+    static ScenarioResult measure(LoadDriver driver,
+                                  Traffic traffic,
+                                  Duration warmup,
+                                  Duration duration,
+                                  HarnessThreads harnessThreads) {
+
+        // harness threads are registered during warmup, so they are known when the measurement starts
+        logger.info("Warming up %s for %s".formatted(traffic.name(), warmup));
+        await(driver.run(traffic, warmup, new LatencyRecorder()));
+
+        logger.info("Measuring %s for %s".formatted(traffic.name(), duration));
+        final LatencyRecorder recorder = new LatencyRecorder();
+        final JvmSnapshot before = JvmSnapshot.take(harnessThreads);
+        final long startNanos = System.nanoTime();
+
+        await(driver.run(traffic, duration, recorder));
+
+        final long durationNanos = System.nanoTime() - startNanos;
+        final JvmSnapshot jvm = JvmSnapshot.take(harnessThreads).minus(before);
+
+        final ScenarioResult result = ScenarioResult.of(traffic.name(), durationNanos, recorder, jvm);
+        LoadReport.log(result);
+        return result;
+    }
+
+    static <T> T await(Future<T> future) {
+        return future.toCompletionStage().toCompletableFuture().join();
+    }
+
+    static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
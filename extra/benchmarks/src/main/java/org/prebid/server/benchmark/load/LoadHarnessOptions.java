@@ -0,0 +1,107 @@
+package org.prebid.server.benchmark.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options of {@link LoadHarness} given as {@code --name=value} arguments.
+ *
+ * @param endpoints      endpoints to load one after another: {@code auction}, {@code amp}, {@code cookie_sync}
+ * @param traffic        auction traffic: {@code fixtures}, {@code generated} or a directory of request bodies
+ * @param bidders        bidders of generated auction requests and cookie sync requests
+ * @param imps           number of imps in generated auction requests
+ * @param tmax           tmax of generated auction requests in milliseconds
+ * @param account        publisher id of generated auction requests
+ * @param latency        stub bidders latency distribution, see {@link LatencyDistribution}
+ * @param bidRate        probability of stub bidder to bid on an imp
+ * @param admSize        size of generated bid adm in bytes
+ * @param concurrency    number of concurrently sent requests
+ * @param warmup         warmup duration of each endpoint, its requests are not measured
+ * @param duration       measurement duration of each endpoint
+ * @param result         file to write results to
+ */
+public record LoadHarnessOptions(List<String> endpoints,
+                                 String traffic,
+                                 List<String> bidders,
+                                 int imps,
+                                 long tmax,
+                                 String account,
+                                 LatencyDistribution latency,
+                                 double bidRate,
+                                 int admSize,
+                                 int concurrency,
+                                 Duration warmup,
+                                 Duration duration,
+                                 String result) {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("endpoints", "auction,amp,cookie_sync"),
+            Map.entry("traffic", "generated"),
+            Map.entry("bidders", "generic,genericAlias"),
+            Map.entry("imps", "3"),
+            Map.entry("tmax", "1000"),
+            Map.entry("account", "1001"),
+            Map.entry("latency", "lognormal:40:250"),
+            Map.entry("bid-rate", "0.8"),
+            Map.entry("adm-size", "2000"),
+            Map.entry("concurrency", "64"),
+            Map.entry("warmup-seconds", "20"),
+            Map.entry("duration-seconds", "60"),
+            Map.entry("result", "load-results.json"));
+
+    private static final Set<String> ENDPOINTS = Set.of("auction", "amp", "cookie_sync");
+
+    public static LoadHarnessOptions parse(String[] args) {
+        final Map<String, String> values = parse(args, DEFAULTS);
+
+        final List<String> endpoints = list(values.get("endpoints"));
+        if (!ENDPOINTS.containsAll(endpoints)) {
+            throw new IllegalArgumentException("Unknown endpoints %s, known endpoints: %s"
+                    .formatted(endpoints, ENDPOINTS));
+        }
+
+        return new LoadHarnessOptions(
+                endpoints,
+                values.get("traffic"),
+                list(values.get("bidders")),
+                Integer.parseInt(values.get("imps")),
+                Long.parseLong(values.get("tmax")),
+                values.get("account"),
+                LatencyDistribution.parse(values.get("latency")),
+                Double.parseDouble(values.get("bid-rate")),
+                Integer.parseInt(values.get("adm-size")),
+                Integer.parseInt(values.get("concurrency")),
+                Duration.ofSeconds(Long.parseLong(values.get("warmup-seconds"))),
+                Duration.ofSeconds(Long.parseLong(values.get("duration-seconds"))),
+                values.get("result"));
+    }
+
+    /**
+     * Returns values of {@code --name=value} arguments merged over the given defaults,
+     * failing on an option missing in defaults.
+     */
+    static Map<String, String> parse(String[] args, Map<String, String> defaults) {
+        final Map<String, String> values = new HashMap<>(defaults);
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            final String name = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (name == null || !defaults.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option %s, known options: %s"
+                        .formatted(arg, defaults.keySet()));
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+        return values;
+    }
+
+    private static List<String> list(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package org.prebid.server.benchmark.load;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.benchmark.BaselineComparison;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Logs load results and writes them in the JMH JSON result format, so load runs of two PBS versions
+ * can be compared by {@link BaselineComparison} the same way as benchmarks.
+ */
+public class LoadReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadReport.class);
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private LoadReport() {
+    }
+
+    public static void log(ScenarioResult result) {
+        logger.info("%s: %d requests, %.1f requests/s, %d errors, statuses %s".formatted(
+                result.endpoint(),
+                result.requests(),
+                result.throughput(),
+                result.errors(),
+                result.statuses()));
+        logger.info("%s: latency p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms".formatted(
+                result.endpoint(),
+                result.percentileMillis(50),
+                result.percentileMillis(90),
+                result.percentileMillis(99),
+                result.percentileMillis(99.9),
+                result.percentileMillis(100)));
+        logger.info("%s: %d GC collections taking %d ms, allocation %.1f MB/s, %.0f bytes per request".formatted(
+                result.endpoint(),
+                result.jvm().gcCount(),
+                result.jvm().gcTimeMillis(),
+                result.allocationRateMbPerSecond(),
+                result.allocatedBytesPerRequest()));
+        logger.info("%s: CPU time %.3f ms per request".formatted(result.endpoint(), result.cpuTimePerRequestMillis()));
+    }
+
+    public static void write(List<ScenarioResult> results, int concurrency, Path file) throws IOException {
+        final ArrayNode report = BenchmarkFixtures.MAPPER.mapper().createArrayNode();
+        for (ScenarioResult result : results) {
+            final String name = "load." + StringUtils.removeStart(result.endpoint(), "/").replace('/', '_');
+
+            final ObjectNode throughput = entry(report, name + ".throughput", "thrpt", concurrency,
+                    result.throughput(), "ops/s");
+            final ObjectNode secondaryMetrics = throughput.putObject("secondaryMetrics");
+            metric(secondaryMetrics, "gc.alloc.rate", result.allocationRateMbPerSecond(), "MB/sec");
+            metric(secondaryMetrics, "gc.alloc.rate.norm", result.allocatedBytesPerRequest(), "B/op");
+            metric(secondaryMetrics, "gc.count", result.jvm().gcCount(), "counts");
+            metric(secondaryMetrics, "gc.time", result.jvm().gcTimeMillis(), "ms");
+
+            // CPU time per request is compared as average time, the lower the better
+            entry(report, name + ".cpu", "avgt", concurrency, result.cpuTimePerRequestMillis(), "ms/op");
+
+            for (double percentile : PERCENTILES) {
+                final String percentileName = "p" + String.valueOf(percentile).replace(".0", "").replace(".", "");
+                entry(report, name + "." + percentileName, "sample", concurrency,
+                        result.percentileMillis(percentile), "ms/op");
+            }
+        }
+
+        Files.writeString(file, BenchmarkFixtures.MAPPER.mapper().writerWithDefaultPrettyPrinter()
+                .writeValueAsString(report));
+        logger.info("Load results written to " + file.toAbsolutePath());
+    }
+
+    private static ObjectNode entry(ArrayNode report,
+                                    String benchmark,
+                                    String mode,
+                                    int concurrency,
+                                    double score,
+                                    String unit) {
+
+        final ObjectNode entry = report.addObject()
+                .put("benchmark", benchmark)
+                .put("mode", mode)
+                .put("threads", concurrency);
+        entry.putObject("params").put("concurrency", String.valueOf(concurrency));
+        entry.putObject("primaryMetric")
+                .put("score", score)
+                .put("scoreUnit", unit);
+        return entry;
+    }
+
+    private static void metric(ObjectNode metrics, String name, double score, String unit) {
+        metrics.putObject(name)
+                .put("score", score)
+                .put("scoreUnit", unit);
+    }
+}
@@ -0,0 +1,11 @@
+package org.prebid.server.benchmark.load;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Request sent to PBS by {@link LoadDriver}, body is {@code null} for GET requests.
+ */
+public record LoadRequest(HttpMethod method, String uri, MultiMap headers, Buffer body) {
+}
@@ -0,0 +1,56 @@
+package org.prebid.server.benchmark.load;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of loading one endpoint: throughput, latency percentiles, response statuses,
+ * and GC, allocations and CPU time of the JVM during the measurement.
+ */
+public record ScenarioResult(String endpoint,
+                             long durationNanos,
+                             long[] sortedLatencyNanos,
+                             Map<Integer, Long> statuses,
+                             long errors,
+                             JvmSnapshot jvm) {
+
+    public static ScenarioResult of(String endpoint, long durationNanos, LatencyRecorder recorder, JvmSnapshot jvm) {
+        return new ScenarioResult(
+                endpoint,
+                durationNanos,
+                recorder.sortedLatencies(),
+                recorder.statuses(),
+                recorder.errors(),
+                jvm);
+    }
+
+    public long requests() {
+        return sortedLatencyNanos.length;
+    }
+
+    public double throughput() {
+        return requests() / (durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public double percentileMillis(double percentile) {
+        if (sortedLatencyNanos.length == 0) {
+            return 0;
+        }
+
+        final int index = (int) Math.ceil(percentile / 100 * sortedLatencyNanos.length) - 1;
+        final long nanos = sortedLatencyNanos[Math.min(Math.max(index, 0), sortedLatencyNanos.length - 1)];
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double allocatedBytesPerRequest() {
+        return requests() > 0 ? jvm.allocatedBytes() / (double) requests() : 0;
+    }
+
+    public double cpuTimePerRequestMillis() {
+        return requests() > 0 ? jvm.cpuTimeNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1) / requests() : 0;
+    }
+
+    public double allocationRateMbPerSecond() {
+        return jvm.allocatedBytes() / (1024.0 * 1024.0) / (durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+}
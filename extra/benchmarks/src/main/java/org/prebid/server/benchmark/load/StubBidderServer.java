@@ -0,0 +1,125 @@
+package org.prebid.server.benchmark.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Serves everything PBS calls over HTTP in integration tests: bidders, Prebid Cache, currency rates
+ * and stored data periodic updates.
+ * <p>
+ * Bidder is recognized by the first path segment, as integration test configuration points each bidder
+ * to {@code /<bidder>-exchange}, and is answered by the given {@link BidderResponder}
+ * after the delay it tells.
+ */
+public class StubBidderServer {
+
+    private static final String FIXTURES_DIR = "org/prebid/server/it";
+    private static final String CURRENCY_RATES_PATH = "/currency-rates";
+    private static final String PERIODIC_UPDATE_PATH = "/periodic-update";
+    private static final String CACHE_PATH = "/cache";
+
+    private final Vertx vertx;
+    private final BidderResponder bidderResponder;
+    private final HarnessThreads harnessThreads;
+
+    private final String currencyRates;
+    private final String periodicUpdate;
+
+    private HttpServer server;
+
+    public StubBidderServer(Vertx vertx, BidderResponder bidderResponder, HarnessThreads harnessThreads) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.bidderResponder = Objects.requireNonNull(bidderResponder);
+        this.harnessThreads = Objects.requireNonNull(harnessThreads);
+
+        currencyRates = BenchmarkFixtures.read(FIXTURES_DIR + "/currency/latest.json");
+        periodicUpdate = BenchmarkFixtures.read(FIXTURES_DIR + "/storedrequests/test-periodic-refresh.json");
+    }
+
+    public Future<Integer> start(int port) {
+        return vertx.createHttpServer()
+                .requestHandler(this::handle)
+                .listen(port)
+                .map(httpServer -> {
+                    server = httpServer;
+                    return httpServer.actualPort();
+                });
+    }
+
+    public Future<Void> stop() {
+        return server != null ? server.close() : Future.succeededFuture();
+    }
+
+    static JsonNode parse(String body) {
+        if (StringUtils.isBlank(body)) {
+            return BenchmarkFixtures.MAPPER.mapper().missingNode();
+        }
+
+        try {
+            return BenchmarkFixtures.MAPPER.mapper().readTree(body);
+        } catch (JsonProcessingException e) {
+            // not every bidder sends JSON
+            return BenchmarkFixtures.MAPPER.mapper().missingNode();
+        }
+    }
+
+    private void handle(HttpServerRequest request) {
+        harnessThreads.register();
+        request.body().onComplete(result -> {
+            final String body = result.succeeded() ? result.result().toString() : null;
+            switch (request.path()) {
+                case CURRENCY_RATES_PATH -> respond(request.response(), 200, currencyRates);
+                case PERIODIC_UPDATE_PATH -> respond(request.response(), 200, periodicUpdate);
+                case CACHE_PATH -> respond(request.response(), 200, cacheResponse(body));
+                default -> respondAfterDelay(
+                        request.response(), bidderResponder.respond(bidderPath(request.path()), body));
+            }
+        });
+    }
+
+    private static String bidderPath(String path) {
+        final int segmentEnd = path.indexOf('/', 1);
+        return segmentEnd > 0 ? path.substring(0, segmentEnd) : path;
+    }
+
+    private static String cacheResponse(String body) {
+        final ObjectNode response = BenchmarkFixtures.MAPPER.mapper().createObjectNode();
+        final ArrayNode responses = response.putArray("responses");
+        parse(body).path("puts").forEach(put -> responses.addObject().put("uuid", UUID.randomUUID().toString()));
+        return response.toString();
+    }
+
+    private void respondAfterDelay(HttpServerResponse response, BidderResponder.StubResponse stubResponse) {
+        final long delay = stubResponse.delayMillis();
+        if (delay > 0) {
+            vertx.setTimer(delay, ignored -> respond(response, stubResponse.status(), stubResponse.body()));
+        } else {
+            respond(response, stubResponse.status(), stubResponse.body());
+        }
+    }
+
+    private static void respond(HttpServerResponse response, int status, String body) {
+        if (body == null) {
+            response.setStatusCode(status).end();
+            return;
+        }
+
+        response.setStatusCode(status)
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE)
+                .end(Buffer.buffer(body));
+    }
+}
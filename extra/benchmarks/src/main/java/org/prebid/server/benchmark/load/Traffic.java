@@ -0,0 +1,228 @@
+package org.prebid.server.benchmark.load;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import org.apache.commons.collections4.MapUtils;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.log.model.CapturedAuction;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.util.HttpUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Requests of one endpoint, sent in round-robin.
+ * <p>
+ * Auction traffic is either recorded, taken from integration test fixtures, from a directory
+ * of request bodies or from captured auctions, or generated for the given bidders. Generated requests
+ * are built from a fixed seed, so two runs send the same traffic.
+ */
+public class Traffic {
+
+    private static final int GENERATED_REQUESTS_COUNT = 100;
+    private static final long SEED = 42;
+
+    // this uids cookie value stands for {"uids":{"rubicon":"J5VLCWQP-26-CWFT"}}
+    private static final String UIDS_COOKIE = "uids=eyJ1aWRzIjp7InJ1Ymljb24iOiJKNVZMQ1dRUC0yNi1DV0ZUIn19";
+
+    private static final String AMP_URI = Endpoint.openrtb2_amp.value()
+            + "?tag_id=test-amp-stored-request"
+            + "&ow=980"
+            + "&oh=120"
+            + "&slot=overwrite-tagId"
+            + "&targeting=%7B%22gam-key1%22%3A%22val1%22%2C%22gam-key2%22%3A%22val2%22%7D"
+            + "&curl=https%3A%2F%2Fgoogle.com"
+            + "&account=accountId"
+            + "&gdpr_applies=false"
+            + "&consent_type=3"
+            + "&consent_string=1YNN";
+
+    // set by HTTP client for the request being sent, not to be replayed
+    private static final Set<String> CONNECTION_HEADERS = Set.of(
+            "host", "content-length", "transfer-encoding", "connection", "keep-alive");
+
+    private final String name;
+    private final List<LoadRequest> requests;
+    private final AtomicInteger index = new AtomicInteger();
+
+    private Traffic(String name, List<LoadRequest> requests) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("No requests for " + name);
+        }
+
+        this.name = name;
+        this.requests = requests;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public LoadRequest next() {
+        return requests.get(Math.floorMod(index.getAndIncrement(), requests.size()));
+    }
+
+    /**
+     * Auction requests of integration test fixtures, one per bidder having both request and response fixtures.
+     */
+    public static Traffic auctionFixtures() {
+        return auction(BenchmarkFixtures.biddersWithFixtures().stream()
+                .map(bidder -> BenchmarkFixtures.read(BenchmarkFixtures.auctionRequestPath(bidder)))
+                .toList());
+    }
+
+    /**
+     * Auction requests stored as {@code *.json} files in the given directory.
+     */
+    public static Traffic auctionDirectory(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return auction(files.filter(file -> file.toString().endsWith(".json"))
+                    .sorted()
+                    .map(Traffic::readFile)
+                    .toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Banner auction requests out of GDPR scope with the given number of imps, each bid on by all given bidders,
+     * asking for targeting and bids caching.
+     */
+    public static Traffic generatedAuction(List<String> bidders, int impsCount, long tmax, String account) {
+        final Random random = new Random(SEED);
+        final List<String> bodies = new ArrayList<>(GENERATED_REQUESTS_COUNT);
+        for (int i = 0; i < GENERATED_REQUESTS_COUNT; i++) {
+            final ObjectNode request = BenchmarkFixtures.MAPPER.mapper().createObjectNode()
+                    .put("id", "request-" + i)
+                    .put("tmax", tmax);
+
+            final ArrayNode imps = request.putArray("imp");
+            for (int j = 0; j < impsCount; j++) {
+                final ObjectNode imp = imps.addObject().put("id", "imp-" + j);
+                final ArrayNode formats = imp.putObject("banner").putArray("format");
+                formats.addObject().put("w", 300).put("h", 250);
+                if (random.nextBoolean()) {
+                    formats.addObject().put("w", 300).put("h", 600);
+                }
+
+                final ObjectNode impBidders = imp.putObject("ext").putObject("prebid").putObject("bidder");
+                bidders.forEach(impBidders::putObject);
+            }
+
+            final ObjectNode site = request.putObject("site")
+                    .put("domain", "example.com")
+                    .put("page", "https://example.com/page-" + random.nextInt(1000));
+            site.putObject("publisher").put("id", account);
+            request.putObject("device").put("ua", "userAgent").put("ip", "193.168.244.1");
+            request.putArray("cur").add("USD");
+            // out of GDPR scope, otherwise bidders are blocked for the lack of TCF consent
+            request.putObject("regs").put("gdpr", 0);
+
+            final ObjectNode prebid = request.putObject("ext").putObject("prebid");
+            prebid.putObject("targeting")
+                    .put("pricegranularity", "med")
+                    .put("includewinners", true)
+                    .put("includebidderkeys", true);
+            prebid.putObject("cache").putObject("bids");
+
+            bodies.add(request.toString());
+        }
+
+        return auction(bodies);
+    }
+
+    /**
+     * AMP request of the integration test stored request.
+     */
+    public static Traffic amp() {
+        return new Traffic(
+                Endpoint.openrtb2_amp.value(),
+                Collections.singletonList(new LoadRequest(HttpMethod.GET, AMP_URI, browserHeaders(), null)));
+    }
+
+    /**
+     * Cookie sync requests, each for a random subset of the given bidders.
+     */
+    public static Traffic cookieSync(List<String> bidders, int biddersPerRequest) {
+        final Random random = new Random(SEED);
+        final List<LoadRequest> requests = new ArrayList<>(GENERATED_REQUESTS_COUNT);
+        for (int i = 0; i < GENERATED_REQUESTS_COUNT; i++) {
+            final List<String> shuffled = new ArrayList<>(bidders);
+            Collections.shuffle(shuffled, random);
+
+            final ObjectNode request = BenchmarkFixtures.MAPPER.mapper().createObjectNode().put("gdpr", 0);
+            final ArrayNode requestBidders = request.putArray("bidders");
+            shuffled.stream().limit(biddersPerRequest).forEach(requestBidders::add);
+
+            requests.add(post(Endpoint.cookie_sync.value(), request.toString()));
+        }
+
+        return new Traffic(Endpoint.cookie_sync.value(), requests);
+    }
+
+    /**
+     * Inbound requests of captured auctions, see {@link org.prebid.server.log.AuctionCaptureCodec}.
+     */
+    public static Traffic captured(List<CapturedAuction> auctions) {
+        return new Traffic("replay", auctions.stream().map(Traffic::capturedRequest).toList());
+    }
+
+    private static LoadRequest capturedRequest(CapturedAuction auction) {
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        MapUtils.emptyIfNull(auction.getHeaders()).forEach((name, values) -> {
+            if (!CONNECTION_HEADERS.contains(name.toLowerCase())) {
+                headers.add(name, values);
+            }
+        });
+
+        final String body = auction.getBody();
+        return new LoadRequest(
+                HttpMethod.valueOf(auction.getMethod()),
+                auction.getUri(),
+                headers,
+                body != null ? Buffer.buffer(body) : null);
+    }
+
+    private static Traffic auction(List<String> bodies) {
+        return new Traffic(
+                Endpoint.openrtb2_auction.value(),
+                bodies.stream().map(body -> post(Endpoint.openrtb2_auction.value(), body)).toList());
+    }
+
+    private static LoadRequest post(String uri, String body) {
+        final MultiMap headers = browserHeaders()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE);
+        return new LoadRequest(HttpMethod.POST, uri, headers, Buffer.buffer(body));
+    }
+
+    private static MultiMap browserHeaders() {
+        return MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.REFERER_HEADER, "http://www.example.com")
+                .add(HttpUtil.X_FORWARDED_FOR_HEADER, "193.168.244.1")
+                .add(HttpUtil.USER_AGENT_HEADER, "userAgent")
+                .add(HttpUtil.ORIGIN_HEADER, "http://www.example.com")
+                .add(HttpUtil.COOKIE_HEADER, UIDS_COOKIE);
+    }
+
+    private static String readFile(Path file) {
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.MultiMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.adf.AdfBidder;
+import org.prebid.server.bidder.boldwin.BoldwinBidder;
+import org.prebid.server.bidder.iqzone.IqzoneBidder;
+import org.prebid.server.bidder.loyal.LoyalBidder;
+import org.prebid.server.bidder.model.BidderCall;
+import org.prebid.server.bidder.model.CompositeBidderResponse;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.bidder.model.Result;
+import org.prebid.server.bidder.openx.OpenxBidder;
+import org.prebid.server.bidder.pubmatic.PubmaticBidder;
+import org.prebid.server.bidder.smartadserver.SmartadserverBidder;
+import org.prebid.server.bidder.sovrn.SovrnBidder;
+import org.prebid.server.bidder.triplelift.TripleliftBidder;
+import org.prebid.server.json.JacksonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Measures adapters request and response processing over integration test fixtures.
+ * <p>
+ * Request is taken from auction request fixture with bidder params moved to imp.ext.bidder,
+ * response body is the bidder response fixture.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidderBenchmark {
+
+    private static final String ENDPOINT_URL = "https://test.endpoint.com";
+
+    private static final Map<String, BiFunction<String, JacksonMapper, Bidder<BidRequest>>> BIDDERS = Map.of(
+            "adf", AdfBidder::new,
+            "boldwin", BoldwinBidder::new,
+            "iqzone", IqzoneBidder::new,
+            "loyal", LoyalBidder::new,
+            "openx", OpenxBidder::new,
+            "pubmatic", PubmaticBidder::new,
+            "smartadserver", SmartadserverBidder::new,
+            "sovrn", SovrnBidder::new,
+            "triplelift", TripleliftBidder::new);
+
+    @Param({"adf", "boldwin", "iqzone", "loyal", "openx", "pubmatic", "smartadserver", "sovrn", "triplelift"})
+    private String bidderName;
+
+    private Bidder<BidRequest> bidder;
+    private BidRequest bidRequest;
+    private BidderCall<BidRequest> bidderCall;
+
+    @Setup
+    public void setUp() {
+        bidder = BIDDERS.get(bidderName).apply(ENDPOINT_URL, BenchmarkFixtures.MAPPER);
+        bidRequest = BenchmarkFixtures.bidderRequest(bidderName);
+
+        final Result<List<HttpRequest<BidRequest>>> httpRequests = bidder.makeHttpRequests(bidRequest);
+        if (httpRequests.getValue().isEmpty()) {
+            throw new IllegalStateException(
+                    "Bidder %s made no requests: %s".formatted(bidderName, httpRequests.getErrors()));
+        }
+
+        final String responseBody = BenchmarkFixtures.read(BenchmarkFixtures.bidResponsePath(bidderName));
+        bidderCall = BidderCall.succeededHttp(
+                httpRequests.getValue().getFirst(),
+                HttpResponse.of(200, MultiMap.caseInsensitiveMultiMap(), responseBody),
+                null);
+    }
+
+    @Benchmark
+    public Result<List<HttpRequest<BidRequest>>> makeHttpRequests() {
+        return bidder.makeHttpRequests(bidRequest);
+    }
+
+    @Benchmark
+    public CompositeBidderResponse makeBidderResponse() {
+        return bidder.makeBidderResponse(bidderCall, bidRequest);
+    }
+}
@@ -0,0 +1,57 @@
+package org.prebid.server.bidder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving bidder endpoint macros by chained {@link String#replace} with compiled {@link EndpointTemplate}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndpointTemplateBenchmark {
+
+    private static final String TEMPLATE =
+            "https://{{Host}}.example.com/pbs/{{AccountID}}?source={{SourceId}}&zone={{ZoneID}}&v={{PageID}}";
+
+    private final EndpointTemplate endpointTemplate = EndpointTemplate.of(TEMPLATE);
+
+    private final String host = "us-east";
+    private final String accountId = "1001";
+    private final String sourceId = "prebid-server";
+    private final String zoneId = "zone-42";
+    private final String pageId = "page-7";
+
+    @Benchmark
+    public String stringReplace() {
+        return TEMPLATE
+                .replace("{{Host}}", host)
+                .replace("{{AccountID}}", accountId)
+                .replace("{{SourceId}}", sourceId)
+                .replace("{{ZoneID}}", zoneId)
+                .replace("{{PageID}}", pageId);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return endpointTemplate.resolver()
+                .set("{{Host}}", host)
+                .set("{{AccountID}}", accountId)
+                .set("{{SourceId}}", sourceId)
+                .set("{{ZoneID}}", zoneId)
+                .set("{{PageID}}", pageId)
+                .resolve();
+    }
+}
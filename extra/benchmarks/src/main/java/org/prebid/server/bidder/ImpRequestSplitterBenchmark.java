@@ -0,0 +1,77 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.util.BidderUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-imp fan-out encoding the whole request for every imp with {@link ImpRequestSplitter},
+ * which encodes request envelope once and splices each encoded imp into it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImpRequestSplitterBenchmark {
+
+    private static final String ENDPOINT_URL = "https://test.endpoint.com";
+
+    @Param({"1", "5", "20"})
+    private int impsCount;
+
+    private BidRequest bidRequest;
+
+    @Setup
+    public void setUp() {
+        final BidRequest fixture = BenchmarkFixtures.bidderRequest("iqzone");
+        final Imp imp = fixture.getImp().getFirst();
+
+        final List<Imp> imps = new ArrayList<>(impsCount);
+        for (int i = 0; i < impsCount; i++) {
+            imps.add(imp.toBuilder().id("imp_id_" + i).build());
+        }
+        bidRequest = fixture.toBuilder().imp(imps).build();
+    }
+
+    @Benchmark
+    public List<HttpRequest<BidRequest>> encodeWholeRequestPerImp() {
+        final List<HttpRequest<BidRequest>> httpRequests = new ArrayList<>(bidRequest.getImp().size());
+        for (Imp imp : bidRequest.getImp()) {
+            final BidRequest impRequest = bidRequest.toBuilder().imp(Collections.singletonList(imp)).build();
+            httpRequests.add(BidderUtil.defaultRequest(impRequest, ENDPOINT_URL, BenchmarkFixtures.MAPPER));
+        }
+        return httpRequests;
+    }
+
+    @Benchmark
+    public List<HttpRequest<BidRequest>> spliceImpIntoEnvelope() {
+        final ImpRequestSplitter requestSplitter =
+                BidderUtil.impRequestSplitter(bidRequest, ENDPOINT_URL, BenchmarkFixtures.MAPPER);
+
+        final List<HttpRequest<BidRequest>> httpRequests = new ArrayList<>(bidRequest.getImp().size());
+        for (Imp imp : bidRequest.getImp()) {
+            httpRequests.add(requestSplitter.request(imp));
+        }
+        return httpRequests;
+    }
+}
@@ -0,0 +1,77 @@
+package org.prebid.server.cookie;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.cookie.model.RejectionReason;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures checking all registered bidders for cookie sync, as done for coop sync on each /cookie_sync request,
+ * using {@link CookieSyncBidderIndex} and using {@link BidderCatalog} lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CookieSyncBidderIndexBenchmark {
+
+    private List<String> bidders;
+    private BidderCatalog bidderCatalog;
+    private CookieSyncBidderIndex bidderIndex;
+
+    @Setup
+    public void setUp() {
+        bidders = BenchmarkFixtures.list(BenchmarkFixtures.OPENRTB2_DIR);
+        bidderCatalog = BenchmarkFixtures.bidderCatalog(bidders);
+        bidderIndex = new CookieSyncBidderIndex(bidderCatalog);
+    }
+
+    @Benchmark
+    public void bidderIndex(Blackhole blackhole) {
+        for (String bidder : bidders) {
+            blackhole.consume(bidderIndex.rejectionReason(bidder));
+            blackhole.consume(bidderIndex.cookieFamilyName(bidder));
+        }
+    }
+
+    @Benchmark
+    public void bidderCatalog(Blackhole blackhole) {
+        for (String bidder : bidders) {
+            blackhole.consume(catalogRejectionReason(bidder));
+            blackhole.consume(bidderCatalog.cookieFamilyName(bidder));
+        }
+    }
+
+    private RejectionReason catalogRejectionReason(String bidder) {
+        if (!bidderCatalog.isValidName(bidder)) {
+            return RejectionReason.INVALID_BIDDER;
+        } else if (!bidderCatalog.isActive(bidder)) {
+            return RejectionReason.DISABLED_BIDDER;
+        }
+
+        final Optional<Usersyncer> usersyncer = bidderCatalog.usersyncerByName(bidder);
+        if (usersyncer.isEmpty()) {
+            return RejectionReason.UNCONFIGURED_USERSYNC;
+        } else if (!usersyncer.get().isEnabled()) {
+            return RejectionReason.DISABLED_USERSYNC;
+        }
+        return null;
+    }
+}
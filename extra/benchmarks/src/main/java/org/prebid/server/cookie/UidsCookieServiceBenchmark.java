@@ -0,0 +1,95 @@
+package org.prebid.server.cookie;
+
+import io.vertx.core.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.model.UidsCookieUpdateResult;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures uids cookie parsing, update by /setuid and encoding back into cookie,
+ * in JSON and binary formats, with and without decode cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UidsCookieServiceBenchmark {
+
+    private static final int MAX_COOKIE_SIZE_BYTES = 4096;
+
+    @Param({"false", "true"})
+    private boolean binaryFormat;
+
+    @Param({"0", "10000"})
+    private int decodeCacheSize;
+
+    @Param({"10", "40"})
+    private int uidsCount;
+
+    private UidsCookieService uidsCookieService;
+    private Map<String, String> cookies;
+    private UidsCookie uidsCookie;
+
+    @Setup
+    public void setUp() {
+        final UidsCookieCodec uidsCookieCodec = new UidsCookieCodec(
+                binaryFormat, decodeCacheSize, BenchmarkFixtures.MAPPER);
+
+        uidsCookieService = new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                MAX_COOKIE_SIZE_BYTES,
+                new PrioritizedCoopSyncProvider(
+                        Collections.emptySet(), BenchmarkFixtures.bidderCatalog(Collections.emptyList())),
+                uidsCookieCodec,
+                BenchmarkFixtures.metrics(),
+                BenchmarkFixtures.MAPPER);
+
+        final Map<String, UidWithExpiry> uids = new LinkedHashMap<>();
+        for (int i = 0; i < uidsCount; i++) {
+            uids.put("family" + i, UidWithExpiry.live("uid-%d-%s".formatted(i, "0123456789abcdef")));
+        }
+        final Uids cookieUids = Uids.builder().uids(uids).build();
+
+        cookies = Map.of("uids", uidsCookieCodec.encode(cookieUids));
+        uidsCookie = new UidsCookie(cookieUids, BenchmarkFixtures.MAPPER);
+    }
+
+    @Benchmark
+    public UidsCookie parse() {
+        return uidsCookieService.parseFromCookies(cookies);
+    }
+
+    @Benchmark
+    public UidsCookieUpdateResult update() {
+        return uidsCookieService.updateUidsCookie(uidsCookie, "new-family", "new-uid");
+    }
+
+    @Benchmark
+    public Cookie toCookie() {
+        return uidsCookieService.toCookie(uidsCookie);
+    }
+}
@@ -0,0 +1,98 @@
+package org.prebid.server.currency;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bid price conversion with request currency rates: direct, reverse and cross rates
+ * for the same rates instance, and an auction converting several bids with its own rates instance.
+ * Each case has a baseline counterpart looking rates up in the nested maps, see {@link NestedMapsCurrencyConversion}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurrencyConversionServiceBenchmark {
+
+    private static final String RATES_PATH = "org/prebid/server/it/currency/latest.json";
+    private static final String[] BID_CURRENCIES = {"EUR", "GBP", "JPY", "CAD", "AUD"};
+
+    private final CurrencyConversionService currencyConversionService = new CurrencyConversionService(null);
+    private final BigDecimal price = new BigDecimal("1.2345");
+
+    private Map<String, Map<String, BigDecimal>> rates;
+
+    @Setup
+    public void setUp() {
+        final JsonNode latest = BenchmarkFixtures.read(RATES_PATH, JsonNode.class);
+        rates = BenchmarkFixtures.MAPPER.mapper().convertValue(
+                latest.get("conversions"), new TypeReference<Map<String, Map<String, BigDecimal>>>() {
+                });
+    }
+
+    @Benchmark
+    public BigDecimal directRate() {
+        return currencyConversionService.convertCurrency(price, rates, "USD", "EUR", false);
+    }
+
+    @Benchmark
+    public BigDecimal directRateBaseline() {
+        return NestedMapsCurrencyConversion.convertCurrency(price, rates, "USD", "EUR");
+    }
+
+    @Benchmark
+    public BigDecimal reverseRate() {
+        return currencyConversionService.convertCurrency(price, rates, "EUR", "USD", false);
+    }
+
+    @Benchmark
+    public BigDecimal reverseRateBaseline() {
+        return NestedMapsCurrencyConversion.convertCurrency(price, rates, "EUR", "USD");
+    }
+
+    @Benchmark
+    public BigDecimal crossRate() {
+        return currencyConversionService.convertCurrency(price, rates, "EUR", "JPY", false);
+    }
+
+    @Benchmark
+    public BigDecimal crossRateBaseline() {
+        return NestedMapsCurrencyConversion.convertCurrency(price, rates, "EUR", "JPY");
+    }
+
+    @Benchmark
+    public void auctionWithOwnRates(Blackhole blackhole) {
+        final Map<String, Map<String, BigDecimal>> auctionRates = new HashMap<>(rates);
+        for (String bidCurrency : BID_CURRENCIES) {
+            blackhole.consume(
+                    currencyConversionService.convertCurrency(price, auctionRates, bidCurrency, "USD", false));
+        }
+    }
+
+    @Benchmark
+    public void auctionWithOwnRatesBaseline(Blackhole blackhole) {
+        final Map<String, Map<String, BigDecimal>> auctionRates = new HashMap<>(rates);
+        for (String bidCurrency : BID_CURRENCIES) {
+            blackhole.consume(NestedMapsCurrencyConversion.convertCurrency(price, auctionRates, bidCurrency, "USD"));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Baseline for {@link CurrencyConversionServiceBenchmark}: conversion rate lookup over the nested rates maps,
+ * as {@link CurrencyConversionService} did before {@link CurrencyRatesMatrix}.
+ */
+final class NestedMapsCurrencyConversion {
+
+    private static final int DEFAULT_PRICE_PRECISION = CurrencyConversionService.DEFAULT_PRICE_PRECISION;
+
+    private NestedMapsCurrencyConversion() {
+    }
+
+    static BigDecimal convertCurrency(BigDecimal price,
+                                      Map<String, Map<String, BigDecimal>> currencyRates,
+                                      String fromCurrency,
+                                      String toCurrency) {
+
+        final BigDecimal conversionRate = getConversionRate(currencyRates, fromCurrency, toCurrency);
+        if (conversionRate == null) {
+            throw new IllegalArgumentException("Unable to convert from currency %s to %s"
+                    .formatted(fromCurrency, toCurrency));
+        }
+
+        return price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
+    }
+
+    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                String fromCurrency,
+                                                String toCurrency) {
+
+        if (MapUtils.isEmpty(currencyConversionRates)) {
+            return null;
+        }
+
+        BigDecimal conversionRate;
+        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
+        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
+        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
+                reverseCurrencyRates);
+        if (intermediateConversionRate != null) {
+            return intermediateConversionRate;
+        }
+
+        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+    }
+
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates, String currency) {
+        final BigDecimal reverseConversionRate = currencyRates != null
+                ? currencyRates.get(currency)
+                : null;
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate,
+                getRatePrecision(reverseConversionRate),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
+                                                             Map<String, BigDecimal> reverseCurrencyRates) {
+
+        BigDecimal conversionRate = null;
+        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
+            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
+            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
+
+            if (!sharedCurrencies.isEmpty()) {
+                final String sharedCurrency = sharedCurrencies.getFirst();
+                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
+                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
+                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
+                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+        return conversionRate;
+    }
+
+    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                      String fromCurrency,
+                                                      String toCurrency) {
+
+        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
+            final BigDecimal fromRate = rates.get(fromCurrency);
+            final BigDecimal toRate = rates.get(toCurrency);
+            if (fromRate != null && toRate != null) {
+                return toRate.divide(fromRate,
+                        getRatePrecision(fromRate, toRate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+
+        return null;
+    }
+
+    private static int getRatePrecision(BigDecimal... rates) {
+        final int precision = Arrays.stream(rates)
+                .map(BigDecimal::precision)
+                .max(Integer::compareTo)
+                .orElse(DEFAULT_PRICE_PRECISION);
+
+        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+    }
+}
@@ -0,0 +1,77 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures a batch of blocking actions, such as stored data or geo lookups made for one auction,
+ * run by the Vert.x worker pool and by virtual threads with the same concurrency limit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockingExecutorBenchmark {
+
+    private static final int MAX_CONCURRENCY = 20;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"100"})
+    private int actionsCount;
+
+    @Param({"100"})
+    private int actionMicros;
+
+    private Vertx vertx;
+    private BlockingExecutor blockingExecutor;
+
+    @Setup
+    public void setUp() {
+        vertx = Vertx.vertx();
+        blockingExecutor = new BlockingExecutorFactory(
+                vertx, virtualThreads, BenchmarkFixtures.metrics(), Clock.systemUTC())
+                .executor("benchmark", MAX_CONCURRENCY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Object executeBatch() {
+        final long actionNanos = TimeUnit.MICROSECONDS.toNanos(actionMicros);
+        final List<Future<Long>> results = new ArrayList<>(actionsCount);
+        for (int i = 0; i < actionsCount; i++) {
+            results.add(blockingExecutor.execute(() -> {
+                LockSupport.parkNanos(actionNanos);
+                return actionNanos;
+            }));
+        }
+
+        return Future.all(results).toCompletionStage().toCompletableFuture().join();
+    }
+}
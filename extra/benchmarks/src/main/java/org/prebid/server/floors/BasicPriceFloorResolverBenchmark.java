@@ -0,0 +1,99 @@
+package org.prebid.server.floors;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.floors.model.PriceFloorData;
+import org.prebid.server.floors.model.PriceFloorField;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorResult;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.floors.model.PriceFloorSchema;
+import org.prebid.server.geolocation.CountryCodeMapper;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures price floor resolution for an imp against a model group with the given number of rules,
+ * where the imp matches one of the rules by media type, size and domain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BasicPriceFloorResolverBenchmark {
+
+    private static final String[] MEDIA_TYPES = {"banner", "video", "native", "*"};
+    private static final String[] SIZES = {"300x250", "728x90", "320x50", "*"};
+
+    @Param({"10", "1000"})
+    private int rulesCount;
+
+    private PriceFloorResolver priceFloorResolver;
+    private PriceFloorRules floorRules;
+    private BidRequest bidRequest;
+    private Imp imp;
+
+    @Setup
+    public void setUp() throws IOException {
+        priceFloorResolver = new BasicPriceFloorResolver(
+                new CurrencyConversionService(null),
+                new CountryCodeMapper(
+                        ResourceUtil.readFromClasspath("country-codes.csv"),
+                        ResourceUtil.readFromClasspath("mcc-country-codes.csv")),
+                BenchmarkFixtures.metrics(),
+                BenchmarkFixtures.MAPPER);
+
+        final PriceFloorModelGroup.PriceFloorModelGroupBuilder modelGroup = PriceFloorModelGroup.builder()
+                .schema(PriceFloorSchema.of(
+                        "|", List.of(PriceFloorField.mediaType, PriceFloorField.size, PriceFloorField.domain)))
+                .defaultFloor(BigDecimal.ONE);
+        for (int i = 0; i < rulesCount; i++) {
+            modelGroup.value(
+                    "%s|%s|domain%d.com".formatted(MEDIA_TYPES[i % MEDIA_TYPES.length], SIZES[i % SIZES.length], i),
+                    BigDecimal.valueOf(i % 100 + 1, 2));
+        }
+        floorRules = PriceFloorRules.builder()
+                .data(PriceFloorData.builder().modelGroups(Collections.singletonList(modelGroup.build())).build())
+                .build();
+
+        // rule in the middle of the list having banner media type and 300x250 size
+        final int matchedRule = rulesCount / 2 / MEDIA_TYPES.length * MEDIA_TYPES.length;
+        bidRequest = BidRequest.builder()
+                .site(Site.builder().domain("domain%d.com".formatted(matchedRule)).build())
+                .build();
+        imp = Imp.builder()
+                .id("imp_id")
+                .banner(Banner.builder().format(Collections.singletonList(Format.builder().w(300).h(250).build()))
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public PriceFloorResult resolve() {
+        return priceFloorResolver.resolve(bidRequest, floorRules, imp, "bidder", new ArrayList<>());
+    }
+}
@@ -0,0 +1,79 @@
+package org.prebid.server.hooks.creative;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the scan of a creative for all registered patterns against looking for each pattern separately,
+ * as modules did before {@link CreativeScanner}, i.e. the overhead the scanner adds to the first scan of a creative
+ * in the auction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreativeScannerBenchmark {
+
+    private static final String ADM_CHUNK = """
+            <div id="ad-container" style="width:300px;height:250px">
+              <a href="https://click.example.com/c?id=%1$d" target="_blank">
+                <img src="https://cdn.example.com/creative-%1$d.jpg" width="300" height="250"/>
+              </a>
+              <script src="https://cdn.example.com/tag-%1$d.js"></script>
+              <img src="https://pixel.example.com/p?id=%1$d" width="1" height="1"/>
+            </div>
+            """;
+
+    @Param({"1", "10", "200"})
+    private int patternsCount;
+
+    private CreativeScanner creativeScanner;
+    private List<String> patterns;
+    private String adm;
+
+    @Setup
+    public void setUp() {
+        patterns = new ArrayList<>();
+        patterns.add("mraid.js");
+        for (int i = 1; i < patternsCount; i++) {
+            patterns.add("blocked-domain-%d.example.com".formatted(i));
+        }
+
+        creativeScanner = new CreativeScanner();
+        creativeScanner.registerPatterns(patterns);
+
+        final StringBuilder admBuilder = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            admBuilder.append(ADM_CHUNK.formatted(i));
+        }
+        adm = admBuilder.toString();
+    }
+
+    @Benchmark
+    public CreativeMatches scan() {
+        return creativeScanner.scan(null, adm);
+    }
+
+    @Benchmark
+    public void containsPerPattern(Blackhole blackhole) {
+        for (String pattern : patterns) {
+            blackhole.consume(adm.contains(pattern));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.BidRejectionTracker;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedBids;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.model.ExecutionResult;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures blocking of a bidder response by advertiser domains and categories
+ * configured for the account and sent in the request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidsBlockerBenchmark {
+
+    private static final String BIDDER = "bidder1";
+    private static final String ACCOUNT_ID = "accountId";
+
+    @Param({"20", "200"})
+    private int bidsCount;
+
+    @Param({"1000"})
+    private int blockedDomainsCount;
+
+    private List<BidderBid> bids;
+    private Set<String> impIds;
+    private ObjectNode accountConfig;
+    private BlockedAttributes blockedAttributes;
+    private AccountConfigReaderCache accountConfigReaders;
+
+    @Setup
+    public void setUp() {
+        final List<String> blockedDomains = new ArrayList<>(blockedDomainsCount);
+        for (int i = 0; i < blockedDomainsCount; i++) {
+            blockedDomains.add("blocked-%d.example.com".formatted(i));
+        }
+        final List<String> blockedCategories = List.of("IAB7-39", "IAB8-18", "IAB8-5", "IAB9-9");
+
+        bids = new ArrayList<>(bidsCount);
+        for (int i = 0; i < bidsCount; i++) {
+            // every tenth bid is blocked
+            final String domain = i % 10 == 0
+                    ? blockedDomains.get(i % blockedDomainsCount)
+                    : "allowed-%d.example.com".formatted(i);
+
+            bids.add(BidderBid.of(
+                    Bid.builder()
+                            .id("bid" + i)
+                            .impid("imp" + (i % 5))
+                            .adomain(List.of(domain))
+                            .cat(List.of("IAB1-" + (i % 20)))
+                            .build(),
+                    BidType.banner,
+                    "USD"));
+        }
+        impIds = bids.stream().map(bid -> bid.getBid().getImpid()).collect(Collectors.toSet());
+
+        accountConfig = BenchmarkFixtures.MAPPER.mapper().createObjectNode();
+        final ObjectNode attributes = accountConfig.putObject("attributes");
+        final ObjectNode badv = attributes.putObject("badv").put("enforce-blocks", true);
+        final ArrayNode blockedAdomain = badv.putArray("blocked-adomain");
+        blockedDomains.forEach(blockedAdomain::add);
+        final ObjectNode bcat = attributes.putObject("bcat").put("enforce-blocks", true);
+        final ArrayNode blockedAdvCat = bcat.putArray("blocked-adv-cat");
+        blockedCategories.forEach(blockedAdvCat::add);
+
+        accountConfigReaders = new AccountConfigReaderCache(100);
+
+        blockedAttributes = BlockedAttributes.builder()
+                .badv(blockedDomains)
+                .bcat(blockedCategories)
+                .build();
+    }
+
+    @Benchmark
+    public ExecutionResult<BlockedBids> block() {
+        return BidsBlocker.create(
+                        bids,
+                        BIDDER,
+                        OrtbVersion.ORTB_2_5,
+                        ACCOUNT_ID,
+                        accountConfig,
+                        blockedAttributes,
+                        new BidRejectionTracker(BIDDER, impIds, 0),
+                        false,
+                        accountConfigReaders)
+                .block();
+    }
+}
@@ -0,0 +1,66 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures merging of incoming request with stored request, as done for AMP and stored request ids.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonMergerBenchmark {
+
+    private static final String STORED_REQUEST_PATH =
+            "org/prebid/server/it/storedrequests/test-amp-stored-request.json";
+
+    private final JsonMerger jsonMerger = new JsonMerger(BenchmarkFixtures.MAPPER);
+
+    private BidRequest incomingRequest;
+    private String storedRequest;
+    private BidRequest storedBidRequest;
+    private JsonNode incomingRequestNode;
+    private JsonNode storedRequestNode;
+
+    @Setup
+    public void setUp() {
+        incomingRequest = BenchmarkFixtures.read(
+                BenchmarkFixtures.auctionRequestPath("openx"), BidRequest.class);
+        storedRequest = BenchmarkFixtures.read(STORED_REQUEST_PATH);
+        storedBidRequest = BenchmarkFixtures.MAPPER.decodeValue(storedRequest, BidRequest.class);
+
+        incomingRequestNode = BenchmarkFixtures.MAPPER.mapper().valueToTree(incomingRequest);
+        storedRequestNode = BenchmarkFixtures.MAPPER.mapper().valueToTree(storedBidRequest);
+    }
+
+    @Benchmark
+    public BidRequest mergeWithStoredData() {
+        return jsonMerger.merge(incomingRequest, storedRequest, "stored-request-id", BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest mergeObjects() {
+        return jsonMerger.merge(incomingRequest, storedBidRequest, BidRequest.class);
+    }
+
+    @Benchmark
+    public JsonNode mergeNodes() {
+        return jsonMerger.merge(incomingRequestNode, storedRequestNode);
+    }
+}
@@ -0,0 +1,141 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.encoder.TCStringEncoder;
+import com.iabtcf.utils.BitSetIntIterable;
+import io.vertx.core.Future;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.privacy.gdpr.model.VendorPermission;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose01Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose02Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose03Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose04Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose05Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose06Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose07Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose08Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose09Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose10Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.BasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.FullEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.NoEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.PurposeTwoBasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.specialfeature.SpecialFeaturesOneStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.VersionedVendorListService;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorList;
+import org.prebid.server.settings.model.EnforcePurpose;
+import org.prebid.server.settings.model.GdprConfig;
+import org.prebid.server.settings.model.Purpose;
+import org.prebid.server.settings.model.Purposes;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures TCF 2 enforcement of all purposes and special features for a set of vendors
+ * with the vendor list already fetched, as it is on the auction hot path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Tcf2ServiceBenchmark {
+
+    private static final String VENDOR_LIST_PATH = "org/prebid/server/it/gdpr-vendorlist2/52.json";
+
+    @Param({"10", "100"})
+    private int vendorsCount;
+
+    private Tcf2Service tcf2Service;
+    private Set<Integer> vendorIds;
+    private TCString consent;
+
+    @Setup
+    public void setUp() {
+        final Map<Integer, Vendor> vendors = BenchmarkFixtures.read(VENDOR_LIST_PATH, VendorList.class).getVendors();
+        vendorIds = new LinkedHashSet<>(vendors.keySet().stream().sorted().limit(vendorsCount).toList());
+
+        // vendor list is fetched once and kept in memory, so only its lookup is stubbed
+        final VersionedVendorListService vendorListService = Mockito.mock(
+                VersionedVendorListService.class, Mockito.withSettings().stubOnly());
+        Mockito.when(vendorListService.forConsent(ArgumentMatchers.any()))
+                .thenReturn(Future.succeededFuture(vendors));
+
+        tcf2Service = new Tcf2Service(
+                GdprConfig.builder().purposes(purposes()).build(),
+                purposeStrategies(),
+                List.of(new SpecialFeaturesOneStrategy()),
+                vendorListService,
+                BenchmarkFixtures.bidderCatalog(Collections.emptyList()));
+
+        final int[] ids = vendorIds.stream().mapToInt(Integer::intValue).toArray();
+        consent = TCString.decode(TCStringEncoder.newBuilder()
+                .version(2)
+                .consentLanguage("EN")
+                .vendorListVersion(52)
+                .tcfPolicyVersion(2)
+                .addPurposesConsent(BitSetIntIterable.from(IntStream.rangeClosed(1, 10).toArray()))
+                .addPurposesLITransparency(BitSetIntIterable.from(IntStream.rangeClosed(2, 10).toArray()))
+                .addSpecialFeatureOptIns(BitSetIntIterable.from(1))
+                .addVendorConsent(BitSetIntIterable.from(IntStream.range(0, ids.length)
+                        .filter(i -> i % 2 == 0)
+                        .map(i -> ids[i])
+                        .toArray()))
+                .addVendorLegitimateInterest(BitSetIntIterable.from(ids))
+                .encode());
+    }
+
+    @Benchmark
+    public Collection<VendorPermission> permissionsFor() {
+        return tcf2Service.permissionsFor(vendorIds, consent).result();
+    }
+
+    private static Purposes purposes() {
+        final Purpose purpose = Purpose.of(EnforcePurpose.full, true, Collections.emptyList(), null);
+        return Purposes.builder()
+                .p1(purpose).p2(purpose).p3(purpose).p4(purpose).p5(purpose)
+                .p6(purpose).p7(purpose).p8(purpose).p9(purpose).p10(purpose)
+                .build();
+    }
+
+    private static List<PurposeStrategy> purposeStrategies() {
+        final FullEnforcePurposeStrategy full = new FullEnforcePurposeStrategy();
+        final BasicEnforcePurposeStrategy basic = new BasicEnforcePurposeStrategy();
+        final NoEnforcePurposeStrategy no = new NoEnforcePurposeStrategy();
+
+        return List.of(
+                new Purpose01Strategy(full, basic, no),
+                new Purpose02Strategy(full, new PurposeTwoBasicEnforcePurposeStrategy(), no),
+                new Purpose03Strategy(full, basic, no),
+                new Purpose04Strategy(full, basic, no),
+                new Purpose05Strategy(full, basic, no),
+                new Purpose06Strategy(full, basic, no),
+                new Purpose07Strategy(full, basic, no),
+                new Purpose08Strategy(full, basic, no),
+                new Purpose09Strategy(full, basic, no),
+                new Purpose10Strategy(full, basic, no));
+    }
+}
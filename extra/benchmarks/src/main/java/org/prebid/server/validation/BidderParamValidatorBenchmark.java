@@ -0,0 +1,72 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validation of bidder params taken from auction request fixtures against all bidder schemas
+ * having such fixtures, with and without validation results cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidderParamValidatorBenchmark {
+
+    private static final String SCHEMA_DIRECTORY = "static/bidder-params";
+
+    @Param({"0", "10000"})
+    private int resultCacheSize;
+
+    private BidderParamValidator bidderParamValidator;
+    private Map<String, JsonNode> bidderParams;
+
+    @Setup
+    public void setUp() {
+        bidderParams = new LinkedHashMap<>();
+        for (String bidder : BenchmarkFixtures.biddersWithFixtures()) {
+            if (!BenchmarkFixtures.exists("%s/%s.json".formatted(SCHEMA_DIRECTORY, bidder))) {
+                continue;
+            }
+
+            final String requestPath = BenchmarkFixtures.auctionRequestPath(bidder);
+            final JsonNode request = BenchmarkFixtures.read(requestPath, JsonNode.class);
+            final JsonNode params = BenchmarkFixtures.bidderParams(request.path("imp").path(0), bidder);
+            if (params != null) {
+                bidderParams.put(bidder, params);
+            }
+        }
+
+        bidderParamValidator = BidderParamValidator.create(
+                BenchmarkFixtures.bidderCatalog(bidderParams.keySet()),
+                SCHEMA_DIRECTORY,
+                resultCacheSize,
+                false,
+                BenchmarkFixtures.MAPPER);
+    }
+
+    @Benchmark
+    public void validateAllBidders(Blackhole blackhole) {
+        for (Map.Entry<String, JsonNode> entry : bidderParams.entrySet()) {
+            blackhole.consume(bidderParamValidator.validate(entry.getKey(), entry.getValue()));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.prebid.server.vast;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures impression tracker injection into InLine and Wrapper VAST documents of different size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VastImpressionInjectorBenchmark {
+
+    private static final String IMPRESSION_URL = "https://prebid-server.example.com/event?t=imp&b=bid-id&a=1001";
+
+    private static final String TRACKING_EVENT =
+            "<Tracking event=\"progress\" offset=\"00:00:%02d\"><![CDATA[https://tracker.example.com/p?o=%d]]>"
+                    + "</Tracking>";
+
+    @Param({"InLine", "Wrapper"})
+    private String adType;
+
+    @Param({"5", "100"})
+    private int trackingEventsCount;
+
+    private String vastXml;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder trackingEvents = new StringBuilder();
+        for (int i = 0; i < trackingEventsCount; i++) {
+            trackingEvents.append(TRACKING_EVENT.formatted(i % 60, i));
+        }
+
+        vastXml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <VAST version="3.0">
+                  <Ad id="ad-id">
+                    <%1$s>
+                      <AdSystem version="1.0">Example</AdSystem>
+                      <AdTitle><![CDATA[Title with <Impression> in text]]></AdTitle>
+                      <Impression id="existing"><![CDATA[https://adserver.example.com/imp]]></Impression>
+                      <Creatives>
+                        <Creative id="creative-id" sequence="1">
+                          <Linear>
+                            <Duration>00:00:30</Duration>
+                            <TrackingEvents>%2$s</TrackingEvents>
+                            <MediaFiles>
+                              <MediaFile delivery="progressive" type="video/mp4" width="640" height="360">
+                                <![CDATA[https://cdn.example.com/video.mp4]]>
+                              </MediaFile>
+                            </MediaFiles>
+                          </Linear>
+                        </Creative>
+                      </Creatives>
+                    </%1$s>
+                  </Ad>
+                </VAST>
+                """.formatted(adType, trackingEvents);
+    }
+
+    @Benchmark
+    public Optional<String> inject() {
+        return VastImpressionInjector.inject(vastXml, IMPRESSION_URL);
+    }
+}
@@ -1,15 +1,19 @@
 package org.prebid.server.hooks.modules.com.confiant.adquality.config;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
+import org.prebid.server.hooks.modules.com.confiant.adquality.core.BidScanVerdictCache;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.BidsScanner;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisClient;
 import org.prebid.server.hooks.modules.com.confiant.adquality.core.RedisScanStateChecker;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBatchConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisConnectionConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisRetryConfig;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.VerdictCacheConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.v1.ConfiantAdQualityBidResponsesScanHook;
 import org.prebid.server.hooks.modules.com.confiant.adquality.v1.ConfiantAdQualityModule;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
@@ -37,18 +41,27 @@ public class ConfiantAdQualityModuleConfiguration {
             @Value("${hooks.modules.confiant-ad-quality.bidders-to-exclude-from-scan}") List<String> biddersToExcludeFromScan,
             RedisConfig redisConfig,
             RedisRetryConfig retryConfig,
+            RedisBatchConfig batchConfig,
+            VerdictCacheConfig verdictCacheConfig,
             Vertx vertx,
             UserFpdActivityMask userFpdActivityMask,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            MetricRegistry metricRegistry) {
 
         final RedisConnectionConfig writeNodeConfig = redisConfig.getWriteNode();
         final RedisClient writeRedisNode = new RedisClient(
-                vertx, writeNodeConfig.getHost(), writeNodeConfig.getPort(), writeNodeConfig.getPassword(), retryConfig, "write node");
+                vertx, writeNodeConfig.getHost(), writeNodeConfig.getPort(), writeNodeConfig.getPassword(),
+                retryConfig, batchConfig, "write node");
         final RedisConnectionConfig readNodeConfig = redisConfig.getReadNode();
         final RedisClient readRedisNode = new RedisClient(
-                vertx, readNodeConfig.getHost(), readNodeConfig.getPort(), readNodeConfig.getPassword(), retryConfig, "read node");
+                vertx, readNodeConfig.getHost(), readNodeConfig.getPort(), readNodeConfig.getPassword(),
+                retryConfig, batchConfig, "read node");
 
-        final BidsScanner bidsScanner = new BidsScanner(writeRedisNode, readRedisNode, apiKey, objectMapper);
+        final BidScanVerdictCache verdictCache = verdictCacheConfig.getSize() > 0 && verdictCacheConfig.getTtl() > 0
+                ? new BidScanVerdictCache(verdictCacheConfig.getTtl(), verdictCacheConfig.getSize(), metricRegistry)
+                : null;
+        final BidsScanner bidsScanner = new BidsScanner(
+                writeRedisNode, readRedisNode, apiKey, objectMapper, verdictCache, metricRegistry);
         final RedisScanStateChecker redisScanStateChecker = new RedisScanStateChecker(bidsScanner, scanStateCheckInterval, vertx);
 
         final Promise<Void> scannerPromise = Promise.promise();
@@ -76,4 +89,16 @@ public class ConfiantAdQualityModuleConfiguration {
     RedisRetryConfig redisRetryConfig() {
         return new RedisRetryConfig();
     }
+
+    @Bean
+    @ConfigurationProperties(prefix = "hooks.modules.confiant-ad-quality.redis-batch-config")
+    RedisBatchConfig redisBatchConfig() {
+        return new RedisBatchConfig();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "hooks.modules.confiant-ad-quality.verdict-cache-config")
+    VerdictCacheConfig verdictCacheConfig() {
+        return new VerdictCacheConfig();
+    }
 }
@@ -0,0 +1,115 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link RedisAPI} that collects commands issued within a short time window, e.g. by concurrent auctions,
+ * and sends them to Redis as one pipelined batch.
+ * <p>
+ * Batch is sent when the window is over or when it reaches the maximum size, whichever comes first.
+ * If the batch as a whole fails, its commands are resent one by one, so a single failing command
+ * or a transient pipeline error does not fail every command of the batch.
+ */
+public class BatchingRedisAPI implements RedisAPI {
+
+    private final Vertx vertx;
+    private final RedisConnection connection;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private List<PendingRequest> pendingRequests = new ArrayList<>();
+    private boolean flushScheduled;
+
+    public BatchingRedisAPI(Vertx vertx, RedisConnection connection, long windowMillis, int maxBatchSize) {
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Batch window should be greater than 0");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size should be greater than 0");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.connection = Objects.requireNonNull(connection);
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Future<Response> send(Command command, String... args) {
+        final Request request = Request.cmd(command);
+        for (String arg : args) {
+            request.arg(arg);
+        }
+
+        final Promise<Response> promise = Promise.promise();
+        final List<PendingRequest> fullBatch;
+        synchronized (this) {
+            pendingRequests.add(new PendingRequest(request, promise));
+            fullBatch = pendingRequests.size() >= maxBatchSize ? drainPendingRequests() : null;
+
+            if (fullBatch == null && !flushScheduled) {
+                flushScheduled = true;
+                vertx.setTimer(windowMillis, ignored -> flushOnTimer());
+            }
+        }
+
+        if (fullBatch != null) {
+            flush(fullBatch);
+        }
+
+        return promise.future();
+    }
+
+    private void flushOnTimer() {
+        final List<PendingRequest> batch;
+        synchronized (this) {
+            flushScheduled = false;
+            batch = drainPendingRequests();
+        }
+
+        flush(batch);
+    }
+
+    private List<PendingRequest> drainPendingRequests() {
+        final List<PendingRequest> batch = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        return batch;
+    }
+
+    private void flush(List<PendingRequest> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        connection.batch(batch.stream().map(PendingRequest::request).toList())
+                .onSuccess(responses -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).promise().tryComplete(i < responses.size() ? responses.get(i) : null);
+                    }
+                })
+                .onFailure(ignored -> batch.forEach(this::sendSeparately));
+    }
+
+    private void sendSeparately(PendingRequest pendingRequest) {
+        connection.send(pendingRequest.request()).onComplete(pendingRequest.promise());
+    }
+
+    @Override
+    public void close() {
+        connection.close();
+    }
+
+    private record PendingRequest(Request request, Promise<Response> promise) {
+    }
+}
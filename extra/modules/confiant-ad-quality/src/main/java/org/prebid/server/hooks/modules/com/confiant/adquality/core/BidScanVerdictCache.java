@@ -0,0 +1,140 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import lombok.Value;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.Issue;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
+import org.prebid.server.hooks.modules.com.confiant.adquality.v1.ConfiantAdQualityModule;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local cache of scan verdicts keyed by the hash of the scanned creatives,
+ * so the same creatives returned in different auctions are not submitted to Redis until the verdict expires.
+ * <p>
+ * The verdict, i.e. the tag key of the scanned creatives and the list of found issues, is cached.
+ * Impression ID of the result is taken from the bid response of the current auction.
+ */
+public class BidScanVerdictCache {
+
+    private static final String METRIC_PREFIX = "modules.module." + ConfiantAdQualityModule.CODE + ".verdict_cache";
+
+    private final Map<String, Verdict> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public BidScanVerdictCache(long ttlSeconds, int size, MetricRegistry metricRegistry) {
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(size)
+                .<String, Verdict>build()
+                .asMap();
+
+        hits = metricRegistry.counter(METRIC_PREFIX + ".hit");
+        misses = metricRegistry.counter(METRIC_PREFIX + ".miss");
+    }
+
+    /**
+     * Returns scan result made of the cached verdict for the given bid response or null if there is no verdict.
+     */
+    public BidScanResult get(String key, RedisBidResponseData bidResponseData) {
+        final Verdict verdict = cache.get(key);
+        if (verdict == null) {
+            misses.inc();
+            return null;
+        }
+
+        hits.inc();
+
+        final BidScanResult bidScanResult = new BidScanResult();
+        bidScanResult.setTagKey(verdict.getTagKey());
+        bidScanResult.setImpId(impId(bidResponseData));
+        bidScanResult.setIssues(copyOf(verdict.getIssues()));
+        return bidScanResult;
+    }
+
+    public void put(String key, BidScanResult bidScanResult) {
+        cache.put(key, Verdict.of(bidScanResult.getTagKey(), copyOf(bidScanResult.getIssues())));
+    }
+
+    /**
+     * Returns the hash of the bidder and its creatives. Auction specific fields like bid id or price are not used.
+     */
+    public static String key(RedisBidResponseData bidResponseData) {
+        final StringBuilder creatives = new StringBuilder(Objects.toString(bidResponseData.getDspId(), ""));
+
+        final BidResponse bidResponse = bidResponseData.getBidresponse();
+        final List<SeatBid> seatBids = bidResponse != null ? bidResponse.getSeatbid() : null;
+        if (seatBids != null) {
+            seatBids.stream()
+                    .map(SeatBid::getBid)
+                    .filter(Objects::nonNull)
+                    .flatMap(List::stream)
+                    .forEach(bid -> appendCreative(creatives, bid));
+        }
+
+        return sha256(creatives.toString());
+    }
+
+    private static String impId(RedisBidResponseData bidResponseData) {
+        final BidResponse bidResponse = bidResponseData.getBidresponse();
+        final List<SeatBid> seatBids = bidResponse != null ? bidResponse.getSeatbid() : null;
+        if (seatBids == null) {
+            return null;
+        }
+
+        return seatBids.stream()
+                .map(SeatBid::getBid)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(Bid::getImpid)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static List<Issue> copyOf(List<Issue> issues) {
+        return issues != null ? Collections.unmodifiableList(new ArrayList<>(issues)) : null;
+    }
+
+    private static void appendCreative(StringBuilder creatives, Bid bid) {
+        creatives.append('\n')
+                .append(bid.getCrid()).append('|')
+                .append(bid.getAdomain()).append('|')
+                .append(bid.getW()).append('x').append(bid.getH()).append('|')
+                .append(bid.getAdm());
+    }
+
+    private static String sha256(String value) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Verdict {
+
+        String tagKey;
+
+        List<Issue> issues;
+    }
+}
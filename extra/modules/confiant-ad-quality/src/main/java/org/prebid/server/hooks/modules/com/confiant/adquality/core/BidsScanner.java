@@ -1,19 +1,33 @@
 package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.redis.client.RedisAPI;
 import io.vertx.redis.client.Response;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
+import org.prebid.server.hooks.modules.com.confiant.adquality.v1.ConfiantAdQualityModule;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class BidsScanner {
 
+    private static final String METRIC_PREFIX = "modules.module." + ConfiantAdQualityModule.CODE + ".redis";
+
+    private static final String SUBMIT_BIDS_FUNCTION = "function_submit_bids";
+
+    private static final String NOSCRIPT_ERROR = "NOSCRIPT";
+
     private final RedisParser redisParser;
 
     private final String apiKey;
@@ -26,17 +40,30 @@ public class BidsScanner {
 
     private final ObjectMapper objectMapper;
 
+    private final BidScanVerdictCache verdictCache;
+
+    private final RedisNodeMetrics writeNodeMetrics;
+
+    private final RedisNodeMetrics readNodeMetrics;
+
+    private volatile String submitBidsSha;
+
     public BidsScanner(
             RedisClient writeRedisNode,
             RedisClient readRedisNode,
             String apiKey,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            BidScanVerdictCache verdictCache,
+            MetricRegistry metricRegistry) {
 
         this.writeRedisNode = writeRedisNode;
         this.readRedisNode = readRedisNode;
         this.apiKey = apiKey;
         this.objectMapper = objectMapper;
         this.redisParser = new RedisParser(objectMapper);
+        this.verdictCache = verdictCache;
+        this.writeNodeMetrics = new RedisNodeMetrics(metricRegistry, METRIC_PREFIX + ".write");
+        this.readNodeMetrics = new RedisNodeMetrics(metricRegistry, METRIC_PREFIX + ".read");
     }
 
     public void start(Promise<Void> startFuture) {
@@ -55,62 +82,155 @@ public class BidsScanner {
     }
 
     public Future<BidsScanResult> submitBids(RedisBidsData bids) {
-        final Promise<BidsScanResult> scanResult = Promise.promise();
-
-        final RedisAPI readRedisNodeAPI = this.readRedisNode.getRedisAPI();
+        final RedisAPI readRedisNodeAPI = readRedisNode.getRedisAPI();
         final boolean shouldSubmit = !isScanDisabled
-                && readRedisNodeAPI != null && bids.getBresps().size() > 0;
-
-        if (shouldSubmit) {
-            readRedisNodeAPI.get("function_submit_bids", submitHash -> {
-                final Object submitHashResult = submitHash.result();
-                if (submitHashResult != null) {
-                    final List<String> readArgs = List.of(submitHashResult.toString(), "0", toBidsAsJson(bids), apiKey, "true");
-
-                    readRedisNodeAPI.evalsha(readArgs, response -> {
-                        if (response.result() != null) {
-                            final BidsScanResult parserResult = redisParser
-                                    .parseBidsScanResult(response.result().toString());
-                            final boolean isAnyRoSkipped = parserResult.getBidScanResults()
-                                    .stream().anyMatch(BidScanResult::isRoSkipped);
-
-                            if (isAnyRoSkipped) {
-                                reSubmitBidsToWriteNode(readArgs, scanResult);
-                            } else {
-                                scanResult.complete(parserResult);
-                            }
-                        } else {
-                            scanResult.complete(getEmptyScanResult());
-                        }
-                    });
-                } else {
-                    scanResult.complete(getEmptyScanResult());
-                }
-            });
+                && readRedisNodeAPI != null && !bids.getBresps().isEmpty();
 
-            return scanResult.future();
+        if (!shouldSubmit) {
+            return Future.succeededFuture(getEmptyScanResult());
         }
 
-        return Future.succeededFuture(getEmptyScanResult());
+        return verdictCache != null
+                ? submitNotCachedBids(bids)
+                : submitBidsToRedis(bids);
     }
 
-    private void reSubmitBidsToWriteNode(List<String> readArgs, Promise<BidsScanResult> scanResult) {
-        final RedisAPI writeRedisAPI = this.writeRedisNode.getRedisAPI();
-        if (writeRedisAPI != null) {
-            final List<String> writeArgs = readArgs.stream().limit(4).toList();
-            writeRedisAPI.evalsha(writeArgs, response -> {
-                if (response.result() != null) {
-                    final BidsScanResult parserResult = redisParser
-                            .parseBidsScanResult(response.result().toString());
+    private Future<BidsScanResult> submitNotCachedBids(RedisBidsData bids) {
+        final List<RedisBidResponseData> bidResponses = bids.getBresps();
+        final List<String> keys = bidResponses.stream().map(BidScanVerdictCache::key).toList();
+        final List<BidScanResult> cachedResults = new ArrayList<>(bidResponses.size());
+        final List<RedisBidResponseData> notCachedBidResponses = new ArrayList<>();
+        for (int i = 0; i < bidResponses.size(); i++) {
+            final BidScanResult cachedResult = verdictCache.get(keys.get(i), bidResponses.get(i));
+            cachedResults.add(cachedResult);
+            if (cachedResult == null) {
+                notCachedBidResponses.add(bidResponses.get(i));
+            }
+        }
+
+        final Future<BidsScanResult> submittedResult = notCachedBidResponses.isEmpty()
+                ? Future.succeededFuture(getEmptyScanResult())
+                : submitBidsToRedis(bids.toBuilder().bresps(notCachedBidResponses).build());
+
+        return submittedResult.map(scanResult ->
+                mergeWithCachedResults(scanResult, cachedResults, keys, notCachedBidResponses.size()));
+    }
 
-                    scanResult.complete(parserResult);
-                } else {
-                    scanResult.complete(getEmptyScanResult());
+    /**
+     * Restores the order of scan results matching submitted bid responses
+     * and caches fresh verdicts if Redis returned result for each submitted bid response.
+     */
+    private BidsScanResult mergeWithCachedResults(BidsScanResult submittedResult,
+                                                  List<BidScanResult> cachedResults,
+                                                  List<String> keys,
+                                                  int submittedCount) {
+
+        final List<BidScanResult> submittedResults = submittedResult.getBidScanResults();
+        final boolean shouldCache = submittedResults.size() == submittedCount;
+
+        final List<BidScanResult> mergedResults = new ArrayList<>();
+        int submittedIndex = 0;
+        for (int i = 0; i < cachedResults.size(); i++) {
+            final BidScanResult cachedResult = cachedResults.get(i);
+            if (cachedResult != null) {
+                mergedResults.add(cachedResult);
+            } else if (submittedIndex < submittedResults.size()) {
+                final BidScanResult result = submittedResults.get(submittedIndex++);
+                if (shouldCache && !result.isRoSkipped()) {
+                    verdictCache.put(keys.get(i), result);
                 }
-            });
-        } else {
-            scanResult.complete(getEmptyScanResult());
+                mergedResults.add(result);
+            } else {
+                mergedResults.add(new BidScanResult());
+            }
+        }
+        mergedResults.addAll(submittedResults.subList(submittedIndex, submittedResults.size()));
+
+        return BidsScanResult.builder()
+                .bidScanResults(mergedResults)
+                .debugMessages(submittedResult.getDebugMessages())
+                .build();
+    }
+
+    private Future<BidsScanResult> submitBidsToRedis(RedisBidsData bids) {
+        final String bidsAsJson = toBidsAsJson(bids);
+
+        return evalSubmitBids(readRedisNode, readNodeMetrics, List.of("0", bidsAsJson, apiKey, "true"))
+                .compose(response -> {
+                    if (response == null) {
+                        return Future.succeededFuture(getEmptyScanResult());
+                    }
+
+                    final BidsScanResult parserResult = redisParser.parseBidsScanResult(response.toString());
+                    final boolean isAnyRoSkipped = parserResult.getBidScanResults()
+                            .stream().anyMatch(BidScanResult::isRoSkipped);
+
+                    return isAnyRoSkipped
+                            ? reSubmitBidsToWriteNode(bidsAsJson)
+                            : Future.succeededFuture(parserResult);
+                })
+                .otherwise(error -> getEmptyScanResult());
+    }
+
+    private Future<BidsScanResult> reSubmitBidsToWriteNode(String bidsAsJson) {
+        return evalSubmitBids(writeRedisNode, writeNodeMetrics, List.of("0", bidsAsJson, apiKey))
+                .map(response -> response != null
+                        ? redisParser.parseBidsScanResult(response.toString())
+                        : getEmptyScanResult());
+    }
+
+    /**
+     * Calls submit bids script by its cached SHA. The SHA is refreshed once if Redis does not know the script,
+     * e.g. after the script was reloaded.
+     */
+    private Future<Response> evalSubmitBids(RedisClient redisNode, RedisNodeMetrics metrics, List<String> args) {
+        final RedisAPI redisAPI = redisNode.getRedisAPI();
+        if (redisAPI == null) {
+            return Future.succeededFuture();
         }
+
+        return evalSubmitBidsBySha(redisAPI, metrics, args)
+                .recover(error -> {
+                    if (!StringUtils.startsWith(error.getMessage(), NOSCRIPT_ERROR)) {
+                        return Future.failedFuture(error);
+                    }
+
+                    submitBidsSha = null;
+                    return evalSubmitBidsBySha(redisAPI, metrics, args);
+                });
+    }
+
+    private Future<Response> evalSubmitBidsBySha(RedisAPI redisAPI, RedisNodeMetrics metrics, List<String> args) {
+        return getSubmitBidsSha().compose(sha -> {
+            if (sha == null) {
+                return Future.succeededFuture();
+            }
+
+            final List<String> evalArgs = new ArrayList<>(args.size() + 1);
+            evalArgs.add(sha);
+            evalArgs.addAll(args);
+
+            return metrics.track(redisAPI.evalsha(evalArgs));
+        });
+    }
+
+    private Future<String> getSubmitBidsSha() {
+        final String sha = submitBidsSha;
+        if (sha != null) {
+            return Future.succeededFuture(sha);
+        }
+
+        final RedisAPI readRedisNodeAPI = readRedisNode.getRedisAPI();
+        if (readRedisNodeAPI == null) {
+            return Future.succeededFuture();
+        }
+
+        return readNodeMetrics.track(readRedisNodeAPI.get(SUBMIT_BIDS_FUNCTION))
+                .map(response -> {
+                    final String loadedSha = response != null ? response.toString() : null;
+                    submitBidsSha = loadedSha;
+                    return loadedSha;
+                });
     }
 
     public Future<Boolean> isScanDisabledFlag() {
@@ -118,7 +238,7 @@ public class BidsScanner {
         final Promise<Boolean> isDisabled = Promise.promise();
 
         if (redisAPI != null) {
-            redisAPI.get("scan-disabled", scanDisabledValue -> {
+            readNodeMetrics.track(redisAPI.get("scan-disabled")).onComplete(scanDisabledValue -> {
                 final Response scanDisabled = scanDisabledValue.result();
                 isDisabled.complete(scanDisabled != null && scanDisabled.toString().equals("true"));
             });
@@ -143,4 +263,31 @@ public class BidsScanner {
                 .debugMessages(Collections.emptyList())
                 .build();
     }
+
+    private static class RedisNodeMetrics {
+
+        private final Counter requests;
+
+        private final Counter errors;
+
+        private final Timer requestTime;
+
+        RedisNodeMetrics(MetricRegistry metricRegistry, String prefix) {
+            requests = metricRegistry.counter(prefix + ".requests");
+            errors = metricRegistry.counter(prefix + ".errors");
+            requestTime = metricRegistry.timer(prefix + ".request_time");
+        }
+
+        <T> Future<T> track(Future<T> request) {
+            final long startTime = System.nanoTime();
+            requests.inc();
+
+            return request.onComplete(result -> {
+                requestTime.update(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                if (result.failed()) {
+                    errors.inc();
+                }
+            });
+        }
+    }
 }
@@ -8,6 +8,7 @@ import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
 import io.vertx.redis.client.RedisConnection;
 import io.vertx.redis.client.RedisOptions;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBatchConfig;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisRetryConfig;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -24,6 +25,8 @@ public class RedisClient {
 
     private final RedisRetryConfig retryConfig;
 
+    private final RedisBatchConfig batchConfig;
+
     private final Vertx vertx;
 
     private final String type;
@@ -34,10 +37,12 @@ public class RedisClient {
             int port,
             String password,
             RedisRetryConfig retryConfig,
+            RedisBatchConfig batchConfig,
             String type) {
 
         this.vertx = vertx;
         this.retryConfig = retryConfig;
+        this.batchConfig = batchConfig;
         this.options = new RedisOptions().setConnectionString("redis://:" + password + "@" + host + ":" + port);
         this.type = type;
     }
@@ -78,7 +83,7 @@ public class RedisClient {
                                 attemptReconnect(0, handler);
                             }
                         });
-                        redisAPI = RedisAPI.api(connection);
+                        redisAPI = createRedisAPI(connection);
                         handler.handle(onConnect);
                     } else if (!isReconnect) {
                         attemptReconnect(0, handler);
@@ -88,6 +93,12 @@ public class RedisClient {
                 });
     }
 
+    private RedisAPI createRedisAPI(RedisConnection connection) {
+        return batchConfig != null && batchConfig.getWindow() > 0
+                ? new BatchingRedisAPI(vertx, connection, batchConfig.getWindow(), batchConfig.getMaxSize())
+                : RedisAPI.api(connection);
+    }
+
     private void attemptReconnect(int retry, Handler<AsyncResult<RedisConnection>> handler) {
         if (retry > (retryConfig.getShortIntervalAttempts() + retryConfig.getLongIntervalAttempts())) {
             logger.info("Confiant Redis connection is not established");
@@ -0,0 +1,13 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.model;
+
+import lombok.Data;
+
+@Data
+public class RedisBatchConfig {
+
+    /** Time window in milliseconds to collect commands of concurrent auctions into one Redis batch. 0 disables batching */
+    long window;
+
+    /** Maximum number of commands in one Redis batch. Batch is sent immediately when this size is reached */
+    int maxSize;
+}
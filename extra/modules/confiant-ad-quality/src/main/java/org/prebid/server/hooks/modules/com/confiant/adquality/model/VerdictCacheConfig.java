@@ -0,0 +1,13 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.model;
+
+import lombok.Data;
+
+@Data
+public class VerdictCacheConfig {
+
+    /** Time in seconds the scan verdict of the creatives is reused without submitting them to Redis */
+    long ttl;
+
+    /** Maximum number of cached scan verdicts. 0 disables the cache */
+    int size;
+}
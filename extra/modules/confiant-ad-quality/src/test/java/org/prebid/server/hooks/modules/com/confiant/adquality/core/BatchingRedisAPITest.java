@@ -0,0 +1,121 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchingRedisAPITest {
+
+    @Mock(strictness = LENIENT)
+    private Vertx vertx;
+
+    @Mock
+    private RedisConnection connection;
+
+    private BatchingRedisAPI target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new BatchingRedisAPI(vertx, connection, 5L, 3);
+    }
+
+    @Test
+    public void sendShouldSendCommandsInOneBatchWhenWindowIsOver() {
+        // given
+        final Response firstResponse = mock(Response.class);
+        final Response secondResponse = mock(Response.class);
+        when(connection.batch(anyList())).thenReturn(Future.succeededFuture(List.of(firstResponse, secondResponse)));
+
+        final Future<Response> first = target.get("first");
+
+        // when
+        final Future<Response> second = target.get("second");
+        captureTimerHandler().handle(1L);
+
+        // then
+        assertThat(first.result()).isSameAs(firstResponse);
+        assertThat(second.result()).isSameAs(secondResponse);
+
+        final ArgumentCaptor<List<Request>> requestsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(connection).batch(requestsCaptor.capture());
+        assertThat(requestsCaptor.getValue()).hasSize(2);
+    }
+
+    @Test
+    public void sendShouldNotSendCommandsBeforeWindowIsOver() {
+        // when
+        final Future<Response> result = target.get("key");
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verify(vertx).setTimer(eq(5L), any());
+        verifyNoInteractions(connection);
+    }
+
+    @Test
+    public void sendShouldSendCommandsImmediatelyWhenBatchIsFull() {
+        // given
+        when(connection.batch(anyList())).thenReturn(Future.succeededFuture(List.of(
+                mock(Response.class), mock(Response.class), mock(Response.class))));
+
+        target.get("first");
+        target.get("second");
+
+        // when
+        final Future<Response> result = target.get("third");
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(connection).batch(anyList());
+    }
+
+    @Test
+    public void sendShouldResendCommandsSeparatelyWhenBatchFailed() {
+        // given
+        final Response firstResponse = mock(Response.class);
+        when(connection.batch(anyList())).thenReturn(Future.failedFuture("failed"));
+        when(connection.send(any(Request.class)))
+                .thenReturn(Future.succeededFuture(firstResponse), Future.failedFuture("second failed"));
+
+        // when
+        final Future<Response> first = target.get("first");
+        final Future<Response> second = target.get("second");
+        captureTimerHandler().handle(1L);
+
+        // then
+        assertThat(first.result()).isSameAs(firstResponse);
+        assertThat(second.cause()).hasMessage("second failed");
+        verify(connection, times(2)).send(any(Request.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> captureTimerHandler() {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(anyLong(), handlerCaptor.capture());
+        return handlerCaptor.getValue();
+    }
+}
@@ -0,0 +1,101 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.codahale.metrics.MetricRegistry;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.Issue;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BidScanVerdictCacheTest {
+
+    private MetricRegistry metricRegistry;
+
+    private BidScanVerdictCache target;
+
+    @BeforeEach
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+        target = new BidScanVerdictCache(60, 100, metricRegistry);
+    }
+
+    @Test
+    public void getShouldReturnNullAndCountMissWhenVerdictIsAbsent() {
+        // given
+        final RedisBidResponseData bidResponseData = givenBidResponseData("dsp_id", "adm", "imp_id");
+
+        // when
+        final BidScanResult result = target.get(BidScanVerdictCache.key(bidResponseData), bidResponseData);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(metricRegistry.counter("modules.module.confiant-ad-quality.verdict_cache.miss").getCount())
+                .isOne();
+        assertThat(metricRegistry.counter("modules.module.confiant-ad-quality.verdict_cache.hit").getCount())
+                .isZero();
+    }
+
+    @Test
+    public void getShouldReturnCachedTagKeyAndIssuesWithImpIdOfCurrentBidAndCountHit() {
+        // given
+        final RedisBidResponseData scannedBid = givenBidResponseData("dsp_id", "adm", "imp_a");
+        target.put(BidScanVerdictCache.key(scannedBid), givenBidScanResult("key_a", "imp_a", "malicious_domain"));
+
+        final RedisBidResponseData currentBid = givenBidResponseData("dsp_id", "adm", "imp_b");
+
+        // when
+        final BidScanResult result = target.get(BidScanVerdictCache.key(currentBid), currentBid);
+
+        // then
+        assertThat(result.getTagKey()).isEqualTo("key_a");
+        assertThat(result.getImpId()).isEqualTo("imp_b");
+        assertThat(result.getIssues()).extracting(Issue::getSpecName).containsExactly("malicious_domain");
+        assertThat(metricRegistry.counter("modules.module.confiant-ad-quality.verdict_cache.hit").getCount())
+                .isOne();
+        assertThat(metricRegistry.counter("modules.module.confiant-ad-quality.verdict_cache.miss").getCount())
+                .isZero();
+    }
+
+    @Test
+    public void getShouldNotReturnVerdictOfOtherCreatives() {
+        // given
+        final RedisBidResponseData scannedBid = givenBidResponseData("dsp_id", "adm", "imp_a");
+        target.put(BidScanVerdictCache.key(scannedBid), givenBidScanResult("key_a", "imp_a", "malicious_domain"));
+
+        final RedisBidResponseData otherBid = givenBidResponseData("dsp_id", "other_adm", "imp_a");
+
+        // when
+        final BidScanResult result = target.get(BidScanVerdictCache.key(otherBid), otherBid);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    private static RedisBidResponseData givenBidResponseData(String dspId, String adm, String impId) {
+        final Bid bid = Bid.builder().id("bid_id").impid(impId).adm(adm).build();
+        return RedisBidResponseData.builder()
+                .dspId(dspId)
+                .bidresponse(BidResponse.builder()
+                        .seatbid(List.of(SeatBid.builder().bid(List.of(bid)).build()))
+                        .build())
+                .build();
+    }
+
+    private static BidScanResult givenBidScanResult(String tagKey, String impId, String specName) {
+        final Issue issue = new Issue();
+        issue.setSpecName(specName);
+
+        final BidScanResult bidScanResult = new BidScanResult();
+        bidScanResult.setTagKey(tagKey);
+        bidScanResult.setImpId(impId);
+        bidScanResult.setIssues(List.of(issue));
+        return bidScanResult;
+    }
+}
@@ -1,8 +1,11 @@
 package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.redis.client.Command;
@@ -15,12 +18,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.BidScanResult;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.GroupByIssues;
+import org.prebid.server.hooks.modules.com.confiant.adquality.model.Issue;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResponseData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.util.AdQualityModuleTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,6 +37,11 @@ import static org.mockito.Mockito.verify;
 @ExtendWith(MockitoExtension.class)
 public class BidsScannerTest {
 
+    private static final String ISSUES_RESPONSE = "[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp_a\", \"issues\": "
+            + "[{ \"value\": \"ads.deceivenetworks.net\", \"spec_name\": \"malicious_domain\"}]}]]]";
+
+    private static final String NO_ISSUES_RESPONSE = "[[[{\"tag_key\": \"key_b\", \"imp_id\": \"imp_b\"}]]]";
+
     @Mock
     private RedisClient writeRedisNode;
 
@@ -39,11 +51,15 @@ public class BidsScannerTest {
     @Mock
     private RedisAPI redisAPI;
 
+    private MetricRegistry metricRegistry;
+
     private BidsScanner bidsScannerTest;
 
     @BeforeEach
     public void setUp() {
-        bidsScannerTest = new BidsScanner(writeRedisNode, readRedisNode, "api-key", new ObjectMapper());
+        metricRegistry = new MetricRegistry();
+        bidsScannerTest = new BidsScanner(
+                writeRedisNode, readRedisNode, "api-key", new ObjectMapper(), null, metricRegistry);
     }
 
     @Test()
@@ -209,6 +225,199 @@ public class BidsScannerTest {
         assertThat(groupByIssues.getWithoutIssues().size()).isEqualTo(0);
     }
 
+    @Test()
+    public void shouldRequestSubmitBidsScriptShaOnlyOnce() {
+        // given
+        final List<Command> commands = new ArrayList<>();
+        final RedisAPI redisAPI = getRecordingRedisEmulation(commands, (command, args) ->
+                Future.succeededFuture(givenResponse(command == Command.GET ? "sha" : NO_ISSUES_RESPONSE)));
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+        bidsScannerTest.enableScan();
+
+        // when
+        bidsScannerTest.submitBids(givenBidsData("dsp_id", "adm"));
+        bidsScannerTest.submitBids(givenBidsData("dsp_id", "adm"));
+
+        // then
+        assertThat(commands).containsExactly(Command.GET, Command.EVALSHA, Command.EVALSHA);
+        assertThat(metricRegistry.counter("modules.module.confiant-ad-quality.redis.read.requests").getCount())
+                .isEqualTo(3);
+        assertThat(metricRegistry.timer("modules.module.confiant-ad-quality.redis.read.request_time").getCount())
+                .isEqualTo(3);
+    }
+
+    @Test()
+    public void shouldReloadSubmitBidsScriptShaWhenRedisRespondsWithNoScriptError() {
+        // given
+        final List<Command> commands = new ArrayList<>();
+        final RedisAPI redisAPI = getRecordingRedisEmulation(commands, (command, args) -> {
+            if (command == Command.GET) {
+                return Future.succeededFuture(givenResponse(commands.size() == 1 ? "outdated-sha" : "sha"));
+            }
+            return args[0].equals("sha")
+                    ? Future.succeededFuture(givenResponse(ISSUES_RESPONSE))
+                    : Future.failedFuture("NOSCRIPT No matching script. Please use EVAL.");
+        });
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+        bidsScannerTest.enableScan();
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(givenBidsData("dsp_id", "adm"));
+
+        // then
+        assertThat(commands).containsExactly(Command.GET, Command.EVALSHA, Command.GET, Command.EVALSHA);
+        assertThat(scanResult.result().getBidScanResults()).hasSize(1)
+                .allSatisfy(bidScanResult -> assertThat(bidScanResult.getIssues()).isNotEmpty());
+        assertThat(metricRegistry.counter("modules.module.confiant-ad-quality.redis.read.errors").getCount())
+                .isOne();
+    }
+
+    @Test()
+    public void shouldNotSubmitBidsWithCachedScanVerdict() {
+        // given
+        bidsScannerTest = new BidsScanner(writeRedisNode, readRedisNode, "api-key", new ObjectMapper(),
+                new BidScanVerdictCache(60, 100, metricRegistry), metricRegistry);
+        final List<Command> commands = new ArrayList<>();
+        final RedisAPI redisAPI = getRecordingRedisEmulation(commands, (command, args) ->
+                Future.succeededFuture(givenResponse(command == Command.GET ? "sha" : ISSUES_RESPONSE)));
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+        bidsScannerTest.enableScan();
+
+        // when
+        bidsScannerTest.submitBids(givenBidsData("dsp_id", "adm"));
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(givenBidsData("dsp_id", "adm"));
+
+        // then
+        assertThat(commands).containsExactly(Command.GET, Command.EVALSHA);
+        assertThat(scanResult.result().getBidScanResults()).hasSize(1)
+                .allSatisfy(bidScanResult -> assertThat(bidScanResult.getIssues()).isNotEmpty());
+        assertThat(metricRegistry.counter("modules.module.confiant-ad-quality.verdict_cache.hit").getCount())
+                .isOne();
+    }
+
+    @Test()
+    public void shouldSubmitOnlyBidsWithoutCachedScanVerdictAndKeepResultsOrder() {
+        // given
+        bidsScannerTest = new BidsScanner(writeRedisNode, readRedisNode, "api-key", new ObjectMapper(),
+                new BidScanVerdictCache(60, 100, metricRegistry), metricRegistry);
+        final List<String> submittedBids = new ArrayList<>();
+        final RedisAPI redisAPI = getRecordingRedisEmulation(new ArrayList<>(), (command, args) -> {
+            if (command == Command.GET) {
+                return Future.succeededFuture(givenResponse("sha"));
+            }
+            submittedBids.add(args[2]);
+            return Future.succeededFuture(
+                    givenResponse(submittedBids.size() == 1 ? ISSUES_RESPONSE : NO_ISSUES_RESPONSE));
+        });
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+        bidsScannerTest.enableScan();
+        bidsScannerTest.submitBids(givenBidsData("dsp_a", "adm_a"));
+
+        final RedisBidsData bidsData = RedisBidsData.builder()
+                .breq(BidRequest.builder().build())
+                .bresps(List.of(givenBidResponseData("dsp_b", "adm_b"), givenBidResponseData("dsp_a", "adm_a")))
+                .build();
+
+        // when
+        final Future<BidsScanResult> scanResult = bidsScannerTest.submitBids(bidsData);
+
+        // then
+        assertThat(submittedBids).hasSize(2);
+        assertThat(submittedBids.get(1)).contains("dsp_b").doesNotContain("dsp_a");
+        assertThat(scanResult.result().getBidScanResults()).extracting(BidScanResult::getTagKey)
+                .containsExactly("key_b", "key_a");
+        assertThat(scanResult.result().getBidScanResults().get(1).getIssues()).isNotEmpty();
+    }
+
+    @Test()
+    public void shouldTakeImpIdOfCachedScanVerdictFromCurrentBidAndTagKeyFromVerdict() {
+        // given
+        bidsScannerTest = new BidsScanner(writeRedisNode, readRedisNode, "api-key", new ObjectMapper(),
+                new BidScanVerdictCache(60, 100, metricRegistry), metricRegistry);
+        final RedisAPI redisAPI = getRecordingRedisEmulation(new ArrayList<>(), (command, args) ->
+                Future.succeededFuture(givenResponse(command == Command.GET ? "sha" : ISSUES_RESPONSE)));
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+        bidsScannerTest.enableScan();
+
+        // when
+        final Future<BidsScanResult> firstResult = bidsScannerTest.submitBids(
+                givenBidsData("dsp_id", "adm", "imp_a"));
+        final Future<BidsScanResult> secondResult = bidsScannerTest.submitBids(
+                givenBidsData("dsp_id", "adm", "imp_c"));
+
+        // then
+        assertThat(firstResult.result().getBidScanResults()).singleElement()
+                .satisfies(bidScanResult -> {
+                    assertThat(bidScanResult.getImpId()).isEqualTo("imp_a");
+                    assertThat(bidScanResult.getTagKey()).isEqualTo("key_a");
+                });
+        assertThat(secondResult.result().getBidScanResults()).singleElement()
+                .satisfies(bidScanResult -> {
+                    assertThat(bidScanResult.getImpId()).isEqualTo("imp_c");
+                    assertThat(bidScanResult.getTagKey()).isEqualTo("key_a");
+                    assertThat(bidScanResult.getIssues()).extracting(Issue::getSpecName)
+                            .containsExactly("malicious_domain");
+                });
+        assertThat(metricRegistry.counter("modules.module.confiant-ad-quality.verdict_cache.hit").getCount())
+                .isOne();
+    }
+
+    private static RedisBidsData givenBidsData(String dspId, String adm) {
+        return givenBidsData(dspId, adm, null);
+    }
+
+    private static RedisBidsData givenBidsData(String dspId, String adm, String impId) {
+        return RedisBidsData.builder()
+                .breq(BidRequest.builder().build())
+                .bresps(List.of(givenBidResponseData(dspId, adm, impId)))
+                .build();
+    }
+
+    private static RedisBidResponseData givenBidResponseData(String dspId, String adm) {
+        return givenBidResponseData(dspId, adm, null);
+    }
+
+    private static RedisBidResponseData givenBidResponseData(String dspId, String adm, String impId) {
+        final Bid bid = Bid.builder().impid(impId).adm(adm).build();
+        return RedisBidResponseData.builder()
+                .dspId(dspId)
+                .bidresponse(BidResponse.builder()
+                        .seatbid(List.of(SeatBid.builder().bid(List.of(bid)).build()))
+                        .build())
+                .build();
+    }
+
+    private static RedisAPI getRecordingRedisEmulation(
+            List<Command> commands,
+            BiFunction<Command, String[], Future<Response>> answer) {
+
+        return new RedisAPI() {
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public Future<Response> send(Command command, String... strings) {
+                commands.add(command);
+                return answer.apply(command, strings);
+            }
+        };
+    }
+
+    private static Response givenResponse(String value) {
+        return new Response() {
+            @Override
+            public ResponseType type() {
+                return null;
+            }
+
+            @Override
+            public String toString() {
+                return value;
+            }
+        };
+    }
+
     private RedisAPI getRedisEmulationWithAnswer(String sendAnswer) {
         return new RedisAPI() {
             @Override
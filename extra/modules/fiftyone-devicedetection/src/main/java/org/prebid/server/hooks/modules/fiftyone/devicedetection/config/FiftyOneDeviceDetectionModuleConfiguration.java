@@ -1,8 +1,12 @@
 package org.prebid.server.hooks.modules.fiftyone.devicedetection.config;
 
+import com.codahale.metrics.MetricRegistry;
 import fiftyone.devicedetection.DeviceDetectionPipelineBuilder;
 import fiftyone.pipeline.core.flowelements.Pipeline;
+import org.prebid.server.execution.BlockingExecutorFactory;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.FiftyOneDeviceDetectionModule;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.config.DetectionConfig;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DeviceDetectionService;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DeviceEnricher;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.PipelineBuilder;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.hooks.FiftyOneDeviceDetectionEntrypointHook;
@@ -16,11 +20,17 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Optional;
 import java.util.Set;
 
 @Configuration
 @ConditionalOnProperty(prefix = "hooks." + FiftyOneDeviceDetectionModule.CODE, name = "enabled", havingValue = "true")
 public class FiftyOneDeviceDetectionModuleConfiguration {
+    private static final int DEFAULT_CACHE_SIZE = 10000;
+    private static final int DEFAULT_WORKER_POOL_SIZE = 4;
+    private static final long DEFAULT_TIMEOUT_MS = 50L;
+    private static final int DEFAULT_MAX_PENDING_DETECTIONS = 100;
+
     @Bean
     @ConfigurationProperties(prefix = "hooks.modules." + FiftyOneDeviceDetectionModule.CODE)
     ModuleConfig moduleConfig() {
@@ -38,10 +48,39 @@ public class FiftyOneDeviceDetectionModuleConfiguration {
     }
 
     @Bean
-    Module fiftyOneDeviceDetectionModule(ModuleConfig moduleConfig, DeviceEnricher deviceEnricher) {
+    DeviceDetectionService deviceDetectionService(ModuleConfig moduleConfig,
+                                                  DeviceEnricher deviceEnricher,
+                                                  BlockingExecutorFactory blockingExecutorFactory,
+                                                  MetricRegistry metricRegistry) {
+
+        final Optional<DetectionConfig> detectionConfig = Optional.ofNullable(moduleConfig.getDetection());
+        final int cacheSize = detectionConfig.map(DetectionConfig::getCacheSize).orElse(DEFAULT_CACHE_SIZE);
+        final int workerPoolSize = detectionConfig.map(DetectionConfig::getWorkerPoolSize)
+                .orElse(DEFAULT_WORKER_POOL_SIZE);
+        final long timeoutMs = detectionConfig.map(DetectionConfig::getTimeoutMs).orElse(DEFAULT_TIMEOUT_MS);
+        final int maxPendingDetections = detectionConfig.map(DetectionConfig::getMaxPendingDetections)
+                .orElse(DEFAULT_MAX_PENDING_DETECTIONS);
+
+        return new DeviceDetectionService(
+                deviceEnricher,
+                blockingExecutorFactory.executor(FiftyOneDeviceDetectionModule.CODE, workerPoolSize),
+                timeoutMs,
+                maxPendingDetections,
+                cacheSize,
+                metricRegistry);
+    }
+
+    @Bean
+    Module fiftyOneDeviceDetectionModule(ModuleConfig moduleConfig,
+                                         DeviceEnricher deviceEnricher,
+                                         DeviceDetectionService deviceDetectionService) {
+
         final Set<? extends Hook<?, ? extends InvocationContext>> hooks = Set.of(
                 new FiftyOneDeviceDetectionEntrypointHook(),
-                new FiftyOneDeviceDetectionRawAuctionRequestHook(moduleConfig.getAccountFilter(), deviceEnricher)
+                new FiftyOneDeviceDetectionRawAuctionRequestHook(
+                        moduleConfig.getAccountFilter(),
+                        deviceEnricher,
+                        deviceDetectionService)
         );
 
         return new FiftyOneDeviceDetectionModule(hooks);
@@ -7,4 +7,5 @@ public final class ModuleConfig {
     AccountFilter accountFilter;
     DataFile dataFile;
     PerformanceConfig performance;
+    DetectionConfig detection;
 }
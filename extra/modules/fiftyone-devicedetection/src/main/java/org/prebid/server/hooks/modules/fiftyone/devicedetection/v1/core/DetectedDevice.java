@@ -0,0 +1,24 @@
+package org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * Device properties detected from the evidence, independent of the device passed in the request.
+ */
+@Builder
+public record DetectedDevice(
+        Integer devicetype,
+        String make,
+        String model,
+        String os,
+        String osv,
+        Integer h,
+        Integer w,
+        Integer ppi,
+        BigDecimal pxratio,
+        String deviceId
+) {
+    public static final DetectedDevice EMPTY = DetectedDevice.builder().build();
+}
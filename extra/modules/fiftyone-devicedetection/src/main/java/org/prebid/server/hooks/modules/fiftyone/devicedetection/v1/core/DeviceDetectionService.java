@@ -0,0 +1,148 @@
+package org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import org.prebid.server.execution.BlockingExecutor;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.boundary.CollectedEvidence;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.FiftyOneDeviceDetectionModule;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs device detection off the event loop.
+ * <p>
+ * Results are cached by the evidence fingerprint made of the user agent and {@code Sec-CH-UA*} headers,
+ * so repeated evidence is resolved without running the pipeline. Cache misses are processed
+ * by the dedicated blocking executor and fail if detection takes longer than the configured timeout.
+ * <p>
+ * Detection running in the pipeline could not be interrupted, so timed out detection that has not started yet
+ * is skipped to give its worker back, and the number of detections waiting for or occupying workers is bounded:
+ * new detections fail right away once the bound is reached.
+ */
+public class DeviceDetectionService {
+
+    private static final String METRIC_PREFIX = "modules.module." + FiftyOneDeviceDetectionModule.CODE;
+
+    private static final String USER_AGENT_EVIDENCE = "header.user-agent";
+    private static final String CLIENT_HINTS_EVIDENCE_PREFIX = "header.sec-ch-ua";
+
+    private final DeviceEnricher deviceEnricher;
+    private final BlockingExecutor blockingExecutor;
+    private final long timeoutMillis;
+    private final int maxPendingDetections;
+    private final Map<String, DetectedDevice> cache;
+
+    private final AtomicInteger pendingDetections = new AtomicInteger();
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter rejectedDetections;
+    private final Counter skippedDetections;
+    private final Timer detectionTimer;
+
+    public DeviceDetectionService(DeviceEnricher deviceEnricher,
+                                  BlockingExecutor blockingExecutor,
+                                  long timeoutMillis,
+                                  int maxPendingDetections,
+                                  int cacheSize,
+                                  MetricRegistry metricRegistry) {
+
+        this.deviceEnricher = Objects.requireNonNull(deviceEnricher);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
+        this.timeoutMillis = timeoutMillis;
+        this.maxPendingDetections = maxPendingDetections;
+        this.cache = cacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheSize).<String, DetectedDevice>build().asMap()
+                : null;
+
+        cacheHits = metricRegistry.counter(METRIC_PREFIX + ".cache.hit");
+        cacheMisses = metricRegistry.counter(METRIC_PREFIX + ".cache.miss");
+        rejectedDetections = metricRegistry.counter(METRIC_PREFIX + ".detection.rejected");
+        skippedDetections = metricRegistry.counter(METRIC_PREFIX + ".detection.skipped");
+        detectionTimer = metricRegistry.timer(METRIC_PREFIX + ".detection_time");
+        metricRegistry.gauge(METRIC_PREFIX + ".detection.pending", () -> pendingDetections::get);
+    }
+
+    public Future<DetectedDevice> detect(CollectedEvidence collectedEvidence) {
+        final String fingerprint = cache != null ? fingerprint(collectedEvidence) : null;
+
+        final DetectedDevice cachedDevice = fingerprint != null ? cache.get(fingerprint) : null;
+        if (cachedDevice != null) {
+            cacheHits.inc();
+            return Future.succeededFuture(cachedDevice);
+        }
+        if (fingerprint != null) {
+            cacheMisses.inc();
+        }
+
+        if (pendingDetections.incrementAndGet() > maxPendingDetections) {
+            pendingDetections.decrementAndGet();
+            rejectedDetections.inc();
+            return Future.failedFuture(new DeviceDetectionRejectedException(
+                    "Device detection rejected, %d detections are pending".formatted(maxPendingDetections)));
+        }
+
+        final AtomicBoolean timedOut = new AtomicBoolean();
+        final Future<DetectedDevice> result = blockingExecutor
+                .execute(() -> timedDetect(collectedEvidence, timedOut))
+                .onComplete(ignored -> pendingDetections.decrementAndGet())
+                .timeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .onFailure(ignored -> timedOut.set(true));
+
+        return fingerprint != null
+                ? result.onSuccess(detectedDevice -> cache.put(fingerprint, detectedDevice))
+                : result;
+    }
+
+    private DetectedDevice timedDetect(CollectedEvidence collectedEvidence, AtomicBoolean timedOut)
+            throws Exception {
+
+        if (timedOut.get()) {
+            skippedDetections.inc();
+            throw new DeviceDetectionRejectedException("Device detection skipped, result is not awaited anymore");
+        }
+
+        try (Timer.Context ignored = detectionTimer.time()) {
+            return deviceEnricher.detectDevice(collectedEvidence);
+        }
+    }
+
+    /**
+     * Returns normalized evidence fingerprint or null if the evidence contains headers other than
+     * user agent and client hints, e.g. when all request headers are used, so it is not worth caching.
+     */
+    static String fingerprint(CollectedEvidence collectedEvidence) {
+        final Map<String, String> evidence = DeviceEnricher.pickRelevantFrom(collectedEvidence);
+        if (evidence.isEmpty()) {
+            return null;
+        }
+
+        final Map<String, String> normalizedEvidence = new TreeMap<>();
+        for (Map.Entry<String, String> entry : evidence.entrySet()) {
+            final String key = entry.getKey().toLowerCase();
+            if (!key.equals(USER_AGENT_EVIDENCE) && !key.startsWith(CLIENT_HINTS_EVIDENCE_PREFIX)) {
+                return null;
+            }
+            normalizedEvidence.put(key, entry.getValue());
+        }
+
+        final StringBuilder fingerprint = new StringBuilder();
+        normalizedEvidence.forEach((key, value) -> fingerprint.append(key).append(": ").append(value).append('\n'));
+        return fingerprint.toString();
+    }
+
+    private static class DeviceDetectionRejectedException extends RuntimeException {
+
+        DeviceDetectionRejectedException(String message) {
+            super(message);
+        }
+    }
+}
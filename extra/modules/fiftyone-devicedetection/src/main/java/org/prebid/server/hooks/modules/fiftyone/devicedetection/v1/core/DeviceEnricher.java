@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public class DeviceEnricher {
@@ -40,19 +41,22 @@ public class DeviceEnricher {
     }
 
     public EnrichmentResult populateDeviceInfo(Device device, CollectedEvidence collectedEvidence) throws Exception {
+        return patchDevice(device, detectDevice(collectedEvidence));
+    }
+
+    /**
+     * Runs device detection for the given evidence, returns {@link DetectedDevice#EMPTY} if nothing was detected.
+     */
+    public DetectedDevice detectDevice(CollectedEvidence collectedEvidence) throws Exception {
         try (FlowData data = pipeline.createFlowData()) {
             data.addEvidence(pickRelevantFrom(collectedEvidence));
             data.process();
             final DeviceData deviceData = data.get(DeviceData.class);
-            if (deviceData == null) {
-                return null;
-            }
-            final Device properDevice = Optional.ofNullable(device).orElseGet(() -> Device.builder().build());
-            return patchDevice(properDevice, deviceData);
+            return deviceData != null ? toDetectedDevice(deviceData) : DetectedDevice.EMPTY;
         }
     }
 
-    private Map<String, String> pickRelevantFrom(CollectedEvidence collectedEvidence) {
+    static Map<String, String> pickRelevantFrom(CollectedEvidence collectedEvidence) {
         final Map<String, String> evidence = new HashMap<>();
 
         final String ua = collectedEvidence.deviceUA();
@@ -74,67 +78,131 @@ public class DeviceEnricher {
         return evidence;
     }
 
-    private EnrichmentResult patchDevice(Device device, DeviceData deviceData) {
+    private static DetectedDevice toDetectedDevice(DeviceData deviceData) {
+        return DetectedDevice.builder()
+                .devicetype(detectDeviceType(deviceData))
+                .make(nonBlank(getSafe(deviceData, DeviceData::getHardwareVendor)))
+                .model(detectModel(deviceData))
+                .os(nonBlank(getSafe(deviceData, DeviceData::getPlatformName)))
+                .osv(nonBlank(getSafe(deviceData, DeviceData::getPlatformVersion)))
+                .h(positive(getSafe(deviceData, DeviceData::getScreenPixelsHeight)))
+                .w(positive(getSafe(deviceData, DeviceData::getScreenPixelsWidth)))
+                .ppi(detectPpi(deviceData))
+                .pxratio(detectPixelRatio(deviceData))
+                .deviceId(nonBlank(getSafe(deviceData, DeviceData::getDeviceId)))
+                .build();
+    }
+
+    private static Integer detectDeviceType(DeviceData deviceData) {
+        final String rawDeviceType = getSafe(deviceData, DeviceData::getDeviceType);
+        if (rawDeviceType == null) {
+            return null;
+        }
+
+        final OrtbDeviceType properDeviceType = OrtbDeviceType.resolveFrom(rawDeviceType);
+        return properDeviceType != OrtbDeviceType.UNKNOWN ? properDeviceType.ordinal() : null;
+    }
+
+    private static String detectModel(DeviceData deviceData) {
+        final String model = getSafe(deviceData, DeviceData::getHardwareModel);
+        if (StringUtils.isNotBlank(model)) {
+            return model;
+        }
+
+        final List<String> names = getSafe(deviceData, DeviceData::getHardwareName);
+        return CollectionUtils.isNotEmpty(names) ? String.join(",", names) : null;
+    }
+
+    private static Integer detectPpi(DeviceData deviceData) {
+        final Integer pixelsHeight = getSafe(deviceData, DeviceData::getScreenPixelsHeight);
+        if (pixelsHeight == null) {
+            return null;
+        }
+
+        final Double inchesHeight = getSafe(deviceData, DeviceData::getScreenInchesHeight);
+        return isPositive(inchesHeight) ? (int) Math.round(pixelsHeight / inchesHeight) : null;
+    }
+
+    private static BigDecimal detectPixelRatio(DeviceData deviceData) {
+        final Double rawRatio = getSafe(deviceData, DeviceData::getPixelRatio);
+        return isPositive(rawRatio) ? BigDecimal.valueOf(rawRatio) : null;
+    }
+
+    /**
+     * Fills in the device fields missing in the request with the detected ones.
+     */
+    public EnrichmentResult patchDevice(Device device, DetectedDevice detectedDevice) {
+        final Device properDevice = Optional.ofNullable(device).orElseGet(() -> Device.builder().build());
         final List<String> updatedFields = new ArrayList<>();
-        final Device.DeviceBuilder deviceBuilder = device.toBuilder();
+        final Device.DeviceBuilder deviceBuilder = properDevice.toBuilder();
 
-        final UpdateResult<Integer> resolvedDeviceType = resolveDeviceType(device, deviceData);
+        final UpdateResult<Integer> resolvedDeviceType = resolve(
+                properDevice.getDevicetype(), DeviceEnricher::isPositive, detectedDevice.devicetype());
         if (resolvedDeviceType.isUpdated()) {
             deviceBuilder.devicetype(resolvedDeviceType.getValue());
             updatedFields.add("devicetype");
         }
 
-        final UpdateResult<String> resolvedMake = resolveMake(device, deviceData);
+        final UpdateResult<String> resolvedMake = resolve(
+                properDevice.getMake(), StringUtils::isNotBlank, detectedDevice.make());
         if (resolvedMake.isUpdated()) {
             deviceBuilder.make(resolvedMake.getValue());
             updatedFields.add("make");
         }
 
-        final UpdateResult<String> resolvedModel = resolveModel(device, deviceData);
+        final UpdateResult<String> resolvedModel = resolve(
+                properDevice.getModel(), StringUtils::isNotBlank, detectedDevice.model());
         if (resolvedModel.isUpdated()) {
             deviceBuilder.model(resolvedModel.getValue());
             updatedFields.add("model");
         }
 
-        final UpdateResult<String> resolvedOs = resolveOs(device, deviceData);
+        final UpdateResult<String> resolvedOs = resolve(
+                properDevice.getOs(), StringUtils::isNotBlank, detectedDevice.os());
         if (resolvedOs.isUpdated()) {
             deviceBuilder.os(resolvedOs.getValue());
             updatedFields.add("os");
         }
 
-        final UpdateResult<String> resolvedOsv = resolveOsv(device, deviceData);
+        final UpdateResult<String> resolvedOsv = resolve(
+                properDevice.getOsv(), StringUtils::isNotBlank, detectedDevice.osv());
         if (resolvedOsv.isUpdated()) {
             deviceBuilder.osv(resolvedOsv.getValue());
             updatedFields.add("osv");
         }
 
-        final UpdateResult<Integer> resolvedH = resolveH(device, deviceData);
+        final UpdateResult<Integer> resolvedH = resolve(
+                properDevice.getH(), DeviceEnricher::isPositive, detectedDevice.h());
         if (resolvedH.isUpdated()) {
             deviceBuilder.h(resolvedH.getValue());
             updatedFields.add("h");
         }
 
-        final UpdateResult<Integer> resolvedW = resolveW(device, deviceData);
+        final UpdateResult<Integer> resolvedW = resolve(
+                properDevice.getW(), DeviceEnricher::isPositive, detectedDevice.w());
         if (resolvedW.isUpdated()) {
             deviceBuilder.w(resolvedW.getValue());
             updatedFields.add("w");
         }
 
-        final UpdateResult<Integer> resolvedPpi = resolvePpi(device, deviceData);
+        final UpdateResult<Integer> resolvedPpi = resolve(
+                properDevice.getPpi(), DeviceEnricher::isPositive, detectedDevice.ppi());
         if (resolvedPpi.isUpdated()) {
             deviceBuilder.ppi(resolvedPpi.getValue());
             updatedFields.add("ppi");
         }
 
-        final UpdateResult<BigDecimal> resolvedPixelRatio = resolvePixelRatio(device, deviceData);
+        final UpdateResult<BigDecimal> resolvedPixelRatio = resolve(
+                properDevice.getPxratio(), ratio -> ratio != null && ratio.intValue() > 0, detectedDevice.pxratio());
         if (resolvedPixelRatio.isUpdated()) {
             deviceBuilder.pxratio(resolvedPixelRatio.getValue());
             updatedFields.add("pxratio");
         }
 
-        final UpdateResult<String> resolvedDeviceId = resolveDeviceId(device, deviceData);
+        final UpdateResult<String> resolvedDeviceId = resolve(
+                getDeviceId(properDevice), StringUtils::isNotBlank, detectedDevice.deviceId());
         if (resolvedDeviceId.isUpdated()) {
-            setDeviceId(deviceBuilder, device, resolvedDeviceId.getValue());
+            setDeviceId(deviceBuilder, properDevice, resolvedDeviceId.getValue());
             updatedFields.add("ext." + EXT_DEVICE_ID_KEY);
         }
 
@@ -148,139 +216,18 @@ public class DeviceEnricher {
                 .build();
     }
 
-    private UpdateResult<Integer> resolveDeviceType(Device device, DeviceData deviceData) {
-        final Integer currentDeviceType = device.getDevicetype();
-        if (isPositive(currentDeviceType)) {
-            return UpdateResult.unaltered(currentDeviceType);
-        }
-
-        final String rawDeviceType = getSafe(deviceData, DeviceData::getDeviceType);
-        if (rawDeviceType == null) {
-            return UpdateResult.unaltered(currentDeviceType);
-        }
-
-        final OrtbDeviceType properDeviceType = OrtbDeviceType.resolveFrom(rawDeviceType);
-        return properDeviceType != OrtbDeviceType.UNKNOWN
-                ? UpdateResult.updated(properDeviceType.ordinal())
-                : UpdateResult.unaltered(currentDeviceType);
+    private static <T> UpdateResult<T> resolve(T currentValue, Predicate<T> isPresent, T detectedValue) {
+        return isPresent.test(currentValue) || detectedValue == null
+                ? UpdateResult.unaltered(currentValue)
+                : UpdateResult.updated(detectedValue);
     }
 
-    private UpdateResult<String> resolveMake(Device device, DeviceData deviceData) {
-        final String currentMake = device.getMake();
-        if (StringUtils.isNotBlank(currentMake)) {
-            return UpdateResult.unaltered(currentMake);
-        }
-
-        final String make = getSafe(deviceData, DeviceData::getHardwareVendor);
-        return StringUtils.isNotBlank(make)
-                ? UpdateResult.updated(make)
-                : UpdateResult.unaltered(currentMake);
+    private static String nonBlank(String value) {
+        return StringUtils.isNotBlank(value) ? value : null;
     }
 
-    private UpdateResult<String> resolveModel(Device device, DeviceData deviceData) {
-        final String currentModel = device.getModel();
-        if (StringUtils.isNotBlank(currentModel)) {
-            return UpdateResult.unaltered(currentModel);
-        }
-
-        final String model = getSafe(deviceData, DeviceData::getHardwareModel);
-        if (StringUtils.isNotBlank(model)) {
-            return UpdateResult.updated(model);
-        }
-
-        final List<String> names = getSafe(deviceData, DeviceData::getHardwareName);
-        return CollectionUtils.isNotEmpty(names)
-                ? UpdateResult.updated(String.join(",", names))
-                : UpdateResult.unaltered(currentModel);
-    }
-
-    private UpdateResult<String> resolveOs(Device device, DeviceData deviceData) {
-        final String currentOs = device.getOs();
-        if (StringUtils.isNotBlank(currentOs)) {
-            return UpdateResult.unaltered(currentOs);
-        }
-
-        final String os = getSafe(deviceData, DeviceData::getPlatformName);
-        return StringUtils.isNotBlank(os)
-                ? UpdateResult.updated(os)
-                : UpdateResult.unaltered(currentOs);
-    }
-
-    private UpdateResult<String> resolveOsv(Device device, DeviceData deviceData) {
-        final String currentOsv = device.getOsv();
-        if (StringUtils.isNotBlank(currentOsv)) {
-            return UpdateResult.unaltered(currentOsv);
-        }
-
-        final String osv = getSafe(deviceData, DeviceData::getPlatformVersion);
-        return StringUtils.isNotBlank(osv)
-                ? UpdateResult.updated(osv)
-                : UpdateResult.unaltered(currentOsv);
-    }
-
-    private UpdateResult<Integer> resolveH(Device device, DeviceData deviceData) {
-        final Integer currentH = device.getH();
-        if (isPositive(currentH)) {
-            return UpdateResult.unaltered(currentH);
-        }
-
-        final Integer h = getSafe(deviceData, DeviceData::getScreenPixelsHeight);
-        return isPositive(h)
-                ? UpdateResult.updated(h)
-                : UpdateResult.unaltered(currentH);
-    }
-
-    private UpdateResult<Integer> resolveW(Device device, DeviceData deviceData) {
-        final Integer currentW = device.getW();
-        if (isPositive(currentW)) {
-            return UpdateResult.unaltered(currentW);
-        }
-
-        final Integer w = getSafe(deviceData, DeviceData::getScreenPixelsWidth);
-        return isPositive(w)
-                ? UpdateResult.updated(w)
-                : UpdateResult.unaltered(currentW);
-    }
-
-    private UpdateResult<Integer> resolvePpi(Device device, DeviceData deviceData) {
-        final Integer currentPpi = device.getPpi();
-        if (isPositive(currentPpi)) {
-            return UpdateResult.unaltered(currentPpi);
-        }
-
-        final Integer pixelsHeight = getSafe(deviceData, DeviceData::getScreenPixelsHeight);
-        if (pixelsHeight == null) {
-            return UpdateResult.unaltered(currentPpi);
-        }
-
-        final Double inchesHeight = getSafe(deviceData, DeviceData::getScreenInchesHeight);
-        return isPositive(inchesHeight)
-                ? UpdateResult.updated((int) Math.round(pixelsHeight / inchesHeight))
-                : UpdateResult.unaltered(currentPpi);
-    }
-
-    private UpdateResult<BigDecimal> resolvePixelRatio(Device device, DeviceData deviceData) {
-        final BigDecimal currentPixelRatio = device.getPxratio();
-        if (currentPixelRatio != null && currentPixelRatio.intValue() > 0) {
-            return UpdateResult.unaltered(currentPixelRatio);
-        }
-
-        final Double rawRatio = getSafe(deviceData, DeviceData::getPixelRatio);
-        return isPositive(rawRatio)
-                ? UpdateResult.updated(BigDecimal.valueOf(rawRatio))
-                : UpdateResult.unaltered(currentPixelRatio);
-    }
-
-    private UpdateResult<String> resolveDeviceId(Device device, DeviceData deviceData) {
-        final String currentDeviceId = getDeviceId(device);
-        if (StringUtils.isNotBlank(currentDeviceId)) {
-            return UpdateResult.unaltered(currentDeviceId);
-        }
-
-        final String deviceID = getSafe(deviceData, DeviceData::getDeviceId);
-        return StringUtils.isNotBlank(deviceID)
-                ? UpdateResult.updated(deviceID)
-                : UpdateResult.unaltered(currentDeviceId);
+    private static Integer positive(Integer value) {
+        return isPositive(value) ? value : null;
     }
 
     private static boolean isPositive(Integer value) {
@@ -312,7 +259,9 @@ public class DeviceEnricher {
         deviceBuilder.ext(ext);
     }
 
-    private <T> T getSafe(DeviceData deviceData, Function<DeviceData, AspectPropertyValue<T>> propertyGetter) {
+    private static <T> T getSafe(DeviceData deviceData,
+                                 Function<DeviceData, AspectPropertyValue<T>> propertyGetter) {
+
         try {
             final AspectPropertyValue<T> propertyValue = propertyGetter.apply(deviceData);
             if (propertyValue != null && propertyValue.hasValue()) {
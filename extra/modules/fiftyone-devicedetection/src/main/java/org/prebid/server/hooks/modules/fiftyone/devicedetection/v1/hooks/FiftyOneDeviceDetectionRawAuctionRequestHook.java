@@ -9,6 +9,8 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.boundary.CollectedEvidence;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.config.AccountFilter;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DetectedDevice;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DeviceDetectionService;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DeviceEnricher;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.EnrichmentResult;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.SecureHeadersRetriever;
@@ -32,10 +34,14 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHook implements RawAuctionR
 
     private final AccountFilter accountFilter;
     private final DeviceEnricher deviceEnricher;
+    private final DeviceDetectionService deviceDetectionService;
 
-    public FiftyOneDeviceDetectionRawAuctionRequestHook(AccountFilter accountFilter, DeviceEnricher deviceEnricher) {
+    public FiftyOneDeviceDetectionRawAuctionRequestHook(AccountFilter accountFilter,
+                                                        DeviceEnricher deviceEnricher,
+                                                        DeviceDetectionService deviceDetectionService) {
         this.accountFilter = accountFilter;
         this.deviceEnricher = deviceEnricher;
+        this.deviceDetectionService = deviceDetectionService;
     }
 
     @Override
@@ -49,26 +55,35 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHook implements RawAuctionR
         final ModuleContext oldModuleContext = (ModuleContext) invocationContext.moduleContext();
 
         if (shouldSkipEnriching(payload, invocationContext)) {
-            return Future.succeededFuture(
-                    InvocationResultImpl.<AuctionRequestPayload>builder()
-                            .status(InvocationStatus.success)
-                            .action(InvocationAction.no_action)
-                            .moduleContext(oldModuleContext)
-                            .build());
+            return Future.succeededFuture(noActionResult(oldModuleContext));
         }
 
         final ModuleContext moduleContext = addEvidenceToContext(
                 oldModuleContext,
                 payload.bidRequest());
 
-        return Future.succeededFuture(
-                InvocationResultImpl.<AuctionRequestPayload>builder()
-                        .status(InvocationStatus.success)
-                        .action(InvocationAction.update)
-                        .payloadUpdate(freshPayload -> updatePayload(freshPayload, moduleContext.collectedEvidence()))
-                        .moduleContext(moduleContext)
-                        .build()
-        );
+        return deviceDetectionService.detect(moduleContext.collectedEvidence())
+                .map(detectedDevice -> updateResult(moduleContext, detectedDevice))
+                .otherwise(ignored -> noActionResult(moduleContext));
+    }
+
+    private InvocationResult<AuctionRequestPayload> updateResult(ModuleContext moduleContext,
+                                                                 DetectedDevice detectedDevice) {
+
+        return InvocationResultImpl.<AuctionRequestPayload>builder()
+                .status(InvocationStatus.success)
+                .action(InvocationAction.update)
+                .payloadUpdate(freshPayload -> updatePayload(freshPayload, detectedDevice))
+                .moduleContext(moduleContext)
+                .build();
+    }
+
+    private static InvocationResult<AuctionRequestPayload> noActionResult(ModuleContext moduleContext) {
+        return InvocationResultImpl.<AuctionRequestPayload>builder()
+                .status(InvocationStatus.success)
+                .action(InvocationAction.no_action)
+                .moduleContext(moduleContext)
+                .build();
     }
 
     private boolean shouldSkipEnriching(AuctionRequestPayload payload, AuctionInvocationContext invocationContext) {
@@ -123,31 +138,16 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHook implements RawAuctionR
         }
     }
 
-    private AuctionRequestPayload updatePayload(AuctionRequestPayload existingPayload,
-                                                CollectedEvidence collectedEvidence) {
+    private AuctionRequestPayload updatePayload(AuctionRequestPayload existingPayload, DetectedDevice detectedDevice) {
         final BidRequest currentRequest = existingPayload.bidRequest();
-        try {
-            final BidRequest patchedRequest = enrichDevice(currentRequest, collectedEvidence);
-            return patchedRequest == null ? existingPayload : AuctionRequestPayloadImpl.of(patchedRequest);
-        } catch (Exception ignored) {
+        if (currentRequest == null) {
             return existingPayload;
         }
-    }
-
-    private BidRequest enrichDevice(BidRequest bidRequest, CollectedEvidence collectedEvidence) throws Exception {
-        if (bidRequest == null) {
-            return null;
-        }
-
-        final CollectedEvidence.CollectedEvidenceBuilder evidenceBuilder = collectedEvidence.toBuilder();
-        collectEvidence(evidenceBuilder, bidRequest);
 
-        final EnrichmentResult mergeResult = deviceEnricher.populateDeviceInfo(
-                bidRequest.getDevice(),
-                evidenceBuilder.build());
-        return Optional.ofNullable(mergeResult)
-                .map(EnrichmentResult::enrichedDevice)
-                .map(mergedDevice -> bidRequest.toBuilder().device(mergedDevice).build())
-                .orElse(null);
+        final EnrichmentResult mergeResult = deviceEnricher.patchDevice(currentRequest.getDevice(), detectedDevice);
+        final Device mergedDevice = mergeResult != null ? mergeResult.enrichedDevice() : null;
+        return mergedDevice != null
+                ? AuctionRequestPayloadImpl.of(currentRequest.toBuilder().device(mergedDevice).build())
+                : existingPayload;
     }
 }
@@ -49,6 +49,20 @@ public class ModuleConfigTest {
         assertThat(moduleConfig.getPerformance()).isEqualTo(performanceConfig);
     }
 
+    @Test
+    public void shouldReturnDetectionConfig() {
+        // given
+        final DetectionConfig detectionConfig = new DetectionConfig();
+        detectionConfig.setCacheSize(42);
+
+        // when
+        final ModuleConfig moduleConfig = new ModuleConfig();
+        moduleConfig.setDetection(detectionConfig);
+
+        // then
+        assertThat(moduleConfig.getDetection()).isEqualTo(detectionConfig);
+    }
+
     @Test
     public void shouldHaveDescription() {
         // given
@@ -0,0 +1,201 @@
+package org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core;
+
+import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.BlockingExecutor;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.boundary.CollectedEvidence;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DeviceDetectionServiceTest {
+
+    @Mock
+    private DeviceEnricher deviceEnricher;
+
+    @Mock(strictness = LENIENT)
+    private BlockingExecutor blockingExecutor;
+
+    private MetricRegistry metricRegistry;
+
+    private DeviceDetectionService target;
+
+    @BeforeEach
+    public void setUp() {
+        when(blockingExecutor.execute(any(Callable.class))).thenAnswer(invocation -> {
+            try {
+                return Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call());
+            } catch (Exception e) {
+                return Future.failedFuture(e);
+            }
+        });
+
+        metricRegistry = new MetricRegistry();
+        target = new DeviceDetectionService(deviceEnricher, blockingExecutor, 50L, 1, 100, metricRegistry);
+    }
+
+    @Test
+    public void detectShouldReturnCachedResultForSameEvidence() throws Exception {
+        // given
+        final DetectedDevice detectedDevice = DetectedDevice.builder().make("Apple").build();
+        when(deviceEnricher.detectDevice(any())).thenReturn(detectedDevice);
+
+        // when
+        final Future<DetectedDevice> first = target.detect(givenEvidence("ua", "?1"));
+        final Future<DetectedDevice> second = target.detect(givenEvidence("ua", "?1"));
+
+        // then
+        assertThat(first.result()).isSameAs(detectedDevice);
+        assertThat(second.result()).isSameAs(detectedDevice);
+        verify(deviceEnricher, times(1)).detectDevice(any());
+        verify(blockingExecutor, times(1)).execute(any(Callable.class));
+        assertThat(metricRegistry.counter("modules.module.fiftyone-devicedetection.cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("modules.module.fiftyone-devicedetection.cache.miss").getCount()).isOne();
+        assertThat(metricRegistry.timer("modules.module.fiftyone-devicedetection.detection_time").getCount())
+                .isOne();
+    }
+
+    @Test
+    public void detectShouldRunDetectionForDifferentEvidence() throws Exception {
+        // given
+        when(deviceEnricher.detectDevice(any())).thenReturn(DetectedDevice.EMPTY);
+
+        // when
+        target.detect(givenEvidence("ua", "?1"));
+        target.detect(givenEvidence("ua", "?0"));
+
+        // then
+        verify(deviceEnricher, times(2)).detectDevice(any());
+    }
+
+    @Test
+    public void detectShouldNotCacheFailedDetection() throws Exception {
+        // given
+        when(deviceEnricher.detectDevice(any())).thenThrow(new RuntimeException("failed"));
+
+        // when
+        final Future<DetectedDevice> first = target.detect(givenEvidence("ua", "?1"));
+        final Future<DetectedDevice> second = target.detect(givenEvidence("ua", "?1"));
+
+        // then
+        assertThat(first.failed()).isTrue();
+        assertThat(second.failed()).isTrue();
+        verify(deviceEnricher, times(2)).detectDevice(any());
+    }
+
+    @Test
+    public void detectShouldNotCacheResultWhenRawHeadersAreUsed() throws Exception {
+        // given
+        when(deviceEnricher.detectDevice(any())).thenReturn(DetectedDevice.EMPTY);
+        final CollectedEvidence collectedEvidence = CollectedEvidence.builder()
+                .rawHeaders(List.of(
+                        new AbstractMap.SimpleEntry<>("User-Agent", "ua"),
+                        new AbstractMap.SimpleEntry<>("Cookie", "uids=123")))
+                .build();
+
+        // when
+        target.detect(collectedEvidence);
+        target.detect(collectedEvidence);
+
+        // then
+        verify(deviceEnricher, times(2)).detectDevice(any());
+        assertThat(metricRegistry.counter("modules.module.fiftyone-devicedetection.cache.miss").getCount()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void detectShouldFailOnTimeoutAndSkipDetectionThatHasNotStartedYet() throws Exception {
+        // given
+        final Promise<DetectedDevice> executionPromise = Promise.promise();
+        final ArgumentCaptor<Callable<DetectedDevice>> actionCaptor = ArgumentCaptor.forClass(Callable.class);
+        when(blockingExecutor.execute(actionCaptor.capture())).thenReturn(executionPromise.future());
+
+        // when
+        final Future<DetectedDevice> result = target.detect(givenEvidence("ua", "?1"));
+        final CountDownLatch completed = new CountDownLatch(1);
+        result.onComplete(ignored -> completed.countDown());
+
+        // then
+        assertThat(completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(TimeoutException.class);
+
+        assertThatThrownBy(() -> actionCaptor.getValue().call())
+                .hasMessage("Device detection skipped, result is not awaited anymore");
+        verifyNoInteractions(deviceEnricher);
+        assertThat(metricRegistry.counter("modules.module.fiftyone-devicedetection.detection.skipped").getCount())
+                .isOne();
+    }
+
+    @Test
+    public void detectShouldRejectDetectionWhenMaxPendingDetectionsReachedUntilPendingOneIsCompleted()
+            throws Exception {
+
+        // given
+        final Promise<DetectedDevice> executionPromise = Promise.promise();
+        when(blockingExecutor.execute(any(Callable.class)))
+                .thenReturn(executionPromise.future())
+                .thenReturn(Future.succeededFuture(DetectedDevice.EMPTY));
+
+        // when
+        final Future<DetectedDevice> pending = target.detect(givenEvidence("ua", "?1"));
+        final Future<DetectedDevice> rejected = target.detect(givenEvidence("ua", "?0"));
+        executionPromise.complete(DetectedDevice.EMPTY);
+        final Future<DetectedDevice> admitted = target.detect(givenEvidence("ua", "?0"));
+
+        // then
+        assertThat(pending.result()).isSameAs(DetectedDevice.EMPTY);
+        assertThat(rejected.failed()).isTrue();
+        assertThat(rejected.cause()).hasMessage("Device detection rejected, 1 detections are pending");
+        assertThat(admitted.result()).isSameAs(DetectedDevice.EMPTY);
+        verify(blockingExecutor, times(2)).execute(any(Callable.class));
+        assertThat(metricRegistry.counter("modules.module.fiftyone-devicedetection.detection.rejected").getCount())
+                .isOne();
+    }
+
+    @Test
+    public void fingerprintShouldNotDependOnHeaderNamesCase() {
+        // given
+        final CollectedEvidence lowerCase = CollectedEvidence.builder()
+                .rawHeaders(List.of(new AbstractMap.SimpleEntry<>("user-agent", "ua")))
+                .build();
+        final CollectedEvidence upperCase = CollectedEvidence.builder()
+                .rawHeaders(List.of(new AbstractMap.SimpleEntry<>("User-Agent", "ua")))
+                .build();
+
+        // when and then
+        assertThat(DeviceDetectionService.fingerprint(lowerCase))
+                .isNotNull()
+                .isEqualTo(DeviceDetectionService.fingerprint(upperCase))
+                .isEqualTo(DeviceDetectionService.fingerprint(CollectedEvidence.builder().deviceUA("ua").build()));
+    }
+
+    private static CollectedEvidence givenEvidence(String ua, String mobile) {
+        return CollectedEvidence.builder()
+                .deviceUA(ua)
+                .secureHeaders(Map.of("header.Sec-CH-UA-Mobile", mobile))
+                .build();
+    }
+}
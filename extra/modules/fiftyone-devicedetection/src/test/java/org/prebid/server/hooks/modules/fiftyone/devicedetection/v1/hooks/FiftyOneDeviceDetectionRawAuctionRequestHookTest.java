@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Device;
 import com.iab.openrtb.request.UserAgent;
+import io.vertx.core.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,10 +17,13 @@ import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.boundary.CollectedEvidence;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.model.config.AccountFilter;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.FiftyOneDeviceDetectionModule;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DetectedDevice;
+import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DeviceDetectionService;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.DeviceEnricher;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.core.EnrichmentResult;
 import org.prebid.server.hooks.modules.fiftyone.devicedetection.v1.model.ModuleContext;
 import org.prebid.server.hooks.v1.InvocationAction;
+import org.prebid.server.hooks.v1.InvocationResult;
 import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
 import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
 import org.prebid.server.hooks.v1.auction.RawAuctionRequestHook;
@@ -29,9 +33,12 @@ import org.prebid.server.settings.model.Account;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -41,6 +48,8 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
 
     @Mock
     private DeviceEnricher deviceEnricher;
+    @Mock(strictness = LENIENT)
+    private DeviceDetectionService deviceDetectionService;
     private AccountFilter accountFilter;
 
     private RawAuctionRequestHook target;
@@ -48,7 +57,11 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
     @BeforeEach
     public void setUp() {
         accountFilter = new AccountFilter();
-        target = new FiftyOneDeviceDetectionRawAuctionRequestHook(accountFilter, deviceEnricher);
+        when(deviceDetectionService.detect(any())).thenReturn(Future.succeededFuture(DetectedDevice.EMPTY));
+        target = new FiftyOneDeviceDetectionRawAuctionRequestHook(
+                accountFilter,
+                deviceEnricher,
+                deviceDetectionService);
     }
 
     @Test
@@ -239,10 +252,9 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
     }
 
     @Test
-    public void payloadUpdateShouldReturnOldRequestWhenPopulateDeviceInfoThrows() throws Exception {
+    public void callShouldReturnNoActionWhenDetectionFails() {
         // given
         final BidRequest bidRequest = BidRequest.builder().build();
-        final CollectedEvidence savedEvidence = CollectedEvidence.builder().build();
         final AuctionRequestPayload auctionRequestPayload = AuctionRequestPayloadImpl.of(bidRequest);
         final AuctionInvocationContext invocationContext = AuctionInvocationContextImpl.of(
                 null,
@@ -250,26 +262,23 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 false,
                 null,
                 ModuleContext.builder()
-                        .collectedEvidence(savedEvidence)
+                        .collectedEvidence(CollectedEvidence.builder().build())
                         .build()
         );
-        final Exception e = new RuntimeException();
-        when(deviceEnricher.populateDeviceInfo(any(), any())).thenThrow(e);
+        when(deviceDetectionService.detect(any())).thenReturn(Future.failedFuture("Timeout"));
 
         // when
-        final BidRequest newBidRequest = target.call(auctionRequestPayload, invocationContext)
-                .result()
-                .payloadUpdate()
-                .apply(auctionRequestPayload)
-                .bidRequest();
+        final InvocationResult<AuctionRequestPayload> result = target.call(auctionRequestPayload, invocationContext)
+                .result();
 
         // then
-        assertThat(newBidRequest).isEqualTo(bidRequest);
-        verify(deviceEnricher, times(1)).populateDeviceInfo(any(), any());
+        assertThat(result.action()).isEqualTo(InvocationAction.no_action);
+        assertThat(result.payloadUpdate()).isNull();
+        verify(deviceEnricher, never()).patchDevice(any(), any());
     }
 
     @Test
-    public void payloadUpdateShouldReturnOldRequestWhenMergedDeviceIsNull() throws Exception {
+    public void payloadUpdateShouldReturnOldRequestWhenMergedDeviceIsNull() {
         // given
         final BidRequest bidRequest = BidRequest.builder().build();
         final CollectedEvidence savedEvidence = CollectedEvidence.builder().build();
@@ -283,7 +292,7 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                         .collectedEvidence(savedEvidence)
                         .build()
         );
-        when(deviceEnricher.populateDeviceInfo(any(), any()))
+        when(deviceEnricher.patchDevice(any(), any()))
                 .thenReturn(EnrichmentResult.builder().build());
 
         // when
@@ -295,17 +304,19 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
 
         // then
         assertThat(newBidRequest).isEqualTo(bidRequest);
-        verify(deviceEnricher, times(1)).populateDeviceInfo(any(), any());
+        verify(deviceEnricher, times(1)).patchDevice(any(), any());
     }
 
     @Test
-    public void payloadUpdateShouldPassMergedEvidenceToDeviceRefiner() throws Exception {
+    public void callShouldPassMergedEvidenceToDeviceDetection() {
         // given
-        final BidRequest bidRequest = BidRequest.builder().build();
-        final String fakeUA = "crystal-ball-navigator";
+        final BidRequest bidRequest = BidRequest.builder()
+                .device(Device.builder().ua("crystal-ball-navigator").build())
+                .build();
+        final Map<String, String> secureHeaders = Collections.singletonMap("header.Sec-CH-UA-Mobile", "?1");
         final CollectedEvidence savedEvidence = CollectedEvidence.builder()
                 .rawHeaders(Collections.emptySet())
-                .deviceUA(fakeUA)
+                .secureHeaders(secureHeaders)
                 .build();
         final AuctionRequestPayload auctionRequestPayload = AuctionRequestPayloadImpl.of(bidRequest);
         final AuctionInvocationContext invocationContext = AuctionInvocationContextImpl.of(
@@ -317,33 +328,26 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                         .collectedEvidence(savedEvidence)
                         .build()
         );
-        when(deviceEnricher.populateDeviceInfo(any(), any()))
-                .thenReturn(EnrichmentResult.builder().build());
 
         // when
-        final BidRequest newBidRequest = target.call(auctionRequestPayload, invocationContext)
-                .result()
-                .payloadUpdate()
-                .apply(auctionRequestPayload)
-                .bidRequest();
+        target.call(auctionRequestPayload, invocationContext);
 
         // then
-        assertThat(newBidRequest).isEqualTo(bidRequest);
-        verify(deviceEnricher, times(1)).populateDeviceInfo(any(), any());
-
         final ArgumentCaptor<CollectedEvidence> evidenceCaptor = ArgumentCaptor.forClass(CollectedEvidence.class);
-        verify(deviceEnricher).populateDeviceInfo(any(), evidenceCaptor.capture());
+        verify(deviceDetectionService).detect(evidenceCaptor.capture());
         final List<CollectedEvidence> allEvidences = evidenceCaptor.getAllValues();
         assertThat(allEvidences).hasSize(1);
-        assertThat(allEvidences.getFirst().deviceUA()).isEqualTo(fakeUA);
+        assertThat(allEvidences.getFirst().deviceUA()).isEqualTo("crystal-ball-navigator");
+        assertThat(allEvidences.getFirst().secureHeaders()).isEqualTo(secureHeaders);
     }
 
     @Test
-    public void payloadUpdateShouldInjectReturnedDevice() throws Exception {
+    public void payloadUpdateShouldPatchFreshDeviceWithDetectedDevice() {
         // given
+        final Device freshDevice = Device.builder().ua("fresh-ua").build();
         final BidRequest bidRequest = BidRequest.builder().build();
-        final CollectedEvidence savedEvidence = CollectedEvidence.builder().build();
-        final Device mergedDevice = Device.builder().build();
+        final DetectedDevice detectedDevice = DetectedDevice.builder().make("Apple").build();
+        final Device mergedDevice = Device.builder().make("Apple").build();
         final AuctionRequestPayload auctionRequestPayload = AuctionRequestPayloadImpl.of(bidRequest);
         final AuctionInvocationContext invocationContext = AuctionInvocationContextImpl.of(
                 null,
@@ -351,10 +355,11 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
                 false,
                 null,
                 ModuleContext.builder()
-                        .collectedEvidence(savedEvidence)
+                        .collectedEvidence(CollectedEvidence.builder().build())
                         .build()
         );
-        when(deviceEnricher.populateDeviceInfo(any(), any()))
+        when(deviceDetectionService.detect(any())).thenReturn(Future.succeededFuture(detectedDevice));
+        when(deviceEnricher.patchDevice(freshDevice, detectedDevice))
                 .thenReturn(EnrichmentResult
                         .builder()
                         .enrichedDevice(mergedDevice)
@@ -364,12 +369,11 @@ public class FiftyOneDeviceDetectionRawAuctionRequestHookTest {
         final BidRequest newBidRequest = target.call(auctionRequestPayload, invocationContext)
                 .result()
                 .payloadUpdate()
-                .apply(auctionRequestPayload)
+                .apply(AuctionRequestPayloadImpl.of(bidRequest.toBuilder().device(freshDevice).build()))
                 .bidRequest();
 
         // then
         assertThat(newBidRequest.getDevice()).isEqualTo(mergedDevice);
-        verify(deviceEnricher, times(1)).populateDeviceInfo(any(), any());
     }
 
     @Test
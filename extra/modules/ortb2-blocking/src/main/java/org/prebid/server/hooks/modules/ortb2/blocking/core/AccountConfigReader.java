@@ -2,6 +2,7 @@ package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import org.apache.commons.collections4.CollectionUtils;
@@ -64,11 +65,24 @@ public class AccountConfigReader {
     private static final String BANNER_MEDIA_TYPE = "banner";
     private static final String NATIVE_MEDIA_TYPE = "native";
 
+    private static final int MAX_BLOCKED_ATTRIBUTES = 100;
+    private static final int MAX_RESPONSE_BLOCKING_CONFIGS = 1000;
+
     private final ObjectNode config;
     private final String bidder;
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
 
+    private final Map<BlockedAttributeKey, Result<?>> blockedAttributes = Caffeine.newBuilder()
+            .maximumSize(MAX_BLOCKED_ATTRIBUTES)
+            .<BlockedAttributeKey, Result<?>>build()
+            .asMap();
+    private final Map<ResponseBlockingConfigKey, Result<ResponseBlockingConfig>> responseBlockingConfigs =
+            Caffeine.newBuilder()
+                    .maximumSize(MAX_RESPONSE_BLOCKING_CONFIGS)
+                    .<ResponseBlockingConfigKey, Result<ResponseBlockingConfig>>build()
+                    .asMap();
+
     private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
         this.config = config;
         this.bidder = bidder;
@@ -110,7 +124,21 @@ public class AccountConfigReader {
 
     public Result<ResponseBlockingConfig> responseBlockingConfigFor(BidderBid bidderBid) {
         final Set<String> bidMediaTypes = mediaTypesFrom(bidderBid);
-        final String dealid = bidderBid.getBid().getDealid();
+        final String bidDealid = bidderBid.getBid().getDealid();
+        final String dealid = StringUtils.isNotBlank(bidDealid) ? bidDealid : null;
+
+        final ResponseBlockingConfigKey key = new ResponseBlockingConfigKey(bidMediaTypes, dealid);
+        final Result<ResponseBlockingConfig> cachedResult = responseBlockingConfigs.get(key);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        final Result<ResponseBlockingConfig> result = resolveResponseBlockingConfig(bidMediaTypes, dealid);
+        responseBlockingConfigs.put(key, result);
+        return result;
+    }
+
+    private Result<ResponseBlockingConfig> resolveResponseBlockingConfig(Set<String> bidMediaTypes, String dealid) {
 
         final Result<BidAttributeBlockingConfig<String>> badv = blockingConfigForAttribute(
                 BADV_FIELD,
@@ -153,11 +181,28 @@ public class AccountConfigReader {
         return Result.of(response, warnings);
     }
 
+    @SuppressWarnings("unchecked")
     private <T> Result<List<T>> blockedAttribute(String attribute,
                                                  Class<T> attributeType,
                                                  String fieldName,
                                                  Set<String> actualMediaTypes) {
 
+        final BlockedAttributeKey key = new BlockedAttributeKey(attribute, actualMediaTypes);
+        final Result<List<T>> cachedResult = (Result<List<T>>) blockedAttributes.get(key);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        final Result<List<T>> result = resolveBlockedAttribute(attribute, attributeType, fieldName, actualMediaTypes);
+        blockedAttributes.put(key, result);
+        return result;
+    }
+
+    private <T> Result<List<T>> resolveBlockedAttribute(String attribute,
+                                                        Class<T> attributeType,
+                                                        String fieldName,
+                                                        Set<String> actualMediaTypes) {
+
         final JsonNode attributeConfig = attributeConfig(attribute);
         if (attributeConfig == null) {
             return Result.empty();
@@ -546,4 +591,10 @@ public class AccountConfigReader {
 
         return object;
     }
+
+    private record BlockedAttributeKey(String attribute, Set<String> mediaTypes) {
+    }
+
+    private record ResponseBlockingConfigKey(Set<String> mediaTypes, String dealid) {
+    }
 }
@@ -0,0 +1,61 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of {@link AccountConfigReader}s, so while the account configuration stays the same
+ * it is resolved only once per bidder, media types and deal.
+ * <p>
+ * Readers are keyed by account ID and the content of its configuration, so the reader is reused also when
+ * account settings are not cached and every request brings an equal, but new configuration object,
+ * and is not reused once the configuration changes. Readers of changed configurations are evicted by size
+ * or when not used for a while.
+ */
+public class AccountConfigReaderCache {
+
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+    private final Cache<ReaderKey, AccountConfigReader> readers;
+
+    public AccountConfigReaderCache(int maxSize) {
+        readers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build();
+    }
+
+    public AccountConfigReader reader(String accountId,
+                                      ObjectNode config,
+                                      String bidder,
+                                      OrtbVersion ortbVersion,
+                                      boolean debugEnabled) {
+
+        if (config == null) {
+            return AccountConfigReader.create(null, bidder, ortbVersion, debugEnabled);
+        }
+
+        return readers.get(
+                new ReaderKey(accountId, config, bidder, ortbVersion, debugEnabled),
+                key -> AccountConfigReader.create(config, bidder, ortbVersion, debugEnabled));
+    }
+
+    long size() {
+        readers.cleanUp();
+        return readers.estimatedSize();
+    }
+
+    /**
+     * Account configuration is compared by content, its hash code is calculated from the whole JSON tree.
+     */
+    private record ReaderKey(String accountId,
+                             ObjectNode config,
+                             String bidder,
+                             OrtbVersion ortbVersion,
+                             boolean debugEnabled) {
+    }
+}
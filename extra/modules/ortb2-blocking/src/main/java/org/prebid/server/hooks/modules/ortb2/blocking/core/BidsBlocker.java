@@ -22,6 +22,7 @@ import org.prebid.server.hooks.modules.ortb2.blocking.core.util.MergeUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,49 +46,68 @@ public class BidsBlocker {
     private final List<BidderBid> bids;
     private final String bidder;
     private final OrtbVersion ortbVersion;
+    private final String accountId;
     private final ObjectNode accountConfig;
     private final BlockedAttributes blockedAttributes;
     private final BidRejectionTracker bidRejectionTracker;
     private final boolean debugEnabled;
+    private final AccountConfigReaderCache accountConfigReaders;
+
+    private final Set<String> blockedBadv;
+    private final Set<String> blockedBcat;
+    private final Set<String> blockedBapp;
+    private final Map<String, Set<Integer>> blockedBattr = new HashMap<>();
 
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
+                        String accountId,
                         ObjectNode accountConfig,
                         BlockedAttributes blockedAttributes,
                         BidRejectionTracker bidRejectionTracker,
-                        boolean debugEnabled) {
+                        boolean debugEnabled,
+                        AccountConfigReaderCache accountConfigReaders) {
 
         this.bids = bids;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
+        this.accountId = accountId;
         this.accountConfig = accountConfig;
         this.blockedAttributes = blockedAttributes;
         this.bidRejectionTracker = bidRejectionTracker;
         this.debugEnabled = debugEnabled;
+        this.accountConfigReaders = accountConfigReaders;
+
+        blockedBadv = toSet(blockedAttributeValues(BlockedAttributes::getBadv));
+        blockedBcat = toSet(blockedAttributeValues(BlockedAttributes::getBcat));
+        blockedBapp = toSet(blockedAttributeValues(BlockedAttributes::getBapp));
     }
 
     public static BidsBlocker create(List<BidderBid> bids,
                                      String bidder,
                                      OrtbVersion ortbVersion,
+                                     String accountId,
                                      ObjectNode accountConfig,
                                      BlockedAttributes blockedAttributes,
                                      BidRejectionTracker bidRejectionTracker,
-                                     boolean debugEnabled) {
+                                     boolean debugEnabled,
+                                     AccountConfigReaderCache accountConfigReaders) {
 
         return new BidsBlocker(
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
+                accountId,
                 accountConfig,
                 blockedAttributes,
                 bidRejectionTracker,
-                debugEnabled);
+                debugEnabled,
+                Objects.requireNonNull(accountConfigReaders));
     }
 
     public ExecutionResult<BlockedBids> block() {
-        final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
+        final AccountConfigReader accountConfigReader = accountConfigReaders.reader(
+                accountId, accountConfig, bidder, ortbVersion, debugEnabled);
 
         try {
             final List<Result<BlockingResult>> blockedBidResults = bids.stream()
@@ -138,14 +158,14 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getAdomain(),
                 blockingConfig.getBadv(),
-                blockedAttributeValues(BlockedAttributes::getBadv));
+                blockedBadv);
     }
 
     private AttributeCheckResult<String> checkBcat(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
         return checkAttribute(
                 bidderBid.getBid().getCat(),
                 blockingConfig.getBcat(),
-                blockedAttributeValues(BlockedAttributes::getBcat));
+                blockedBcat);
     }
 
     private AttributeCheckResult<Integer> checkCattax(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
@@ -166,20 +186,23 @@ public class BidsBlocker {
         return checkAttribute(
                 bidderBid.getBid().getBundle(),
                 blockingConfig.getBapp(),
-                blockedAttributeValues(BlockedAttributes::getBapp));
+                blockedBapp);
     }
 
     private AttributeCheckResult<Integer> checkBattr(BidderBid bidderBid, ResponseBlockingConfig blockingConfig) {
+        final Set<Integer> blockedBattrForImp = blockedBattr.computeIfAbsent(
+                bidderBid.getBid().getImpid(),
+                impId -> toSet(blockedAttributeValues(BlockedAttributes::getBattr, impId)));
 
         return checkAttribute(
                 bidderBid.getBid().getAttr(),
                 blockingConfig.getBattr(),
-                blockedAttributeValues(BlockedAttributes::getBattr, bidderBid.getBid().getImpid()));
+                blockedBattrForImp);
     }
 
     private <T> AttributeCheckResult<T> checkAttribute(List<T> attribute,
                                                        BidAttributeBlockingConfig<T> blockingConfig,
-                                                       List<T> blockedAttributeValues) {
+                                                       Set<T> blockedAttributeValues) {
 
         if (blockingConfig == null || !blockingConfig.isEnforceBlocks()) {
             return AttributeCheckResult.succeeded();
@@ -207,7 +230,7 @@ public class BidsBlocker {
 
     private AttributeCheckResult<String> checkAttribute(String attribute,
                                                         BidAttributeBlockingConfig<String> blockingConfig,
-                                                        List<String> blockedAttributeValues) {
+                                                        Set<String> blockedAttributeValues) {
 
         if (blockingConfig == null
                 || !blockingConfig.isEnforceBlocks()
@@ -250,6 +273,10 @@ public class BidsBlocker {
         return blockedAttributeValues != null ? blockedAttributeValues.get(impId) : null;
     }
 
+    private static <T> Set<T> toSet(List<T> values) {
+        return CollectionUtils.isNotEmpty(values) ? new HashSet<>(values) : Collections.emptySet();
+    }
+
     private List<String> debugMessages(Set<Integer> blockedBidIndexes, List<Result<BlockingResult>> blockedBidResults) {
         if (!debugEnabled) {
             return null;
@@ -15,39 +15,49 @@ public class BlockedAttributesResolver {
     private final BidRequest bidRequest;
     private final String bidder;
     private final OrtbVersion ortbVersion;
+    private final String accountId;
     private final ObjectNode accountConfig;
     private final boolean debugEnabled;
+    private final AccountConfigReaderCache accountConfigReaders;
 
     private BlockedAttributesResolver(BidRequest bidRequest,
                                       String bidder,
                                       OrtbVersion ortbVersion,
+                                      String accountId,
                                       ObjectNode accountConfig,
-                                      boolean debugEnabled) {
+                                      boolean debugEnabled,
+                                      AccountConfigReaderCache accountConfigReaders) {
 
         this.bidRequest = bidRequest;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
+        this.accountId = accountId;
         this.accountConfig = accountConfig;
         this.debugEnabled = debugEnabled;
+        this.accountConfigReaders = accountConfigReaders;
     }
 
     public static BlockedAttributesResolver create(BidRequest bidRequest,
                                                    String bidder,
                                                    OrtbVersion ortbVersion,
+                                                   String accountId,
                                                    ObjectNode accountConfig,
-                                                   boolean debugEnabled) {
+                                                   boolean debugEnabled,
+                                                   AccountConfigReaderCache accountConfigReaders) {
 
         return new BlockedAttributesResolver(
                 Objects.requireNonNull(bidRequest),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
+                accountId,
                 accountConfig,
-                debugEnabled);
+                debugEnabled,
+                Objects.requireNonNull(accountConfigReaders));
     }
 
     public ExecutionResult<BlockedAttributes> resolve() {
-        final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
+        final AccountConfigReader accountConfigReader = accountConfigReaders.reader(
+                accountId, accountConfig, bidder, ortbVersion, debugEnabled);
 
         try {
             final Result<BlockedAttributes> blockedAttributesResult = accountConfigReader
@@ -5,6 +5,7 @@ import io.vertx.core.Future;
 import org.prebid.server.auction.BidderAliases;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BlockedAttributesResolver;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.RequestUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
@@ -20,6 +21,7 @@ import org.prebid.server.hooks.v1.bidder.BidderRequestHook;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.settings.model.Account;
 
 import java.util.Map;
 import java.util.Objects;
@@ -29,9 +31,11 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
     private static final String CODE = "ortb2-blocking-bidder-request";
 
     private final BidderCatalog bidderCatalog;
+    private final AccountConfigReaderCache accountConfigReaders;
 
-    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog) {
+    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog, AccountConfigReaderCache accountConfigReaders) {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.accountConfigReaders = Objects.requireNonNull(accountConfigReaders);
     }
 
     @Override
@@ -50,8 +54,10 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                         bidRequest,
                         bidder,
                         moduleContext.ortbVersionOf(bidder),
+                        accountId(invocationContext),
                         invocationContext.accountConfig(),
-                        invocationContext.debugEnabled())
+                        invocationContext.debugEnabled(),
+                        accountConfigReaders)
                 .resolve();
 
         final InvocationResultImpl.InvocationResultImplBuilder<BidderRequestPayload> resultBuilder =
@@ -80,6 +86,11 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
         return CODE;
     }
 
+    private static String accountId(BidderInvocationContext invocationContext) {
+        final Account account = invocationContext.auctionContext().getAccount();
+        return account != null ? account.getId() : null;
+    }
+
     private static ModuleContext moduleContext(BidderInvocationContext invocationContext) {
         return invocationContext.moduleContext() instanceof ModuleContext moduleContext
                 ? moduleContext
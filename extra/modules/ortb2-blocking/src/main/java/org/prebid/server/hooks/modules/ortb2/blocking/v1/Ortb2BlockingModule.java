@@ -2,6 +2,7 @@ package org.prebid.server.hooks.modules.ortb2.blocking.v1;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.Module;
@@ -14,15 +15,19 @@ public class Ortb2BlockingModule implements Module {
 
     public static final String CODE = "ortb2-blocking";
 
+    private static final int MAX_ACCOUNT_CONFIG_READERS = 10000;
+
     private final List<? extends Hook<?, ? extends InvocationContext>> hooks;
 
     public Ortb2BlockingModule(BidderCatalog bidderCatalog, ObjectMapper mapper) {
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(mapper);
 
+        final AccountConfigReaderCache accountConfigReaders = new AccountConfigReaderCache(MAX_ACCOUNT_CONFIG_READERS);
+
         hooks = List.of(
-                new Ortb2BlockingBidderRequestHook(bidderCatalog),
-                new Ortb2BlockingRawBidderResponseHook(mapper));
+                new Ortb2BlockingBidderRequestHook(bidderCatalog, accountConfigReaders),
+                new Ortb2BlockingRawBidderResponseHook(mapper, accountConfigReaders));
     }
 
     @Override
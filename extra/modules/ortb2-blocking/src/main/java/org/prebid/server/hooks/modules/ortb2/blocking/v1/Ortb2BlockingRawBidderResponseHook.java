@@ -6,6 +6,7 @@ import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigReaderCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BidsBlocker;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.ResponseUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.AnalyticsResult;
@@ -26,6 +27,7 @@ import org.prebid.server.hooks.v1.analytics.Tags;
 import org.prebid.server.hooks.v1.bidder.BidderInvocationContext;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.hooks.v1.bidder.RawBidderResponseHook;
+import org.prebid.server.settings.model.Account;
 
 import java.util.Collections;
 import java.util.List;
@@ -40,9 +42,11 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
     private static final String SUCCESS_STATUS = "success";
 
     private final ObjectMapper mapper;
+    private final AccountConfigReaderCache accountConfigReaders;
 
-    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper) {
+    public Ortb2BlockingRawBidderResponseHook(ObjectMapper mapper, AccountConfigReaderCache accountConfigReaders) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.accountConfigReaders = Objects.requireNonNull(accountConfigReaders);
     }
 
     @Override
@@ -57,10 +61,12 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
                         bidderResponsePayload.bids(),
                         bidder,
                         ObjectUtils.defaultIfNull(moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5),
+                        accountId(invocationContext),
                         invocationContext.accountConfig(),
                         moduleContext.blockedAttributesFor(bidder),
                         invocationContext.auctionContext().getBidRejectionTrackers().get(bidder),
-                        invocationContext.debugEnabled())
+                        invocationContext.debugEnabled(),
+                        accountConfigReaders)
                 .block();
 
         final InvocationResultImpl.InvocationResultImplBuilder<BidderResponsePayload> resultBuilder =
@@ -89,6 +95,11 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
         return CODE;
     }
 
+    private static String accountId(BidderInvocationContext invocationContext) {
+        final Account account = invocationContext.auctionContext().getAccount();
+        return account != null ? account.getId() : null;
+    }
+
     private static ModuleContext moduleContext(BidderInvocationContext invocationContext) {
         return invocationContext.moduleContext() instanceof ModuleContext moduleContext
                 ? moduleContext
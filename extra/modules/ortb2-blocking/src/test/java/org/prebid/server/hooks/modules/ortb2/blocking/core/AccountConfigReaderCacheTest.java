@@ -0,0 +1,92 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountConfigReaderCacheTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final OrtbVersion ORTB_VERSION = OrtbVersion.ORTB_2_5;
+
+    private final AccountConfigReaderCache target = new AccountConfigReaderCache(2);
+
+    @Test
+    public void readerShouldReturnSameReaderForSameAccountConfig() {
+        // given
+        final ObjectNode accountConfig = mapper.createObjectNode();
+
+        // when
+        final AccountConfigReader reader = target.reader("accountId", accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // then
+        assertThat(target.reader("accountId", accountConfig, "bidder1", ORTB_VERSION, true)).isSameAs(reader);
+        assertThat(target.reader("accountId", accountConfig, "bidder2", ORTB_VERSION, true)).isNotSameAs(reader);
+        assertThat(target.reader("accountId", accountConfig, "bidder1", ORTB_VERSION, false)).isNotSameAs(reader);
+    }
+
+    @Test
+    public void readerShouldReturnSameReaderForEqualAccountConfigOfNotCachedAccountSettings() {
+        // given
+        final AccountConfigReader reader = target.reader(
+                "accountId", givenAccountConfig("domain.com"), "bidder1", ORTB_VERSION, true);
+
+        // when and then
+        assertThat(target.reader("accountId", givenAccountConfig("domain.com"), "bidder1", ORTB_VERSION, true))
+                .isSameAs(reader);
+        assertThat(target.size()).isOne();
+    }
+
+    @Test
+    public void readerShouldReturnNewReaderForChangedAccountConfig() {
+        // given
+        final AccountConfigReader reader = target.reader(
+                "accountId", givenAccountConfig("domain.com"), "bidder1", ORTB_VERSION, true);
+
+        // when and then
+        assertThat(target.reader("accountId", givenAccountConfig("other.com"), "bidder1", ORTB_VERSION, true))
+                .isNotSameAs(reader);
+    }
+
+    @Test
+    public void readerShouldReturnNewReaderForOtherAccount() {
+        // given
+        final AccountConfigReader reader = target.reader(
+                "accountId", givenAccountConfig("domain.com"), "bidder1", ORTB_VERSION, true);
+
+        // when and then
+        assertThat(target.reader("otherAccountId", givenAccountConfig("domain.com"), "bidder1", ORTB_VERSION, true))
+                .isNotSameAs(reader);
+    }
+
+    @Test
+    public void readerShouldNotCacheReaderWithoutAccountConfig() {
+        // when
+        final AccountConfigReader reader = target.reader("accountId", null, "bidder1", ORTB_VERSION, true);
+
+        // then
+        assertThat(target.reader("accountId", null, "bidder1", ORTB_VERSION, true)).isNotSameAs(reader);
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    public void readerShouldKeepNumberOfCachedReadersBounded() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            target.reader("accountId", givenAccountConfig("domain" + i + ".com"), "bidder1", ORTB_VERSION, true);
+        }
+
+        // then
+        assertThat(target.size()).isLessThanOrEqualTo(2);
+    }
+
+    private static ObjectNode givenAccountConfig(String blockedAdomain) {
+        final ObjectNode accountConfig = mapper.createObjectNode();
+        accountConfig.putObject("attributes").putObject("badv").putArray("blocked-adomain").add(blockedAdomain);
+        return accountConfig;
+    }
+}
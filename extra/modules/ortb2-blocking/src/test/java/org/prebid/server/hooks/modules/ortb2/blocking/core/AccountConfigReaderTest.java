@@ -1249,6 +1249,47 @@ public class AccountConfigReaderTest {
         });
     }
 
+    @Test
+    public void blockedAttributesForShouldReuseResolvedAttributesForSameMediaTypes() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder().blocked(asList("domain1.com", "domain2.com")).build())
+                .build()));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // when
+        final Result<BlockedAttributes> first = reader.blockedAttributesFor(request(imp -> imp.id("imp1")));
+        final Result<BlockedAttributes> second = reader.blockedAttributesFor(request(imp -> imp.id("imp2")));
+
+        // then
+        assertThat(first.getValue()).isEqualTo(attributesWithBadv(asList("domain1.com", "domain2.com")));
+        assertThat(second.getValue().getBadv()).isSameAs(first.getValue().getBadv());
+    }
+
+    @Test
+    public void responseBlockingConfigForShouldReuseResolvedConfigForSameMediaTypeAndDeal() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .enforceBlocks(true)
+                        .allowedForDeals(singletonList("domain1.com"))
+                        .build())
+                .build()));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // when
+        final Result<ResponseBlockingConfig> first = reader.responseBlockingConfigFor(bid());
+        final Result<ResponseBlockingConfig> second = reader.responseBlockingConfigFor(bid());
+        final Result<ResponseBlockingConfig> nonDeal = reader.responseBlockingConfigFor(
+                BidderBid.of(Bid.builder().build(), BidType.banner, "USD"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getValue().getBadv())
+                .isEqualTo(BidAttributeBlockingConfig.of(true, false, Set.of("domain1.com")));
+        assertThat(nonDeal.getValue().getBadv()).isEqualTo(BidAttributeBlockingConfig.of(true, false, emptySet()));
+    }
+
     private static BidRequest emptyRequest() {
         return BidRequest.builder()
                 .imp(singletonList(Imp.builder().build()))
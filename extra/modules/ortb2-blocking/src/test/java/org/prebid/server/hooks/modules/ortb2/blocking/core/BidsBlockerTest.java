@@ -48,6 +48,8 @@ public class BidsBlockerTest {
 
     private static final OrtbVersion ORTB_VERSION = OrtbVersion.ORTB_2_5;
 
+    private final AccountConfigReaderCache accountConfigReaders = new AccountConfigReaderCache(100);
+
     @Mock
     private BidRejectionTracker bidRejectionTracker;
 
@@ -55,7 +57,7 @@ public class BidsBlockerTest {
     public void shouldReturnEmptyResultWhenNoBlockingResponseConfig() {
         // given
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, null, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", null, null, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -69,7 +71,7 @@ public class BidsBlockerTest {
                 .put("attributes", 1);
 
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, null, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).isEqualTo(ExecutionResult.builder()
@@ -85,7 +87,7 @@ public class BidsBlockerTest {
                 .put("attributes", 1);
 
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, false);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, null, bidRejectionTracker, false, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).isEqualTo(ExecutionResult.empty());
@@ -104,7 +106,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, null, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -123,7 +125,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, null, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -142,7 +144,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, false);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, null, bidRejectionTracker, false, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -160,7 +162,7 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -179,7 +181,7 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain2.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -198,7 +200,7 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, false);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, false, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -216,7 +218,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, null, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -239,7 +241,7 @@ public class BidsBlockerTest {
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder()
                 .battr(singletonMap("impId1", asList(1, 2)))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -259,7 +261,7 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(BidsBlockerTest::isEmpty);
@@ -279,7 +281,7 @@ public class BidsBlockerTest {
         // when
         final List<BidderBid> bids = singletonList(bid(bid -> bid.adomain(singletonList("domain1.com"))));
         final BlockedAttributes blockedAttributes = attributesWithBadv(singletonList("domain1.com"));
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, false);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, false, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -298,7 +300,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, null, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -321,7 +323,7 @@ public class BidsBlockerTest {
 
         // when
         final List<BidderBid> bids = singletonList(bid());
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, null, bidRejectionTracker, false);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, null, bidRejectionTracker, false, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> hasValue(result, 0));
@@ -368,7 +370,7 @@ public class BidsBlockerTest {
                 .bapp(asList("app1", "app2", "app3"))
                 .battr(singletonMap("impId2", asList(1, 2, 3)))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -443,7 +445,7 @@ public class BidsBlockerTest {
                 .bapp(asList("app1", "app2"))
                 .battr(singletonMap("impId1", asList(1, 2)))
                 .build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -479,7 +481,7 @@ public class BidsBlockerTest {
                 bid(bid -> bid.cattax(3)),
                 bid());
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().build();
-        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, accountConfig, blockedAttributes, bidRejectionTracker, true);
+        final BidsBlocker blocker = BidsBlocker.create(bids, "bidder1", ORTB_VERSION, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block())
@@ -503,7 +505,7 @@ public class BidsBlockerTest {
         final List<BidderBid> bids = singletonList(bid());
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().build();
         final BidsBlocker blocker = BidsBlocker.create(
-                bids, "bidder1", OrtbVersion.ORTB_2_6, accountConfig, blockedAttributes, bidRejectionTracker, true);
+                bids, "bidder1", OrtbVersion.ORTB_2_6, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block())
@@ -529,7 +531,7 @@ public class BidsBlockerTest {
                 bid(bid -> bid.cattax(2)));
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().cattaxComplement(2).build();
         final BidsBlocker blocker = BidsBlocker.create(
-                bids, "bidder1", OrtbVersion.ORTB_2_6, accountConfig, blockedAttributes, bidRejectionTracker, true);
+                bids, "bidder1", OrtbVersion.ORTB_2_6, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -557,7 +559,7 @@ public class BidsBlockerTest {
                 bid(bid -> bid.cattax(2)));
         final BlockedAttributes blockedAttributes = BlockedAttributes.builder().build();
         final BidsBlocker blocker = BidsBlocker.create(
-                bids, "bidder1", OrtbVersion.ORTB_2_6, accountConfig, blockedAttributes, bidRejectionTracker, true);
+                bids, "bidder1", OrtbVersion.ORTB_2_6, "accountId", accountConfig, blockedAttributes, bidRejectionTracker, true, accountConfigReaders);
 
         // when and then
         assertThat(blocker.block()).satisfies(result -> {
@@ -33,12 +33,14 @@ public class BlockedAttributesResolverTest {
 
     private static final OrtbVersion ORTB_VERSION = OrtbVersion.ORTB_2_5;
 
+    private final AccountConfigReaderCache accountConfigReaders = new AccountConfigReaderCache(100);
+
     @Test
     public void shouldReturnEmptyResultWhenInvalidAccountConfigurationAndDebugDisabled() {
         // given
         final ObjectNode accountConfig = mapper.createObjectNode().put("block-lists", 1);
         final BlockedAttributesResolver resolver = BlockedAttributesResolver.create(
-                emptyRequest(), "bidder1", ORTB_VERSION, accountConfig, false);
+                emptyRequest(), "bidder1", ORTB_VERSION, "accountId", accountConfig, false, accountConfigReaders);
 
         // when and then
         assertThat(resolver.resolve()).isEqualTo(ExecutionResult.empty());
@@ -49,7 +51,7 @@ public class BlockedAttributesResolverTest {
         // given
         final ObjectNode accountConfig = mapper.createObjectNode().put("attributes", 1);
         final BlockedAttributesResolver resolver = BlockedAttributesResolver.create(
-                emptyRequest(), "bidder1", ORTB_VERSION, accountConfig, true);
+                emptyRequest(), "bidder1", ORTB_VERSION, "accountId", accountConfig, true, accountConfigReaders);
 
         // when and then
         assertThat(resolver.resolve()).isEqualTo(
@@ -77,8 +79,10 @@ public class BlockedAttributesResolverTest {
                         .banner(Banner.builder().build())),
                 "bidder1",
                 ORTB_VERSION,
+                "accountId",
                 accountConfig,
-                true);
+                true,
+                accountConfigReaders);
 
         // when and then
         assertThat(resolver.resolve()).isEqualTo(ExecutionResult.builder()
@@ -109,8 +113,10 @@ public class BlockedAttributesResolverTest {
                         .banner(Banner.builder().build())),
                 "bidder1",
                 ORTB_VERSION,
+                "accountId",
                 accountConfig,
-                false);
+                false,
+                accountConfigReaders);
 
         // when and then
         assertThat(resolver.resolve()).isEqualTo(ExecutionResult.builder()
@@ -1,6 +1,8 @@
 package org.prebid.server.hooks.modules.pb.richmedia.filter.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.hooks.creative.CreativeScanner;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.core.BidResponsesMraidFilter;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.core.ModuleConfigResolver;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.PbRichMediaFilterProperties;
@@ -21,7 +23,12 @@ public class PbRichmediaFilterModuleConfiguration {
     @Bean
     PbRichmediaFilterModule pbRichmediaFilterModule(
             @Value("${hooks.modules.pb-richmedia-filter.filter-mraid}") Boolean filterMraid,
-            @Value("${hooks.modules.pb-richmedia-filter.mraid-script-pattern}") String mraidScriptPattern) {
+            @Value("${hooks.modules.pb-richmedia-filter.mraid-script-pattern}") String mraidScriptPattern,
+            CreativeScanner creativeScanner) {
+
+        if (StringUtils.isNotEmpty(mraidScriptPattern)) {
+            creativeScanner.registerPatterns(List.of(mraidScriptPattern));
+        }
 
         final ObjectMapper mapper = ObjectMapperProvider.mapper();
         final PbRichMediaFilterProperties globalProperties = PbRichMediaFilterProperties.of(
@@ -31,7 +38,7 @@ public class PbRichmediaFilterModuleConfiguration {
         return new PbRichmediaFilterModule(List.of(
                 new PbRichmediaFilterAllProcessedBidResponsesHook(
                         mapper,
-                        new BidResponsesMraidFilter(),
+                        new BidResponsesMraidFilter(creativeScanner),
                         new ModuleConfigResolver(mapper, globalProperties))));
     }
 
@@ -1,13 +1,14 @@
 package org.prebid.server.hooks.modules.pb.richmedia.filter.core;
 
 import com.iab.openrtb.response.Bid;
-import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.hooks.creative.CreativeScanner;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.AnalyticsResult;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.MraidFilterResult;
 
@@ -16,6 +17,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class BidResponsesMraidFilter {
@@ -23,9 +25,17 @@ public class BidResponsesMraidFilter {
     private static final String TAG_STATUS = "success-block";
     private static final Map<String, Object> TAG_VALUES = Map.of("richmedia-format", "mraid");
 
+    private final CreativeScanner creativeScanner;
+
+    public BidResponsesMraidFilter(CreativeScanner creativeScanner) {
+        this.creativeScanner = Objects.requireNonNull(creativeScanner);
+    }
+
     public MraidFilterResult filterByPattern(String mraidScriptPattern,
                                              List<BidderResponse> responses,
-                                             Map<String, BidRejectionTracker> bidRejectionTrackers) {
+                                             AuctionContext auctionContext) {
+
+        final Map<String, BidRejectionTracker> bidRejectionTrackers = auctionContext.getBidRejectionTrackers();
 
         List<BidderResponse> filteredResponses = new ArrayList<>();
         List<AnalyticsResult> analyticsResults = new ArrayList<>();
@@ -34,7 +44,8 @@ public class BidResponsesMraidFilter {
             final BidderSeatBid seatBid = bidderResponse.getSeatBid();
             final List<BidderBid> originalBids = seatBid.getBids();
             final Map<Boolean, List<BidderBid>> bidsMap = originalBids.stream().collect(
-                    Collectors.groupingBy(bid -> StringUtils.contains(bid.getBid().getAdm(), mraidScriptPattern)));
+                    Collectors.groupingBy(bid -> creativeScanner.scan(auctionContext, bid.getBid())
+                            .contains(mraidScriptPattern)));
 
             final List<BidderBid> validBids = bidsMap.getOrDefault(false, Collections.emptyList());
             final List<BidderBid> invalidBids = bidsMap.getOrDefault(true, Collections.emptyList());
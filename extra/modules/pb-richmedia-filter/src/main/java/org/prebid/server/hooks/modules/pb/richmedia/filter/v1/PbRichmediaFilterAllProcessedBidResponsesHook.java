@@ -61,7 +61,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHook implements AllProcess
             final MraidFilterResult filterResult = mraidFilter.filterByPattern(
                     properties.getMraidScriptPattern(),
                     responses,
-                    auctionInvocationContext.auctionContext().getBidRejectionTrackers());
+                    auctionInvocationContext.auctionContext());
             final InvocationAction action = filterResult.hasRejectedBids()
                     ? InvocationAction.update
                     : InvocationAction.no_action;
@@ -2,12 +2,14 @@ package org.prebid.server.hooks.modules.pb.richmedia.filter.core;
 
 import com.iab.openrtb.response.Bid;
 import org.junit.jupiter.api.Test;
+import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.hooks.creative.CreativeScanner;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.AnalyticsResult;
 import org.prebid.server.hooks.modules.pb.richmedia.filter.model.MraidFilterResult;
 
@@ -23,7 +25,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class BidResponsesMraidFilterTest {
 
-    private final BidResponsesMraidFilter target = new BidResponsesMraidFilter();
+    private final BidResponsesMraidFilter target = new BidResponsesMraidFilter(new CreativeScanner());
 
     @Test
     public void filterShouldReturnOriginalBidsWhenNoBidsHaveMraidScriptInAdm() {
@@ -37,7 +39,10 @@ public class BidResponsesMraidFilterTest {
                 "bidderB", bidRejectionTrackerB);
 
         // when
-        final MraidFilterResult filterResult = target.filterByPattern("mraid.js", List.of(responseA, responseB), givenTrackers);
+        final MraidFilterResult filterResult = target.filterByPattern(
+                "mraid.js",
+                List.of(responseA, responseB),
+                givenAuctionContext(givenTrackers));
 
         // then
         assertThat(filterResult.getFilterResult()).containsExactly(responseA, responseB);
@@ -72,7 +77,7 @@ public class BidResponsesMraidFilterTest {
         final MraidFilterResult filterResult = target.filterByPattern(
                 "mraid.js",
                 List.of(responseA, responseB, responseC),
-                givenTrackers);
+                givenAuctionContext(givenTrackers));
 
         // then
         final BidderResponse expectedResponseA = givenBidderResponse(
@@ -128,4 +133,7 @@ public class BidResponsesMraidFilterTest {
         return BidderError.of("Invalid bid", BidderError.Type.invalid_bid, Set.of(rejectedImps));
     }
 
+    private static AuctionContext givenAuctionContext(Map<String, BidRejectionTracker> bidRejectionTrackers) {
+        return AuctionContext.builder().bidRejectionTrackers(bidRejectionTrackers).build();
+    }
 }
@@ -64,12 +64,15 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
     private static final Map<String, BidRejectionTracker> BID_REJECTION_TRACKERS = Map.of(
             "bidder", new BidRejectionTracker("bidder", Collections.emptySet(), 0.1));
 
+    private static final AuctionContext AUCTION_CONTEXT = AuctionContext.builder()
+            .bidRejectionTrackers(BID_REJECTION_TRACKERS)
+            .build();
+
     @BeforeEach
     public void setUp() {
         target = new PbRichmediaFilterAllProcessedBidResponsesHook(ObjectMapperProvider.mapper(), mraidFilter, configResolver);
         when(configResolver.resolve(any())).thenReturn(PbRichMediaFilterProperties.of(true, "pattern"));
-        when(auctionInvocationContext.auctionContext())
-                .thenReturn(AuctionContext.builder().bidRejectionTrackers(BID_REJECTION_TRACKERS).build());
+        when(auctionInvocationContext.auctionContext()).thenReturn(AUCTION_CONTEXT);
     }
 
     @Test
@@ -110,7 +113,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         // given
         final List<BidderResponse> givenResponses = givenBidderResponses(2);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPattern("pattern", givenResponses, AUCTION_CONTEXT))
                 .willReturn(MraidFilterResult.of(givenResponses, List.of(givenAnalyticsResult("bidder", "imp_id"))));
 
         // when
@@ -133,7 +136,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         // given
         final List<BidderResponse> givenResponses = givenBidderResponses(2);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPattern("pattern", givenResponses, AUCTION_CONTEXT))
                 .willReturn(MraidFilterResult.of(givenResponses, Collections.emptyList()));
 
         // when
@@ -157,7 +160,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         final List<BidderResponse> givenResponses = givenBidderResponses(3);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
         final List<BidderResponse> expectedResponses = givenBidderResponses(2);
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPattern("pattern", givenResponses, AUCTION_CONTEXT))
                 .willReturn(MraidFilterResult.of(expectedResponses, Collections.emptyList()));
 
         // when
@@ -181,7 +184,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         // given
         final List<BidderResponse> givenResponses = givenBidderResponses(3);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPattern("pattern", givenResponses, AUCTION_CONTEXT))
                 .willReturn(MraidFilterResult.of(
                         givenResponses,
                         List.of(
@@ -226,7 +229,7 @@ public class PbRichmediaFilterAllProcessedBidResponsesHookTest {
         // given
         final List<BidderResponse> givenResponses = givenBidderResponses(3);
         doReturn(givenResponses).when(allProcessedBidResponsesPayload).bidResponses();
-        given(mraidFilter.filterByPattern("pattern", givenResponses, BID_REJECTION_TRACKERS))
+        given(mraidFilter.filterByPattern("pattern", givenResponses, AUCTION_CONTEXT))
                 .willReturn(MraidFilterResult.of(givenResponses, Collections.emptyList()));
 
         // when
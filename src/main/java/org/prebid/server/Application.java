@@ -2,12 +2,36 @@ package org.prebid.server;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
 
 @SuppressWarnings("checkstyle:hideutilityclassconstructor")
 @SpringBootApplication
 public class Application {
 
+    private static final String FAST_STARTUP_PROFILE = "fast-startup";
+    private static final String STARTUP_TIMING_ENABLED_PROPERTY = "startup.timing-enabled";
+    private static final int STARTUP_STEPS_CAPACITY = 20000;
+
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        final SpringApplication application = new SpringApplication(Application.class);
+        if (isStartupTimingEnabled(args)) {
+            // steps are drained when application is ready, see StartupTimingReporter
+            application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        }
+        application.run(args);
+    }
+
+    /**
+     * Application startup should be chosen before configuration files are loaded, so only profile and flag
+     * given by command line arguments, system properties or environment variables are taken into account.
+     */
+    private static boolean isStartupTimingEnabled(String[] args) {
+        final StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+
+        return environment.matchesProfiles(FAST_STARTUP_PROFILE)
+                || environment.getProperty(STARTUP_TIMING_ENABLED_PROPERTY, Boolean.class, false);
     }
 }
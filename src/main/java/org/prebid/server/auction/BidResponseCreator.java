@@ -25,6 +25,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.categorymapping.CategoryMappingService;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
@@ -32,6 +33,7 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.BidderResponseInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.CategoryMappingResult;
+import org.prebid.server.auction.model.DecodedExtCache;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.TargetingInfo;
 import org.prebid.server.auction.model.debug.DebugContext;
@@ -60,6 +62,7 @@ import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.identity.IdGeneratorType;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.AuctionStageEvent;
 import org.prebid.server.proto.openrtb.ext.request.ExtImp;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpAuctionEnvironment;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
@@ -105,6 +108,7 @@ import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -205,9 +209,14 @@ public class BidResponseCreator {
                                BidRequestCacheInfo cacheInfo,
                                Map<String, MultiBidConfig> bidderToMultiBids) {
 
-        return videoStoredDataResult(auctionContext)
-                .compose(videoStoredData -> create(videoStoredData, auctionContext, cacheInfo, bidderToMultiBids))
-                .map(bidResponse -> populateSeatNonBid(auctionContext, bidResponse));
+        final AuctionStageEvent stageEvent = AuctionStageEvent.begin(AuctionStageEvent.RESPONSE_CREATION);
+        return stageEvent.endOnComplete(auctionContext.getStageTimer().timeAsync(AuctionStage.response_creation,
+                        () -> videoStoredDataResult(auctionContext)
+                                .compose(videoStoredData -> create(
+                                        videoStoredData, auctionContext, cacheInfo, bidderToMultiBids))
+                                .map(bidResponse -> populateSeatNonBid(auctionContext, bidResponse))),
+                auctionContext.getAccount().getId(),
+                null);
     }
 
     private Future<BidResponse> create(VideoStoredDataResult videoStoredDataResult,
@@ -294,7 +303,8 @@ public class BidResponseCreator {
                         videoStoredDataResult,
                         eventsContext,
                         generatedBidId,
-                        effectiveBidId))
+                        effectiveBidId,
+                        auctionContext.getDecodedExtCache()))
                 .build();
     }
 
@@ -326,7 +336,8 @@ public class BidResponseCreator {
                                     VideoStoredDataResult videoStoredDataResult,
                                     EventsContext eventsContext,
                                     String generatedBidId,
-                                    String effectiveBidId) {
+                                    String effectiveBidId,
+                                    DecodedExtCache decodedExtCache) {
 
         final ExtBidPrebid updatedExtBidPrebid = updateBidExtPrebid(
                 bid,
@@ -336,7 +347,8 @@ public class BidResponseCreator {
                 videoStoredDataResult,
                 eventsContext,
                 generatedBidId,
-                effectiveBidId);
+                effectiveBidId,
+                decodedExtCache);
         final ObjectNode existingBidExt = bid.getExt();
 
         final ObjectNode updatedBidExt = mapper.mapper().createObjectNode();
@@ -357,15 +369,17 @@ public class BidResponseCreator {
                                             VideoStoredDataResult videoStoredDataResult,
                                             EventsContext eventsContext,
                                             String generatedBidId,
-                                            String effectiveBidId) {
+                                            String effectiveBidId,
+                                            DecodedExtCache decodedExtCache) {
 
         final Video storedVideo = videoStoredDataResult.getImpIdToStoredVideo().get(bid.getImpid());
         final Events events = createEvents(bidder, account, effectiveBidId, eventsContext);
-        final ExtBidPrebidVideo extBidPrebidVideo = getExtBidPrebidVideo(bid.getExt()).orElse(null);
+        final ExtBidPrebidVideo extBidPrebidVideo = getExtBidPrebidVideo(bid.getExt(), decodedExtCache).orElse(null);
 
-        final ExtBidPrebid.ExtBidPrebidBuilder extBidPrebidBuilder = getExtPrebid(bid.getExt(), ExtBidPrebid.class)
-                .map(ExtBidPrebid::toBuilder)
-                .orElseGet(ExtBidPrebid::builder);
+        final ExtBidPrebid.ExtBidPrebidBuilder extBidPrebidBuilder =
+                getExtPrebid(bid.getExt(), ExtBidPrebid.class, decodedExtCache)
+                        .map(ExtBidPrebid::toBuilder)
+                        .orElseGet(ExtBidPrebid::builder);
 
         return extBidPrebidBuilder
                 .bidid(generatedBidId)
@@ -836,12 +850,24 @@ public class BidResponseCreator {
 
         final BidRequest bidRequest = debugEnabled ? auctionContext.getBidRequest() : null;
         final ExtDebugTrace extDebugTrace = toExtDebugTrace(auctionContext);
+        final Map<String, Double> stageTimeMillis = debugEnabled ? toStageTimeMillis(auctionContext) : null;
 
-        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace)
-                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace)
+        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace, stageTimeMillis)
+                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace, stageTimeMillis)
                 : null;
     }
 
+    /**
+     * Returns time of each auction stage started so far, stages still in progress (at least response creation
+     * this debug is a part of) are counted until now.
+     */
+    private static Map<String, Double> toStageTimeMillis(AuctionContext auctionContext) {
+        final Map<String, Double> stageTimeMillis = new LinkedHashMap<>();
+        auctionContext.getStageTimer().elapsedStageNanos().forEach((stage, nanos) ->
+                stageTimeMillis.put(stage.name(), Math.round(nanos / 1000.0) / 1000.0));
+        return stageTimeMillis;
+    }
+
     /**
      * Corresponds cacheId (or null if not present) to each {@link Bid}.
      */
@@ -864,7 +890,9 @@ public class BidResponseCreator {
                 .shouldCacheVideoBids(cacheInfo.isShouldCacheVideoBids())
                 .build();
 
-        return coreCacheService.cacheBidsOpenrtb(bidsValidToBeCached, auctionContext, cacheContext, eventsContext)
+        return auctionContext.getStageTimer()
+                .timeAsync(AuctionStage.cache, () -> coreCacheService.cacheBidsOpenrtb(
+                        bidsValidToBeCached, auctionContext, cacheContext, eventsContext))
                 .map(cacheResult -> addNotCachedBids(cacheResult, bidsToCache));
     }
 
@@ -962,7 +990,8 @@ public class BidResponseCreator {
         final Map<String, List<ExtBidderError>> errors = new HashMap<>();
 
         errors.putAll(extractBidderErrors(bidderResponses));
-        errors.putAll(extractDeprecatedBiddersErrors(auctionContext.getBidRequest()));
+        errors.putAll(extractDeprecatedBiddersErrors(
+                auctionContext.getBidRequest(), auctionContext.getDecodedExtCache()));
         errors.putAll(extractPrebidErrors(videoStoredDataResult, auctionContext));
         errors.putAll(extractCacheErrors(cacheResult));
         if (MapUtils.isNotEmpty(bidErrors)) {
@@ -1011,10 +1040,12 @@ public class BidResponseCreator {
     /**
      * Returns a map with deprecated bidder name as a key and list of {@link ExtBidderError}s as a value.
      */
-    private Map<String, List<ExtBidderError>> extractDeprecatedBiddersErrors(BidRequest bidRequest) {
+    private Map<String, List<ExtBidderError>> extractDeprecatedBiddersErrors(BidRequest bidRequest,
+                                                                             DecodedExtCache decodedExtCache) {
+
         return bidRequest.getImp().stream()
                 .flatMap(imp -> Optional.ofNullable(imp.getExt())
-                        .flatMap(ext -> getExtPrebid(ext, ExtImpPrebid.class))
+                        .flatMap(ext -> getExtPrebid(ext, ExtImpPrebid.class, decodedExtCache))
                         .map(ExtImpPrebid::getBidder)
                         .map(ObjectNode::fieldNames)
                         .map(StreamUtil::asStream)
@@ -1164,7 +1195,8 @@ public class BidResponseCreator {
                         cacheResult.getCacheBids(),
                         account,
                         bidErrors,
-                        bidWarnings))
+                        bidWarnings,
+                        auctionContext.getDecodedExtCache()))
                 .toList();
 
         final Long auctionTimestamp = eventsContext.getAuctionTimestamp();
@@ -1243,7 +1275,8 @@ public class BidResponseCreator {
                               Map<Bid, CacheInfo> bidToCacheInfo,
                               Account account,
                               Map<String, List<ExtBidderError>> bidErrors,
-                              Map<String, List<ExtBidderError>> bidWarnings) {
+                              Map<String, List<ExtBidderError>> bidWarnings,
+                              DecodedExtCache decodedExtCache) {
 
         final String bidder = bidInfos.stream()
                 .map(BidInfo::getBidder)
@@ -1263,7 +1296,8 @@ public class BidResponseCreator {
                         targeting,
                         bidRequest,
                         account,
-                        bidWarnings))
+                        bidWarnings,
+                        decodedExtCache))
                 .filter(Objects::nonNull)
                 .toList();
 
@@ -1318,7 +1352,9 @@ public class BidResponseCreator {
                       ExtRequestTargeting targeting,
                       BidRequest bidRequest,
                       Account account,
-                      Map<String, List<ExtBidderError>> bidWarnings) {
+                      Map<String, List<ExtBidderError>> bidWarnings,
+                      DecodedExtCache decodedExtCache) {
+
         final TargetingInfo targetingInfo = bidInfo.getTargetingInfo();
         final BidType bidType = bidInfo.getBidType();
         final Bid bid = bidInfo.getBid();
@@ -1351,14 +1387,14 @@ public class BidResponseCreator {
         final Boolean dealsTierSatisfied = bidInfo.getSatisfiedPriority();
 
         final ExtBidPrebid updatedExtBidPrebid =
-                getExtPrebid(originalBidExt, ExtBidPrebid.class)
+                getExtPrebid(originalBidExt, ExtBidPrebid.class, decodedExtCache)
                         .map(ExtBidPrebid::toBuilder)
                         .orElseGet(ExtBidPrebid::builder)
                         .targeting(MapUtils.isNotEmpty(targetingKeywords) ? targetingKeywords : null)
                         .targetBidderCode(targetingInfo.isAddTargetBidderCode() ? bidderCode : null)
                         .dealTierSatisfied(dealsTierSatisfied)
                         .cache(cache)
-                        .passThrough(extractPassThrough(bidInfo.getCorrespondingImp()))
+                        .passThrough(extractPassThrough(bidInfo.getCorrespondingImp(), decodedExtCache))
                         .build();
 
         final ObjectNode updatedBidExt =
@@ -1384,9 +1420,9 @@ public class BidResponseCreator {
                 || Objects.equals(targeting.getIncludeformat(), true));
     }
 
-    private JsonNode extractPassThrough(Imp imp) {
+    private JsonNode extractPassThrough(Imp imp, DecodedExtCache decodedExtCache) {
         return Optional.ofNullable(imp.getExt())
-                .flatMap(ext -> getExtPrebid(ext, ExtImpPrebid.class))
+                .flatMap(ext -> getExtPrebid(ext, ExtImpPrebid.class, decodedExtCache))
                 .map(ExtImpPrebid::getPassthrough)
                 .orElse(null);
     }
@@ -1764,20 +1800,25 @@ public class BidResponseCreator {
     /**
      * Creates {@link ExtBidPrebidVideo} from bid extension.
      */
-    private Optional<ExtBidPrebidVideo> getExtBidPrebidVideo(ObjectNode bidExt) {
-        return getExtPrebid(bidExt, ExtBidPrebid.class)
+    private Optional<ExtBidPrebidVideo> getExtBidPrebidVideo(ObjectNode bidExt, DecodedExtCache decodedExtCache) {
+        return getExtPrebid(bidExt, ExtBidPrebid.class, decodedExtCache)
                 .map(ExtBidPrebid::getVideo);
     }
 
-    private <T> Optional<T> getExtPrebid(ObjectNode extNode, Class<T> extClass) {
+    private <T> Optional<T> getExtPrebid(ObjectNode extNode, Class<T> extClass, DecodedExtCache decodedExtCache) {
         return Optional.ofNullable(extNode)
                 .filter(ext -> ext.hasNonNull(PREBID_EXT))
-                .map(ext -> convertValue(extNode, PREBID_EXT, extClass));
+                .map(ext -> ext.get(PREBID_EXT))
+                .map(prebid -> decodedExtCache.decode(prebid, extClass, node -> convertValue(node, extClass)));
     }
 
     private <T> T convertValue(JsonNode jsonNode, String key, Class<T> typeClass) {
+        return convertValue(jsonNode.get(key), typeClass);
+    }
+
+    private <T> T convertValue(JsonNode jsonNode, Class<T> typeClass) {
         try {
-            return mapper.mapper().convertValue(jsonNode.get(key), typeClass);
+            return mapper.mapper().convertValue(jsonNode, typeClass);
         } catch (IllegalArgumentException ignored) {
             return null;
         }
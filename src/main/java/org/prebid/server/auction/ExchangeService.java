@@ -36,12 +36,15 @@ import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimer;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidRequestCacheInfo;
 import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.DecodedExtCache;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.TimeoutContext;
@@ -78,11 +81,13 @@ import org.prebid.server.hooks.execution.model.StageExecutionOutcome;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.AuctionStageEvent;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.log.model.AuctionCapture;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
@@ -247,11 +252,16 @@ public class ExchangeService {
     }
 
     public Future<AuctionContext> holdAuction(AuctionContext context) {
-        return processAuctionRequest(context)
+        final AuctionContext auctionContext = httpInteractionLogger.shouldCapture(context)
+                ? context.with(new AuctionCapture())
+                : context;
+
+        return processAuctionRequest(auctionContext)
                 .compose(this::invokeResponseHooks)
                 .map(this::enrichWithAnalyticsTags)
                 .map(HookDebugInfoEnricher::enrichWithHooksDebugInfo)
-                .map(this::updateHooksMetrics);
+                .map(this::updateHooksMetrics)
+                .map(this::updateExtDecodingMetrics);
     }
 
     private Future<AuctionContext> processAuctionRequest(AuctionContext context) {
@@ -271,6 +281,7 @@ public class ExchangeService {
         final Account account = receivedContext.getAccount();
         final List<String> debugWarnings = receivedContext.getDebugWarnings();
         final MetricName requestTypeMetric = receivedContext.getRequestTypeMetric();
+        final AuctionStageTimer stageTimer = receivedContext.getStageTimer();
 
         final List<SeatBid> storedAuctionResponses = new ArrayList<>();
         final BidderAliases aliases = aliases(bidRequest);
@@ -280,12 +291,13 @@ public class ExchangeService {
 
         return storedResponseProcessor.getStoredResponseResult(bidRequest.getImp(), timeout)
                 .map(storedResponseResult -> populateStoredResponse(storedResponseResult, storedAuctionResponses))
-                .compose(storedResponseResult ->
-                        extractAuctionParticipations(receivedContext, storedResponseResult, aliases, bidderToMultiBid)
-                                .map(receivedContext::with))
+                .compose(storedResponseResult -> stageTimer.timeAsync(AuctionStage.bidder_requests, () ->
+                                extractAuctionParticipations(
+                                        receivedContext, storedResponseResult, aliases, bidderToMultiBid))
+                        .map(receivedContext::with))
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
-                .compose(context -> CompositeFuture.join(
+                .compose(context -> stageTimer.timeAsync(AuctionStage.bidders, () -> CompositeFuture.join(
                                 context.getAuctionParticipations().stream()
                                         .map(auctionParticipation -> processAndRequestBids(
                                                 context,
@@ -293,7 +305,7 @@ public class ExchangeService {
                                                 timeout,
                                                 aliases)
                                                 .map(auctionParticipation::with))
-                                        .collect(Collectors.toCollection(ArrayList::new)))
+                                        .collect(Collectors.toCollection(ArrayList::new))))
                         // send all the requests to the bidders and gathers results
                         .map(CompositeFuture::<AuctionParticipation>list)
                         .map(storedResponseProcessor::updateStoredBidResponse)
@@ -531,7 +543,8 @@ public class ExchangeService {
         final Map<String, User> bidderToUser =
                 prepareUsers(bidders, context, aliases, biddersToConfigs, eidPermissions);
 
-        return privacyEnforcementService.mask(context, bidderToUser, aliases)
+        return context.getStageTimer()
+                .timeAsync(AuctionStage.privacy, () -> privacyEnforcementService.mask(context, bidderToUser, aliases))
                 .map(bidderToPrivacyResult -> getAuctionParticipation(
                         bidderToPrivacyResult,
                         bidRequest,
@@ -789,12 +802,13 @@ public class ExchangeService {
                                          AuctionContext context) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
-        final BidRequest bidRequest = priceFloorProcessor.enrichWithPriceFloors(
-                context.getBidRequest().toBuilder().imp(imps).build(),
-                context.getAccount(),
-                bidder,
-                context.getPrebidErrors(),
-                context.getDebugWarnings());
+        final BidRequest bidRequest = context.getStageTimer().time(AuctionStage.floors, () ->
+                priceFloorProcessor.enrichWithPriceFloors(
+                        context.getBidRequest().toBuilder().imp(imps).build(),
+                        context.getAccount(),
+                        bidder,
+                        context.getPrebidErrors(),
+                        context.getDebugWarnings()));
         final boolean transmitTid = transmitTransactionId(bidder, context);
         final List<String> firstPartyDataBidders = firstPartyDataBidders(bidRequest.getExt());
         final boolean useFirstPartyData = firstPartyDataBidders == null || firstPartyDataBidders.stream()
@@ -953,7 +967,7 @@ public class ExchangeService {
                 floors.getFloorMinCur())
                 : null;
 
-        return mapper.mapper().valueToTree(extImpPrebid(extImpPrebidNode).toBuilder()
+        return mapper.mapper().valueToTree(extImpPrebid.toBuilder()
                 .floors(updatedFloors)
                 .bidder(null)
                 .build());
@@ -1260,21 +1274,35 @@ public class ExchangeService {
         final long auctionStartTime = timeoutContext.getStartTime();
         final int adjustmentFactor = timeoutContext.getAdjustmentFactor();
         final long bidderRequestStartTime = clock.millis();
-
-        return Future.succeededFuture(bidderRequest.getBidRequest())
-                .map(bidRequest -> adjustTmax(bidRequest, auctionStartTime, adjustmentFactor, bidderRequestStartTime))
-                .map(bidRequest -> ortbVersionConversionManager.convertFromAuctionSupportedVersion(
-                        bidRequest, bidderRequest.getOrtbVersion()))
-                .map(bidderRequest::with)
-                .compose(convertedBidderRequest -> httpBidderRequester.requestBids(
-                        bidder,
-                        convertedBidderRequest,
-                        bidRejectionTracker,
-                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
-                        requestHeaders,
-                        aliases,
-                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
+        final boolean debugEnabledForBidder = debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName);
+        final AuctionCapture capture = auctionContext.getCapture();
+        final String accountId = auctionContext.getAccount().getId();
+
+        final AuctionStageEvent requestStageEvent = AuctionStageEvent.beginSynchronous(
+                AuctionStageEvent.BIDDER_REQUEST);
+        final BidRequest adjustedBidRequest = adjustTmax(
+                bidderRequest.getBidRequest(), auctionStartTime, adjustmentFactor, bidderRequestStartTime);
+        final BidderRequest convertedBidderRequest = bidderRequest.with(
+                ortbVersionConversionManager.convertFromAuctionSupportedVersion(
+                        adjustedBidRequest, bidderRequest.getOrtbVersion()));
+        requestStageEvent.end(accountId, bidderName);
+
+        final AuctionStageEvent callStageEvent = AuctionStageEvent.begin(AuctionStageEvent.BIDDER_CALL);
+        return callStageEvent.endOnComplete(
+                        httpBidderRequester.requestBids(
+                                bidder,
+                                convertedBidderRequest,
+                                bidRejectionTracker,
+                                adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
+                                requestHeaders,
+                                aliases,
+                                debugEnabledForBidder || capture != null),
+                        accountId,
+                        bidderName)
+                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)))
+                .map(bidderResponse -> capture != null
+                        ? capture.record(bidderResponse, debugEnabledForBidder)
+                        : bidderResponse);
     }
 
     private BidRequest adjustTmax(BidRequest bidRequest, long startTime, int adjustmentFactor, long currentTime) {
@@ -1343,20 +1371,31 @@ public class ExchangeService {
                                                              BidderAliases aliases) {
 
         return auctionParticipations.stream()
-                .map(auctionParticipation -> validBidderResponse(auctionParticipation, auctionContext, aliases))
-                .map(auctionParticipation -> applyBidPriceChanges(auctionParticipation, auctionContext.getBidRequest()))
-                .map(auctionParticipation -> priceFloorEnforcer.enforce(
-                        auctionContext.getBidRequest(),
-                        auctionParticipation,
-                        auctionContext.getAccount(),
-                        auctionContext.getBidRejectionTrackers().get(auctionParticipation.getBidder())))
-                .map(auctionParticipation -> dsaEnforcer.enforce(
-                        auctionContext.getBidRequest(),
-                        auctionParticipation,
-                        auctionContext.getBidRejectionTrackers().get(auctionParticipation.getBidder())))
+                .map(auctionParticipation -> validateAndAdjustBids(auctionParticipation, auctionContext, aliases))
                 .toList();
     }
 
+    private AuctionParticipation validateAndAdjustBids(AuctionParticipation auctionParticipation,
+                                                       AuctionContext auctionContext,
+                                                       BidderAliases aliases) {
+
+        final AuctionStageEvent stageEvent = AuctionStageEvent.beginSynchronous(AuctionStageEvent.BIDDER_RESPONSE);
+        final BidRequest bidRequest = auctionContext.getBidRequest();
+        final BidRejectionTracker bidRejectionTracker = auctionContext.getBidRejectionTrackers()
+                .get(auctionParticipation.getBidder());
+
+        final AuctionParticipation validParticipation = validBidderResponse(
+                auctionParticipation, auctionContext, aliases);
+        final AuctionParticipation adjustedParticipation = applyBidPriceChanges(validParticipation, bidRequest);
+        final AuctionParticipation flooredParticipation = auctionContext.getStageTimer().time(AuctionStage.floors,
+                () -> priceFloorEnforcer.enforce(
+                        bidRequest, adjustedParticipation, auctionContext.getAccount(), bidRejectionTracker));
+        final AuctionParticipation result = dsaEnforcer.enforce(bidRequest, flooredParticipation, bidRejectionTracker);
+
+        stageEvent.end(auctionContext.getAccount().getId(), auctionParticipation.getBidder());
+        return result;
+    }
+
     private AuctionParticipation validBidderResponse(AuctionParticipation auctionParticipation,
                                                      AuctionContext auctionContext,
                                                      BidderAliases aliases) {
@@ -1701,6 +1740,13 @@ public class ExchangeService {
         return context;
     }
 
+    private AuctionContext updateExtDecodingMetrics(AuctionContext context) {
+        final DecodedExtCache decodedExtCache = context.getDecodedExtCache();
+        metrics.updateExtDecodingMetrics(decodedExtCache.getDecodedCount(), decodedExtCache.getReusedCount());
+
+        return context;
+    }
+
     private void updateHooksStageMetrics(Account account, Stage stage, List<StageExecutionOutcome> stageOutcomes) {
         stageOutcomes.stream()
                 .flatMap(stageOutcome -> stageOutcome.getGroups().stream())
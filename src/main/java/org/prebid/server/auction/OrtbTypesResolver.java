@@ -1,11 +1,32 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.CoercionAction;
+import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import com.fasterxml.jackson.databind.exc.InvalidNullException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.InvalidRequestException;
@@ -14,7 +35,11 @@ import org.prebid.server.json.JsonMerger;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -23,6 +48,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -76,11 +102,61 @@ public class OrtbTypesResolver {
 
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
+    private final ObjectMapper normalizedBidRequestMapper;
 
     public OrtbTypesResolver(double logSamplingRate, JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
         this.logSamplingRate = logSamplingRate;
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+
+        normalizedBidRequestMapper = createNormalizedBidRequestMapper(jacksonMapper.mapper());
+    }
+
+    /**
+     * Reads {@link BidRequest} straight from the {@param body} bytes, without building a tree, if the body has
+     * nothing {@link #normalizeBidRequest(JsonNode, String, List, String)} would change or warn about.
+     * Returns null otherwise, so the body should be parsed to a tree and normalized.
+     */
+    public BidRequest readNormalizedBidRequest(byte[] body, int offset, int length) {
+        final BidRequest bidRequest;
+        try {
+            bidRequest = normalizedBidRequestMapper.readValue(body, offset, length, BidRequest.class);
+        } catch (IOException e) {
+            return null;
+        }
+
+        final boolean hasBidderConfigs = Optional.ofNullable(bidRequest)
+                .map(BidRequest::getExt)
+                .map(ExtRequest::getPrebid)
+                .map(ExtRequestPrebid::getBidderconfig)
+                .isPresent();
+
+        return bidRequest != null && !hasBidderConfigs ? bidRequest : null;
+    }
+
+    /**
+     * Creates mapper failing on every shape normalization resolves: first party data containers which are not
+     * objects, strings given as other types or arrays, and {@code data} objects. Unknown properties fail as well,
+     * since {@code site.data} and {@code app.data} are not part of the model.
+     * <p>
+     * Float numbers are read to {@link BigDecimal} through double, as they are when bound from a tree.
+     */
+    private static ObjectMapper createNormalizedBidRequestMapper(ObjectMapper mapper) {
+        final ObjectMapper normalizedMapper = mapper.copy()
+                .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, false)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+
+        normalizedMapper.coercionConfigFor(LogicalType.Textual)
+                .setCoercion(CoercionInputShape.Integer, CoercionAction.Fail)
+                .setCoercion(CoercionInputShape.Float, CoercionAction.Fail)
+                .setCoercion(CoercionInputShape.Boolean, CoercionAction.Fail)
+                .setCoercion(CoercionInputShape.EmptyArray, CoercionAction.Fail);
+
+        final SimpleModule module = new SimpleModule()
+                .addDeserializer(BigDecimal.class, new TreeLikeBigDecimalDeserializer())
+                .setDeserializerModifier(new NonNullFpdContainerModifier());
+
+        return normalizedMapper.registerModule(module);
     }
 
     /**
@@ -89,8 +165,17 @@ public class OrtbTypesResolver {
      * Mutates both parameters, {@param fpdContainerNode} and {@param warnings}.
      */
     public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer) {
+        normalizeBidRequest(bidRequest, getOriginalRowContainerNode(bidRequest), warnings, referer);
+    }
+
+    /**
+     * Same as {@link #normalizeBidRequest(JsonNode, List, String)}, but takes the raw bid request
+     * the {@param bidRequest} was parsed from, so it is not serialized back only to be logged in case of warnings.
+     */
+    public void normalizeBidRequest(JsonNode bidRequest, String rowOriginBidRequest, List<String> warnings,
+                                    String referer) {
+
         final List<String> resolverWarnings = new ArrayList<>();
-        final String rowOriginBidRequest = getOriginalRowContainerNode(bidRequest);
         normalizeRequestFpdFields(bidRequest, resolverWarnings);
         final JsonNode bidderConfigs = bidRequest.path("ext").path("prebid").path("bidderconfig");
         if (!bidderConfigs.isMissingNode() && bidderConfigs.isArray()) {
@@ -378,4 +463,57 @@ public class OrtbTypesResolver {
     private List<String> updateWithWarningPrefix(List<String> resolverWarning) {
         return resolverWarning.stream().map(warning -> "WARNING: " + warning).toList();
     }
+
+    private static class TreeLikeBigDecimalDeserializer extends JsonDeserializer<BigDecimal> {
+
+        @Override
+        public BigDecimal deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT)
+                    ? BigDecimal.valueOf(parser.getDoubleValue())
+                    : NumberDeserializers.BigDecimalDeserializer.instance.deserialize(parser, context);
+        }
+    }
+
+    /**
+     * Fails on explicit {@code null} of user, app or site, which normalization warns about, keeping absent ones.
+     */
+    private static class NonNullFpdContainerModifier extends BeanDeserializerModifier {
+
+        private static final Set<Class<?>> FPD_CONTAINER_CLASSES = Set.of(User.class, App.class, Site.class);
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config,
+                                                      BeanDescription beanDescription,
+                                                      JsonDeserializer<?> deserializer) {
+
+            return FPD_CONTAINER_CLASSES.contains(beanDescription.getBeanClass())
+                    ? new NonNullDeserializer(deserializer, beanDescription)
+                    : deserializer;
+        }
+    }
+
+    private static class NonNullDeserializer extends DelegatingDeserializer {
+
+        private final BeanDescription beanDescription;
+
+        NonNullDeserializer(JsonDeserializer<?> delegate, BeanDescription beanDescription) {
+            super(delegate);
+            this.beanDescription = beanDescription;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new NonNullDeserializer(newDelegatee, beanDescription);
+        }
+
+        @Override
+        public Object getNullValue(DeserializationContext context) throws JsonMappingException {
+            throw InvalidNullException.from(context, null, beanDescription.getType());
+        }
+
+        @Override
+        public Object getAbsentValue(DeserializationContext context) {
+            return null;
+        }
+    }
 }
@@ -17,6 +17,7 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.log.AuctionStageEvent;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtImp;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
@@ -80,9 +81,12 @@ public class StoredRequestProcessor {
     }
 
     public Future<AuctionStoredResult> processAuctionRequest(String accountId, BidRequest bidRequest) {
-        return processAuctionStoredRequest(accountId, bidRequest)
-                .onFailure(cause -> updateInvalidStoredResultMetrics(accountId, cause))
-                .recover(StoredRequestProcessor::stripToInvalidRequestException);
+        final AuctionStageEvent stageEvent = AuctionStageEvent.begin(AuctionStageEvent.STORED_REQUEST);
+        return stageEvent.endOnComplete(processAuctionStoredRequest(accountId, bidRequest)
+                        .onFailure(cause -> updateInvalidStoredResultMetrics(accountId, cause))
+                        .recover(StoredRequestProcessor::stripToInvalidRequestException),
+                accountId,
+                null);
     }
 
     private Future<AuctionStoredResult> processAuctionStoredRequest(String accountId, BidRequest bidRequest) {
@@ -115,9 +119,12 @@ public class StoredRequestProcessor {
     }
 
     public Future<BidRequest> processAmpRequest(String accountId, String ampRequestId, BidRequest bidRequest) {
-        return processAmpStoredRequest(accountId, ampRequestId, bidRequest)
-                .onFailure(cause -> updateInvalidStoredResultMetrics(accountId, cause))
-                .recover(StoredRequestProcessor::stripToInvalidRequestException);
+        final AuctionStageEvent stageEvent = AuctionStageEvent.begin(AuctionStageEvent.STORED_REQUEST);
+        return stageEvent.endOnComplete(processAmpStoredRequest(accountId, ampRequestId, bidRequest)
+                        .onFailure(cause -> updateInvalidStoredResultMetrics(accountId, cause))
+                        .recover(StoredRequestProcessor::stripToInvalidRequestException),
+                accountId,
+                null);
     }
 
     private Future<BidRequest> processAmpStoredRequest(String accountId, String ampRequestId, BidRequest bidRequest) {
@@ -135,9 +142,12 @@ public class StoredRequestProcessor {
                                                         List<String> errors,
                                                         Timeout timeout) {
 
-        return videoStoredDataResultInternal(accountId, imps, errors, timeout)
-                .onFailure(cause -> updateInvalidStoredResultMetrics(accountId, cause))
-                .recover(StoredRequestProcessor::stripToInvalidRequestException);
+        final AuctionStageEvent stageEvent = AuctionStageEvent.begin(AuctionStageEvent.STORED_REQUEST);
+        return stageEvent.endOnComplete(videoStoredDataResultInternal(accountId, imps, errors, timeout)
+                        .onFailure(cause -> updateInvalidStoredResultMetrics(accountId, cause))
+                        .recover(StoredRequestProcessor::stripToInvalidRequestException),
+                accountId,
+                null);
     }
 
     private Future<VideoStoredDataResult> videoStoredDataResultInternal(String accountId,
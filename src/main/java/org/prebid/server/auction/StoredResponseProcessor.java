@@ -3,6 +3,7 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
@@ -60,6 +61,12 @@ public class StoredResponseProcessor {
     private final ApplicationSettings applicationSettings;
     private final JacksonMapper mapper;
 
+    // keyed by stored response instance, so parsed value lives as long as it is held by the settings cache
+    private final Map<String, List<SeatBid>> parsedSeatBids = Caffeine.newBuilder()
+            .weakKeys()
+            .<String, List<SeatBid>>build()
+            .asMap();
+
     public StoredResponseProcessor(ApplicationSettings applicationSettings,
                                    JacksonMapper mapper) {
 
@@ -264,7 +271,7 @@ public class StoredResponseProcessor {
             final List<SeatBid> seatBids = parseSeatBid(id, rowSeatBid);
             validateStoredSeatBid(seatBids);
             resolvedSeatBids.addAll(seatBids.stream()
-                    .map(seatBid -> updateSeatBidBids(seatBid, impId))
+                    .map(seatBid -> copySeatBid(seatBid, impId))
                     .toList());
         }
         return mergeSameBidderSeatBid(resolvedSeatBids);
@@ -282,29 +289,53 @@ public class StoredResponseProcessor {
             }
             final List<SeatBid> seatBids = parseSeatBid(id, rowSeatBid);
             validateStoredSeatBid(seatBids);
-            resolvedSeatBids.addAll(seatBids);
+            resolvedSeatBids.addAll(seatBids.stream()
+                    .map(seatBid -> copySeatBid(seatBid, null))
+                    .toList());
         }
         return mergeSameBidderSeatBid(resolvedSeatBids);
     }
 
+    /**
+     * Returns parsed seat bids shared between requests, so they should not be modified.
+     * Use {@link #copySeatBid(SeatBid, String)} before passing them further.
+     */
     private List<SeatBid> parseSeatBid(String id, String rowSeatBid) {
+        final List<SeatBid> cachedSeatBids = parsedSeatBids.get(rowSeatBid);
+        if (cachedSeatBids != null) {
+            return cachedSeatBids;
+        }
+
+        final List<SeatBid> seatBids;
         try {
-            return mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
+            seatBids = mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored response with id " + id);
         }
-    }
 
-    private SeatBid updateSeatBidBids(SeatBid seatBid, String impId) {
-        return seatBid.toBuilder().bid(updateBidsWithImpId(seatBid.getBid(), impId)).build();
+        if (seatBids != null) {
+            parsedSeatBids.put(rowSeatBid, Collections.unmodifiableList(seatBids));
+        }
+        return seatBids;
     }
 
-    private List<Bid> updateBidsWithImpId(List<Bid> bids, String impId) {
-        return bids.stream().map(bid -> updateBidWithImpId(bid, impId)).toList();
+    private static SeatBid copySeatBid(SeatBid seatBid, String impId) {
+        final ObjectNode ext = seatBid.getExt();
+        return seatBid.toBuilder()
+                .bid(seatBid.getBid().stream().map(bid -> copyBid(bid, impId)).toList())
+                .ext(ext != null ? ext.deepCopy() : null)
+                .build();
     }
 
-    private static Bid updateBidWithImpId(Bid bid, String impId) {
-        return bid.toBuilder().impid(impId).build();
+    /**
+     * Bid extension is copied as it is updated in place further in the auction.
+     */
+    private static Bid copyBid(Bid bid, String impId) {
+        final ObjectNode ext = bid.getExt();
+        return bid.toBuilder()
+                .impid(impId != null ? impId : bid.getImpid())
+                .ext(ext != null ? ext.deepCopy() : null)
+                .build();
     }
 
     private void validateStoredSeatBid(List<SeatBid> seatBids) {
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.auction.gpp.model.GppContext;
@@ -11,7 +13,9 @@ import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.hooks.creative.CreativeScanCache;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.log.model.AuctionCapture;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.model.PrivacyContext;
@@ -71,6 +75,29 @@ public class AuctionContext {
 
     CachedDebugLog cachedDebugLog;
 
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    AuctionCapture capture;
+
+    @JsonIgnore
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    DecodedExtCache decodedExtCache = new DecodedExtCache();
+
+    @JsonIgnore
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    CreativeScanCache creativeScanCache = new CreativeScanCache();
+
+    @JsonIgnore
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    AuctionStageTimer stageTimer = new AuctionStageTimer();
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
@@ -79,6 +106,10 @@ public class AuctionContext {
         return this.toBuilder().bidRequest(bidRequest).build();
     }
 
+    public AuctionContext with(AuctionCapture capture) {
+        return this.toBuilder().capture(capture).build();
+    }
+
     public AuctionContext with(BidResponse bidResponse) {
         return this.toBuilder().bidResponse(bidResponse).build();
     }
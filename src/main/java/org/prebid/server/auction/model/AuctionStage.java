@@ -0,0 +1,18 @@
+package org.prebid.server.auction.model;
+
+/**
+ * Stages of an auction measured by {@link AuctionStageTimer}.
+ */
+public enum AuctionStage {
+
+    request_parsing,
+    account_fetch,
+    stored_request,
+    privacy,
+    floors,
+    hooks,
+    bidder_requests,
+    bidders,
+    response_creation,
+    cache
+}
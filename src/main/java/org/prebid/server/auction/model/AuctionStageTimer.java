@@ -0,0 +1,118 @@
+package org.prebid.server.auction.model;
+
+import io.vertx.core.Future;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Request-scoped wall-clock timer of {@link AuctionStage}s.
+ * <p>
+ * Stage boundaries are taken from {@link System#nanoTime()}. A stage may run several times per auction and
+ * concurrently, e.g. once per bidder, so time of a stage is the time while at least one of its runs was in progress.
+ * Stages may be nested, e.g. floors are resolved while bidder requests are made, so times of different stages
+ * are not additive.
+ */
+public class AuctionStageTimer {
+
+    private static final AuctionStage[] STAGES = AuctionStage.values();
+
+    private final long[] stageNanos = new long[STAGES.length];
+
+    private final long[] activeSince = new long[STAGES.length];
+
+    private final int[] activeRuns = new int[STAGES.length];
+
+    private final boolean[] started = new boolean[STAGES.length];
+
+    public synchronized void start(AuctionStage stage) {
+        final int index = stage.ordinal();
+        if (activeRuns[index]++ == 0) {
+            activeSince[index] = System.nanoTime();
+        }
+        started[index] = true;
+    }
+
+    public synchronized void stop(AuctionStage stage) {
+        final int index = stage.ordinal();
+        if (activeRuns[index] > 0 && --activeRuns[index] == 0) {
+            stageNanos[index] += System.nanoTime() - activeSince[index];
+        }
+    }
+
+    /**
+     * Runs synchronous stage and returns its result.
+     */
+    public <T> T time(AuctionStage stage, Supplier<T> supplier) {
+        start(stage);
+        try {
+            return supplier.get();
+        } finally {
+            stop(stage);
+        }
+    }
+
+    /**
+     * Starts asynchronous stage and stops it on completion of the returned {@link Future}.
+     */
+    public <T> Future<T> timeAsync(AuctionStage stage, Supplier<Future<T>> supplier) {
+        start(stage);
+        final Future<T> future;
+        try {
+            future = supplier.get();
+        } catch (RuntimeException e) {
+            stop(stage);
+            throw e;
+        }
+        return future.onComplete(ignored -> stop(stage));
+    }
+
+    /**
+     * Returns time in nanoseconds of each completed stage, i.e. started stage with no runs in progress.
+     * Stages still in progress are left out, see {@link #incompleteStages()}.
+     */
+    public synchronized Map<AuctionStage, Long> stageNanos() {
+        final Map<AuctionStage, Long> result = new EnumMap<>(AuctionStage.class);
+        for (AuctionStage stage : STAGES) {
+            final int index = stage.ordinal();
+            if (started[index] && activeRuns[index] == 0) {
+                result.put(stage, stageNanos[index]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns time in nanoseconds of each started stage, stages still in progress are counted until now.
+     * Intended for debug output built while the stages are running, e.g. {@link AuctionStage#response_creation}.
+     */
+    public synchronized Map<AuctionStage, Long> elapsedStageNanos() {
+        final long now = System.nanoTime();
+        final Map<AuctionStage, Long> result = new EnumMap<>(AuctionStage.class);
+        for (AuctionStage stage : STAGES) {
+            final int index = stage.ordinal();
+            if (started[index]) {
+                result.put(stage, activeRuns[index] > 0
+                        ? stageNanos[index] + now - activeSince[index]
+                        : stageNanos[index]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns stages with at least one run still in progress, e.g. when response is sent before they complete.
+     */
+    public synchronized Set<AuctionStage> incompleteStages() {
+        final Set<AuctionStage> result = EnumSet.noneOf(AuctionStage.class);
+        for (AuctionStage stage : STAGES) {
+            if (activeRuns[stage.ordinal()] > 0) {
+                result.add(stage);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package org.prebid.server.auction.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Request-scoped memo of {@link JsonNode} to typed ext conversions.
+ * <p>
+ * Entries are keyed by node identity, so the same node instance is converted to the same type
+ * at most once per auction. Nodes are expected not to be mutated after they were decoded,
+ * decoded values are expected not to be mutated by callers.
+ * <p>
+ * Used for {@code bid.ext.prebid} and {@code imp.ext.prebid} decoded while creating the auction response.
+ * Other decoders are not memoized, as none of them decodes a node decoded anywhere else in the auction:
+ * price floors resolve {@code imp.ext.prebid} of per-bidder imp copies, category mapping decodes whole
+ * {@code bid.ext} and DSA enforcement decodes {@code bid.ext.dsa}.
+ */
+public class DecodedExtCache {
+
+    private static final Object NULL_VALUE = new Object();
+
+    private final Map<JsonNode, Map<Class<?>, Object>> nodeToDecoded = new IdentityHashMap<>();
+
+    private int decodedCount;
+
+    private int reusedCount;
+
+    /**
+     * Returns decoded value of the given node, using {@code decoder} only if the node
+     * was not decoded to the given type before. Failed decodings are not memoized.
+     */
+    public synchronized <T> T decode(JsonNode node, Class<T> type, Function<JsonNode, T> decoder) {
+        final Map<Class<?>, Object> typeToDecoded = nodeToDecoded.computeIfAbsent(node, key -> new HashMap<>(2));
+        final Object decoded = typeToDecoded.get(type);
+        if (decoded != null) {
+            reusedCount++;
+            return decoded != NULL_VALUE ? type.cast(decoded) : null;
+        }
+
+        final T value = decoder.apply(node);
+        decodedCount++;
+        typeToDecoded.put(type, value != null ? value : NULL_VALUE);
+        return value;
+    }
+
+    public synchronized int getDecodedCount() {
+        return decodedCount;
+    }
+
+    public synchronized int getReusedCount() {
+        return reusedCount;
+    }
+}
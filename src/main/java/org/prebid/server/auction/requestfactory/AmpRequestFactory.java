@@ -26,6 +26,7 @@ import org.prebid.server.auction.PriceGranularity;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AmpGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.auction.model.ConsentType;
 import org.prebid.server.auction.privacy.contextfactory.AmpPrivacyContextFactory;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
@@ -136,7 +137,8 @@ public class AmpRequestFactory {
                 Endpoint.openrtb2_amp, MetricName.amp);
 
         return ortb2RequestFactory.executeEntrypointHooks(routingContext, body, initialAuctionContext)
-                .compose(httpRequest -> parseBidRequest(initialAuctionContext, httpRequest)
+                .compose(httpRequest -> initialAuctionContext.getStageTimer()
+                        .time(AuctionStage.request_parsing, () -> parseBidRequest(initialAuctionContext, httpRequest))
 
                         .map(bidRequest -> ortb2RequestFactory.enrichAuctionContext(
                                 initialAuctionContext, httpRequest, bidRequest, startTime)))
@@ -161,7 +163,8 @@ public class AmpRequestFactory {
                 .compose(auctionContext -> updateBidRequest(auctionContext)
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> ampPrivacyContextFactory.contextFrom(auctionContext)
+                .compose(auctionContext -> auctionContext.getStageTimer()
+                        .timeAsync(AuctionStage.privacy, () -> ampPrivacyContextFactory.contextFrom(auctionContext))
                         .map(auctionContext::with))
 
                 .compose(auctionContext -> ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)
@@ -403,7 +406,9 @@ public class AmpRequestFactory {
 
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
 
-        return storedRequestProcessor.processAmpRequest(accountId, storedRequestId, receivedBidRequest)
+        return auctionContext.getStageTimer()
+                .timeAsync(AuctionStage.stored_request, () -> storedRequestProcessor.processAmpRequest(
+                        accountId, storedRequestId, receivedBidRequest))
                 .map(ortbVersionConversionManager::convertToAuctionSupportedVersion)
                 .map(bidRequest -> gppService.updateBidRequest(bidRequest, auctionContext))
                 .map(bidRequest -> validateStoredBidRequest(storedRequestId, bidRequest))
@@ -4,7 +4,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Regs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
@@ -14,13 +18,16 @@ import org.prebid.server.auction.OrtbTypesResolver;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.auction.model.AuctionStoredResult;
 import org.prebid.server.auction.privacy.contextfactory.AuctionPrivacyContextFactory;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.AuctionStageEvent;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
@@ -30,6 +37,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Used in OpenRTB request processing.
@@ -50,6 +58,7 @@ public class AuctionRequestFactory {
     private final JacksonMapper mapper;
     private final OrtbTypesResolver ortbTypesResolver;
     private final GeoLocationServiceWrapper geoLocationServiceWrapper;
+    private final Metrics metrics;
 
     private static final String ENDPOINT = Endpoint.openrtb2_auction.value();
 
@@ -66,7 +75,8 @@ public class AuctionRequestFactory {
                                  AuctionPrivacyContextFactory auctionPrivacyContextFactory,
                                  DebugResolver debugResolver,
                                  JacksonMapper mapper,
-                                 GeoLocationServiceWrapper geoLocationServiceWrapper) {
+                                 GeoLocationServiceWrapper geoLocationServiceWrapper,
+                                 Metrics metrics) {
 
         this.maxRequestSize = maxRequestSize;
         this.ortb2RequestFactory = Objects.requireNonNull(ortb2RequestFactory);
@@ -82,28 +92,37 @@ public class AuctionRequestFactory {
         this.debugResolver = Objects.requireNonNull(debugResolver);
         this.mapper = Objects.requireNonNull(mapper);
         this.geoLocationServiceWrapper = Objects.requireNonNull(geoLocationServiceWrapper);
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     /**
      * Creates {@link AuctionContext} and parses BidRequest based on {@link RoutingContext}.
      */
     public Future<AuctionContext> parseRequest(RoutingContext routingContext, long startTime) {
-        final String body;
+        final Buffer bodyBuffer;
         try {
-            body = extractAndValidateBody(routingContext);
+            bodyBuffer = extractAndValidateBody(routingContext);
         } catch (InvalidRequestException e) {
             return Future.failedFuture(e);
         }
+        final String body = bodyBuffer.toString();
 
         final AuctionContext initialAuctionContext = ortb2RequestFactory.createAuctionContext(
                 Endpoint.openrtb2_auction, MetricName.openrtb2web);
 
-        return ortb2RequestFactory.executeEntrypointHooks(routingContext, body, initialAuctionContext)
-                .compose(httpRequest -> parseBidRequest(httpRequest, initialAuctionContext.getPrebidErrors())
+        final AuctionStageEvent stageEvent = AuctionStageEvent.begin(AuctionStageEvent.REQUEST_PARSE);
+        final Future<AuctionContext> parsedContext = ortb2RequestFactory
+                .executeEntrypointHooks(routingContext, body, initialAuctionContext)
+                .compose(httpRequest -> initialAuctionContext.getStageTimer()
+                        .time(AuctionStage.request_parsing,
+                                () -> parseBidRequest(httpRequest, body, bodyBuffer,
+                                        initialAuctionContext.getPrebidErrors()))
                         .map(bidRequest -> ortb2RequestFactory
                                 .enrichAuctionContext(initialAuctionContext, httpRequest, bidRequest, startTime)
                                 .with(requestTypeMetric(bidRequest))))
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
+
+        return stageEvent.endOnComplete(parsedContext);
     }
 
     /**
@@ -114,7 +133,9 @@ public class AuctionRequestFactory {
             return Future.succeededFuture(initialContext);
         }
 
-        return ortb2RequestFactory.fetchAccount(initialContext).map(initialContext::with)
+        final AuctionStageEvent stageEvent = AuctionStageEvent.begin(AuctionStageEvent.REQUEST_ENRICH);
+        final Future<AuctionContext> enrichedContext = ortb2RequestFactory.fetchAccount(initialContext)
+                .map(initialContext::with)
 
                 .map(auctionContext -> auctionContext.with(debugResolver.debugContextFrom(auctionContext)))
 
@@ -136,7 +157,8 @@ public class AuctionRequestFactory {
                 .compose(auctionContext -> updateAndValidateBidRequest(auctionContext)
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> auctionPrivacyContextFactory.contextFrom(auctionContext)
+                .compose(auctionContext -> auctionContext.getStageTimer()
+                        .timeAsync(AuctionStage.privacy, () -> auctionPrivacyContextFactory.contextFrom(auctionContext))
                         .map(auctionContext::with))
 
                 .compose(auctionContext -> ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)
@@ -148,35 +170,77 @@ public class AuctionRequestFactory {
                 .map(ortb2RequestFactory::updateTimeout)
 
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
+
+        return stageEvent.endOnComplete(enrichedContext);
     }
 
-    private String extractAndValidateBody(RoutingContext routingContext) {
-        final String body = routingContext.getBodyAsString();
-        if (body == null) {
+    /**
+     * Checks size of the request body in bytes before decoding it to string.
+     * Compressed bodies are already inflated at this point, so the decompressed size is checked.
+     */
+    private Buffer extractAndValidateBody(RoutingContext routingContext) {
+        final RequestBody requestBody = routingContext.body();
+        final int bodySize = requestBody != null ? requestBody.length() : -1;
+        if (bodySize < 0) {
             throw new InvalidRequestException("Incoming request has no body");
         }
 
-        if (body.length() > maxRequestSize) {
+        metrics.updateRequestBodySizeMetric(bodySize);
+        if (bodySize > maxRequestSize) {
             throw new InvalidRequestException("Request size exceeded max size of %d bytes.".formatted(maxRequestSize));
         }
 
-        return body;
+        return requestBody.buffer();
     }
 
-    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
-        try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
+    /**
+     * Parses {@link BidRequest} straight from the received bytes, unless entrypoint hooks replaced the body.
+     * The body is parsed to a tree only when it has to be normalized.
+     */
+    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest,
+                                               String receivedBody,
+                                               Buffer receivedBodyBuffer,
+                                               List<String> errors) {
 
-            final String referer = paramsExtractor.refererFrom(httpRequest);
-            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+        final long startTime = System.nanoTime();
+        try {
+            final String body = httpRequest.getBody();
+            final BidRequest bidRequest = Objects.equals(body, receivedBody)
+                    ? parseBidRequest(receivedBodyBuffer.getByteBuf(), httpRequest, errors)
+                    : parseBidRequest(bodyAsJsonNode(body), httpRequest, errors);
+            metrics.updateRequestParseTimeMetric(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
 
-            return Future.succeededFuture(jsonNodeAsBidRequest(bidRequestNode))
-                    .map(bidRequest -> fillWithValuesFromHttpRequest(bidRequest, httpRequest));
+            return Future.succeededFuture(fillWithValuesFromHttpRequest(bidRequest, httpRequest));
         } catch (Exception e) {
             return Future.failedFuture(e);
         }
     }
 
+    private BidRequest parseBidRequest(ByteBuf body, HttpRequestContext httpRequest, List<String> errors) {
+        final byte[] bytes;
+        final int offset;
+        if (body.hasArray()) {
+            bytes = body.array();
+            offset = body.arrayOffset() + body.readerIndex();
+        } else {
+            bytes = ByteBufUtil.getBytes(body);
+            offset = 0;
+        }
+        final int length = body.readableBytes();
+
+        final BidRequest bidRequest = ortbTypesResolver.readNormalizedBidRequest(bytes, offset, length);
+        return bidRequest != null
+                ? bidRequest
+                : parseBidRequest(bodyAsJsonNode(bytes, offset, length), httpRequest, errors);
+    }
+
+    private BidRequest parseBidRequest(JsonNode bidRequestNode, HttpRequestContext httpRequest, List<String> errors) {
+        final String referer = paramsExtractor.refererFrom(httpRequest);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, httpRequest.getBody(), errors, referer);
+
+        return jsonNodeAsBidRequest(bidRequestNode);
+    }
+
     private JsonNode bodyAsJsonNode(String body) {
         try {
             return mapper.mapper().readTree(body);
@@ -185,6 +249,14 @@ public class AuctionRequestFactory {
         }
     }
 
+    private JsonNode bodyAsJsonNode(byte[] body, int offset, int length) {
+        try {
+            return mapper.mapper().readTree(body, offset, length);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
+        }
+    }
+
     private BidRequest jsonNodeAsBidRequest(JsonNode bidRequestNode) {
         try {
             return mapper.mapper().treeToValue(bidRequestNode, BidRequest.class);
@@ -233,7 +305,9 @@ public class AuctionRequestFactory {
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
         final List<String> debugWarnings = auctionContext.getDebugWarnings();
 
-        return storedRequestProcessor.processAuctionRequest(account.getId(), auctionContext.getBidRequest())
+        return auctionContext.getStageTimer()
+                .timeAsync(AuctionStage.stored_request, () -> storedRequestProcessor.processAuctionRequest(
+                        account.getId(), auctionContext.getBidRequest()))
                 .compose(auctionStoredResult -> updateBidRequest(auctionStoredResult, auctionContext))
                 .compose(bidRequest -> ortb2RequestFactory.validateRequest(bidRequest, httpRequest, debugWarnings))
                 .map(interstitialProcessor::process);
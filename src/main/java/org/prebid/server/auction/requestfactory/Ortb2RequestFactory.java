@@ -22,6 +22,7 @@ import org.prebid.server.auction.IpAddressHelper;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.auction.model.TimeoutContext;
 import org.prebid.server.auction.model.debug.DebugContext;
@@ -179,9 +180,10 @@ public class Ortb2RequestFactory {
         final Timeout timeout = auctionContext.getTimeoutContext().getTimeout();
         final HttpRequestContext httpRequest = auctionContext.getHttpRequest();
 
-        return findAccountIdFrom(bidRequest, isLookupStoredRequest)
-                .map(this::validateIfAccountBlocklisted)
-                .compose(accountId -> loadAccount(timeout, httpRequest, accountId));
+        return auctionContext.getStageTimer().timeAsync(AuctionStage.account_fetch, () ->
+                findAccountIdFrom(bidRequest, isLookupStoredRequest)
+                        .map(this::validateIfAccountBlocklisted)
+                        .compose(accountId -> loadAccount(timeout, httpRequest, accountId)));
     }
 
     public Future<ActivityInfrastructure> activityInfrastructureFrom(AuctionContext auctionContext) {
@@ -317,7 +319,8 @@ public class Ortb2RequestFactory {
                         toCaseInsensitiveMultiMap(routingContext.queryParams()),
                         toCaseInsensitiveMultiMap(routingContext.request().headers()),
                         body,
-                        auctionContext.getHookExecutionContext())
+                        auctionContext.getHookExecutionContext(),
+                        auctionContext.getStageTimer())
                 .map(stageResult -> toHttpRequest(stageResult, routingContext, auctionContext));
     }
 
@@ -10,6 +10,7 @@ import com.iab.openrtb.request.video.Pod;
 import com.iab.openrtb.request.video.PodError;
 import com.iab.openrtb.request.video.Podconfig;
 import io.vertx.core.Future;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -155,16 +156,17 @@ public class VideoRequestFactory {
     }
 
     private String extractAndValidateBody(RoutingContext routingContext) {
-        final String body = routingContext.getBodyAsString();
-        if (body == null) {
+        final RequestBody requestBody = routingContext.body();
+        final int bodySize = requestBody != null ? requestBody.length() : -1;
+        if (bodySize < 0) {
             throw new InvalidRequestException("Incoming request has no body");
         }
 
-        if (body.length() > maxRequestSize) {
+        if (bodySize > maxRequestSize) {
             throw new InvalidRequestException("Request size exceeded max size of %d bytes.".formatted(maxRequestSize));
         }
 
-        return body;
+        return requestBody.asString();
     }
 
     private Future<WithPodErrors<BidRequest>> createBidRequest(HttpRequestContext httpRequest) {
@@ -0,0 +1,101 @@
+package org.prebid.server.bidder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bidder endpoint URL with {@code {{Macro}}} placeholders, compiled once into literal and macro segments.
+ * <p>
+ * Resolving the template gives the same URL as replacing each macro with {@link String#replace},
+ * but the URL is built in a single pass into a buffer of the exact size. Macros without value are left as is.
+ */
+public class EndpointTemplate {
+
+    private static final String MACRO_START = "{{";
+    private static final String MACRO_END = "}}";
+
+    private final String template;
+    private final String[] literals;
+    private final String[] macros;
+    private final int literalsLength;
+
+    private EndpointTemplate(String template, List<String> literals, List<String> macros) {
+        this.template = template;
+        this.literals = literals.toArray(String[]::new);
+        this.macros = macros.toArray(String[]::new);
+        this.literalsLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static EndpointTemplate of(String template) {
+        Objects.requireNonNull(template);
+
+        final List<String> literals = new ArrayList<>();
+        final List<String> macros = new ArrayList<>();
+
+        int literalStart = 0;
+        int macroStart = template.indexOf(MACRO_START);
+        while (macroStart >= 0) {
+            final int macroEnd = template.indexOf(MACRO_END, macroStart + MACRO_START.length());
+            if (macroEnd < 0) {
+                break;
+            }
+
+            literals.add(template.substring(literalStart, macroStart));
+            macros.add(template.substring(macroStart, macroEnd + MACRO_END.length()));
+
+            literalStart = macroEnd + MACRO_END.length();
+            macroStart = template.indexOf(MACRO_START, literalStart);
+        }
+        literals.add(template.substring(literalStart));
+
+        return new EndpointTemplate(template, literals, macros);
+    }
+
+    public String template() {
+        return template;
+    }
+
+    public Resolver resolver() {
+        return new Resolver();
+    }
+
+    public class Resolver {
+
+        private final String[] values = new String[macros.length];
+
+        private Resolver() {
+        }
+
+        /**
+         * Sets value of the given macro, for example {@code {{AccountID}}}.
+         */
+        public Resolver set(String macro, String value) {
+            Objects.requireNonNull(value);
+
+            for (int i = 0; i < macros.length; i++) {
+                if (macros[i].equals(macro)) {
+                    values[i] = value;
+                }
+            }
+            return this;
+        }
+
+        public String resolve() {
+            if (macros.length == 0) {
+                return template;
+            }
+
+            int length = literalsLength;
+            for (int i = 0; i < macros.length; i++) {
+                length += values[i] != null ? values[i].length() : macros[i].length();
+            }
+
+            final StringBuilder url = new StringBuilder(length);
+            for (int i = 0; i < macros.length; i++) {
+                url.append(literals[i]).append(values[i] != null ? values[i] : macros[i]);
+            }
+            return url.append(literals[macros.length]).toString();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.json.JacksonMapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Makes one outgoing {@link HttpRequest} per impression from the same {@link BidRequest}.
+ * <p>
+ * Request without impressions is encoded only once, and then body of each request is made by splicing encoded
+ * impression into it. Body is byte-identical to the encoded {@link BidRequest} with the single impression.
+ */
+public class ImpRequestSplitter {
+
+    private static final String PLACEHOLDER_IMP_ID = "imp-placeholder-" + UUID.randomUUID();
+    private static final Imp PLACEHOLDER_IMP = Imp.builder().id(PLACEHOLDER_IMP_ID).build();
+
+    private final BidRequest bidRequest;
+    private final MultiMap headers;
+    private final String endpointUrl;
+    private final JacksonMapper mapper;
+
+    private boolean envelopeResolved;
+    private byte[] envelopePrefix;
+    private byte[] envelopeSuffix;
+
+    public ImpRequestSplitter(BidRequest bidRequest, MultiMap headers, String endpointUrl, JacksonMapper mapper) {
+        this.bidRequest = Objects.requireNonNull(bidRequest);
+        this.headers = Objects.requireNonNull(headers);
+        this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    /**
+     * Returns request with the given impression only, the same as
+     * {@link org.prebid.server.util.BidderUtil#defaultRequest} for the request copy with this impression.
+     */
+    public HttpRequest<BidRequest> request(Imp imp) {
+        final BidRequest outgoingRequest = bidRequest.toBuilder().imp(Collections.singletonList(imp)).build();
+
+        return HttpRequest.<BidRequest>builder()
+                .method(HttpMethod.POST)
+                .uri(endpointUrl)
+                .headers(headers)
+                .impIds(Collections.singleton(imp.getId()))
+                .body(body(imp, outgoingRequest))
+                .payload(outgoingRequest)
+                .build();
+    }
+
+    private byte[] body(Imp imp, BidRequest outgoingRequest) {
+        if (!envelopeResolved) {
+            resolveEnvelope();
+        }
+
+        if (envelopePrefix == null) {
+            return mapper.encodeToBytes(outgoingRequest);
+        }
+
+        final byte[] encodedImp = mapper.encodeToBytes(imp);
+        final byte[] body = new byte[envelopePrefix.length + encodedImp.length + envelopeSuffix.length];
+        System.arraycopy(envelopePrefix, 0, body, 0, envelopePrefix.length);
+        System.arraycopy(encodedImp, 0, body, envelopePrefix.length, encodedImp.length);
+        System.arraycopy(envelopeSuffix, 0, body, envelopePrefix.length + encodedImp.length, envelopeSuffix.length);
+        return body;
+    }
+
+    /**
+     * Encodes request with placeholder impression and splits it around the placeholder.
+     * If placeholder cannot be found exactly once, each request will be encoded as a whole.
+     */
+    private void resolveEnvelope() {
+        envelopeResolved = true;
+
+        final byte[] envelope = mapper.encodeToBytes(
+                bidRequest.toBuilder().imp(Collections.singletonList(PLACEHOLDER_IMP)).build());
+        final byte[] placeholder = mapper.encodeToBytes(PLACEHOLDER_IMP);
+
+        final int placeholderStart = indexOf(envelope, placeholder, 0);
+        if (placeholderStart < 0 || indexOf(envelope, placeholder, placeholderStart + 1) >= 0) {
+            return;
+        }
+
+        envelopePrefix = Arrays.copyOfRange(envelope, 0, placeholderStart);
+        envelopeSuffix = Arrays.copyOfRange(envelope, placeholderStart + placeholder.length, envelope.length);
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target, int fromIndex) {
+        for (int i = fromIndex; i <= bytes.length - target.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
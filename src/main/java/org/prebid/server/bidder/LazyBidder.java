@@ -0,0 +1,67 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderCall;
+import org.prebid.server.bidder.model.CompositeBidderResponse;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.Result;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Creates the actual bidder on first method call and delegates all calls to it.
+ * Used to speed up startup, in this case bidder configuration errors are reported on first use of the bidder.
+ */
+public class LazyBidder<T> implements Bidder<T> {
+
+    private final Supplier<Bidder<T>> bidderCreator;
+    private volatile Bidder<T> bidder;
+
+    public LazyBidder(Supplier<Bidder<T>> bidderCreator) {
+        this.bidderCreator = Objects.requireNonNull(bidderCreator);
+    }
+
+    private Bidder<T> bidder() {
+        Bidder<T> result = bidder;
+        if (result == null) {
+            synchronized (this) {
+                result = bidder;
+                if (result == null) {
+                    result = Objects.requireNonNull(bidderCreator.get());
+                    bidder = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Result<List<HttpRequest<T>>> makeHttpRequests(BidRequest request) {
+        return bidder().makeHttpRequests(request);
+    }
+
+    @Override
+    public Result<List<BidderBid>> makeBids(BidderCall<T> httpCall, BidRequest bidRequest) {
+        return bidder().makeBids(httpCall, bidRequest);
+    }
+
+    @Override
+    public CompositeBidderResponse makeBidderResponse(BidderCall<T> httpCall, BidRequest bidRequest) {
+        return bidder().makeBidderResponse(httpCall, bidRequest);
+    }
+
+    @Override
+    public Map<String, String> extractTargeting(ObjectNode ext) {
+        return bidder().extractTargeting(ext);
+    }
+
+    @Override
+    public HttpRequest<Void> makeTimeoutNotification(HttpRequest<T> httpRequest) {
+        return bidder().makeTimeoutNotification(httpRequest);
+    }
+}
@@ -8,6 +8,7 @@ import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpRequestSplitter;
 import org.prebid.server.bidder.aja.proto.ExtImpAja;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
@@ -24,7 +25,6 @@ import org.prebid.server.util.HttpUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,10 +69,9 @@ public class AjaBidder implements Bidder<BidRequest> {
             impsByTagID.put(tagId, imp);
         }
 
+        final ImpRequestSplitter requestSplitter = BidderUtil.impRequestSplitter(bidRequest, endpointUrl, mapper);
         for (final String tagId : tagIds) {
-            final Imp imp = impsByTagID.get(tagId);
-            final HttpRequest<BidRequest> singleRequest = createSingleRequest(imp, bidRequest, endpointUrl);
-            result.add(singleRequest);
+            result.add(requestSplitter.request(impsByTagID.get(tagId)));
         }
 
         return Result.of(result, errors);
@@ -89,12 +88,6 @@ public class AjaBidder implements Bidder<BidRequest> {
         return null;
     }
 
-    private HttpRequest<BidRequest> createSingleRequest(Imp imp, BidRequest request, String url) {
-        final BidRequest outgoingRequest = request.toBuilder().imp(Collections.singletonList(imp)).build();
-
-        return BidderUtil.defaultRequest(outgoingRequest, url, mapper);
-    }
-
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
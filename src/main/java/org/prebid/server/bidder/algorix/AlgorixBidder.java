@@ -16,6 +16,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.algorix.model.AlgorixVideoExt;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
@@ -52,11 +53,11 @@ public class AlgorixBidder implements Bidder<BidRequest> {
 
     private static final int FIRST_INDEX = 0;
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointUrl;
     private final JacksonMapper mapper;
 
     public AlgorixBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.endpointUrl = EndpointTemplate.of(HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)));
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -160,11 +161,12 @@ public class AlgorixBidder implements Bidder<BidRequest> {
         };
     }
 
-    private static String resolveUrl(String endpoint, ExtImpAlgorix extImp) {
-        return endpoint
-                .replace(URL_REGION_MACRO, getRegionInfo(extImp))
-                .replace(URL_SID_MACRO, extImp.getSid())
-                .replace(URL_TOKEN_MACRO, extImp.getToken());
+    private static String resolveUrl(EndpointTemplate endpoint, ExtImpAlgorix extImp) {
+        return endpoint.resolver()
+                .set(URL_REGION_MACRO, getRegionInfo(extImp))
+                .set(URL_SID_MACRO, extImp.getSid())
+                .set(URL_TOKEN_MACRO, extImp.getToken())
+                .resolve();
     }
 
     private static MultiMap resolveHeaders() {
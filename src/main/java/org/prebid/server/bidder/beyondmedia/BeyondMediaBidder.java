@@ -9,6 +9,7 @@ import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpRequestSplitter;
 import org.prebid.server.bidder.beyondmedia.proto.BeyondMediaImpExtBidder;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
@@ -49,6 +50,7 @@ public class BeyondMediaBidder implements Bidder<BidRequest> {
     public Result<List<HttpRequest<BidRequest>>> makeHttpRequests(BidRequest request) {
         final List<HttpRequest<BidRequest>> outgoingRequests = new ArrayList<>();
 
+        final ImpRequestSplitter requestSplitter = BidderUtil.impRequestSplitter(request, endpointUrl, mapper);
         for (Imp imp : request.getImp()) {
             final ExtImpBeyondMedia extImpBeyondMedia;
             try {
@@ -56,7 +58,7 @@ public class BeyondMediaBidder implements Bidder<BidRequest> {
             } catch (PreBidException e) {
                 return Result.withError(BidderError.badInput(e.getMessage()));
             }
-            outgoingRequests.add(createSingleRequest(modifyImp(imp, extImpBeyondMedia), request));
+            outgoingRequests.add(requestSplitter.request(modifyImp(imp, extImpBeyondMedia)));
         }
 
         return Result.withValues(outgoingRequests);
@@ -95,12 +97,6 @@ public class BeyondMediaBidder implements Bidder<BidRequest> {
         return impExtBeyondMedia.build();
     }
 
-    private HttpRequest<BidRequest> createSingleRequest(Imp imp, BidRequest request) {
-        final BidRequest outgoingRequest = request.toBuilder().imp(Collections.singletonList(imp)).build();
-
-        return BidderUtil.defaultRequest(outgoingRequest, endpointUrl, mapper);
-    }
-
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
@@ -13,6 +13,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -39,11 +40,11 @@ public class BidmachineBidder implements Bidder<BidRequest> {
             new TypeReference<>() {
             };
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointUrl;
     private final JacksonMapper mapper;
 
     public BidmachineBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.endpointUrl = EndpointTemplate.of(HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)));
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -142,9 +143,11 @@ public class BidmachineBidder implements Bidder<BidRequest> {
     }
 
     private String buildEndpointUrl(ExtImpBidmachine extImpBidmachine) {
-        return endpointUrl.replace("{{HOST}}", extImpBidmachine.getHost())
-                .replace("{{PATH}}", extImpBidmachine.getPath())
-                .replace("{{SELLER_ID}}", extImpBidmachine.getSellerId());
+        return endpointUrl.resolver()
+                .set("{{HOST}}", extImpBidmachine.getHost())
+                .set("{{PATH}}", extImpBidmachine.getPath())
+                .set("{{SELLER_ID}}", extImpBidmachine.getSellerId())
+                .resolve();
     }
 
     private ExtPrebid<ExtImpPrebid, ExtImpBidmachine> parseImpExt(Imp imp) {
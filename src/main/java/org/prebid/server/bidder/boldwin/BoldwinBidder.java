@@ -10,6 +10,7 @@ import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpRequestSplitter;
 import org.prebid.server.bidder.boldwin.proto.BoldwinImpExtBidder;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
@@ -49,6 +50,7 @@ public class BoldwinBidder implements Bidder<BidRequest> {
     public Result<List<HttpRequest<BidRequest>>> makeHttpRequests(BidRequest request) {
         final List<HttpRequest<BidRequest>> outgoingRequests = new ArrayList<>();
 
+        final ImpRequestSplitter requestSplitter = BidderUtil.impRequestSplitter(request, endpointUrl, mapper);
         for (Imp imp : request.getImp()) {
             final ExtImpBoldwin extImpBoldwin;
             try {
@@ -56,7 +58,7 @@ public class BoldwinBidder implements Bidder<BidRequest> {
             } catch (PreBidException e) {
                 return Result.withError(BidderError.badInput(e.getMessage()));
             }
-            outgoingRequests.add(createSingleRequest(modifyImp(imp, extImpBoldwin), request));
+            outgoingRequests.add(requestSplitter.request(modifyImp(imp, extImpBoldwin)));
         }
 
         return Result.withValues(outgoingRequests);
@@ -97,12 +99,6 @@ public class BoldwinBidder implements Bidder<BidRequest> {
         return impExtBoldwin.build();
     }
 
-    private HttpRequest<BidRequest> createSingleRequest(Imp imp, BidRequest request) {
-        final BidRequest outgoingRequest = request.toBuilder().imp(Collections.singletonList(imp)).build();
-
-        return BidderUtil.defaultRequest(outgoingRequest, endpointUrl, mapper);
-    }
-
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
@@ -10,6 +10,7 @@ import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpRequestSplitter;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -49,11 +50,12 @@ public class ColossusBidder implements Bidder<BidRequest> {
         final List<HttpRequest<BidRequest>> requests = new ArrayList<>();
         final List<BidderError> errors = new ArrayList<>();
 
+        final ImpRequestSplitter requestSplitter = BidderUtil.impRequestSplitter(bidRequest, endpointUrl, mapper);
         for (Imp imp : bidRequest.getImp()) {
             try {
                 final ExtImpColossus extImpColossus = parseImpExt(imp);
                 final Imp modifiedImp = modifyImp(imp, extImpColossus.getTagId());
-                requests.add(makeRequest(bidRequest, modifiedImp));
+                requests.add(requestSplitter.request(modifiedImp));
             } catch (PreBidException e) {
                 errors.add(BidderError.badInput(e.getMessage()));
             }
@@ -74,12 +76,6 @@ public class ColossusBidder implements Bidder<BidRequest> {
         return imp.toBuilder().tagid(tagId).build();
     }
 
-    private HttpRequest<BidRequest> makeRequest(BidRequest bidRequest, Imp imp) {
-        final BidRequest outgoingRequest = bidRequest.toBuilder().imp(Collections.singletonList(imp)).build();
-
-        return BidderUtil.defaultRequest(outgoingRequest, endpointUrl, mapper);
-    }
-
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         final BidResponse bidResponse;
@@ -10,6 +10,7 @@ import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpRequestSplitter;
 import org.prebid.server.bidder.copper6ssp.proto.Copper6SspImpExtBidder;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
@@ -49,11 +50,12 @@ public class Copper6SspBidder implements Bidder<BidRequest> {
         final List<HttpRequest<BidRequest>> outgoingRequests = new ArrayList<>();
         final List<BidderError> errors = new ArrayList<>();
 
+        final ImpRequestSplitter requestSplitter = BidderUtil.impRequestSplitter(request, endpointUrl, mapper);
         for (Imp imp : request.getImp()) {
             final ImpExtCopper6Ssp extImp;
             try {
                 extImp = parseImpExt(imp);
-                outgoingRequests.add(makeRequest(modifyImp(imp, extImp), request));
+                outgoingRequests.add(requestSplitter.request(modifyImp(imp, extImp)));
             } catch (PreBidException e) {
                 errors.add(BidderError.badInput(e.getMessage()));
             }
@@ -92,11 +94,6 @@ public class Copper6SspBidder implements Bidder<BidRequest> {
                 .build();
     }
 
-    private HttpRequest<BidRequest> makeRequest(Imp imp, BidRequest request) {
-        final BidRequest outgoingRequest = request.toBuilder().imp(Collections.singletonList(imp)).build();
-        return BidderUtil.defaultRequest(outgoingRequest, endpointUrl, mapper);
-    }
-
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
@@ -10,6 +10,7 @@ import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.MultiMap;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -38,11 +39,11 @@ public class EscalaxBidder implements Bidder<BidRequest> {
 
     private static final String X_OPENRTB_VERSION = "2.5";
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointUrl;
     private final JacksonMapper mapper;
 
     public EscalaxBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.endpointUrl = EndpointTemplate.of(HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)));
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -76,9 +77,10 @@ public class EscalaxBidder implements Bidder<BidRequest> {
     }
 
     private String makeUrl(ExtImpEscalax extImp) {
-        return endpointUrl
-                .replace("{{AccountID}}", extImp.getAccountId())
-                .replace("{{SourceId}}", extImp.getSourceId());
+        return endpointUrl.resolver()
+                .set("{{AccountID}}", extImp.getAccountId())
+                .set("{{SourceId}}", extImp.getSourceId())
+                .resolve();
     }
 
     private MultiMap makeHeaders(Device device) {
@@ -8,6 +8,7 @@ import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpRequestSplitter;
 import org.prebid.server.bidder.globalsun.model.GlobalsunImpExtBidder;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
@@ -49,6 +50,7 @@ public class GlobalsunBidder implements Bidder<BidRequest> {
     public final Result<List<HttpRequest<BidRequest>>> makeHttpRequests(BidRequest request) {
         final List<HttpRequest<BidRequest>> outgoingRequests = new ArrayList<>();
 
+        final ImpRequestSplitter requestSplitter = BidderUtil.impRequestSplitter(request, endpointUrl, mapper);
         for (Imp imp : request.getImp()) {
             final ExtImpGlobalsun extImpGlobalsun;
             try {
@@ -56,7 +58,7 @@ public class GlobalsunBidder implements Bidder<BidRequest> {
             } catch (PreBidException e) {
                 return Result.withError(BidderError.badInput(e.getMessage()));
             }
-            outgoingRequests.add(createSingleRequest(modifyImp(imp, extImpGlobalsun), request));
+            outgoingRequests.add(requestSplitter.request(modifyImp(imp, extImpGlobalsun)));
         }
 
         return Result.withValues(outgoingRequests);
@@ -70,12 +72,6 @@ public class GlobalsunBidder implements Bidder<BidRequest> {
         }
     }
 
-    private HttpRequest<BidRequest> createSingleRequest(Imp imp, BidRequest request) {
-        final BidRequest outgoingRequest = request.toBuilder().imp(Collections.singletonList(imp)).build();
-
-        return BidderUtil.defaultRequest(outgoingRequest, endpointUrl, mapper);
-    }
-
     private Imp modifyImp(Imp imp, ExtImpGlobalsun extImpAndGlobalsun) {
         final GlobalsunImpExtBidder globalsunImpExtBidder = resolveOutgoingImpExt(extImpAndGlobalsun);
         final ObjectNode modifiedImpExtBidder = mapper.mapper().createObjectNode();
@@ -11,6 +11,7 @@ import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpRequestSplitter;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -49,6 +50,7 @@ public class IqzoneBidder implements Bidder<BidRequest> {
     public Result<List<HttpRequest<BidRequest>>> makeHttpRequests(BidRequest request) {
         final List<HttpRequest<BidRequest>> httpRequests = new ArrayList<>();
 
+        final ImpRequestSplitter requestSplitter = BidderUtil.impRequestSplitter(request, endpointUrl, mapper);
         for (Imp imp : request.getImp()) {
             final ExtImpIqzone extImpIqzone;
             try {
@@ -58,7 +60,7 @@ public class IqzoneBidder implements Bidder<BidRequest> {
             }
 
             final Imp modifiedImp = modifyImp(imp, extImpIqzone);
-            httpRequests.add(makeHttpRequest(request, modifiedImp));
+            httpRequests.add(requestSplitter.request(modifiedImp));
         }
 
         return Result.withValues(httpRequests);
@@ -95,11 +97,6 @@ public class IqzoneBidder implements Bidder<BidRequest> {
                 .build();
     }
 
-    private HttpRequest<BidRequest> makeHttpRequest(BidRequest request, Imp imp) {
-        final BidRequest outgoingRequest = request.toBuilder().imp(Collections.singletonList(imp)).build();
-        return BidderUtil.defaultRequest(outgoingRequest, endpointUrl, mapper);
-    }
-
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
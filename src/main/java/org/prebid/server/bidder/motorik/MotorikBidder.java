@@ -10,6 +10,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -37,11 +38,11 @@ public class MotorikBidder implements Bidder<BidRequest> {
     private static final TypeReference<ExtPrebid<?, ExtImpMotorik>> MOTORIK_TYPE_REFERENCE = new TypeReference<>() {
     };
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointUrl;
     private final JacksonMapper mapper;
 
     public MotorikBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.endpointUrl = EndpointTemplate.of(HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)));
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -89,8 +90,10 @@ public class MotorikBidder implements Bidder<BidRequest> {
     }
 
     private String makeUrl(ExtImpMotorik extImpMotorik) {
-        return endpointUrl.replace("{{AccountID}}", extImpMotorik.getAccountId())
-                .replace("{{SourceId}}", extImpMotorik.getPlacementId());
+        return endpointUrl.resolver()
+                .set("{{AccountID}}", extImpMotorik.getAccountId())
+                .set("{{SourceId}}", extImpMotorik.getPlacementId())
+                .resolve();
     }
 
     private MultiMap makeRequestHeaders(Device device) {
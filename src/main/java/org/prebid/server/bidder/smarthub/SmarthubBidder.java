@@ -12,6 +12,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -35,11 +36,11 @@ public class SmarthubBidder implements Bidder<BidRequest> {
             new TypeReference<>() {
             };
 
-    private final String endpointTemplate;
+    private final EndpointTemplate endpointTemplate;
     private final JacksonMapper mapper;
 
     public SmarthubBidder(String endpointTemplate, JacksonMapper mapper) {
-        this.endpointTemplate = HttpUtil.validateUrl(Objects.requireNonNull(endpointTemplate));
+        this.endpointTemplate = EndpointTemplate.of(HttpUtil.validateUrl(Objects.requireNonNull(endpointTemplate)));
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -67,9 +68,11 @@ public class SmarthubBidder implements Bidder<BidRequest> {
     }
 
     private String buildEndpointUrl(ExtImpSmarthub extImpSmarthub) {
-        return endpointTemplate.replace("{{Host}}", extImpSmarthub.getPartnerName())
-                .replace("{{AccountID}}", extImpSmarthub.getSeat())
-                .replace("{{SourceId}}", extImpSmarthub.getToken());
+        return endpointTemplate.resolver()
+                .set("{{Host}}", extImpSmarthub.getPartnerName())
+                .set("{{AccountID}}", extImpSmarthub.getSeat())
+                .set("{{SourceId}}", extImpSmarthub.getToken())
+                .resolve();
     }
 
     @Override
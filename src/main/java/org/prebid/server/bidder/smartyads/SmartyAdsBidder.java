@@ -11,6 +11,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -39,11 +40,11 @@ public class SmartyAdsBidder implements Bidder<BidRequest> {
     private static final String URL_ACCOUNT_ID_MACRO = "{{AccountID}}";
     private static final int FIRST_SEAT_BID_INDEX = 0;
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointUrl;
     private final JacksonMapper mapper;
 
     public SmartyAdsBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.endpointUrl = EndpointTemplate.of(HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl)));
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -97,10 +98,11 @@ public class SmartyAdsBidder implements Bidder<BidRequest> {
     }
 
     private String resolveUrl(ExtImpSmartyAds extImp) {
-        return endpointUrl
-                .replace(URL_HOST_MACRO, extImp.getHost())
-                .replace(URL_SOURCE_ID_MACRO, HttpUtil.encodeUrl(extImp.getSourceId()))
-                .replace(URL_ACCOUNT_ID_MACRO, HttpUtil.encodeUrl(extImp.getAccountId()));
+        return endpointUrl.resolver()
+                .set(URL_HOST_MACRO, extImp.getHost())
+                .set(URL_SOURCE_ID_MACRO, HttpUtil.encodeUrl(extImp.getSourceId()))
+                .set(URL_ACCOUNT_ID_MACRO, HttpUtil.encodeUrl(extImp.getAccountId()))
+                .resolve();
     }
 
     private static MultiMap resolveHeaders(Device device) {
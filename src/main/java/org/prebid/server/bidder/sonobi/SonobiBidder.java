@@ -8,6 +8,7 @@ import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpRequestSplitter;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -47,11 +48,12 @@ public class SonobiBidder implements Bidder<BidRequest> {
         final List<HttpRequest<BidRequest>> requests = new ArrayList<>();
         final List<BidderError> errors = new ArrayList<>();
 
+        final ImpRequestSplitter requestSplitter = BidderUtil.impRequestSplitter(bidRequest, endpointUrl, mapper);
         for (Imp imp : bidRequest.getImp()) {
             try {
                 final ExtImpSonobi extImpSonobi = parseImpExt(imp);
                 final Imp modifiedImp = modifyImp(imp, extImpSonobi.getTagId());
-                requests.add(makeRequest(bidRequest, modifiedImp));
+                requests.add(requestSplitter.request(modifiedImp));
             } catch (PreBidException e) {
                 errors.add(BidderError.badInput(e.getMessage()));
             }
@@ -72,12 +74,6 @@ public class SonobiBidder implements Bidder<BidRequest> {
         return imp.toBuilder().tagid(tagId).build();
     }
 
-    private HttpRequest<BidRequest> makeRequest(BidRequest bidRequest, Imp imp) {
-        final BidRequest modifiedBidRequest = bidRequest.toBuilder().imp(Collections.singletonList(imp)).build();
-
-        return BidderUtil.defaultRequest(modifiedBidRequest, endpointUrl, mapper);
-    }
-
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         final BidResponse bidResponse;
@@ -14,6 +14,7 @@ import com.iab.openrtb.response.SeatBid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.EndpointTemplate;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -51,12 +52,12 @@ public class TaboolaBidder implements Bidder<BidRequest> {
             new TypeReference<>() {
             };
 
-    private final String endpointTemplate;
+    private final EndpointTemplate endpointTemplate;
     private final String gvlId;
     private final JacksonMapper mapper;
 
     public TaboolaBidder(String endpointTemplate, Integer gvlId, JacksonMapper mapper) {
-        this.endpointTemplate = HttpUtil.validateUrl(Objects.requireNonNull(endpointTemplate));
+        this.endpointTemplate = EndpointTemplate.of(HttpUtil.validateUrl(Objects.requireNonNull(endpointTemplate)));
         this.gvlId = gvlId != null ? String.valueOf(gvlId) : "";
         this.mapper = Objects.requireNonNull(mapper);
     }
@@ -219,10 +220,11 @@ public class TaboolaBidder implements Bidder<BidRequest> {
                 .or(() -> Optional.ofNullable(bidRequest.getApp()).map(App::getId))
                 .orElse(StringUtils.EMPTY);
 
-        return endpointTemplate
-                .replace("{{GvlID}}", gvlId)
-                .replace("{{MediaType}}", type)
-                .replace("{{PublisherID}}", HttpUtil.encodeUrl(publisherId));
+        return endpointTemplate.resolver()
+                .set("{{GvlID}}", gvlId)
+                .set("{{MediaType}}", type)
+                .set("{{PublisherID}}", HttpUtil.encodeUrl(publisherId))
+                .resolve();
     }
 
     @Override
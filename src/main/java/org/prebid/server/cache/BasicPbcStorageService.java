@@ -106,7 +106,8 @@ public class BasicPbcStorageService implements PbcStorageService {
     }
 
     private MultiMap securedCallHeaders() {
-        return CacheServiceUtil.CACHE_HEADERS
+        return MultiMap.caseInsensitiveMultiMap()
+                .addAll(CacheServiceUtil.CACHE_HEADERS)
                 .add(HttpUtil.X_PBC_API_KEY_HEADER, apiKey);
     }
 
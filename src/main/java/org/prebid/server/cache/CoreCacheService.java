@@ -30,6 +30,7 @@ import org.prebid.server.execution.Timeout;
 import org.prebid.server.identity.UUIDIdGenerator;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.AuctionStageEvent;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
@@ -226,7 +227,11 @@ public class CoreCacheService {
                 ? getVideoCacheBids(bidsToCache)
                 : Collections.emptyList();
 
-        return doCacheOpenrtb(cacheBids, videoCacheBids, auctionContext, eventsContext);
+        final AuctionStageEvent stageEvent = AuctionStageEvent.begin(AuctionStageEvent.CACHE);
+        return stageEvent.endOnComplete(
+                doCacheOpenrtb(cacheBids, videoCacheBids, auctionContext, eventsContext),
+                auctionContext.getAccount().getId(),
+                null);
     }
 
     private List<CacheBid> getCacheBids(List<BidInfo> bidInfos) {
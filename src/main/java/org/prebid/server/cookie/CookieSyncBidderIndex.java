@@ -0,0 +1,99 @@
+package org.prebid.server.cookie;
+
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.cookie.model.RejectionReason;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Cookie-sync related metadata of registered bidders, indexed once at startup.
+ * <p>
+ * Rejection reason, cookie family name and CCPA enforcement of each registered bidder are resolved up front,
+ * so checks made for every bidder on each cookie-sync request are single map lookups.
+ * Bidders unknown to the index (for example, names in different case) are checked against {@link BidderCatalog}.
+ */
+class CookieSyncBidderIndex {
+
+    private final BidderCatalog bidderCatalog;
+
+    private final Map<String, BidderMetadata> bidders = new HashMap<>();
+
+    CookieSyncBidderIndex(BidderCatalog bidderCatalog) {
+        this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+
+        for (String bidder : bidderCatalog.names()) {
+            final BidderInfo bidderInfo = bidderCatalog.bidderInfoByName(bidder);
+            final Usersyncer usersyncer = bidderCatalog.usersyncerByName(bidder).orElse(null);
+
+            bidders.put(bidder, new BidderMetadata(
+                    resolveRejectionReason(bidderInfo, usersyncer),
+                    usersyncer != null ? usersyncer.getCookieFamilyName() : null,
+                    bidderInfo != null && bidderInfo.isCcpaEnforced()));
+        }
+    }
+
+    private static RejectionReason resolveRejectionReason(BidderInfo bidderInfo, Usersyncer usersyncer) {
+        if (bidderInfo == null || !bidderInfo.isEnabled()) {
+            return RejectionReason.DISABLED_BIDDER;
+        } else if (usersyncer == null) {
+            return RejectionReason.UNCONFIGURED_USERSYNC;
+        } else if (!usersyncer.isEnabled()) {
+            return RejectionReason.DISABLED_USERSYNC;
+        }
+        return null;
+    }
+
+    /**
+     * Returns reason to reject bidder regardless of request, or null if bidder can be synced.
+     * Reasons are checked in order: invalid bidder, disabled bidder, unconfigured and disabled usersync.
+     */
+    RejectionReason rejectionReason(String bidder) {
+        final BidderMetadata metadata = metadata(bidder);
+        return metadata != null ? metadata.rejectionReason() : catalogRejectionReason(bidder);
+    }
+
+    private RejectionReason catalogRejectionReason(String bidder) {
+        if (!bidderCatalog.isValidName(bidder)) {
+            return RejectionReason.INVALID_BIDDER;
+        } else if (!bidderCatalog.isActive(bidder)) {
+            return RejectionReason.DISABLED_BIDDER;
+        }
+
+        final Optional<Usersyncer> usersyncer = bidderCatalog.usersyncerByName(bidder);
+        if (usersyncer.isEmpty()) {
+            return RejectionReason.UNCONFIGURED_USERSYNC;
+        } else if (!usersyncer.get().isEnabled()) {
+            return RejectionReason.DISABLED_USERSYNC;
+        }
+        return null;
+    }
+
+    Optional<String> cookieFamilyName(String bidder) {
+        final BidderMetadata metadata = metadata(bidder);
+        return metadata != null
+                ? Optional.ofNullable(metadata.cookieFamilyName())
+                : bidderCatalog.cookieFamilyName(bidder);
+    }
+
+    boolean isCcpaEnforced(String bidder) {
+        final BidderMetadata metadata = metadata(bidder);
+        if (metadata != null) {
+            return metadata.ccpaEnforced();
+        }
+
+        final BidderInfo bidderInfo = bidderCatalog.bidderInfoByName(bidder);
+        return bidderInfo != null && bidderInfo.isCcpaEnforced();
+    }
+
+    private BidderMetadata metadata(String bidder) {
+        return bidder != null ? bidders.get(bidder) : null;
+    }
+
+    private record BidderMetadata(RejectionReason rejectionReason, String cookieFamilyName, boolean ccpaEnforced) {
+    }
+}
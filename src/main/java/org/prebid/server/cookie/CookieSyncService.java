@@ -13,7 +13,6 @@ import org.prebid.server.activity.infrastructure.payload.impl.ActivityInvocation
 import org.prebid.server.activity.infrastructure.payload.impl.TcfContextActivityInvocationPayload;
 import org.prebid.server.auction.privacy.enforcement.CcpaEnforcement;
 import org.prebid.server.bidder.BidderCatalog;
-import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.bidder.UsersyncInfoBuilder;
 import org.prebid.server.bidder.UsersyncMethod;
 import org.prebid.server.bidder.UsersyncUtil;
@@ -47,6 +46,8 @@ import org.prebid.server.util.ObjectUtil;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -65,6 +66,7 @@ public class CookieSyncService {
     private final int maxLimit;
 
     private final BidderCatalog bidderCatalog;
+    private final CookieSyncBidderIndex bidderIndex;
     private final HostVendorTcfDefinerService tcfDefinerService;
     private final CcpaEnforcement ccpaEnforcement;
     private final UidsCookieService uidsCookieService;
@@ -87,6 +89,7 @@ public class CookieSyncService {
         this.maxLimit = maxLimit;
 
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.bidderIndex = new CookieSyncBidderIndex(bidderCatalog);
         this.tcfDefinerService = Objects.requireNonNull(tcfDefinerService);
         this.ccpaEnforcement = Objects.requireNonNull(ccpaEnforcement);
         this.uidsCookieService = Objects.requireNonNull(uidsCookieService);
@@ -107,10 +110,7 @@ public class CookieSyncService {
                 .map(this::validateCookieSyncContext)
                 .map(this::resolveLimit)
                 .map(this::resolveBiddersToSync)
-                .map(this::filterInvalidBidders)
-                .map(this::filterDisabledBidders)
-                .map(this::filterBiddersWithoutUsersync)
-                .map(this::filterBiddersWithDisabledUsersync)
+                .map(this::filterUnsyncableBidders)
                 .map(this::applyRequestFilterSettings)
                 .compose(this::applyPrivacyFilteringRules)
                 .map(this::filterInSyncBidders);
@@ -174,32 +174,26 @@ public class CookieSyncService {
         return cookieSyncContext.with(updatedContext);
     }
 
-    private CookieSyncContext filterInvalidBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isValidName(bidder),
-                RejectionReason.INVALID_BIDDER);
-    }
+    /**
+     * Rejects invalid and disabled bidders, and bidders with unconfigured or disabled usersync, in a single pass.
+     */
+    private CookieSyncContext filterUnsyncableBidders(CookieSyncContext cookieSyncContext) {
+        final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
+        final Map<RejectionReason, Set<String>> reasonToBidders = new EnumMap<>(RejectionReason.class);
 
-    private CookieSyncContext filterDisabledBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isActive(bidder),
-                RejectionReason.DISABLED_BIDDER);
-    }
+        for (String bidder : biddersContext.allowedBidders()) {
+            final RejectionReason reason = bidderIndex.rejectionReason(bidder);
+            if (reason != null) {
+                reasonToBidders.computeIfAbsent(reason, key -> new HashSet<>()).add(bidder);
+            }
+        }
 
-    private CookieSyncContext filterBiddersWithoutUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> bidderCatalog.usersyncerByName(bidder).isEmpty(),
-                RejectionReason.UNCONFIGURED_USERSYNC);
-    }
+        BiddersContext updatedBiddersContext = biddersContext;
+        for (Map.Entry<RejectionReason, Set<String>> entry : reasonToBidders.entrySet()) {
+            updatedBiddersContext = updatedBiddersContext.withRejectedBidders(entry.getValue(), entry.getKey());
+        }
 
-    private CookieSyncContext filterBiddersWithDisabledUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.usersyncerByName(bidder).orElseThrow().isEnabled(),
-                RejectionReason.DISABLED_USERSYNC);
+        return cookieSyncContext.with(updatedBiddersContext);
     }
 
     /**
@@ -214,7 +208,7 @@ public class CookieSyncService {
 
     private boolean isBidderInSync(CookieSyncContext cookieSyncContext, String bidder) {
         final RoutingContext routingContext = cookieSyncContext.getRoutingContext();
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+        final String cookieFamilyName = bidderIndex.cookieFamilyName(bidder).orElseThrow();
         final String uidFromHostCookie = uidsCookieService.hostCookieUidToSync(routingContext, cookieFamilyName);
 
         return StringUtils.isEmpty(uidFromHostCookie)
@@ -226,32 +220,38 @@ public class CookieSyncService {
                                             RejectionReason reason) {
 
         final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
-        final Set<String> rejectedBidders = biddersContext.allowedBidders().stream()
-                .filter(bidderPredicate)
-                .collect(Collectors.toSet());
+        final Set<String> rejectedBidders = new HashSet<>();
+        for (String bidder : biddersContext.allowedBidders()) {
+            if (bidderPredicate.test(bidder)) {
+                rejectedBidders.add(bidder);
+            }
+        }
 
         final BiddersContext updatedBiddersContext = biddersContext.withRejectedBidders(rejectedBidders, reason);
         return cookieSyncContext.with(updatedBiddersContext);
     }
 
     private CookieSyncContext applyRequestFilterSettings(CookieSyncContext cookieSyncContext) {
-        BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
-        final Set<String> allowedBidders = biddersContext.allowedBidders();
+        final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
+        final Map<String, UsersyncMethod> bidderToUsersyncMethod = new HashMap<>();
+        final Set<String> rejectedBidders = new HashSet<>();
 
-        for (String bidder : allowedBidders) {
+        for (String bidder : biddersContext.allowedBidders()) {
             final UsersyncMethod usersyncMethod = bidderCatalog.usersyncerByName(bidder)
                     .map(syncer -> cookieSyncContext.getUsersyncMethodChooser().choose(syncer, bidder))
                     .orElse(null);
 
             if (usersyncMethod != null) {
-                biddersContext = biddersContext.withBidderUsersyncMethod(bidder, usersyncMethod);
+                bidderToUsersyncMethod.put(bidder, usersyncMethod);
             } else {
-                biddersContext = biddersContext.withRejectedBidder(bidder, RejectionReason.REJECTED_BY_FILTER);
+                rejectedBidders.add(bidder);
                 metrics.updateCookieSyncFilteredMetric(bidder);
             }
         }
 
-        return cookieSyncContext.with(biddersContext);
+        return cookieSyncContext.with(biddersContext
+                .withBidderUsersyncMethods(bidderToUsersyncMethod)
+                .withRejectedBidders(rejectedBidders, RejectionReason.REJECTED_BY_FILTER));
     }
 
     private Future<CookieSyncContext> applyPrivacyFilteringRules(CookieSyncContext cookieSyncContext) {
@@ -316,15 +316,10 @@ public class CookieSyncService {
         }
 
         return biddersToSync.stream()
-                .filter(this::isBidderCcpaEnforced)
+                .filter(bidderIndex::isCcpaEnforced)
                 .collect(Collectors.toSet());
     }
 
-    private boolean isBidderCcpaEnforced(String bidder) {
-        final BidderInfo bidderInfo = bidderCatalog.bidderInfoByName(bidder);
-        return bidderInfo != null && bidderInfo.isCcpaEnforced();
-    }
-
     private CookieSyncContext filterDisallowedActivities(CookieSyncContext cookieSyncContext, TcfContext tcfContext) {
         return filterBidders(
                 cookieSyncContext,
@@ -364,7 +359,7 @@ public class CookieSyncService {
 
         while (cookieFamiliesToSync.size() < cookieSyncContext.getLimit() && biddersIterator.hasNext()) {
             final String bidder = biddersIterator.next();
-            final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+            final String cookieFamilyName = bidderIndex.cookieFamilyName(bidder).orElseThrow();
 
             cookieFamiliesToSync.add(cookieFamilyName);
             biddersToSync.add(bidder);
@@ -385,7 +380,7 @@ public class CookieSyncService {
 
     private List<BidderUsersyncStatus> validStatuses(Set<String> biddersToSync, CookieSyncContext cookieSyncContext) {
         return biddersToSync.stream()
-                .filter(distinctBy(bidder -> bidderCatalog.cookieFamilyName(bidder).orElseThrow()))
+                .filter(distinctBy(bidder -> bidderIndex.cookieFamilyName(bidder).orElseThrow()))
                 .map(bidder -> validStatus(bidder, cookieSyncContext))
                 .toList();
     }
@@ -398,7 +393,7 @@ public class CookieSyncService {
     private BidderUsersyncStatus validStatus(String bidder, CookieSyncContext cookieSyncContext) {
         final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
         final RoutingContext routingContext = cookieSyncContext.getRoutingContext();
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+        final String cookieFamilyName = bidderIndex.cookieFamilyName(bidder).orElseThrow();
 
         final UsersyncMethod usersyncMethod = biddersContext.bidderUsersyncMethod().get(bidder);
         final Privacy privacy = cookieSyncContext.getPrivacyContext().getPrivacy();
@@ -457,7 +452,7 @@ public class CookieSyncService {
     }
 
     private BidderUsersyncStatus rejectionStatus(String bidder, RejectionReason reason, BiddersContext biddersContext) {
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElse(bidder);
+        final String cookieFamilyName = bidderIndex.cookieFamilyName(bidder).orElse(bidder);
         BidderUsersyncStatus.BidderUsersyncStatusBuilder builder = BidderUsersyncStatus.builder()
                 .bidder(cookieFamilyName);
 
@@ -485,7 +480,7 @@ public class CookieSyncService {
 
         return droppedDueToLimitBidders.stream()
                 .map(bidder -> BidderUsersyncStatus.builder()
-                        .bidder(bidderCatalog.cookieFamilyName(bidder).orElseThrow())
+                        .bidder(bidderIndex.cookieFamilyName(bidder).orElseThrow())
                         .error("limit reached")
                         .build())
                 .toList();
@@ -512,7 +507,7 @@ public class CookieSyncService {
     }
 
     private BidderUsersyncStatus warningForAliasSyncedAsRootFamily(String bidder) {
-        final String cookieFamilyName = bidderCatalog.cookieFamilyName(bidder).orElseThrow();
+        final String cookieFamilyName = bidderIndex.cookieFamilyName(bidder).orElseThrow();
         return BidderUsersyncStatus.builder()
                 .bidder(bidder)
                 .error("synced as " + cookieFamilyName)
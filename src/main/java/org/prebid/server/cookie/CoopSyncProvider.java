@@ -8,19 +8,16 @@ import org.prebid.server.settings.model.AccountCookieSyncConfig;
 import org.prebid.server.settings.model.AccountCoopSyncConfig;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class CoopSyncProvider {
 
-    private final Set<String> coopSyncBidders;
+    private final List<String> coopSyncBidders;
     private final PrioritizedCoopSyncProvider prioritizedCoopSyncProvider;
 
     private final boolean defaultCoopSync;
@@ -29,7 +26,7 @@ public class CoopSyncProvider {
                             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
                             boolean defaultCoopSync) {
 
-        this.coopSyncBidders = Objects.requireNonNull(bidderCatalog).usersyncReadyBidders();
+        this.coopSyncBidders = List.copyOf(Objects.requireNonNull(bidderCatalog).usersyncReadyBidders());
         this.prioritizedCoopSyncProvider = Objects.requireNonNull(prioritizedCoopSyncProvider);
 
         this.defaultCoopSync = defaultCoopSync;
@@ -54,11 +51,16 @@ public class CoopSyncProvider {
     }
 
     private Set<String> prepareCoopSyncBidders(Account account) {
+        final Set<String> prioritizedBidders = prioritizedCoopSyncProvider.prioritizedBidders(account);
+
         final List<String> shuffledCoopSyncBidders = new ArrayList<>(coopSyncBidders);
         Collections.shuffle(shuffledCoopSyncBidders);
 
-        return Stream.of(prioritizedCoopSyncProvider.prioritizedBidders(account), shuffledCoopSyncBidders)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toCollection(LinkedHashSet::new)); // to keep prioritized bidders first
+        final Set<String> resolvedBidders = LinkedHashSet.newLinkedHashSet(
+                prioritizedBidders.size() + shuffledCoopSyncBidders.size());
+        resolvedBidders.addAll(prioritizedBidders); // to keep prioritized bidders first
+        resolvedBidders.addAll(shuffledCoopSyncBidders);
+
+        return resolvedBidders;
     }
 }
@@ -5,6 +5,7 @@ import org.prebid.server.cookie.proto.Uids;
 import org.prebid.server.json.JacksonMapper;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -76,6 +77,20 @@ public class UidsCookie {
         return new UidsCookie(uids.toBuilder().uids(uidsMap).build(), mapper);
     }
 
+    /**
+     * Performs deletion of UID values by family names and returns newly constructed {@link UidsCookie}
+     * to avoid mutation of the current {@link UidsCookie} object.
+     */
+    public UidsCookie deleteUids(Collection<String> familyNames) {
+        if (familyNames.isEmpty()) {
+            return this;
+        }
+
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>(uids.getUids());
+        familyNames.forEach(uidsMap::remove);
+        return new UidsCookie(uids.toBuilder().uids(uidsMap).build(), mapper);
+    }
+
     /**
      * Performs updates of UID value by family name and returns newly constructed {@link UidsCookie}
      * to avoid mutation of the current {@link UidsCookie}.
@@ -0,0 +1,283 @@
+package org.prebid.server.cookie;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.JacksonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Encodes and decodes {@link Uids} to and from the 'uids' cookie value.
+ * <p>
+ * Two formats are supported, both are Base64 (URL safe) encoded:
+ * <ul>
+ * <li>JSON - default format</li>
+ * <li>Binary v2 - version byte {@code 0x02}, flags byte (bit 0 - optout is present, bit 1 - optout value),
+ * varint number of UIDs and then for each UID: varint-prefixed family name, varint-prefixed UID
+ * and varint expiration epoch second ({@code 0} if absent). Strings are UTF-8 encoded.</li>
+ * </ul>
+ * Both formats are always accepted for decoding, binary one is used for encoding only if enabled.
+ * <p>
+ * Encoded length can be calculated incrementally with {@link #baseLength(Boolean)}, {@link #entryLength}
+ * and {@link #encodedLength(int, int, int)}, so the cookie can be trimmed without re-encoding it.
+ */
+public class UidsCookieCodec {
+
+    private static final byte BINARY_V2 = 0x02;
+    private static final int OPTOUT_PRESENT_FLAG = 1;
+    private static final int OPTOUT_VALUE_FLAG = 1 << 1;
+    private static final int BINARY_BASE_LENGTH = 2;
+    private static final int MAX_VARINT_LENGTH = 10;
+
+    private final boolean binaryFormatEnabled;
+    private final JacksonMapper mapper;
+    private final Map<String, Uids> decodeCache;
+
+    public UidsCookieCodec(boolean binaryFormatEnabled, int decodeCacheSize, JacksonMapper mapper) {
+        this.binaryFormatEnabled = binaryFormatEnabled;
+        this.mapper = Objects.requireNonNull(mapper);
+        this.decodeCache = decodeCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(decodeCacheSize).<String, Uids>build().asMap()
+                : null;
+    }
+
+    /**
+     * Decodes cookie value in any supported format.
+     * <p>
+     * Returned {@link Uids} may be shared between requests, so its UIDs map is unmodifiable.
+     *
+     * @throws IllegalArgumentException               if value is not Base64 encoded or binary payload is malformed
+     * @throws org.prebid.server.json.DecodeException if JSON payload is malformed
+     */
+    public Uids decode(String cookieValue) {
+        final Uids cachedUids = decodeCache != null ? decodeCache.get(cookieValue) : null;
+        if (cachedUids != null) {
+            return cachedUids;
+        }
+
+        final byte[] payload = Base64.getUrlDecoder().decode(cookieValue);
+        final Uids uids = payload.length > 0 && payload[0] == BINARY_V2
+                ? decodeBinary(payload)
+                : decodeJson(payload);
+
+        if (decodeCache != null && uids != null) {
+            decodeCache.put(cookieValue, uids);
+        }
+        return uids;
+    }
+
+    private Uids decodeJson(byte[] payload) {
+        final Uids uids = mapper.decodeValue(payload, Uids.class);
+        return uids != null && uids.getUids() != null
+                ? uids.toBuilder().uids(Collections.unmodifiableMap(uids.getUids())).build()
+                : uids;
+    }
+
+    private static Uids decodeBinary(byte[] payload) {
+        final BinaryReader reader = new BinaryReader(payload);
+        reader.readByte(); // version
+
+        final int flags = reader.readByte();
+        final Boolean optout = (flags & OPTOUT_PRESENT_FLAG) != 0 ? (flags & OPTOUT_VALUE_FLAG) != 0 : null;
+
+        final int count = reader.readLength();
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            final String family = reader.readString();
+            final String uid = reader.readString();
+            final long expiresEpochSecond = reader.readVarint();
+            final ZonedDateTime expires = expiresEpochSecond != 0
+                    ? ZonedDateTime.ofInstant(Instant.ofEpochSecond(expiresEpochSecond), ZoneOffset.UTC)
+                    : null;
+
+            uidsMap.put(family, new UidWithExpiry(uid, expires));
+        }
+
+        if (reader.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected trailing bytes in binary uids cookie");
+        }
+
+        return Uids.builder().uids(Collections.unmodifiableMap(uidsMap)).optout(optout).build();
+    }
+
+    /**
+     * Encodes {@link Uids} to cookie value in configured format.
+     */
+    public String encode(Uids uids) {
+        final byte[] payload = binaryFormatEnabled
+                ? encodeBinary(uids)
+                : mapper.encodeToBytes(uids);
+
+        return Base64.getUrlEncoder().encodeToString(payload);
+    }
+
+    private static byte[] encodeBinary(Uids uids) {
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids();
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(BINARY_V2);
+        output.write(flags(uids.getOptout()));
+        writeVarint(output, uidsMap.size());
+        for (Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+            final UidWithExpiry uid = entry.getValue();
+            writeString(output, entry.getKey());
+            writeString(output, uid.getUid());
+            writeVarint(output, expiresEpochSecond(uid.getExpires()));
+        }
+
+        return output.toByteArray();
+    }
+
+    private static int flags(Boolean optout) {
+        if (optout == null) {
+            return 0;
+        }
+        return optout ? OPTOUT_PRESENT_FLAG | OPTOUT_VALUE_FLAG : OPTOUT_PRESENT_FLAG;
+    }
+
+    /**
+     * Returns epoch second of expiration date, {@code 0} stands for absent date
+     * and dates before epoch are stored as already expired ones.
+     */
+    private static long expiresEpochSecond(ZonedDateTime expires) {
+        return expires != null ? Math.max(expires.toEpochSecond(), 1L) : 0L;
+    }
+
+    /**
+     * Returns payload length in bytes of {@link Uids} without UIDs.
+     */
+    public int baseLength(Boolean optout) {
+        return binaryFormatEnabled
+                ? BINARY_BASE_LENGTH
+                : mapper.encodeToBytes(Uids.builder().uids(Collections.emptyMap()).optout(optout).build()).length;
+    }
+
+    /**
+     * Returns payload length in bytes of a single UID.
+     */
+    public int entryLength(String family, UidWithExpiry uid) {
+        if (binaryFormatEnabled) {
+            return stringLength(family)
+                    + stringLength(uid.getUid())
+                    + varintLength(expiresEpochSecond(uid.getExpires()));
+        }
+
+        // "family":{...}
+        return mapper.encodeToBytes(family).length + 1 + mapper.encodeToBytes(uid).length;
+    }
+
+    /**
+     * Returns length of Base64 encoded cookie value made of base and entries lengths.
+     */
+    public int encodedLength(int baseLength, int entriesLength, int entriesCount) {
+        final int payloadLength = binaryFormatEnabled
+                ? baseLength + varintLength(entriesCount) + entriesLength
+                : baseLength + entriesLength + Math.max(entriesCount - 1, 0); // commas between entries
+
+        return 4 * ((payloadLength + 2) / 3);
+    }
+
+    /**
+     * Returns length of Base64 encoded cookie value, the same as {@code encode(uids).length()}.
+     */
+    public int encodedLength(Uids uids) {
+        int entriesLength = 0;
+        for (Map.Entry<String, UidWithExpiry> entry : uids.getUids().entrySet()) {
+            entriesLength += entryLength(entry.getKey(), entry.getValue());
+        }
+
+        return encodedLength(baseLength(uids.getOptout()), entriesLength, uids.getUids().size());
+    }
+
+    private static void writeString(ByteArrayOutputStream output, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.writeBytes(bytes);
+    }
+
+    private static int stringLength(String value) {
+        final int bytesLength = value.getBytes(StandardCharsets.UTF_8).length;
+        return varintLength(bytesLength) + bytesLength;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream output, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.write((int) remaining);
+    }
+
+    private static int varintLength(long value) {
+        int length = 1;
+        long remaining = value >>> 7;
+        while (remaining != 0) {
+            length++;
+            remaining >>>= 7;
+        }
+        return length;
+    }
+
+    private static class BinaryReader {
+
+        private final byte[] bytes;
+        private int position;
+
+        BinaryReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Unexpected end of binary uids cookie");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int i = 0; i < MAX_VARINT_LENGTH; i++) {
+                final int current = readByte();
+                value |= (long) (current & 0x7F) << (7 * i);
+                if ((current & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in binary uids cookie");
+        }
+
+        int readLength() {
+            final long length = readVarint();
+            if (length < 0 || length > bytes.length) {
+                throw new IllegalArgumentException("Malformed length in binary uids cookie");
+            }
+            return (int) length;
+        }
+
+        String readString() {
+            final int length = readLength();
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("Unexpected end of binary uids cookie");
+            }
+
+            final String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        boolean hasRemaining() {
+            return position < bytes.length;
+        }
+    }
+}
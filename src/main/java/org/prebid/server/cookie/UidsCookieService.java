@@ -1,6 +1,5 @@
 package org.prebid.server.cookie;
 
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.CookieSameSite;
 import io.vertx.ext.web.RoutingContext;
@@ -17,9 +16,10 @@ import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.util.HttpUtil;
 
 import java.time.Duration;
-import java.util.Base64;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -45,9 +45,12 @@ public class UidsCookieService {
     private final int maxCookieSizeBytes;
 
     private final PrioritizedCoopSyncProvider prioritizedCoopSyncProvider;
+    private final UidsCookieCodec uidsCookieCodec;
     private final Metrics metrics;
     private final JacksonMapper mapper;
 
+    private final int cookieAttributesLength;
+
     public UidsCookieService(String optOutCookieName,
                              String optOutCookieValue,
                              String hostCookieFamily,
@@ -56,6 +59,7 @@ public class UidsCookieService {
                              int ttlDays,
                              int maxCookieSizeBytes,
                              PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
+                             UidsCookieCodec uidsCookieCodec,
                              Metrics metrics,
                              JacksonMapper mapper) {
 
@@ -72,8 +76,11 @@ public class UidsCookieService {
         this.ttlSeconds = Duration.ofDays(ttlDays).getSeconds();
         this.maxCookieSizeBytes = maxCookieSizeBytes;
         this.prioritizedCoopSyncProvider = Objects.requireNonNull(prioritizedCoopSyncProvider);
+        this.uidsCookieCodec = Objects.requireNonNull(uidsCookieCodec);
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
+
+        cookieAttributesLength = makeCookie(StringUtils.EMPTY).encode().getBytes().length;
     }
 
     /**
@@ -129,7 +136,7 @@ public class UidsCookieService {
         if (cookies.containsKey(COOKIE_NAME)) {
             final String cookieValue = cookies.get(COOKIE_NAME);
             try {
-                return mapper.decodeValue(Buffer.buffer(Base64.getUrlDecoder().decode(cookieValue)), Uids.class);
+                return uidsCookieCodec.decode(cookieValue);
             } catch (IllegalArgumentException | DecodeException e) {
                 logger.debug("Could not decode or parse {} cookie value {}", e, COOKIE_NAME, cookieValue);
             }
@@ -142,16 +149,23 @@ public class UidsCookieService {
      * as a value.
      */
     public Cookie toCookie(UidsCookie uidsCookie) {
-        return makeCookie(uidsCookie);
+        return makeCookie(uidsCookieCodec.encode(uidsCookie.getCookieUids()));
     }
 
     private int cookieBytesLength(UidsCookie uidsCookie) {
-        return makeCookie(uidsCookie).encode().getBytes().length;
+        return cookieBytesLength(uidsCookieCodec.encodedLength(uidsCookie.getCookieUids()));
+    }
+
+    /**
+     * Returns cookie length for the given value length, cookie value is Base64 encoded, so it takes 1 byte per char.
+     */
+    private int cookieBytesLength(int valueLength) {
+        return cookieAttributesLength + valueLength;
     }
 
-    private Cookie makeCookie(UidsCookie uidsCookie) {
+    private Cookie makeCookie(String value) {
         return Cookie
-                .cookie(COOKIE_NAME, Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes()))
+                .cookie(COOKIE_NAME, value)
                 .setPath("/")
                 .setSameSite(CookieSameSite.NONE)
                 .setSecure(true)
@@ -274,16 +288,30 @@ public class UidsCookieService {
             return uidsCookie;
         }
 
-        UidsCookie trimmedUids = uidsCookie;
+        final Map<String, UidWithExpiry> uids = uidsCookie.getCookieUids().getUids();
+        final int baseLength = uidsCookieCodec.baseLength(uidsCookie.getCookieUids().getOptout());
+        int entriesLength = 0;
+        for (Map.Entry<String, UidWithExpiry> entry : uids.entrySet()) {
+            entriesLength += uidsCookieCodec.entryLength(entry.getKey(), entry.getValue());
+        }
+        int entriesCount = uids.size();
+
+        final List<String> familiesToRemove = new ArrayList<>();
         final Iterator<String> familyToRemoveIterator = cookieFamilyNamesByAscendingPriority(uidsCookie);
 
-        while (familyToRemoveIterator.hasNext() && cookieExceededMaxLength(trimmedUids)) {
+        while (familyToRemoveIterator.hasNext()
+                && cookieBytesLength(uidsCookieCodec.encodedLength(baseLength, entriesLength, entriesCount))
+                > maxCookieSizeBytes) {
+
             final String familyToRemove = familyToRemoveIterator.next();
             metrics.updateUserSyncSizedOutMetric(familyToRemove);
-            trimmedUids = trimmedUids.deleteUid(familyToRemove);
+
+            familiesToRemove.add(familyToRemove);
+            entriesLength -= uidsCookieCodec.entryLength(familyToRemove, uids.get(familyToRemove));
+            entriesCount--;
         }
 
-        return trimmedUids;
+        return uidsCookie.deleteUids(familiesToRemove);
     }
 
     private Iterator<String> cookieFamilyNamesByAscendingPriority(UidsCookie uidsCookie) {
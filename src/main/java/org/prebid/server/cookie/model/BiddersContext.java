@@ -96,4 +96,19 @@ public class BiddersContext {
 
         return toBuilder().bidderUsersyncMethod(updatedMethods).build();
     }
+
+    public BiddersContext withBidderUsersyncMethods(Map<String, UsersyncMethod> bidderToMethod) {
+        if (bidderToMethod.isEmpty()) {
+            return this;
+        }
+
+        final Map<String, UsersyncMethod> updatedMethods = new HashMap<>(bidderUsersyncMethod);
+        bidderToMethod.forEach((bidder, method) -> {
+            if (!rejectedBidders.containsKey(bidder)) {
+                updatedMethods.put(bidder, method);
+            }
+        });
+
+        return toBuilder().bidderUsersyncMethod(updatedMethods).build();
+    }
 }
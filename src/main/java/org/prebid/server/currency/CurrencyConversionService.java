@@ -1,5 +1,6 @@
 package org.prebid.server.currency;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -26,9 +27,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -41,13 +39,24 @@ public class CurrencyConversionService implements Initializable {
 
     private static final String DEFAULT_BID_CURRENCY = "USD";
     // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
-    private static final int DEFAULT_PRICE_PRECISION = 3;
+    static final int DEFAULT_PRICE_PRECISION = 3;
+
+    private static final int MAX_REQUEST_RATES_MATRICES = 1000;
 
     private final String currencyServerUrl;
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
+    // keyed by request rates instance, which is the same for all conversions within the auction
+    private final Map<Map<String, Map<String, BigDecimal>>, CurrencyRatesMatrix> requestRatesMatrices =
+            Caffeine.newBuilder()
+                    .weakKeys()
+                    .maximumSize(MAX_REQUEST_RATES_MATRICES)
+                    .<Map<String, Map<String, BigDecimal>>, CurrencyRatesMatrix>build()
+                    .asMap();
+
     private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private CurrencyRatesMatrix externalRatesMatrix;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -120,12 +129,17 @@ public class CurrencyConversionService implements Initializable {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
             externalCurrencyRates = receivedCurrencyRates;
+            externalRatesMatrix = resolveAll(CurrencyRatesMatrix.of(receivedCurrencyRates));
             lastUpdated = now();
         }
 
         return null;
     }
 
+    private static CurrencyRatesMatrix resolveAll(CurrencyRatesMatrix currencyRatesMatrix) {
+        return currencyRatesMatrix != null ? currencyRatesMatrix.resolveAll() : null;
+    }
+
     /**
      * Handles errors occurred while HTTP request or response processing.
      */
@@ -134,6 +148,7 @@ public class CurrencyConversionService implements Initializable {
 
         if (externalRatesAreStale()) {
             externalCurrencyRates = null;
+            externalRatesMatrix = null;
         }
 
         return null;
@@ -199,15 +214,16 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
+        final CurrencyRatesMatrix requestRatesMatrix = requestRatesMatrix(requestCurrencyRates);
+        final CurrencyRatesMatrix firstPriorityRates;
+        final CurrencyRatesMatrix secondPriorityRates;
 
         if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
+            firstPriorityRates = requestRatesMatrix;
+            secondPriorityRates = externalRatesMatrix;
         } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
+            firstPriorityRates = externalRatesMatrix;
+            secondPriorityRates = requestRatesMatrix;
         }
 
         final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
@@ -243,8 +259,8 @@ public class CurrencyConversionService implements Initializable {
     /**
      * Returns conversion rate from the given currency rates according to priority.
      */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
+    private static BigDecimal getConversionRateByPriority(CurrencyRatesMatrix firstPriorityRates,
+                                                          CurrencyRatesMatrix secondPriorityRates,
                                                           String fromCurrency,
                                                           String toCurrency) {
 
@@ -253,106 +269,20 @@ public class CurrencyConversionService implements Initializable {
                 getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
     }
 
-    /**
-     * Looking for rates for a currency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+    private static BigDecimal getConversionRate(CurrencyRatesMatrix currencyRatesMatrix,
                                                 String fromCurrency,
                                                 String toCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
 
-        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
-        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
-                reverseCurrencyRates);
-        if (intermediateConversionRate != null) {
-            return intermediateConversionRate;
-        }
-
-        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+        return currencyRatesMatrix != null ? currencyRatesMatrix.rate(fromCurrency, toCurrency) : null;
     }
 
     /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     * Returns compiled request currency rates, the same rates instance is compiled only once.
      */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
-                                                        String currency) {
-        final BigDecimal reverseConversionRate = currencyRates != null
-                ? currencyRates.get(currency)
+    private CurrencyRatesMatrix requestRatesMatrix(Map<String, Map<String, BigDecimal>> requestCurrencyRates) {
+        return MapUtils.isNotEmpty(requestCurrencyRates)
+                ? requestRatesMatrices.computeIfAbsent(requestCurrencyRates, CurrencyRatesMatrix::of)
                 : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate,
-                getRatePrecision(reverseConversionRate),
-                RoundingMode.HALF_EVEN)
-                : null;
-    }
-
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
-                                                             Map<String, BigDecimal> reverseCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
-            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.getFirst();
-                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
-                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
-                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
-                        // chose largest precision among intermediate rates
-                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
-    }
-
-    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                      String fromCurrency,
-                                                      String toCurrency) {
-        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
-            final BigDecimal fromRate = rates.get(fromCurrency);
-            final BigDecimal toRate = rates.get(toCurrency);
-            if (fromRate != null && toRate != null) {
-                return toRate.divide(fromRate,
-                        getRatePrecision(fromRate, toRate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-
-        return null;
-    }
-
-    private static int getRatePrecision(BigDecimal... rates) {
-        final int precision = Arrays.stream(rates)
-                .map(BigDecimal::precision)
-                .max(Integer::compareTo)
-                .orElse(DEFAULT_PRICE_PRECISION);
-
-        return Math.max(precision, DEFAULT_PRICE_PRECISION);
     }
 
     private boolean isRatesStale() {
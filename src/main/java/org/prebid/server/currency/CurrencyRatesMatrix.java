@@ -0,0 +1,184 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Currency rates compiled into a dense matrix indexed by currency.
+ * <p>
+ * Rate for each currency pair is resolved once, using straight, reverse, intermediate and cross rates,
+ * and then is taken from the matrix. Pairs are resolved on first use, or all at once by {@link #resolveAll()}.
+ * Concurrent resolution of the same pair is harmless as it always gives the same result.
+ */
+class CurrencyRatesMatrix {
+
+    private static final BigDecimal NO_RATE = new BigDecimal(-1);
+
+    private final Map<String, Map<String, BigDecimal>> currencyRates;
+    private final Map<String, Integer> currencyIndexes;
+    private final List<String> currencies;
+    private final BigDecimal[] rates;
+
+    private CurrencyRatesMatrix(Map<String, Map<String, BigDecimal>> currencyRates) {
+        this.currencyRates = currencyRates;
+
+        currencyIndexes = new HashMap<>();
+        currencies = new ArrayList<>();
+        for (Map.Entry<String, Map<String, BigDecimal>> entry : currencyRates.entrySet()) {
+            addCurrency(entry.getKey());
+            if (entry.getValue() != null) {
+                entry.getValue().keySet().forEach(this::addCurrency);
+            }
+        }
+
+        rates = new BigDecimal[currencies.size() * currencies.size()];
+    }
+
+    static CurrencyRatesMatrix of(Map<String, Map<String, BigDecimal>> currencyRates) {
+        return MapUtils.isNotEmpty(currencyRates) ? new CurrencyRatesMatrix(currencyRates) : null;
+    }
+
+    private void addCurrency(String currency) {
+        if (currency != null && !currencyIndexes.containsKey(currency)) {
+            currencyIndexes.put(currency, currencies.size());
+            currencies.add(currency);
+        }
+    }
+
+    /**
+     * Resolves rates for all currency pairs.
+     */
+    CurrencyRatesMatrix resolveAll() {
+        final int size = currencies.size();
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                rate(from, to);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns rate for the given currency pair or null if it cannot be resolved.
+     */
+    BigDecimal rate(String fromCurrency, String toCurrency) {
+        final Integer fromIndex = currencyIndexes.get(fromCurrency);
+        final Integer toIndex = fromIndex != null ? currencyIndexes.get(toCurrency) : null;
+
+        return toIndex != null ? rate(fromIndex, toIndex) : null;
+    }
+
+    private BigDecimal rate(int fromIndex, int toIndex) {
+        final int cell = fromIndex * currencies.size() + toIndex;
+
+        BigDecimal rate = rates[cell];
+        if (rate == null) {
+            final BigDecimal resolvedRate = resolveRate(currencies.get(fromIndex), currencies.get(toIndex));
+            rate = resolvedRate != null ? resolvedRate : NO_RATE;
+            rates[cell] = rate;
+        }
+
+        return rate != NO_RATE ? rate : null;
+    }
+
+    /**
+     * Looking for rates for a currency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     */
+    private BigDecimal resolveRate(String fromCurrency, String toCurrency) {
+        BigDecimal conversionRate;
+        final Map<String, BigDecimal> directCurrencyRates = currencyRates.get(fromCurrency);
+
+        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final Map<String, BigDecimal> reverseCurrencyRates = currencyRates.get(toCurrency);
+        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
+                reverseCurrencyRates);
+        if (intermediateConversionRate != null) {
+            return intermediateConversionRate;
+        }
+
+        return findCrossConversionRate(fromCurrency, toCurrency);
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
+                                                        String currency) {
+        final BigDecimal reverseConversionRate = currencyRates != null
+                ? currencyRates.get(currency)
+                : null;
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate,
+                getRatePrecision(reverseConversionRate),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
+                                                             Map<String, BigDecimal> reverseCurrencyRates) {
+        BigDecimal conversionRate = null;
+        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
+            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
+            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
+
+            if (!sharedCurrencies.isEmpty()) {
+                // pick any found shared currency
+                final String sharedCurrency = sharedCurrencies.getFirst();
+                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
+                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
+                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
+                        // chose largest precision among intermediate rates
+                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+        return conversionRate;
+    }
+
+    private BigDecimal findCrossConversionRate(String fromCurrency, String toCurrency) {
+        for (Map<String, BigDecimal> rates : currencyRates.values()) {
+            final BigDecimal fromRate = rates.get(fromCurrency);
+            final BigDecimal toRate = rates.get(toCurrency);
+            if (fromRate != null && toRate != null) {
+                return toRate.divide(fromRate,
+                        getRatePrecision(fromRate, toRate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+
+        return null;
+    }
+
+    private static int getRatePrecision(BigDecimal... rates) {
+        final int precision = Arrays.stream(rates)
+                .map(BigDecimal::precision)
+                .max(Integer::compareTo)
+                .orElse(CurrencyConversionService.DEFAULT_PRICE_PRECISION);
+
+        return Math.max(precision, CurrencyConversionService.DEFAULT_PRICE_PRECISION);
+    }
+}
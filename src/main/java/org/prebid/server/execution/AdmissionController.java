@@ -0,0 +1,102 @@
+package org.prebid.server.execution;
+
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.system.CpuLoadAverageStats;
+import org.prebid.server.vertx.EventLoopLagMonitor;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides whether incoming request could be processed by the server or should be shed because of overload.
+ * <p>
+ * Server is considered overloaded when any of configured limits is exceeded: CPU load, event loop lag
+ * or the number of requests being processed at the moment. Non-positive limit disables corresponding check.
+ * <p>
+ * Requests of priority accounts form a separate tier: they are not shed because of CPU load or event loop lag
+ * and may take in-flight slots reserved for them, so they are rejected only when all in-flight slots are taken.
+ * <p>
+ * The decision is binary: admitted requests are processed in full, degraded processing of them (e.g. reduced
+ * bidder fan-out or skipped optional hooks) is out of scope.
+ * <p>
+ * Each successful {@link #tryAdmit(String)} must be followed by {@link #release()} when request processing
+ * is finished.
+ */
+public class AdmissionController {
+
+    private final int maxInflightRequests;
+    private final int maxRegularInflightRequests;
+    private final double maxCpuLoad;
+    private final long maxEventLoopLagMillis;
+    private final Set<String> priorityAccounts;
+    private final CpuLoadAverageStats cpuLoadAverageStats;
+    private final EventLoopLagMonitor eventLoopLagMonitor;
+    private final Metrics metrics;
+
+    private final AtomicInteger inflightRequests = new AtomicInteger();
+
+    public AdmissionController(int maxInflightRequests,
+                               double maxCpuLoad,
+                               long maxEventLoopLagMillis,
+                               Set<String> priorityAccounts,
+                               int priorityReservedInflightRequests,
+                               CpuLoadAverageStats cpuLoadAverageStats,
+                               EventLoopLagMonitor eventLoopLagMonitor,
+                               Metrics metrics) {
+
+        if (maxCpuLoad > 0 && cpuLoadAverageStats == null) {
+            throw new IllegalArgumentException("CPU load limit requires CPU load monitoring to be enabled");
+        }
+        if (priorityReservedInflightRequests < 0
+                || (maxInflightRequests > 0 && priorityReservedInflightRequests >= maxInflightRequests)) {
+            throw new IllegalArgumentException("Reserved in-flight requests must be less than in-flight limit");
+        }
+
+        this.maxInflightRequests = maxInflightRequests;
+        this.maxRegularInflightRequests = maxInflightRequests - priorityReservedInflightRequests;
+        this.maxCpuLoad = maxCpuLoad;
+        this.maxEventLoopLagMillis = maxEventLoopLagMillis;
+        this.priorityAccounts = Objects.requireNonNull(priorityAccounts);
+        this.cpuLoadAverageStats = cpuLoadAverageStats;
+        this.eventLoopLagMonitor = Objects.requireNonNull(eventLoopLagMonitor);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        metrics.createAdmissionControlInflightRequestsGauge(inflightRequests::get);
+        metrics.createAdmissionControlEventLoopLagGauge(eventLoopLagMonitor::getMaxLagMillis);
+    }
+
+    /**
+     * Returns true if request of the given account is admitted for processing, false if it should be rejected.
+     * Account may be null if it is not known before the request is parsed.
+     */
+    public boolean tryAdmit(String accountId) {
+        final boolean priority = accountId != null && priorityAccounts.contains(accountId);
+
+        if (!priority && maxCpuLoad > 0 && cpuLoadAverageStats.getCpuLoadAverage() > maxCpuLoad) {
+            return reject(MetricName.cpu_load);
+        }
+
+        if (!priority && maxEventLoopLagMillis > 0 && eventLoopLagMonitor.getMaxLagMillis() > maxEventLoopLagMillis) {
+            return reject(MetricName.event_loop_lag);
+        }
+
+        final int inflightLimit = priority ? maxInflightRequests : maxRegularInflightRequests;
+        if (inflightRequests.incrementAndGet() > inflightLimit && maxInflightRequests > 0) {
+            inflightRequests.decrementAndGet();
+            return reject(MetricName.inflight_requests);
+        }
+
+        return true;
+    }
+
+    public void release() {
+        inflightRequests.decrementAndGet();
+    }
+
+    private boolean reject(MetricName reason) {
+        metrics.updateAdmissionControlRejectedMetric(reason);
+        return false;
+    }
+}
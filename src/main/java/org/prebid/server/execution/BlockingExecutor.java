@@ -0,0 +1,22 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Future;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs blocking actions off the event loop.
+ * <p>
+ * Resulting {@link Future} is completed on the Vert.x context of the caller, if any,
+ * so its handlers run on the same event loop as the code that submitted the action.
+ */
+public interface BlockingExecutor extends AutoCloseable {
+
+    <T> Future<T> execute(Callable<T> action);
+
+    /**
+     * Stops accepting new actions, already submitted ones are still run.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Vertx;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates named {@link BlockingExecutor}s.
+ * <p>
+ * Services and modules ask for an executor by name and its concurrency limit, while the way it is backed,
+ * by the Vert.x worker pool or by virtual threads, is chosen by the host configuration.
+ * Executors with the same name are shared, so they should be asked for with the same concurrency limit.
+ * All created executors are closed together with the factory on shutdown.
+ */
+public class BlockingExecutorFactory implements AutoCloseable {
+
+    private final Vertx vertx;
+    private final boolean virtualThreadsEnabled;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, NamedExecutor> executors = new ConcurrentHashMap<>();
+
+    public BlockingExecutorFactory(Vertx vertx, boolean virtualThreadsEnabled, Metrics metrics, Clock clock) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * @throws IllegalArgumentException if executor with the given name was created with another concurrency limit
+     */
+    public BlockingExecutor executor(String name, int maxConcurrency) {
+        final NamedExecutor namedExecutor = executors.computeIfAbsent(
+                name, key -> new NamedExecutor(createExecutor(key, maxConcurrency), maxConcurrency));
+
+        if (namedExecutor.maxConcurrency() != maxConcurrency) {
+            throw new IllegalArgumentException("Executor %s is already created with max concurrency %d, but %d is given"
+                    .formatted(name, namedExecutor.maxConcurrency(), maxConcurrency));
+        }
+
+        return namedExecutor.executor();
+    }
+
+    private BlockingExecutor createExecutor(String name, int maxConcurrency) {
+        return virtualThreadsEnabled
+                ? new VirtualThreadBlockingExecutor(name, maxConcurrency, metrics, clock)
+                : new WorkerPoolBlockingExecutor(
+                name, vertx.createSharedWorkerExecutor(name, maxConcurrency), metrics, clock);
+    }
+
+    @Override
+    public void close() {
+        executors.values().forEach(namedExecutor -> namedExecutor.executor().close());
+        executors.clear();
+    }
+
+    private record NamedExecutor(BlockingExecutor executor, int maxConcurrency) {
+    }
+}
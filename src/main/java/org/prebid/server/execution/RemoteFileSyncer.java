@@ -40,6 +40,7 @@ public class RemoteFileSyncer {
     private final long updatePeriod;
     private final HttpClient httpClient;
     private final Vertx vertx;
+    private final BlockingExecutor blockingExecutor;
     private final FileSystem fileSystem;
     private final RequestOptions getFileRequestOptions;
     private final RequestOptions isUpdateRequiredRequestOptions;
@@ -52,7 +53,8 @@ public class RemoteFileSyncer {
                             long timeout,
                             long updatePeriod,
                             HttpClient httpClient,
-                            Vertx vertx) {
+                            Vertx vertx,
+                            BlockingExecutor blockingExecutor) {
 
         this.processor = Objects.requireNonNull(processor);
         this.downloadUrl = HttpUtil.validateUrl(downloadUrl);
@@ -62,6 +64,7 @@ public class RemoteFileSyncer {
         this.updatePeriod = updatePeriod;
         this.httpClient = Objects.requireNonNull(httpClient);
         this.vertx = Objects.requireNonNull(vertx);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
         this.fileSystem = vertx.fileSystem();
 
         createAndCheckWritePermissionsFor(fileSystem, saveFilePath);
@@ -100,8 +103,12 @@ public class RemoteFileSyncer {
                 .onComplete(ignored -> setUpDeferredUpdate());
     }
 
+    /**
+     * Processing of the file, e.g. unpacking of archive, is blocking, so it is run off the event loop.
+     */
     private Future<Void> processSavedFile() {
-        return processor.setDataPath(saveFilePath)
+        return blockingExecutor.execute(() -> processor.setDataPath(saveFilePath))
+                .compose(Future::mapEmpty)
                 .onFailure(error -> logger.error("Can't process saved file: " + saveFilePath))
                 .recover(ignored -> deleteFile(saveFilePath).mapEmpty())
                 .mapEmpty();
@@ -0,0 +1,103 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BlockingExecutor} running each action on its own virtual thread.
+ * <p>
+ * Number of actions running at the same time is limited by the given concurrency,
+ * so downstream resources are protected the same way as with the worker pool. Actions over the limit
+ * wait on their virtual threads, which is cheap, and are reported as queued.
+ */
+public class VirtualThreadBlockingExecutor implements BlockingExecutor, AutoCloseable {
+
+    private final String name;
+    private final Semaphore permits;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final ExecutorService executorService;
+
+    private final AtomicLong queuedTasks = new AtomicLong();
+
+    public VirtualThreadBlockingExecutor(String name, int maxConcurrency, Metrics metrics, Clock clock) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency should be greater than 0");
+        }
+
+        this.name = Objects.requireNonNull(name);
+        this.permits = new Semaphore(maxConcurrency);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.executorService = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("prebid-virtual-" + name + "-", 0).factory());
+
+        metrics.createBlockingExecutorQueuedTasksGauge(name, queuedTasks::get);
+    }
+
+    @Override
+    public <T> Future<T> execute(Callable<T> action) {
+        final Context context = Vertx.currentContext();
+        final Promise<T> promise = Promise.promise();
+        final long submittedAt = clock.millis();
+
+        queuedTasks.incrementAndGet();
+        try {
+            executorService.execute(() -> run(action, submittedAt, context, promise));
+        } catch (RejectedExecutionException e) {
+            queuedTasks.decrementAndGet();
+            return Future.failedFuture(e);
+        }
+
+        return promise.future();
+    }
+
+    private <T> void run(Callable<T> action, long submittedAt, Context context, Promise<T> promise) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            queuedTasks.decrementAndGet();
+            Thread.currentThread().interrupt();
+            complete(context, () -> promise.fail(e));
+            return;
+        }
+
+        queuedTasks.decrementAndGet();
+        final long startedAt = clock.millis();
+        metrics.updateBlockingExecutorWaitTime(name, startedAt - submittedAt);
+        try {
+            final T result = action.call();
+            complete(context, () -> promise.complete(result));
+        } catch (Throwable e) {
+            complete(context, () -> promise.fail(e));
+        } finally {
+            permits.release();
+            metrics.updateBlockingExecutorExecutionTime(name, clock.millis() - startedAt);
+        }
+    }
+
+    private static void complete(Context context, Runnable completion) {
+        if (context != null) {
+            context.runOnContext(ignored -> completion.run());
+        } else {
+            completion.run();
+        }
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,54 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BlockingExecutor} backed by the Vert.x worker pool.
+ */
+public class WorkerPoolBlockingExecutor implements BlockingExecutor {
+
+    private final String name;
+    private final WorkerExecutor workerExecutor;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final AtomicLong queuedTasks = new AtomicLong();
+
+    public WorkerPoolBlockingExecutor(String name, WorkerExecutor workerExecutor, Metrics metrics, Clock clock) {
+        this.name = Objects.requireNonNull(name);
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        metrics.createBlockingExecutorQueuedTasksGauge(name, queuedTasks::get);
+    }
+
+    @Override
+    public <T> Future<T> execute(Callable<T> action) {
+        final long submittedAt = clock.millis();
+        queuedTasks.incrementAndGet();
+
+        return workerExecutor.executeBlocking(() -> {
+            queuedTasks.decrementAndGet();
+            final long startedAt = clock.millis();
+            metrics.updateBlockingExecutorWaitTime(name, startedAt - submittedAt);
+            try {
+                return action.call();
+            } finally {
+                metrics.updateBlockingExecutorExecutionTime(name, clock.millis() - startedAt);
+            }
+        }, false);
+    }
+
+    @Override
+    public void close() {
+        workerExecutor.close();
+    }
+}
@@ -1,59 +1,93 @@
 package org.prebid.server.geolocation;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maxmind.db.ClosedDatabaseException;
+import com.maxmind.db.InvalidDatabaseException;
 import com.maxmind.db.Reader;
-import com.maxmind.geoip2.DatabaseReader;
-import com.maxmind.geoip2.exception.GeoIp2Exception;
-import com.maxmind.geoip2.model.CityResponse;
-import com.maxmind.geoip2.record.City;
-import com.maxmind.geoip2.record.Continent;
-import com.maxmind.geoip2.record.Country;
-import com.maxmind.geoip2.record.Location;
-import com.maxmind.geoip2.record.Subdivision;
 import io.vertx.core.Future;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.execution.RemoteFileProcessor;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.InetAddress;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Implementation of the {@link GeoLocationService}
  * backed by <a href="https://dev.maxmind.com/geoip/geoip2/geolite2/">MaxMind free database</a>
+ * <p>
+ * Database file is extracted from the downloaded archive next to it and opened in memory-mapped mode,
+ * so it is kept off-heap and is shared with the OS page cache. Extracted file which can not be opened is deleted,
+ * so it is extracted again instead of being reused after restart. Lookup results are kept in a bounded cache,
+ * which is cleared whenever the database is reloaded.
  */
 public class MaxMindGeoLocationService implements GeoLocationService, RemoteFileProcessor {
 
+    private static final Logger logger = LoggerFactory.getLogger(MaxMindGeoLocationService.class);
+
     private static final String VENDOR = "maxmind";
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
+    private static final String CITY_NAME_LOCALE = "en";
 
-    private DatabaseReader databaseReader;
+    private final Map<String, GeoInfo> lookupCache;
+    private final Metrics metrics;
+    private final Clock clock;
 
-    public Future<?> setDataPath(String dataFilePath) {
-        try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
-                new FileInputStream(dataFilePath)))) {
+    private volatile Reader databaseReader;
+    private volatile long databaseSize;
 
-            TarArchiveEntry currentEntry;
-            boolean hasDatabaseFile = false;
-            while ((currentEntry = tarInput.getNextTarEntry()) != null) {
-                if (currentEntry.getName().contains(DATABASE_FILE_NAME)) {
-                    hasDatabaseFile = true;
-                    break;
-                }
-            }
-            if (!hasDatabaseFile) {
+    public MaxMindGeoLocationService(int lookupCacheSize, Metrics metrics, Clock clock) {
+        this.lookupCache = lookupCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(lookupCacheSize).<String, GeoInfo>build().asMap()
+                : null;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        metrics.createGeoLocationDatabaseSizeGauge(() -> databaseSize);
+        if (lookupCache != null) {
+            metrics.createGeoLocationCacheSizeGauge(() -> lookupCache.size());
+        }
+    }
+
+    public Future<?> setDataPath(String dataFilePath) {
+        final long startTime = clock.millis();
+        try {
+            final Path databasePath = Paths.get(dataFilePath).resolveSibling(DATABASE_FILE_NAME);
+            final Reader reader = openDatabase(dataFilePath, databasePath);
+            if (reader == null) {
                 return Future.failedFuture("Database file %s not found in %s archive"
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            final Reader previousReader = databaseReader;
+            databaseReader = reader;
+            databaseSize = databasePath.toFile().length();
+            if (lookupCache != null) {
+                lookupCache.clear();
+            }
+            // lookups still holding previous reader are retried with the new one, see lookup(Reader, InetAddress)
+            closeReader(previousReader);
+
+            metrics.updateGeoLocationDatabaseLoadTimeMetric(clock.millis() - startTime);
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -61,62 +95,158 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
         }
     }
 
+    /**
+     * Opens database file extracted from the given archive, extracting it first if it was not extracted yet
+     * or the extracted file can not be opened. Returns null if archive has no database file.
+     */
+    private static Reader openDatabase(String dataFilePath, Path databasePath) throws IOException {
+        if (isExtracted(databasePath, dataFilePath)) {
+            try {
+                return openDatabaseFile(databasePath);
+            } catch (IOException e) {
+                logger.warn("Extracted database file %s can not be opened, extracting it again: %s"
+                        .formatted(databasePath, e.getMessage()));
+            }
+        }
+
+        return extractDatabase(dataFilePath, databasePath) ? openDatabaseFile(databasePath) : null;
+    }
+
+    /**
+     * Opens database file in memory-mapped mode, deletes the file if it is not a valid database.
+     */
+    private static Reader openDatabaseFile(Path databasePath) throws IOException {
+        try {
+            return new Reader(databasePath.toFile(), Reader.FileMode.MEMORY_MAPPED);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(databasePath);
+            throw e instanceof IOException ioException
+                    ? ioException
+                    : new InvalidDatabaseException("Invalid database metadata", e);
+        }
+    }
+
+    private static void closeReader(Reader reader) {
+        if (reader == null) {
+            return;
+        }
+
+        try {
+            reader.close();
+        } catch (IOException e) {
+            logger.warn("Error occurred while closing previous database reader: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether database file was already extracted from the given archive, e.g. before restart.
+     */
+    private static boolean isExtracted(Path databasePath, String dataFilePath) {
+        final File databaseFile = databasePath.toFile();
+        return databaseFile.isFile() && databaseFile.lastModified() >= new File(dataFilePath).lastModified();
+    }
+
+    /**
+     * Extracts database file to the given path replacing existing one atomically.
+     */
+    private static boolean extractDatabase(String dataFilePath, Path databasePath) throws IOException {
+        try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
+                new FileInputStream(dataFilePath)))) {
+
+            TarArchiveEntry currentEntry;
+            while ((currentEntry = tarInput.getNextTarEntry()) != null) {
+                if (currentEntry.getName().contains(DATABASE_FILE_NAME)) {
+                    final Path tmpPath = databasePath.resolveSibling(DATABASE_FILE_NAME + ".tmp");
+                    Files.copy(tarInput, tmpPath, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(tmpPath, databasePath,
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final Reader reader = databaseReader;
+        if (reader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
+        final GeoInfo cachedGeoInfo = lookupCache != null ? lookupCache.get(ip) : null;
+        if (cachedGeoInfo != null) {
+            return Future.succeededFuture(cachedGeoInfo);
+        }
+
+        final long startTime = System.nanoTime();
         try {
-            final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
-            final Location location = cityResponse != null ? cityResponse.getLocation() : null;
-
-            return Future.succeededFuture(GeoInfo.builder()
-                    .vendor(VENDOR)
-                    .continent(resolveContinent(cityResponse))
-                    .country(resolveCountry(cityResponse))
-                    .region(resolveRegion(cityResponse))
-                    // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
-                    .city(resolveCity(cityResponse))
-                    .lat(resolveLatitude(location))
-                    .lon(resolveLongitude(location))
-                    .build());
-        } catch (IOException | GeoIp2Exception e) {
+            final GeoInfo geoInfo = lookup(reader, InetAddress.getByName(ip));
+            if (lookupCache != null) {
+                lookupCache.put(ip, geoInfo);
+            }
+            return Future.succeededFuture(geoInfo);
+        } catch (IOException e) {
             return Future.failedFuture(e);
+        } finally {
+            metrics.updateGeoLocationRequestTimeMetric(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
         }
     }
 
-    private static String resolveContinent(CityResponse cityResponse) {
-        final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
-        final String code = continent != null ? continent.getCode() : null;
-        return StringUtils.lowerCase(code);
+    /**
+     * Looks up the given address, retrying with the current reader if the given one was closed by reload.
+     */
+    private GeoInfo lookup(Reader reader, InetAddress address) throws IOException {
+        try {
+            return toGeoInfo(reader.get(address));
+        } catch (ClosedDatabaseException e) {
+            final Reader currentReader = databaseReader;
+            if (currentReader == reader) {
+                throw e;
+            }
+            return toGeoInfo(currentReader.get(address));
+        }
     }
 
-    private static String resolveCountry(CityResponse cityResponse) {
-        final Country country = cityResponse != null ? cityResponse.getCountry() : null;
-        final String isoCode = country != null ? country.getIsoCode() : null;
-        return StringUtils.lowerCase(isoCode);
+    /**
+     * Reads only needed fields from the raw database record.
+     */
+    private static GeoInfo toGeoInfo(JsonNode record) {
+        return GeoInfo.builder()
+                .vendor(VENDOR)
+                .continent(StringUtils.lowerCase(textValue(record, "continent", "code")))
+                .country(StringUtils.lowerCase(textValue(record, "country", "iso_code")))
+                .region(textValue(firstSubdivision(record), "iso_code"))
+                // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
+                .city(textValue(record, "city", "names", CITY_NAME_LOCALE))
+                .lat(floatValue(record, "location", "latitude"))
+                .lon(floatValue(record, "location", "longitude"))
+                .build();
     }
 
-    private static String resolveRegion(CityResponse cityResponse) {
-        final List<Subdivision> subdivisions = cityResponse != null ? cityResponse.getSubdivisions() : null;
-        final Subdivision firstSubdivision = CollectionUtils.isEmpty(subdivisions) ? null : subdivisions.getFirst();
-        return firstSubdivision != null ? firstSubdivision.getIsoCode() : null;
+    private static JsonNode firstSubdivision(JsonNode record) {
+        final JsonNode subdivisions = record != null ? record.get("subdivisions") : null;
+        return subdivisions != null && subdivisions.isArray() ? subdivisions.get(0) : null;
     }
 
-    private static String resolveCity(CityResponse cityResponse) {
-        final City city = cityResponse != null ? cityResponse.getCity() : null;
-        return city != null ? city.getName() : null;
+    private static String textValue(JsonNode node, String... path) {
+        final JsonNode value = path(node, path);
+        return value != null && value.isTextual() ? value.textValue() : null;
     }
 
-    private static Float resolveLatitude(Location location) {
-        final Double latitude = location != null ? location.getLatitude() : null;
-        return latitude != null ? latitude.floatValue() : null;
+    private static Float floatValue(JsonNode node, String... path) {
+        final JsonNode value = path(node, path);
+        return value != null && value.isNumber() ? value.floatValue() : null;
     }
 
-    private static Float resolveLongitude(Location location) {
-        final Double longitude = location != null ? location.getLongitude() : null;
-        return longitude != null ? longitude.floatValue() : null;
+    private static JsonNode path(JsonNode node, String... path) {
+        JsonNode current = node;
+        for (String field : path) {
+            if (current == null) {
+                return null;
+            }
+            current = current.get(field);
+        }
+        return current;
     }
 }
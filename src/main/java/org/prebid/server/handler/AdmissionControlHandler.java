@@ -0,0 +1,58 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.execution.AdmissionController;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.verticles.server.HttpEndpoint;
+import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Guards the given {@link ApplicationResource} with {@link AdmissionController}:
+ * requests not admitted because of server overload are immediately answered with the configured status
+ * without being parsed or processed.
+ * <p>
+ * Account is resolved from parts of the request available before parsing, e.g. query parameters or publisher
+ * in the received body, so priority accounts could be admitted while other requests are shed.
+ */
+public class AdmissionControlHandler implements ApplicationResource {
+
+    private final ApplicationResource resource;
+    private final AdmissionController admissionController;
+    private final HttpResponseStatus rejectedStatus;
+    private final Function<RoutingContext, String> accountIdResolver;
+
+    public AdmissionControlHandler(ApplicationResource resource,
+                                   AdmissionController admissionController,
+                                   HttpResponseStatus rejectedStatus,
+                                   Function<RoutingContext, String> accountIdResolver) {
+
+        this.resource = Objects.requireNonNull(resource);
+        this.admissionController = Objects.requireNonNull(admissionController);
+        this.rejectedStatus = Objects.requireNonNull(rejectedStatus);
+        this.accountIdResolver = Objects.requireNonNull(accountIdResolver);
+    }
+
+    @Override
+    public List<HttpEndpoint> endpoints() {
+        return resource.endpoints();
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        if (!admissionController.tryAdmit(accountIdResolver.apply(routingContext))) {
+            HttpUtil.executeSafely(routingContext, routingContext.request().path(),
+                    response -> response
+                            .setStatusCode(rejectedStatus.code())
+                            .end());
+            return;
+        }
+
+        routingContext.addEndHandler(ignored -> admissionController.release());
+        resource.handle(routingContext);
+    }
+}
@@ -0,0 +1,149 @@
+package org.prebid.server.handler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RequestBody;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.json.JacksonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Resolves account of OpenRTB request from its body before the request is parsed, the same way as it is resolved
+ * after parsing: {@code publisher.ext.prebid.parentAccount} or {@code publisher.id} of {@code app}, {@code dooh}
+ * or {@code site} in this respective priority.
+ * <p>
+ * Body is scanned as a stream of tokens, values of other fields are skipped without being read to objects.
+ * Returns null if account is not found in the body, e.g. it is defined by stored request, or the body is malformed.
+ */
+public class RequestBodyAccountIdResolver implements Function<RoutingContext, String> {
+
+    private static final String APP = "app";
+    private static final String DOOH = "dooh";
+    private static final String SITE = "site";
+    private static final String PUBLISHER = "publisher";
+    private static final String ID = "id";
+    private static final String EXT = "ext";
+    private static final String PREBID = "prebid";
+    private static final String PARENT_ACCOUNT = "parentAccount";
+
+    private final JsonFactory jsonFactory;
+
+    public RequestBodyAccountIdResolver(JacksonMapper mapper) {
+        jsonFactory = Objects.requireNonNull(mapper).mapper().getFactory();
+    }
+
+    @Override
+    public String apply(RoutingContext routingContext) {
+        final RequestBody requestBody = routingContext.body();
+        final Buffer body = requestBody != null ? requestBody.buffer() : null;
+        if (body == null || body.length() == 0) {
+            return null;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser((InputStream) new ByteBufInputStream(body.getByteBuf()))) {
+            return accountIdFrom(parser);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String accountIdFrom(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+
+        String doohAccountId = null;
+        String siteAccountId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken valueToken = parser.nextToken();
+
+            if (valueToken != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            switch (fieldName) {
+                case APP -> {
+                    final String appAccountId = publisherIdFrom(parser);
+                    if (appAccountId != null) {
+                        return appAccountId;
+                    }
+                }
+                case DOOH -> doohAccountId = publisherIdFrom(parser);
+                case SITE -> siteAccountId = publisherIdFrom(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return ObjectUtils.firstNonNull(doohAccountId, siteAccountId);
+    }
+
+    /**
+     * Each of the following methods reads the object parser is positioned at and leaves parser at the end of it.
+     */
+    private static String publisherIdFrom(JsonParser parser) throws IOException {
+        String publisherId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT && PUBLISHER.equals(fieldName)) {
+                publisherId = accountIdFromPublisher(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return publisherId;
+    }
+
+    private static String accountIdFromPublisher(JsonParser parser) throws IOException {
+        String id = null;
+        String parentAccount = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken valueToken = parser.nextToken();
+            if (valueToken.isScalarValue() && valueToken != JsonToken.VALUE_NULL && ID.equals(fieldName)) {
+                id = parser.getText();
+            } else if (valueToken == JsonToken.START_OBJECT && EXT.equals(fieldName)) {
+                parentAccount = parentAccountFromExt(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return ObjectUtils.defaultIfNull(parentAccount, id);
+    }
+
+    private static String parentAccountFromExt(JsonParser parser) throws IOException {
+        String parentAccount = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT && PREBID.equals(fieldName)) {
+                parentAccount = parentAccountFromExtPrebid(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return parentAccount;
+    }
+
+    private static String parentAccountFromExtPrebid(JsonParser parser) throws IOException {
+        String parentAccount = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            if (parser.nextToken() == JsonToken.VALUE_STRING && PARENT_ACCOUNT.equals(fieldName)) {
+                parentAccount = StringUtils.stripToNull(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return parentAccount;
+    }
+}
@@ -20,6 +20,7 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
     private static final String ACCOUNT_PARAMETER = "account";
     private static final String BIDDER_PARAMETER = "bidder";
     private static final String LIMIT_PARAMETER = "limit";
+    private static final String CAPTURE_PARAMETER = "capture";
 
     private final int maxLimit;
     private final HttpInteractionLogger httpInteractionLogger;
@@ -36,12 +37,23 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
         final MultiMap parameters = routingContext.request().params();
 
         try {
-            httpInteractionLogger.setSpec(HttpLogSpec.of(
+            final boolean capture = readCapture(parameters);
+            final HttpLogSpec spec = HttpLogSpec.of(
                     readEndpoint(parameters),
                     readStatusCode(parameters),
                     readAccount(parameters),
                     readBidder(parameters),
-                    readLimit(parameters)));
+                    readLimit(parameters));
+
+            if (capture) {
+                if (spec.getBidder() != null) {
+                    throw new InvalidRequestException(
+                            "Parameter '%s' is not supported with '%s'".formatted(BIDDER_PARAMETER, CAPTURE_PARAMETER));
+                }
+                httpInteractionLogger.setCaptureSpec(spec);
+            } else {
+                httpInteractionLogger.setSpec(spec);
+            }
 
             HttpUtil.executeSafely(routingContext, endpoint,
                     HttpServerResponse::end);
@@ -82,6 +94,15 @@ public class HttpInteractionLogHandler implements Handler<RoutingContext> {
         return parameters.get(BIDDER_PARAMETER);
     }
 
+    private boolean readCapture(MultiMap parameters) {
+        final String capture = parameters.get(CAPTURE_PARAMETER);
+        if (capture != null && !capture.equals("true") && !capture.equals("false")) {
+            throw new InvalidRequestException("Invalid '%s' parameter value".formatted(CAPTURE_PARAMETER));
+        }
+
+        return Boolean.parseBoolean(capture);
+    }
+
     private int readLimit(MultiMap parameters) {
         final Integer limit = getIntParameter(LIMIT_PARAMETER, parameters);
 
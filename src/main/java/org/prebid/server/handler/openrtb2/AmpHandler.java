@@ -13,6 +13,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -24,6 +25,7 @@ import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStageTimer;
 import org.prebid.server.auction.model.Tuple2;
 import org.prebid.server.auction.requestfactory.AmpRequestFactory;
 import org.prebid.server.bidder.BidderCatalog;
@@ -281,7 +283,7 @@ public class AmpHandler implements ApplicationResource {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
 
         final String origin = originFrom(routingContext);
         ampEventBuilder.origin(origin);
@@ -295,7 +297,7 @@ public class AmpHandler implements ApplicationResource {
 
             status = HttpResponseStatus.OK;
             enrichWithSuccessfulHeaders(response);
-            body = mapper.encodeToString(responseResult.result().getLeft());
+            body = mapper.encodeToBuffer(responseResult.result().getLeft());
         } else {
             final Throwable exception = responseResult.cause();
             if (exception instanceof InvalidRequestException invalidRequestException) {
@@ -312,7 +314,7 @@ public class AmpHandler implements ApplicationResource {
                         100);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
@@ -321,7 +323,7 @@ public class AmpHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.UNAUTHORIZED;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof BlocklistedAppException
                     || exception instanceof BlocklistedAccountException) {
                 metricRequestStatus = exception instanceof BlocklistedAccountException
@@ -332,7 +334,7 @@ public class AmpHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.FORBIDDEN;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof InvalidAccountConfigException) {
                 metricRequestStatus = MetricName.bad_requests;
                 final String message = exception.getMessage();
@@ -340,7 +342,7 @@ public class AmpHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = "Invalid account configuration: " + message;
+                body = Buffer.buffer("Invalid account configuration: " + message);
             } else {
                 final String message = exception.getMessage();
 
@@ -349,7 +351,7 @@ public class AmpHandler implements ApplicationResource {
                 logger.error("Critical error while running the auction", exception);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -362,6 +364,12 @@ public class AmpHandler implements ApplicationResource {
         final TcfContext tcfContext = privacyContext != null ? privacyContext.getTcfContext() : TcfContext.empty();
         respondWith(routingContext, status, body, startTime, metricRequestStatus, ampEvent, tcfContext);
 
+        if (auctionContext != null) {
+            final AuctionStageTimer stageTimer = auctionContext.getStageTimer();
+            metrics.updateAuctionStageMetrics(
+                    auctionContext.getAccount(), stageTimer.stageNanos(), stageTimer.incompleteStages());
+        }
+
         httpInteractionLogger.maybeLogOpenrtb2Amp(auctionContext, routingContext, statusCode, body);
     }
 
@@ -380,7 +388,7 @@ public class AmpHandler implements ApplicationResource {
 
     private void respondWith(RoutingContext routingContext,
                              HttpResponseStatus status,
-                             String body,
+                             Buffer body,
                              long startTime,
                              MetricName metricRequestStatus,
                              AmpEvent event,
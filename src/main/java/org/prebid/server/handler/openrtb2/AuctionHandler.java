@@ -7,6 +7,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -15,6 +16,7 @@ import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.SkippedAuctionService;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStageTimer;
 import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.exception.BlocklistedAccountException;
@@ -158,7 +160,7 @@ public class AuctionHandler implements ApplicationResource {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
 
         final HttpServerResponse response = routingContext.response();
         enrichResponseWithCommonHeaders(routingContext);
@@ -169,7 +171,7 @@ public class AuctionHandler implements ApplicationResource {
 
             status = HttpResponseStatus.OK;
             enrichWithSuccessfulHeaders(response);
-            body = mapper.encodeToString(responseResult.result().getBidResponse());
+            body = mapper.encodeToBuffer(responseResult.result().getBidResponse());
         } else {
             final Throwable exception = responseResult.cause();
             if (exception instanceof InvalidRequestException invalidRequestException) {
@@ -183,7 +185,7 @@ public class AuctionHandler implements ApplicationResource {
                 conditionalLogger.info("%s, Referer: %s".formatted(message, referer), logSamplingRate);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
@@ -192,7 +194,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 status = HttpResponseStatus.UNAUTHORIZED;
 
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof BlocklistedAppException
                     || exception instanceof BlocklistedAccountException) {
                 metricRequestStatus = exception instanceof BlocklistedAccountException
@@ -203,7 +205,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.FORBIDDEN;
-                body = message;
+                body = Buffer.buffer(message);
             } else if (exception instanceof InvalidAccountConfigException) {
                 metricRequestStatus = MetricName.bad_requests;
                 final String message = exception.getMessage();
@@ -211,7 +213,7 @@ public class AuctionHandler implements ApplicationResource {
 
                 errorMessages = Collections.singletonList(message);
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = message;
+                body = Buffer.buffer(message);
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -220,7 +222,7 @@ public class AuctionHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -240,12 +242,18 @@ public class AuctionHandler implements ApplicationResource {
             metrics.updateRequestTypeMetric(requestType, MetricName.networkerr);
         }
 
+        if (auctionContext != null) {
+            final AuctionStageTimer stageTimer = auctionContext.getStageTimer();
+            metrics.updateAuctionStageMetrics(
+                    auctionContext.getAccount(), stageTimer.stageNanos(), stageTimer.incompleteStages());
+        }
+
         httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status.code(), body);
     }
 
     private boolean respondWith(RoutingContext routingContext,
                                 HttpResponseStatus status,
-                                String body,
+                                Buffer body,
                                 MetricName requestType) {
 
         return HttpUtil.executeSafely(
@@ -4,6 +4,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -129,7 +130,7 @@ public class VideoHandler implements ApplicationResource {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
         final VideoResponse videoResponse = responseSucceeded ? responseResult.result() : null;
 
         final HttpServerResponse response = routingContext.response();
@@ -141,7 +142,7 @@ public class VideoHandler implements ApplicationResource {
 
             status = HttpResponseStatus.OK;
             enrichWithSuccessfulHeaders(response);
-            body = mapper.encodeToString(videoResponse);
+            body = mapper.encodeToBuffer(videoResponse);
         } else {
             final Throwable exception = responseResult.cause();
             if (exception instanceof InvalidRequestException) {
@@ -150,9 +151,9 @@ public class VideoHandler implements ApplicationResource {
                 logger.info("Invalid request format: {}", errorMessages);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = errorMessages.stream()
+                body = Buffer.buffer(errorMessages.stream()
                         .map(msg -> "Invalid request format: " + msg)
-                        .collect(Collectors.joining("\n"));
+                        .collect(Collectors.joining("\n")));
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String errorMessage = exception.getMessage();
@@ -160,7 +161,7 @@ public class VideoHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(errorMessage);
 
                 status = HttpResponseStatus.UNAUTHORIZED;
-                body = "Unauthorised: " + errorMessage;
+                body = Buffer.buffer("Unauthorised: " + errorMessage);
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -169,7 +170,7 @@ public class VideoHandler implements ApplicationResource {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -214,7 +215,7 @@ public class VideoHandler implements ApplicationResource {
 
     private void respondWith(RoutingContext routingContext,
                              HttpResponseStatus status,
-                             String body,
+                             Buffer body,
                              long startTime,
                              MetricName metricRequestStatus,
                              VideoEvent event,
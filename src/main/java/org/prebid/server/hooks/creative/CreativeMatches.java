@@ -0,0 +1,33 @@
+package org.prebid.server.hooks.creative;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Patterns found in the creative markup by {@link CreativeScanner}.
+ * <p>
+ * Patterns which were not registered in the scanner at the time of scanning are looked up in the markup directly.
+ */
+public class CreativeMatches {
+
+    private final String adm;
+    private final Map<String, Integer> patternIndexes;
+    private final BitSet matches;
+
+    CreativeMatches(String adm, Map<String, Integer> patternIndexes, BitSet matches) {
+        this.adm = adm;
+        this.patternIndexes = patternIndexes;
+        this.matches = matches;
+    }
+
+    /**
+     * Returns true if creative contains the given pattern, case-sensitive.
+     */
+    public boolean contains(String pattern) {
+        final Integer index = patternIndexes.get(pattern);
+
+        return index != null ? matches.get(index) : StringUtils.contains(adm, pattern);
+    }
+}
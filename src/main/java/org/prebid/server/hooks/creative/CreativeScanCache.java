@@ -0,0 +1,20 @@
+package org.prebid.server.hooks.creative;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Request-scoped memo of {@link CreativeMatches}.
+ * <p>
+ * Entries are keyed by creative markup identity, so the same {@code adm} instance is scanned at most once per auction
+ * regardless of how many modules look into it.
+ */
+public class CreativeScanCache {
+
+    private final Map<String, CreativeMatches> admToMatches = new IdentityHashMap<>();
+
+    synchronized CreativeMatches matches(String adm, Function<String, CreativeMatches> scanner) {
+        return admToMatches.computeIfAbsent(adm, scanner);
+    }
+}
@@ -0,0 +1,80 @@
+package org.prebid.server.hooks.creative;
+
+import com.iab.openrtb.response.Bid;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.AuctionContext;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds registered patterns in the bid creatives.
+ * <p>
+ * Modules register their patterns on startup. Each creative markup is scanned for all registered patterns
+ * at most once per auction and the result is shared by all modules through the {@link AuctionContext}
+ * available in the invocation context. Patterns are looked up with {@link String#contains(CharSequence)},
+ * since only a few of them are registered.
+ */
+public class CreativeScanner {
+
+    private volatile CompiledPatterns compiledPatterns = CompiledPatterns.of(Collections.emptyList());
+
+    public synchronized void registerPatterns(Collection<String> patterns) {
+        final List<String> allPatterns = new ArrayList<>(compiledPatterns.patterns());
+        for (String pattern : patterns) {
+            if (StringUtils.isNotEmpty(pattern) && !allPatterns.contains(pattern)) {
+                allPatterns.add(pattern);
+            }
+        }
+
+        compiledPatterns = CompiledPatterns.of(allPatterns);
+    }
+
+    public CreativeMatches scan(AuctionContext auctionContext, Bid bid) {
+        return scan(auctionContext, bid != null ? bid.getAdm() : null);
+    }
+
+    public CreativeMatches scan(AuctionContext auctionContext, String adm) {
+        if (adm == null) {
+            return compiledPatterns.scan(StringUtils.EMPTY);
+        }
+
+        final CreativeScanCache creativeScanCache = auctionContext != null
+                ? auctionContext.getCreativeScanCache()
+                : null;
+
+        return creativeScanCache != null
+                ? creativeScanCache.matches(adm, compiledPatterns::scan)
+                : compiledPatterns.scan(adm);
+    }
+
+    private record CompiledPatterns(List<String> patterns, Map<String, Integer> patternIndexes) {
+
+        static CompiledPatterns of(List<String> patterns) {
+            final Map<String, Integer> patternIndexes = new HashMap<>();
+            for (int i = 0; i < patterns.size(); i++) {
+                patternIndexes.put(patterns.get(i), i);
+            }
+
+            return new CompiledPatterns(
+                    Collections.unmodifiableList(patterns),
+                    Collections.unmodifiableMap(patternIndexes));
+        }
+
+        CreativeMatches scan(String adm) {
+            final BitSet matches = new BitSet(patterns.size());
+            for (int i = 0; i < patterns.size(); i++) {
+                if (adm.contains(patterns.get(i))) {
+                    matches.set(i);
+                }
+            }
+
+            return new CreativeMatches(adm, patternIndexes, matches);
+        }
+    }
+}
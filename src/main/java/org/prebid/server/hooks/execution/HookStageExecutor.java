@@ -8,6 +8,7 @@ import io.vertx.core.Vertx;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStageTimer;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.bidder.model.BidderBid;
@@ -110,11 +111,13 @@ public class HookStageExecutor {
             CaseInsensitiveMultiMap queryParams,
             CaseInsensitiveMultiMap headers,
             String body,
-            HookExecutionContext context) {
+            HookExecutionContext context,
+            AuctionStageTimer stageTimer) {
 
         final Endpoint endpoint = context.getEndpoint();
 
         return stageExecutor(StageWithHookType.ENTRYPOINT, ENTITY_HTTP_REQUEST, context)
+                .withStageTimer(stageTimer)
                 .withExecutionPlan(planForEntrypointStage(endpoint))
                 .withInitialPayload(EntrypointPayloadImpl.of(queryParams, headers, body))
                 .withInvocationContextProvider(invocationContextProvider(endpoint))
@@ -134,6 +137,7 @@ public class HookStageExecutor {
         return this
                 .stageExecutor(
                         StageWithHookType.RAW_AUCTION_REQUEST, ENTITY_AUCTION_REQUEST, context, account, endpoint)
+                .withStageTimer(auctionContext.getStageTimer())
                 .withInitialPayload(AuctionRequestPayloadImpl.of(bidRequest))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(true)
@@ -152,6 +156,7 @@ public class HookStageExecutor {
         return this
                 .stageExecutor(
                         StageWithHookType.PROCESSED_AUCTION_REQUEST, ENTITY_AUCTION_REQUEST, context, account, endpoint)
+                .withStageTimer(auctionContext.getStageTimer())
                 .withInitialPayload(AuctionRequestPayloadImpl.of(bidRequest))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(true)
@@ -170,6 +175,7 @@ public class HookStageExecutor {
 
         return this
                 .stageExecutor(StageWithHookType.BIDDER_REQUEST, bidder, context, account, endpoint)
+                .withStageTimer(auctionContext.getStageTimer())
                 .withInitialPayload(BidderRequestPayloadImpl.of(bidderRequest.getBidRequest()))
                 .withInvocationContextProvider(bidderInvocationContextProvider(endpoint, auctionContext, bidder))
                 .withRejectAllowed(true)
@@ -190,6 +196,7 @@ public class HookStageExecutor {
 
         return this
                 .stageExecutor(StageWithHookType.RAW_BIDDER_RESPONSE, bidder, context, account, endpoint)
+                .withStageTimer(auctionContext.getStageTimer())
                 .withInitialPayload(BidderResponsePayloadImpl.of(bids))
                 .withInvocationContextProvider(bidderInvocationContextProvider(endpoint, auctionContext, bidder))
                 .withRejectAllowed(true)
@@ -209,6 +216,7 @@ public class HookStageExecutor {
         final Endpoint endpoint = context.getEndpoint();
 
         return stageExecutor(StageWithHookType.PROCESSED_BIDDER_RESPONSE, bidder, context, account, endpoint)
+                .withStageTimer(auctionContext.getStageTimer())
                 .withInitialPayload(BidderResponsePayloadImpl.of(bids))
                 .withInvocationContextProvider(bidderInvocationContextProvider(endpoint, auctionContext, bidder))
                 .withRejectAllowed(true)
@@ -227,6 +235,7 @@ public class HookStageExecutor {
         return stageExecutor(
                 StageWithHookType.ALL_PROCESSED_BID_RESPONSES, ENTITY_ALL_PROCESSED_BID_RESPONSES,
                 context, account, endpoint)
+                .withStageTimer(auctionContext.getStageTimer())
                 .withInitialPayload(AllProcessedBidResponsesPayloadImpl.of(bidderResponses))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(false)
@@ -243,6 +252,7 @@ public class HookStageExecutor {
         final Endpoint endpoint = context.getEndpoint();
 
         return stageExecutor(StageWithHookType.AUCTION_RESPONSE, ENTITY_AUCTION_RESPONSE, context, account, endpoint)
+                .withStageTimer(auctionContext.getStageTimer())
                 .withInitialPayload(AuctionResponsePayloadImpl.of(bidResponse))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(false)
@@ -268,6 +278,7 @@ public class HookStageExecutor {
             Endpoint endpoint) {
 
         return stageExecutor(stage, entity, context)
+                .withAccountId(account != null ? account.getId() : null)
                 .withExecutionPlan(planForStage(account, endpoint, stage.stage()));
     }
 
@@ -2,25 +2,43 @@ package org.prebid.server.hooks.execution;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimer;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.hooks.execution.model.StageExecutionPlan;
 import org.prebid.server.hooks.execution.model.StageWithHookType;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
+import org.prebid.server.log.AuctionStageEvent;
 
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
+    private static final Map<Stage, String> STAGE_EVENT_NAMES = Arrays.stream(Stage.values())
+            .collect(Collectors.toMap(
+                    Function.identity(),
+                    stage -> AuctionStageEvent.HOOK_STAGE_PREFIX + stage,
+                    (first, second) -> first,
+                    () -> new EnumMap<>(Stage.class)));
+
     private final HookCatalog hookCatalog;
     private final Vertx vertx;
     private final Clock clock;
 
     private StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage;
     private String entity;
+    private String accountId;
+    private AuctionStageTimer stageTimer;
     private StageExecutionPlan executionPlan;
     private PAYLOAD initialPayload;
     private InvocationContextProvider<CONTEXT> invocationContextProvider;
@@ -51,6 +69,16 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
+    public StageExecutor<PAYLOAD, CONTEXT> withAccountId(String accountId) {
+        this.accountId = accountId;
+        return this;
+    }
+
+    public StageExecutor<PAYLOAD, CONTEXT> withStageTimer(AuctionStageTimer stageTimer) {
+        this.stageTimer = stageTimer;
+        return this;
+    }
+
     public StageExecutor<PAYLOAD, CONTEXT> withExecutionPlan(StageExecutionPlan executionPlan) {
         this.executionPlan = executionPlan;
         return this;
@@ -79,6 +107,15 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     }
 
     public Future<HookStageExecutionResult<PAYLOAD>> execute() {
+        if (executionPlan.getGroups().isEmpty()) {
+            return Future.succeededFuture(toHookStageExecutionResult(StageResult.of(initialPayload, entity)));
+        }
+
+        if (stageTimer != null) {
+            stageTimer.start(AuctionStage.hooks);
+        }
+
+        final AuctionStageEvent stageEvent = AuctionStageEvent.begin(STAGE_EVENT_NAMES.get(stage.stage()));
         Future<StageResult<PAYLOAD>> stageFuture = Future.succeededFuture(StageResult.of(initialPayload, entity));
 
         for (final ExecutionGroup group : executionPlan.getGroups()) {
@@ -88,9 +125,26 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
                             .compose(StageExecutor::propagateRejection));
         }
 
-        return stageFuture
-                .recover(StageExecutor::restoreResultFromRejection)
-                .map(this::toHookStageExecutionResult);
+        return stageEvent.endOnComplete(
+                stageFuture
+                        .recover(StageExecutor::restoreResultFromRejection)
+                        .map(this::toHookStageExecutionResult)
+                        .onComplete(ignored -> stopStageTimer()),
+                accountId,
+                bidder());
+    }
+
+    private void stopStageTimer() {
+        if (stageTimer != null) {
+            stageTimer.stop(AuctionStage.hooks);
+        }
+    }
+
+    private String bidder() {
+        return switch (stage.stage()) {
+            case bidder_request, raw_bidder_response, processed_bidder_response -> entity;
+            default -> null;
+        };
     }
 
     private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
@@ -0,0 +1,199 @@
+package org.prebid.server.log;
+
+import io.vertx.core.buffer.Buffer;
+import org.apache.commons.collections4.ListUtils;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.log.model.CapturedAuction;
+import org.prebid.server.log.model.CapturedBidderCall;
+import org.prebid.server.log.model.HttpLogSpec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary format of auction capture files.
+ * <p>
+ * File starts with {@link #MAGIC} followed by format version, then records follow one after another.
+ * Each record is a deflated {@link CapturedAuction} prefixed with its compressed length, so a file is appended
+ * record by record and a partially written last record is skipped on reading. Strings are UTF-8 prefixed
+ * with their length in bytes, or -1 for null.
+ */
+public class AuctionCaptureCodec {
+
+    private static final byte[] MAGIC = "PBSCAP".getBytes(StandardCharsets.US_ASCII);
+    private static final byte VERSION = 1;
+
+    private AuctionCaptureCodec() {
+    }
+
+    public static Buffer header() {
+        return Buffer.buffer(MAGIC.length + 1).appendBytes(MAGIC).appendByte(VERSION);
+    }
+
+    public static Buffer encode(CapturedAuction auction) {
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(payload))) {
+            output.writeLong(auction.getTimestamp());
+            writeString(output, auction.getEndpoint() != null ? auction.getEndpoint().name() : null);
+            writeString(output, auction.getMethod());
+            writeString(output, auction.getUri());
+            writeHeaders(output, auction.getHeaders());
+            writeString(output, auction.getBody());
+            writeString(output, auction.getAccount());
+
+            final List<CapturedBidderCall> bidderCalls = ListUtils.emptyIfNull(auction.getBidderCalls());
+            output.writeInt(bidderCalls.size());
+            for (CapturedBidderCall bidderCall : bidderCalls) {
+                writeString(output, bidderCall.getBidder());
+                writeString(output, bidderCall.getUri());
+                writeString(output, bidderCall.getRequestBody());
+                output.writeInt(bidderCall.getStatus() != null ? bidderCall.getStatus() : -1);
+                writeString(output, bidderCall.getResponseBody());
+                output.writeInt(bidderCall.getResponseTimeMillis());
+            }
+
+            output.writeInt(auction.getStatus());
+            writeString(output, auction.getResponseBody());
+            output.writeLong(auction.getDurationMillis());
+        } catch (IOException e) {
+            throw new PreBidException("Failed to encode captured auction: " + e.getMessage());
+        }
+
+        final byte[] record = payload.toByteArray();
+        return Buffer.buffer(record.length + Integer.BYTES).appendInt(record.length).appendBytes(record);
+    }
+
+    public static List<CapturedAuction> decode(InputStream inputStream) throws IOException {
+        final DataInputStream input = new DataInputStream(inputStream);
+
+        final byte[] magic = new byte[MAGIC.length];
+        input.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new PreBidException("Not an auction capture file");
+        }
+        final byte version = input.readByte();
+        if (version != VERSION) {
+            throw new PreBidException("Unsupported auction capture file version: " + version);
+        }
+
+        final List<CapturedAuction> auctions = new ArrayList<>();
+        while (true) {
+            final byte[] record;
+            try {
+                record = new byte[input.readInt()];
+                input.readFully(record);
+            } catch (EOFException e) {
+                // end of file or record interrupted by capture stop
+                return auctions;
+            }
+            auctions.add(decodeRecord(record));
+        }
+    }
+
+    private static CapturedAuction decodeRecord(byte[] record) throws IOException {
+        try (DataInputStream input = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(record)))) {
+
+            final CapturedAuction.CapturedAuctionBuilder builder = CapturedAuction.builder()
+                    .timestamp(input.readLong());
+            final String endpoint = readString(input);
+            builder.endpoint(endpoint != null ? HttpLogSpec.Endpoint.valueOf(endpoint) : null)
+                    .method(readString(input))
+                    .uri(readString(input))
+                    .headers(readHeaders(input))
+                    .body(readString(input))
+                    .account(readString(input));
+
+            final int bidderCallsCount = input.readInt();
+            final List<CapturedBidderCall> bidderCalls = new ArrayList<>(bidderCallsCount);
+            for (int i = 0; i < bidderCallsCount; i++) {
+                final CapturedBidderCall.CapturedBidderCallBuilder bidderCall = CapturedBidderCall.builder()
+                        .bidder(readString(input))
+                        .uri(readString(input))
+                        .requestBody(readString(input));
+                final int status = input.readInt();
+                bidderCalls.add(bidderCall
+                        .status(status >= 0 ? status : null)
+                        .responseBody(readString(input))
+                        .responseTimeMillis(input.readInt())
+                        .build());
+            }
+
+            return builder.bidderCalls(bidderCalls)
+                    .status(input.readInt())
+                    .responseBody(readString(input))
+                    .durationMillis(input.readLong())
+                    .build();
+        }
+    }
+
+    private static void writeHeaders(DataOutputStream output, Map<String, List<String>> headers) throws IOException {
+        if (headers == null) {
+            output.writeInt(-1);
+            return;
+        }
+
+        output.writeInt(headers.size());
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            writeString(output, header.getKey());
+            output.writeInt(header.getValue().size());
+            for (String value : header.getValue()) {
+                writeString(output, value);
+            }
+        }
+    }
+
+    private static Map<String, List<String>> readHeaders(DataInputStream input) throws IOException {
+        final int size = input.readInt();
+        if (size < 0) {
+            return null;
+        }
+
+        final Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            final String name = readString(input);
+            final int valuesCount = input.readInt();
+            final List<String> values = new ArrayList<>(valuesCount);
+            for (int j = 0; j < valuesCount; j++) {
+                values.add(readString(input));
+            }
+            headers.put(name, values);
+        }
+        return headers;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+package org.prebid.server.log;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import org.prebid.server.log.model.CapturedAuction;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Writes captured auctions to a new file in the capture directory for each capture,
+ * using the format of {@link AuctionCaptureCodec}.
+ */
+public class AuctionCaptureWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuctionCaptureWriter.class);
+
+    private static final String FILE_PREFIX = "auction-capture-";
+    private static final String FILE_EXTENSION = ".bin";
+
+    private final FileSystem fileSystem;
+    private final String directory;
+    private final Clock clock;
+
+    private Future<AsyncFile> file;
+
+    public AuctionCaptureWriter(FileSystem fileSystem, String directory, Clock clock) {
+        this.fileSystem = Objects.requireNonNull(fileSystem);
+        this.directory = Objects.requireNonNull(directory);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Starts a new capture file, closing the previous one if any.
+     */
+    public synchronized void open() {
+        close();
+
+        final String path = directory + "/" + FILE_PREFIX + clock.millis() + FILE_EXTENSION;
+        file = fileSystem.mkdirs(directory)
+                .compose(ignored -> fileSystem.open(path, new OpenOptions().setCreateNew(true)))
+                .compose(asyncFile -> asyncFile.write(AuctionCaptureCodec.header()).map(asyncFile))
+                .onSuccess(ignored -> logger.info("Capturing auctions to {}", path))
+                .onFailure(error -> logger.warn("Failed to open auction capture file {}: {}",
+                        path, error.getMessage()));
+    }
+
+    public synchronized void write(CapturedAuction auction) {
+        if (file == null) {
+            return;
+        }
+
+        final Buffer record = AuctionCaptureCodec.encode(auction);
+        file.onSuccess(asyncFile -> asyncFile.write(record)
+                .onFailure(error -> logger.warn("Failed to write captured auction: {}", error.getMessage())));
+    }
+
+    /**
+     * Closes current capture file after pending writes are done.
+     */
+    public synchronized void close() {
+        if (file != null) {
+            file.onSuccess(AsyncFile::close);
+            file = null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.prebid.server.log;
+
+import io.vertx.core.Future;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.settings.model.Account;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Java Flight Recorder event of an auction pipeline stage.
+ * <p>
+ * Stages run on Vert.x futures, so an event may begin and end on different threads. Allocations are recorded
+ * only for stages begun by {@link #beginSynchronous(String)}, which have to end on the same thread.
+ * <p>
+ * When no recording enables the event, {@link #begin(String)} returns a shared instance that records nothing,
+ * so a disabled event costs a single check with no allocation.
+ */
+@Name("org.prebid.server.AuctionStage")
+@Label("Auction Stage")
+@Category("Prebid Server")
+@Description("Stage of an auction request processing")
+@StackTrace(false)
+public class AuctionStageEvent extends Event {
+
+    public static final String REQUEST_PARSE = "request_parse";
+    public static final String REQUEST_ENRICH = "request_enrich";
+    public static final String STORED_REQUEST = "stored_request";
+    public static final String HOOK_STAGE_PREFIX = "hook_";
+    public static final String BIDDER_REQUEST = "bidder_request";
+    public static final String BIDDER_CALL = "bidder_call";
+    public static final String BIDDER_RESPONSE = "bidder_response";
+    public static final String RESPONSE_CREATION = "response_creation";
+    public static final String CACHE = "cache";
+
+    private static final AuctionStageEvent DISABLED = new AuctionStageEvent(null);
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Account")
+    private String account;
+
+    @Label("Bidder")
+    private String bidder;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the thread during the stage, recorded for synchronous stages only")
+    @DataAmount
+    private long allocated;
+
+    private transient Thread thread;
+    private transient long allocatedAtBegin;
+
+    private AuctionStageEvent(String stage) {
+        this.stage = stage;
+    }
+
+    public static AuctionStageEvent begin(String stage) {
+        if (!DISABLED.isEnabled()) {
+            return DISABLED;
+        }
+
+        final AuctionStageEvent event = new AuctionStageEvent(stage);
+        event.begin();
+        return event;
+    }
+
+    public static AuctionStageEvent beginSynchronous(String stage) {
+        final AuctionStageEvent event = begin(stage);
+        if (event != DISABLED && THREAD_MX_BEAN != null) {
+            event.thread = Thread.currentThread();
+            event.allocatedAtBegin = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        }
+        return event;
+    }
+
+    public void end(String account, String bidder) {
+        if (this == DISABLED || !shouldCommit()) {
+            return;
+        }
+
+        this.account = account;
+        this.bidder = bidder;
+        if (thread == Thread.currentThread()) {
+            allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedAtBegin;
+        }
+        commit();
+    }
+
+    public <T> Future<T> endOnComplete(Future<T> future, String account, String bidder) {
+        return this != DISABLED
+                ? future.onComplete(ignored -> end(account, bidder))
+                : future;
+    }
+
+    public Future<AuctionContext> endOnComplete(Future<AuctionContext> future) {
+        return this != DISABLED
+                ? future.onComplete(result -> end(result.succeeded() ? accountId(result.result()) : null, null))
+                : future;
+    }
+
+    private static String accountId(AuctionContext auctionContext) {
+        final Account account = auctionContext.getAccount();
+        return account != null ? account.getId() : null;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        return threadMXBean instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threadMXBean
+                : null;
+    }
+}
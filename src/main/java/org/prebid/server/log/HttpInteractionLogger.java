@@ -5,43 +5,101 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.model.AuctionCapture;
+import org.prebid.server.log.model.CapturedAuction;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class HttpInteractionLogger {
 
     private static final String HTTP_INTERACTION_LOGGER_NAME = "http-interaction";
+
+    // headers identifying the user or the caller, like Cookie, User-Agent or client IP, are not captured
+    private static final Set<String> CAPTURED_HEADERS = Stream.of(
+                    HttpUtil.CONTENT_TYPE_HEADER,
+                    HttpUtil.CONTENT_ENCODING_HEADER,
+                    HttpUtil.ACCEPT_HEADER,
+                    HttpUtil.ACCEPT_LANGUAGE_HEADER,
+                    HttpUtil.ORIGIN_HEADER,
+                    HttpUtil.REFERER_HEADER,
+                    HttpUtil.DNT_HEADER,
+                    HttpUtil.SEC_GPC_HEADER,
+                    HttpUtil.X_REQUESTED_WITH_HEADER,
+                    HttpUtil.X_OPENRTB_VERSION_HEADER,
+                    HttpUtil.X_PREBID_HEADER)
+            .map(header -> header.toString().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+
     private final Logger logger = LoggerFactory.getLogger(HTTP_INTERACTION_LOGGER_NAME);
 
     private final JacksonMapper mapper;
+    private final AuctionCaptureWriter captureWriter;
+    private final Clock clock;
 
     private final AtomicReference<SpecWithCounter> specWithCounter = new AtomicReference<>();
+    private final AtomicReference<SpecWithCounter> captureSpecWithCounter = new AtomicReference<>();
 
-    public HttpInteractionLogger(JacksonMapper mapper) {
+    public HttpInteractionLogger(JacksonMapper mapper, AuctionCaptureWriter captureWriter, Clock clock) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.captureWriter = Objects.requireNonNull(captureWriter);
+        this.clock = Objects.requireNonNull(clock);
     }
 
     public void setSpec(HttpLogSpec spec) {
         specWithCounter.set(SpecWithCounter.of(spec));
     }
 
+    /**
+     * Starts capturing complete auctions satisfying given spec into a new capture file.
+     * Bidder of the spec is ignored, as all bidders of captured auction are captured.
+     */
+    public void setCaptureSpec(HttpLogSpec spec) {
+        captureWriter.open();
+        captureSpecWithCounter.set(SpecWithCounter.of(spec));
+    }
+
+    /**
+     * Tells whether HTTP calls to bidders of the given auction should be collected for capture.
+     * Response status is not known yet, so it is checked when auction is finished.
+     */
+    public boolean shouldCapture(AuctionContext auctionContext) {
+        final SpecWithCounter captureSpecWithCounter = this.captureSpecWithCounter.get();
+        return captureSpecWithCounter != null && auctionSatisfiesSpec(
+                captureSpecWithCounter.getSpec(),
+                parseHttpLogEndpoint(ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getRequestTypeMetric)),
+                null,
+                auctionContext);
+    }
+
     public void maybeLogOpenrtb2Auction(AuctionContext auctionContext,
                                         RoutingContext routingContext,
                                         int statusCode,
-                                        String responseBody) {
+                                        Buffer responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
             logger.info(
@@ -49,10 +107,12 @@ public class HttpInteractionLogger {
                     routingContext.request().uri(),
                     toOneLineString(routingContext.getBodyAsString()),
                     statusCode,
-                    responseBody);
+                    Objects.toString(responseBody, null));
 
             incLoggedInteractions();
         }
+
+        maybeCapture(HttpLogSpec.Endpoint.auction, auctionContext, routingContext, statusCode, responseBody);
     }
 
     private String toOneLineString(String value) {
@@ -66,17 +126,19 @@ public class HttpInteractionLogger {
     public void maybeLogOpenrtb2Amp(AuctionContext auctionContext,
                                     RoutingContext routingContext,
                                     int statusCode,
-                                    String responseBody) {
+                                    Buffer responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)) {
             logger.info(
                     "Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
                     routingContext.request().uri(),
                     statusCode,
-                    responseBody);
+                    Objects.toString(responseBody, null));
 
             incLoggedInteractions();
         }
+
+        maybeCapture(HttpLogSpec.Endpoint.amp, auctionContext, routingContext, statusCode, responseBody);
     }
 
     public void maybeLogBidderRequest(AuctionContext context, BidderRequest bidderRequest) {
@@ -91,26 +153,60 @@ public class HttpInteractionLogger {
         }
     }
 
-    private boolean interactionSatisfiesSpec(HttpLogSpec.Endpoint requestEndpoint,
-                                             int requestStatusCode,
-                                             AuctionContext auctionContext) {
+    private void maybeCapture(HttpLogSpec.Endpoint endpoint,
+                              AuctionContext auctionContext,
+                              RoutingContext routingContext,
+                              int statusCode,
+                              Buffer responseBody) {
+
+        final AuctionCapture capture = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getCapture);
+        final SpecWithCounter captureSpecWithCounter = this.captureSpecWithCounter.get();
+        if (capture == null || captureSpecWithCounter == null
+                || !auctionSatisfiesSpec(captureSpecWithCounter.getSpec(), endpoint, statusCode, auctionContext)) {
+            return;
+        }
 
-        final SpecWithCounter specWithCounter = this.specWithCounter.get();
-        if (specWithCounter == null) {
-            return false;
+        final HttpServerRequest request = routingContext.request();
+        final long startTime = auctionContext.getTimeoutContext().getStartTime();
+        captureWriter.write(CapturedAuction.builder()
+                .timestamp(startTime)
+                .endpoint(endpoint)
+                .method(request.method().name())
+                .uri(request.uri())
+                .headers(toCapturedHeaders(request.headers()))
+                .body(endpoint == HttpLogSpec.Endpoint.auction ? routingContext.getBodyAsString() : null)
+                .account(ObjectUtil.getIfNotNull(auctionContext.getAccount(), Account::getId))
+                .bidderCalls(capture.getBidderCalls())
+                .status(statusCode)
+                .responseBody(Objects.toString(responseBody, null))
+                .durationMillis(clock.millis() - startTime)
+                .build());
+
+        if (captureSpecWithCounter.getLoggedInteractions().incrementAndGet()
+                >= captureSpecWithCounter.getSpec().getLimit()
+                && this.captureSpecWithCounter.compareAndSet(captureSpecWithCounter, null)) {
+
+            captureWriter.close();
         }
+    }
 
-        final Account requestAccount = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getAccount);
-        final String requestAccountId = ObjectUtil.getIfNotNull(requestAccount, Account::getId);
+    private static Map<String, List<String>> toCapturedHeaders(MultiMap headers) {
+        final Map<String, List<String>> capturedHeaders = new LinkedHashMap<>();
+        for (Map.Entry<String, String> header : headers) {
+            if (CAPTURED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                capturedHeaders.computeIfAbsent(header.getKey(), key -> new ArrayList<>()).add(header.getValue());
+            }
+        }
+        return capturedHeaders;
+    }
 
-        final HttpLogSpec spec = specWithCounter.getSpec();
-        final HttpLogSpec.Endpoint endpoint = spec.getEndpoint();
-        final Integer statusCode = spec.getStatusCode();
-        final String account = spec.getAccount();
+    private boolean interactionSatisfiesSpec(HttpLogSpec.Endpoint requestEndpoint,
+                                             int requestStatusCode,
+                                             AuctionContext auctionContext) {
 
-        return (endpoint == null || endpoint == requestEndpoint)
-                && (statusCode == null || statusCode == requestStatusCode)
-                && (account == null || account.equals(requestAccountId));
+        final SpecWithCounter specWithCounter = this.specWithCounter.get();
+        return specWithCounter != null
+                && auctionSatisfiesSpec(specWithCounter.getSpec(), requestEndpoint, requestStatusCode, auctionContext);
     }
 
     private boolean interactionSatisfiesSpec(AuctionContext auctionContext,
@@ -135,6 +231,23 @@ public class HttpInteractionLogger {
                 && bidder != null && bidder.equals(requestBidder);
     }
 
+    private static boolean auctionSatisfiesSpec(HttpLogSpec spec,
+                                                HttpLogSpec.Endpoint requestEndpoint,
+                                                Integer requestStatusCode,
+                                                AuctionContext auctionContext) {
+
+        final Account requestAccount = ObjectUtil.getIfNotNull(auctionContext, AuctionContext::getAccount);
+        final String requestAccountId = ObjectUtil.getIfNotNull(requestAccount, Account::getId);
+
+        final HttpLogSpec.Endpoint endpoint = spec.getEndpoint();
+        final Integer statusCode = spec.getStatusCode();
+        final String account = spec.getAccount();
+
+        return (endpoint == null || endpoint == requestEndpoint)
+                && (statusCode == null || requestStatusCode == null || statusCode.equals(requestStatusCode))
+                && (account == null || account.equals(requestAccountId));
+    }
+
     private HttpLogSpec.Endpoint parseHttpLogEndpoint(MetricName requestTypeMetric) {
         if (requestTypeMetric != null) {
             if (requestTypeMetric == MetricName.amp) {
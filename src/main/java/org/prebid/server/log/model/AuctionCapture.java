@@ -0,0 +1,42 @@
+package org.prebid.server.log.model;
+
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Request-scoped collector of bidder HTTP calls of an auction being captured.
+ * <p>
+ * Bidder HTTP calls are collected for captured auctions regardless of debug, so they are removed
+ * from the bidder response afterwards unless debug is enabled for the bidder.
+ */
+public class AuctionCapture {
+
+    private final List<CapturedBidderCall> bidderCalls = new ArrayList<>();
+
+    public synchronized BidderResponse record(BidderResponse bidderResponse, boolean debugEnabled) {
+        final BidderSeatBid seatBid = bidderResponse.getSeatBid();
+        for (ExtHttpCall httpCall : seatBid.getHttpCalls()) {
+            bidderCalls.add(CapturedBidderCall.builder()
+                    .bidder(bidderResponse.getBidder())
+                    .uri(httpCall.getUri())
+                    .requestBody(httpCall.getRequestbody())
+                    .status(httpCall.getStatus())
+                    .responseBody(httpCall.getResponsebody())
+                    .responseTimeMillis(bidderResponse.getResponseTime())
+                    .build());
+        }
+
+        return debugEnabled || seatBid.getHttpCalls().isEmpty()
+                ? bidderResponse
+                : bidderResponse.with(seatBid.toBuilder().httpCalls(Collections.emptyList()).build());
+    }
+
+    public synchronized List<CapturedBidderCall> getBidderCalls() {
+        return new ArrayList<>(bidderCalls);
+    }
+}
@@ -0,0 +1,38 @@
+package org.prebid.server.log.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Complete auction captured by {@link org.prebid.server.log.HttpInteractionLogger}: inbound request,
+ * resolved account, HTTP calls to bidders and the response.
+ */
+@Builder
+@Value
+public class CapturedAuction {
+
+    long timestamp;
+
+    HttpLogSpec.Endpoint endpoint;
+
+    String method;
+
+    String uri;
+
+    Map<String, List<String>> headers;
+
+    String body;
+
+    String account;
+
+    List<CapturedBidderCall> bidderCalls;
+
+    int status;
+
+    String responseBody;
+
+    long durationMillis;
+}
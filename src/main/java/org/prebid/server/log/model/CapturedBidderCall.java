@@ -0,0 +1,30 @@
+package org.prebid.server.log.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * HTTP call made to a bidder during a captured auction.
+ */
+@Builder
+@Value
+public class CapturedBidderCall {
+
+    String bidder;
+
+    String uri;
+
+    String requestBody;
+
+    /**
+     * Response status code, or null if bidder did not respond.
+     */
+    Integer status;
+
+    String responseBody;
+
+    /**
+     * Time from sending the bidder request until all bidder responses were received.
+     */
+    int responseTimeMillis;
+}
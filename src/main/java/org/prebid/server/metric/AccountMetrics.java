@@ -1,7 +1,9 @@
 package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
+import org.prebid.server.auction.model.AuctionStage;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +25,8 @@ class AccountMetrics extends UpdatableMetrics {
     private final ResponseMetrics responseMetrics;
     private final HooksMetrics hooksMetrics;
     private final ActivitiesMetrics activitiesMetrics;
+    private final Function<AuctionStage, AuctionStageMetrics> auctionStageMetricsCreator;
+    private final Map<AuctionStage, AuctionStageMetrics> auctionStageMetrics;
 
     AccountMetrics(MetricRegistry metricRegistry, CounterType counterType, String account) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
@@ -36,6 +40,9 @@ class AccountMetrics extends UpdatableMetrics {
         responseMetrics = new ResponseMetrics(metricRegistry, counterType, createPrefix(account));
         hooksMetrics = new HooksMetrics(metricRegistry, counterType, createPrefix(account));
         activitiesMetrics = new ActivitiesMetrics(metricRegistry, counterType, createPrefix(account));
+        auctionStageMetricsCreator = stage ->
+                new AuctionStageMetrics(metricRegistry, counterType, createPrefix(account), stage);
+        auctionStageMetrics = new EnumMap<>(AuctionStage.class);
     }
 
     private static String createPrefix(String account) {
@@ -73,4 +80,8 @@ class AccountMetrics extends UpdatableMetrics {
     ActivitiesMetrics activities() {
         return activitiesMetrics;
     }
+
+    AuctionStageMetrics auctionStage(AuctionStage stage) {
+        return auctionStageMetrics.computeIfAbsent(stage, auctionStageMetricsCreator);
+    }
 }
@@ -0,0 +1,30 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Admission control metrics support.
+ */
+class AdmissionControlMetrics extends UpdatableMetrics {
+
+    private static final String PREFIX = "admission-control";
+
+    private final UpdatableMetrics rejectedMetrics;
+
+    AdmissionControlMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType), nameCreator(PREFIX));
+
+        rejectedMetrics = new UpdatableMetrics(metricRegistry, counterType, nameCreator(PREFIX + ".rejected"));
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+
+    UpdatableMetrics rejected() {
+        return rejectedMetrics;
+    }
+}
@@ -0,0 +1,74 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.prebid.server.auction.model.AuctionStage;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Auction stage metrics support.
+ * <p>
+ * Stage time is counted in fixed buckets, each auction increments the counter of the smallest bucket
+ * its stage time fits in.
+ */
+class AuctionStageMetrics extends UpdatableMetrics {
+
+    private static final long[] BUCKET_BOUNDS_NANOS = {
+            TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(5),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(25),
+            TimeUnit.MILLISECONDS.toNanos(50),
+            TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(250),
+            TimeUnit.MILLISECONDS.toNanos(500),
+            TimeUnit.MILLISECONDS.toNanos(1000)};
+
+    private static final MetricName[] BUCKETS = {
+            MetricName.le_1,
+            MetricName.le_5,
+            MetricName.le_10,
+            MetricName.le_25,
+            MetricName.le_50,
+            MetricName.le_100,
+            MetricName.le_250,
+            MetricName.le_500,
+            MetricName.le_1000,
+            MetricName.le_inf};
+
+    AuctionStageMetrics(MetricRegistry metricRegistry, CounterType counterType, AuctionStage stage) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(stage))));
+    }
+
+    AuctionStageMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, AuctionStage stage) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(prefix), Objects.requireNonNull(stage))));
+    }
+
+    private static String createPrefix(String prefix, AuctionStage stage) {
+        return "%s.%s".formatted(prefix, createPrefix(stage));
+    }
+
+    private static String createPrefix(AuctionStage stage) {
+        return "auction.stage." + stage;
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+
+    void updateStageTime(long nanos) {
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_NANOS.length && nanos > BUCKET_BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+        incCounter(BUCKETS[bucket]);
+    }
+}
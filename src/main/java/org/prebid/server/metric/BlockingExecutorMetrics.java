@@ -0,0 +1,25 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Blocking executor metrics support.
+ */
+class BlockingExecutorMetrics extends UpdatableMetrics {
+
+    BlockingExecutorMetrics(MetricRegistry metricRegistry, CounterType counterType, String executorName) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(executorName))));
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+
+    private static String createPrefix(String executorName) {
+        return "blocking-executor.%s".formatted(executorName);
+    }
+}
@@ -14,6 +14,16 @@ public enum MetricName {
     opened,
     existing,
 
+    // blocking executors
+    queued_tasks,
+    wait_time,
+    execution_time,
+
+    // admission control
+    inflight_requests,
+    cpu_load,
+    event_loop_lag,
+
     // database
     db_query_time,
 
@@ -22,12 +32,17 @@ public enum MetricName {
     geolocation_request_time,
     geolocation_successful,
     geolocation_fail,
+    geolocation_database_load_time,
+    geolocation_database_size,
+    geolocation_cache_size,
 
     // auction
     requests,
     app_requests,
     no_cookie_requests,
     request_time,
+    request_body_size,
+    request_parse_time,
     prices,
     imps_requested,
     imps_banner,
@@ -37,6 +52,8 @@ public enum MetricName {
     bids_received,
     adm_bids_received,
     nurl_bids_received,
+    ext_decoded,
+    ext_decoding_reused,
 
     // request types,
     openrtb2web("openrtb2-web"),
@@ -105,6 +122,8 @@ public enum MetricName {
     // vendor list
     missing,
     fallback,
+    size,
+    load_time,
 
     // stored data
     stored_requests_found,
@@ -144,6 +163,19 @@ public enum MetricName {
     execution_error("execution-error"),
     duration,
 
+    // auction stage time buckets, in milliseconds
+    le_1,
+    le_5,
+    le_10,
+    le_25,
+    le_50,
+    le_100,
+    le_250,
+    le_500,
+    le_1000,
+    le_inf,
+    incomplete,
+
     // price-floors
     price_floors("price-floors"),
 
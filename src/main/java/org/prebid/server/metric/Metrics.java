@@ -5,6 +5,7 @@ import com.iab.openrtb.request.Imp;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
@@ -18,6 +19,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -39,6 +43,7 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<AuctionStage, AuctionStageMetrics> auctionStageMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -58,7 +63,11 @@ public class Metrics extends UpdatableMetrics {
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<AuctionStage, AuctionStageMetrics> auctionStageMetrics;
     private final HooksMetrics hooksMetrics;
+    private final AdmissionControlMetrics admissionControlMetrics;
+    private final Function<String, BlockingExecutorMetrics> blockingExecutorMetricsCreator;
+    private final Map<String, BlockingExecutorMetrics> blockingExecutorMetrics;
 
     public Metrics(MetricRegistry metricRegistry,
                    CounterType counterType,
@@ -79,6 +88,7 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        auctionStageMetricsCreator = stage -> new AuctionStageMetrics(metricRegistry, counterType, stage);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
@@ -96,7 +106,12 @@ public class Metrics extends UpdatableMetrics {
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
+        auctionStageMetrics = new EnumMap<>(AuctionStage.class);
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
+        admissionControlMetrics = new AdmissionControlMetrics(metricRegistry, counterType);
+        blockingExecutorMetricsCreator = executorName ->
+                new BlockingExecutorMetrics(metricRegistry, counterType, executorName);
+        blockingExecutorMetrics = new ConcurrentHashMap<>();
     }
 
     RequestsMetrics requests() {
@@ -167,6 +182,18 @@ public class Metrics extends UpdatableMetrics {
         return hooksMetrics;
     }
 
+    AuctionStageMetrics forAuctionStage(AuctionStage stage) {
+        return auctionStageMetrics.computeIfAbsent(stage, auctionStageMetricsCreator);
+    }
+
+    AdmissionControlMetrics admissionControl() {
+        return admissionControlMetrics;
+    }
+
+    BlockingExecutorMetrics blockingExecutor(String executorName) {
+        return blockingExecutorMetrics.computeIfAbsent(executorName, blockingExecutorMetricsCreator);
+    }
+
     public void updateAppAndNoCookieAndImpsRequestedMetrics(boolean isApp, boolean liveUidsPresent, int numImps) {
         if (isApp) {
             incCounter(MetricName.app_requests);
@@ -217,10 +244,44 @@ public class Metrics extends UpdatableMetrics {
         return impMediaTypes;
     }
 
+    public void updateExtDecodingMetrics(int decoded, int reused) {
+        incCounter(MetricName.ext_decoded, decoded);
+        incCounter(MetricName.ext_decoding_reused, reused);
+    }
+
     public void updateRequestTimeMetric(MetricName requestType, long millis) {
         updateTimer(requestType, millis);
     }
 
+    public void updateRequestBodySizeMetric(int bytes) {
+        updateHistogram(MetricName.request_body_size, bytes);
+    }
+
+    public void updateRequestParseTimeMetric(long duration, TimeUnit timeUnit) {
+        updateTimer(MetricName.request_parse_time, duration, timeUnit);
+    }
+
+    public void updateAuctionStageMetrics(Account account,
+                                          Map<AuctionStage, Long> stageNanos,
+                                          Set<AuctionStage> incompleteStages) {
+
+        final boolean updateAccountMetrics = account != null
+                && accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed);
+
+        stageNanos.forEach((stage, nanos) -> {
+            forAuctionStage(stage).updateStageTime(nanos);
+            if (updateAccountMetrics) {
+                forAccount(account.getId()).auctionStage(stage).updateStageTime(nanos);
+            }
+        });
+        incompleteStages.forEach(stage -> {
+            forAuctionStage(stage).incCounter(MetricName.incomplete);
+            if (updateAccountMetrics) {
+                forAccount(account.getId()).auctionStage(stage).incCounter(MetricName.incomplete);
+            }
+        });
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -503,6 +564,12 @@ public class Metrics extends UpdatableMetrics {
         updatePrivacyTcfVendorListMetric(version, MetricName.fallback);
     }
 
+    public void updatePrivacyTcfVendorListLoadMetrics(int version, long sizeBytes, long loadTimeMillis) {
+        final UpdatableMetrics vendorListMetrics = privacy().tcf().fromVersion(version).vendorList();
+        vendorListMetrics.updateHistogram(MetricName.size, sizeBytes);
+        vendorListMetrics.updateTimer(MetricName.load_time, loadTimeMillis);
+    }
+
     private void updatePrivacyTcfVendorListMetric(int version, MetricName metricName) {
         final TcfMetrics tcfMetrics = privacy().tcf();
         tcfMetrics.fromVersion(version).vendorList().incCounter(metricName);
@@ -544,6 +611,22 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationRequestTimeMetric(long duration, TimeUnit timeUnit) {
+        updateTimer(MetricName.geolocation_request_time, duration, timeUnit);
+    }
+
+    public void updateGeoLocationDatabaseLoadTimeMetric(long millis) {
+        updateTimer(MetricName.geolocation_database_load_time, millis);
+    }
+
+    public void createGeoLocationDatabaseSizeGauge(LongSupplier sizeSupplier) {
+        createGauge(MetricName.geolocation_database_size, sizeSupplier);
+    }
+
+    public void createGeoLocationCacheSizeGauge(LongSupplier sizeSupplier) {
+        createGauge(MetricName.geolocation_cache_size, sizeSupplier);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -592,6 +675,30 @@ public class Metrics extends UpdatableMetrics {
         currencyRates().createGauge(MetricName.stale, () -> stateSupplier.getAsBoolean() ? 1 : 0);
     }
 
+    public void updateAdmissionControlRejectedMetric(MetricName reason) {
+        admissionControl().rejected().incCounter(reason);
+    }
+
+    public void createAdmissionControlInflightRequestsGauge(LongSupplier inflightRequestsSupplier) {
+        admissionControl().createGauge(MetricName.inflight_requests, inflightRequestsSupplier);
+    }
+
+    public void createAdmissionControlEventLoopLagGauge(LongSupplier lagSupplier) {
+        admissionControl().createGauge(MetricName.event_loop_lag, lagSupplier);
+    }
+
+    public void updateBlockingExecutorWaitTime(String executorName, long timeElapsed) {
+        blockingExecutor(executorName).updateTimer(MetricName.wait_time, timeElapsed);
+    }
+
+    public void updateBlockingExecutorExecutionTime(String executorName, long timeElapsed) {
+        blockingExecutor(executorName).updateTimer(MetricName.execution_time, timeElapsed);
+    }
+
+    public void createBlockingExecutorQueuedTasksGauge(String executorName, LongSupplier queuedTasksSupplier) {
+        blockingExecutor(executorName).createGauge(MetricName.queued_tasks, queuedTasksSupplier);
+    }
+
     public void updateSettingsCacheRefreshTime(MetricName cacheType, MetricName refreshType, long timeElapsed) {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).updateTimer(MetricName.db_query_time, timeElapsed);
     }
@@ -54,6 +54,13 @@ class UpdatableMetrics {
         metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Updates metric's timer with a given value in given time units.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit timeUnit) {
+        metricRegistry.timer(name(metricName)).update(duration, timeUnit);
+    }
+
     /**
      * Updates metric's histogram with a given value.
      */
@@ -10,7 +10,6 @@ import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 
 import java.util.Collection;
-import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -103,17 +102,17 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
         final Integer vendorId = vendorPermissionWithGvl.getVendorPermission().getVendorId();
         final Vendor vendorGvl = vendorPermissionWithGvl.getVendor();
 
-        final EnumSet<PurposeCode> flexiblePurposes = vendorGvl.getFlexiblePurposes();
+        final Set<PurposeCode> flexiblePurposes = vendorGvl.getFlexiblePurposes();
         final boolean isFlexible = CollectionUtils.isNotEmpty(flexiblePurposes) && flexiblePurposes.contains(purpose);
 
-        final EnumSet<PurposeCode> gvlPurposeCodes = vendorGvl.getPurposes();
+        final Set<PurposeCode> gvlPurposeCodes = vendorGvl.getPurposes();
         if (gvlPurposeCodes != null && gvlPurposeCodes.contains(purpose)) {
             return isFlexible
                     ? isAllowedByFlexible(purpose, vendorId, isEnforceVendor, tcString, restrictionType)
                     : isAllowedByNotFlexiblePurpose(purpose, vendorId, isEnforceVendor, tcString, restrictionType);
         }
 
-        final EnumSet<PurposeCode> legIntGvlPurposeCodes = vendorGvl.getLegIntPurposes();
+        final Set<PurposeCode> legIntGvlPurposeCodes = vendorGvl.getLegIntPurposes();
         if (legIntGvlPurposeCodes != null && legIntGvlPurposeCodes.contains(purpose)) {
             return isFlexible
                     ? isAllowedByFlexible(purpose, vendorId, isEnforceVendor, tcString, restrictionType)
@@ -0,0 +1,249 @@
+package org.prebid.server.privacy.gdpr.vendorlist;
+
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Feature;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.SpecialFeature;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.SpecialPurpose;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Immutable vendor list of a single version, indexed by vendor ID.
+ * <p>
+ * Vendor lookup is a plain array access instead of hash map lookup with boxed keys.
+ * Purposes and features of each vendor are kept in unmodifiable sets.
+ * <p>
+ * Missing purposes or features of a vendor are treated as empty sets.
+ * <p>
+ * The list can be serialized to compact binary form. Header contains the vendor list version, size of the JSON file
+ * the list was compiled from and checksum of the vendor records, so compact form of another version, of replaced
+ * JSON file or with corrupted records is rejected without reading the JSON file. Each vendor is stored as its ID
+ * followed by bitmasks of purposes, legitimate interest purposes, flexible purposes, special purposes, features
+ * and special features (bit number is a code of the purpose/feature).
+ */
+public class CompactVendorList extends AbstractMap<Integer, Vendor> {
+
+    private static final int FORMAT_VERSION = 3;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES + 2 * Long.BYTES;
+    private static final int VENDOR_RECORD_SIZE = 7 * Integer.BYTES;
+    private static final int MAX_VENDOR_ID = 1 << 16;
+
+    // rough estimation of Vendor object with its boxed id and six enum sets
+    private static final int VENDOR_SIZE_ESTIMATE = 200;
+
+    private static final PurposeCode[] PURPOSE_CODES = PurposeCode.values();
+    private static final SpecialPurpose[] SPECIAL_PURPOSES = SpecialPurpose.values();
+    private static final Feature[] FEATURES = Feature.values();
+    private static final SpecialFeature[] SPECIAL_FEATURES = SpecialFeature.values();
+
+    private final Vendor[] idToVendor;
+    private final int size;
+
+    private CompactVendorList(Vendor[] idToVendor, int size) {
+        this.idToVendor = idToVendor;
+        this.size = size;
+    }
+
+    public static CompactVendorList of(Map<Integer, Vendor> vendors) {
+        final int maxId = vendors.keySet().stream().mapToInt(CompactVendorList::validId).max().orElse(-1);
+
+        final Vendor[] idToVendor = new Vendor[maxId + 1];
+        vendors.forEach((id, vendor) -> idToVendor[id] = unmodifiable(vendor));
+
+        return new CompactVendorList(idToVendor, vendors.size());
+    }
+
+    /**
+     * Restores vendor list from its compact binary form or throws {@link PreBidException}
+     * if the form is corrupted or was not created for given version and source size.
+     */
+    public static CompactVendorList fromBuffer(Buffer buffer, int version, long sourceSize) {
+        if (buffer.length() < HEADER_SIZE || buffer.getInt(0) != FORMAT_VERSION) {
+            throw new PreBidException("Unsupported compact vendor list format");
+        }
+
+        if (buffer.getInt(Integer.BYTES) != version || buffer.getLong(2 * Integer.BYTES) != sourceSize) {
+            throw new PreBidException("Compact vendor list does not match its source");
+        }
+
+        final int count = buffer.getInt(2 * Integer.BYTES + 2 * Long.BYTES);
+        if (count < 0 || buffer.length() != HEADER_SIZE + count * VENDOR_RECORD_SIZE
+                || buffer.getLong(2 * Integer.BYTES + Long.BYTES) != recordsChecksum(buffer)) {
+
+            throw new PreBidException("Compact vendor list is corrupted");
+        }
+
+        final Vendor[] vendors = new Vendor[count];
+        int maxId = -1;
+        for (int i = 0, position = HEADER_SIZE; i < count; i++, position += VENDOR_RECORD_SIZE) {
+            final int id = validId(buffer.getInt(position));
+            vendors[i] = Vendor.builder()
+                    .id(id)
+                    .purposes(toEnumSet(buffer.getInt(position + Integer.BYTES), PurposeCode.class, PURPOSE_CODES,
+                            PurposeCode::code))
+                    .legIntPurposes(toEnumSet(buffer.getInt(position + 2 * Integer.BYTES), PurposeCode.class,
+                            PURPOSE_CODES, PurposeCode::code))
+                    .flexiblePurposes(toEnumSet(buffer.getInt(position + 3 * Integer.BYTES), PurposeCode.class,
+                            PURPOSE_CODES, PurposeCode::code))
+                    .specialPurposes(toEnumSet(buffer.getInt(position + 4 * Integer.BYTES), SpecialPurpose.class,
+                            SPECIAL_PURPOSES, SpecialPurpose::code))
+                    .features(toEnumSet(buffer.getInt(position + 5 * Integer.BYTES), Feature.class, FEATURES,
+                            Feature::code))
+                    .specialFeatures(toEnumSet(buffer.getInt(position + 6 * Integer.BYTES), SpecialFeature.class,
+                            SPECIAL_FEATURES, SpecialFeature::code))
+                    .build();
+            maxId = Math.max(maxId, id);
+        }
+
+        final Vendor[] idToVendor = new Vendor[maxId + 1];
+        for (Vendor vendor : vendors) {
+            if (idToVendor[vendor.getId()] != null) {
+                throw new PreBidException("Compact vendor list is corrupted");
+            }
+            idToVendor[vendor.getId()] = vendor;
+        }
+
+        return new CompactVendorList(idToVendor, count);
+    }
+
+    /**
+     * Serializes vendor list to compact binary form bound to given version and size of its source in bytes.
+     */
+    public Buffer toBuffer(int version, long sourceSize) {
+        final Buffer buffer = Buffer.buffer(HEADER_SIZE + size * VENDOR_RECORD_SIZE)
+                .appendInt(FORMAT_VERSION)
+                .appendInt(version)
+                .appendLong(sourceSize)
+                .appendLong(0L)
+                .appendInt(size);
+
+        for (int id = 0; id < idToVendor.length; id++) {
+            final Vendor vendor = idToVendor[id];
+            if (vendor != null) {
+                buffer.appendInt(id)
+                        .appendInt(toBitmask(vendor.getPurposes(), PurposeCode::code))
+                        .appendInt(toBitmask(vendor.getLegIntPurposes(), PurposeCode::code))
+                        .appendInt(toBitmask(vendor.getFlexiblePurposes(), PurposeCode::code))
+                        .appendInt(toBitmask(vendor.getSpecialPurposes(), SpecialPurpose::code))
+                        .appendInt(toBitmask(vendor.getFeatures(), Feature::code))
+                        .appendInt(toBitmask(vendor.getSpecialFeatures(), SpecialFeature::code));
+            }
+        }
+
+        return buffer.setLong(2 * Integer.BYTES + Long.BYTES, recordsChecksum(buffer));
+    }
+
+    /**
+     * Returns estimated heap size of this vendor list in bytes.
+     */
+    public long estimatedSize() {
+        return (long) idToVendor.length * Integer.BYTES + (long) size * VENDOR_SIZE_ESTIMATE;
+    }
+
+    @Override
+    public Vendor get(Object key) {
+        if (key instanceof Integer id && id >= 0 && id < idToVendor.length) {
+            return idToVendor[id];
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<Integer, Vendor>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<Integer, Vendor>> iterator() {
+                return IntStream.range(0, idToVendor.length)
+                        .filter(id -> idToVendor[id] != null)
+                        .<Entry<Integer, Vendor>>mapToObj(id -> new SimpleImmutableEntry<>(id, idToVendor[id]))
+                        .iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int validId(Integer id) {
+        if (id == null || id < 0 || id >= MAX_VENDOR_ID) {
+            throw new PreBidException("Invalid vendor id: " + id);
+        }
+        return id;
+    }
+
+    private static Vendor unmodifiable(Vendor vendor) {
+        return vendor.toBuilder()
+                .purposes(unmodifiable(vendor.getPurposes(), PurposeCode.class))
+                .legIntPurposes(unmodifiable(vendor.getLegIntPurposes(), PurposeCode.class))
+                .flexiblePurposes(unmodifiable(vendor.getFlexiblePurposes(), PurposeCode.class))
+                .specialPurposes(unmodifiable(vendor.getSpecialPurposes(), SpecialPurpose.class))
+                .features(unmodifiable(vendor.getFeatures(), Feature.class))
+                .specialFeatures(unmodifiable(vendor.getSpecialFeatures(), SpecialFeature.class))
+                .build();
+    }
+
+    private static <E extends Enum<E>> Set<E> unmodifiable(Set<E> values, Class<E> type) {
+        final EnumSet<E> copy = EnumSet.noneOf(type);
+        if (values != null) {
+            copy.addAll(values);
+        }
+        return Collections.unmodifiableSet(copy);
+    }
+
+    private static long recordsChecksum(Buffer buffer) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(buffer.getByteBuf().nioBuffer(HEADER_SIZE, buffer.length() - HEADER_SIZE));
+        return crc32.getValue();
+    }
+
+    private static <E extends Enum<E>> int toBitmask(Set<E> values, ToIntFunction<E> codeExtractor) {
+        if (values == null) {
+            return 0;
+        }
+
+        int bitmask = 0;
+        for (E value : values) {
+            bitmask |= 1 << codeExtractor.applyAsInt(value);
+        }
+        return bitmask;
+    }
+
+    private static <E extends Enum<E>> Set<E> toEnumSet(int bitmask,
+                                                        Class<E> type,
+                                                        E[] values,
+                                                        ToIntFunction<E> codeExtractor) {
+
+        final EnumSet<E> result = EnumSet.noneOf(type);
+        for (E value : values) {
+            if ((bitmask & (1 << codeExtractor.applyAsInt(value))) != 0) {
+                result.add(value);
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+}
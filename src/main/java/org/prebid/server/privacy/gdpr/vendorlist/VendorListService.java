@@ -27,9 +27,11 @@ import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -47,6 +49,9 @@ import java.util.stream.Collectors;
  * So, on service creation we initialize in-memory cache from previously loaded vendor list on file system.
  * If request asks version that is absent in cache, we respond with failed result but start background process
  * to download new version and then put it to cache.
+ * <p>
+ * Each version is kept as immutable {@link CompactVendorList} and is persisted next to the original JSON file
+ * in compact binary form, so restarts don't need to read and parse JSON again.
  */
 public class VendorListService {
 
@@ -56,6 +61,7 @@ public class VendorListService {
     private static final int TCF_VERSION = 2;
 
     private static final String JSON_SUFFIX = ".json";
+    private static final String COMPACT_SUFFIX = ".bin";
     private static final String VERSION_PLACEHOLDER = "{VERSION}";
 
     private final double logSamplingRate;
@@ -73,11 +79,11 @@ public class VendorListService {
 
     /**
      * This is memory/performance optimized model slice:
-     * map of vendor list version -> map of vendor ID -> Vendors
+     * map of vendor list version -> vendors indexed by vendor ID
      */
-    private final Map<Integer, Map<Integer, Vendor>> cache;
+    private final Map<Integer, CompactVendorList> cache;
 
-    private final Map<Integer, Vendor> fallbackVendorList;
+    private final CompactVendorList fallbackVendorList;
     private final Set<Integer> versionsToFallback;
     private final VendorListFetchThrottler fetchThrottler;
 
@@ -177,11 +183,10 @@ public class VendorListService {
     }
 
     /**
-     * Returns a Map of vendor id to Vendors.
+     * Returns vendors of the given {@link VendorList} indexed by vendor id.
      */
-    private Map<Integer, Vendor> filterVendorIdToVendors(VendorList vendorList) {
-        return vendorList.getVendors().entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private static CompactVendorList compile(VendorList vendorList) {
+        return CompactVendorList.of(vendorList.getVendors());
     }
 
     /**
@@ -232,41 +237,97 @@ public class VendorListService {
     /**
      * Creates the cache from previously downloaded vendor lists.
      */
-    private Map<Integer, Map<Integer, Vendor>> createCache(FileSystem fileSystem, String cacheDir) {
-        final Map<String, String> versionToFileContent = readFileSystemCache(fileSystem, cacheDir);
-
-        final Map<Integer, Map<Integer, Vendor>> cache = Caffeine.newBuilder()
-                .<Integer, Map<Integer, Vendor>>build()
+    private Map<Integer, CompactVendorList> createCache(FileSystem fileSystem, String cacheDir) {
+        final List<String> filepaths = fileSystem.readDirBlocking(cacheDir);
+        final Set<String> compactFilepaths = filepaths.stream()
+                .filter(filepath -> filepath.endsWith(COMPACT_SUFFIX))
+                .collect(Collectors.toSet());
+
+        final Map<Integer, CompactVendorList> cache = Caffeine.newBuilder()
+                .<Integer, CompactVendorList>build()
                 .asMap();
 
-        for (Map.Entry<String, String> versionAndFileContent : versionToFileContent.entrySet()) {
-            final VendorList vendorList = toVendorList(versionAndFileContent.getValue());
-            final Map<Integer, Vendor> vendorIdToVendors = filterVendorIdToVendors(vendorList);
-
-            cache.put(Integer.valueOf(versionAndFileContent.getKey()), vendorIdToVendors);
+        for (String filepath : filepaths) {
+            if (filepath.endsWith(JSON_SUFFIX)) {
+                final int version = Integer.parseInt(StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX));
+                final String compactFilepath = StringUtils.removeEnd(filepath, JSON_SUFFIX) + COMPACT_SUFFIX;
+                final CompactVendorList vendorList = readFileSystemCache(
+                        fileSystem,
+                        version,
+                        filepath,
+                        compactFilepaths.contains(compactFilepath) ? compactFilepath : null);
+
+                cache.put(version, vendorList);
+            }
         }
         return cache;
     }
 
     /**
-     * Reads files with .json extension in configured directory and
-     * returns a {@link Map} where key is a file name without .json extension and value is file content.
+     * Reads vendor list from the compact file if it exists and was created from JSON file of the same size,
+     * otherwise parses JSON file and saves compact file for the next time. JSON file is not read when compact file
+     * is valid, since its records are checked against the checksum stored in the compact file itself.
      */
-    private Map<String, String> readFileSystemCache(FileSystem fileSystem, String dir) {
-        return fileSystem.readDirBlocking(dir).stream()
-                .filter(filepath -> filepath.endsWith(JSON_SUFFIX))
-                .collect(Collectors.toMap(filepath -> StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX),
-                        filename -> fileSystem.readFileBlocking(filename).toString()));
+    private CompactVendorList readFileSystemCache(FileSystem fileSystem,
+                                                  int version,
+                                                  String filepath,
+                                                  String compactFilepath) {
+
+        final long startTime = System.currentTimeMillis();
+
+        CompactVendorList vendorList = compactFilepath != null
+                ? readCompactFile(fileSystem, compactFilepath, version, fileSystem.propsBlocking(filepath).size())
+                : null;
+        if (vendorList == null) {
+            final Buffer content = fileSystem.readFileBlocking(filepath);
+            vendorList = compile(toVendorList(content.toString()));
+            writeCompactFile(
+                    fileSystem,
+                    StringUtils.removeEnd(filepath, JSON_SUFFIX) + COMPACT_SUFFIX,
+                    vendorList,
+                    version,
+                    content.length());
+        }
+
+        updateLoadMetrics(vendorList, startTime);
+        return vendorList;
+    }
+
+    private static CompactVendorList readCompactFile(FileSystem fileSystem,
+                                                     String compactFilepath,
+                                                     int version,
+                                                     long sourceSize) {
+
+        try {
+            return CompactVendorList.fromBuffer(fileSystem.readFileBlocking(compactFilepath), version, sourceSize);
+        } catch (RuntimeException e) {
+            logger.warn("Cannot read compact vendor list from {}, JSON file will be used: {}",
+                    compactFilepath, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeCompactFile(FileSystem fileSystem,
+                                         String compactFilepath,
+                                         CompactVendorList vendorList,
+                                         int version,
+                                         long sourceSize) {
+
+        try {
+            fileSystem.writeFileBlocking(compactFilepath, vendorList.toBuffer(version, sourceSize));
+        } catch (RuntimeException e) {
+            logger.warn("Cannot write compact vendor list to {}: {}", compactFilepath, e.getMessage());
+        }
     }
 
-    private Map<Integer, Vendor> readFallbackVendorList(String fallbackVendorListPath) {
+    private CompactVendorList readFallbackVendorList(String fallbackVendorListPath) {
         final String vendorListContent = fileSystem.readFileBlocking(fallbackVendorListPath).toString();
         final VendorList vendorList = toVendorList(vendorListContent);
         if (!isValid(vendorList)) {
             throw new PreBidException("Fallback vendor list parsed but has invalid data: " + vendorListContent);
         }
 
-        return filterVendorIdToVendors(vendorList);
+        return compile(vendorList);
     }
 
     private boolean shouldFallback(int version) {
@@ -291,7 +352,7 @@ public class VendorListService {
      * and creates {@link Future} with {@link VendorListResult} from body content
      * or throws {@link PreBidException} in case of errors.
      */
-    private VendorListResult<VendorList> processResponse(HttpClientResponse response, int version) {
+    private VendorListResult<CompactVendorList> processResponse(HttpClientResponse response, int version) {
         final int statusCode = response.getStatusCode();
 
         if (statusCode == HttpResponseStatus.NOT_FOUND.code()) {
@@ -301,6 +362,7 @@ public class VendorListService {
             throw new PreBidException("HTTP status code " + statusCode);
         }
 
+        final long startTime = System.currentTimeMillis();
         final String body = response.getBody();
         final VendorList vendorList = toVendorList(body);
 
@@ -311,14 +373,20 @@ public class VendorListService {
         }
 
         fetchThrottler.succeedFetchAttempt(version);
-        return VendorListResult.of(version, body, vendorList);
+
+        final CompactVendorList compactVendorList = compile(vendorList);
+        updateLoadMetrics(compactVendorList, startTime);
+
+        return VendorListResult.of(version, body, compactVendorList);
     }
 
     /**
      * Saves given vendor list on file system.
      */
-    private Future<VendorListResult<VendorList>> saveToFile(VendorListResult<VendorList> vendorListResult) {
-        final Promise<VendorListResult<VendorList>> promise = Promise.promise();
+    private Future<VendorListResult<CompactVendorList>> saveToFile(
+            VendorListResult<CompactVendorList> vendorListResult) {
+
+        final Promise<VendorListResult<CompactVendorList>> promise = Promise.promise();
         final int version = vendorListResult.getVersion();
         final String filepath = new File(cacheDir, version + JSON_SUFFIX).getPath();
 
@@ -337,10 +405,12 @@ public class VendorListService {
         return promise.future();
     }
 
-    private Void updateCache(VendorListResult<VendorList> vendorListResult) {
+    private Void updateCache(VendorListResult<CompactVendorList> vendorListResult) {
         final int version = vendorListResult.getVersion();
+        final CompactVendorList vendorList = vendorListResult.getVendorList();
 
-        cache.put(version, filterVendorIdToVendors(vendorListResult.getVendorList()));
+        cache.put(version, vendorList);
+        saveCompactToFile(version, vendorList, vendorListResult.getVendorListAsString());
 
         final int tcf = getTcfVersion();
 
@@ -353,6 +423,29 @@ public class VendorListService {
         return null;
     }
 
+    /**
+     * Saves compact form of the given vendor list on file system, failure is not critical
+     * since the vendor list will be restored from JSON file on restart.
+     */
+    private void saveCompactToFile(int version, CompactVendorList vendorList, String vendorListAsString) {
+        final String filepath = new File(cacheDir, version + COMPACT_SUFFIX).getPath();
+        final long sourceSize = vendorListAsString.getBytes(StandardCharsets.UTF_8).length;
+
+        fileSystem.writeFile(filepath, vendorList.toBuffer(version, sourceSize), result -> {
+            if (result.failed()) {
+                conditionalLogger.warn(
+                        "Could not create compact vendor list for version %s.%s, file: %s: %s".formatted(
+                                generationVersion, version, filepath, result.cause().getMessage()),
+                        logSamplingRate);
+            }
+        });
+    }
+
+    private void updateLoadMetrics(CompactVendorList vendorList, long startTime) {
+        metrics.updatePrivacyTcfVendorListLoadMetrics(
+                getTcfVersion(), vendorList.estimatedSize(), System.currentTimeMillis() - startTime);
+    }
+
     /**
      * Handles errors occurred while HTTP or File System processing.
      */
@@ -17,6 +17,10 @@ public enum Feature {
         this.code = code;
     }
 
+    public int code() {
+        return code;
+    }
+
     @SuppressWarnings("unused")
     @JsonCreator
     public static Feature valueOf(int code) {
@@ -16,6 +16,10 @@ public enum SpecialFeature {
         this.code = code;
     }
 
+    public int code() {
+        return code;
+    }
+
     @SuppressWarnings("unused")
     @JsonCreator
     public static SpecialFeature valueOf(int code) {
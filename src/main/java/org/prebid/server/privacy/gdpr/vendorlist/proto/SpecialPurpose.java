@@ -16,6 +16,10 @@ public enum SpecialPurpose {
         this.code = code;
     }
 
+    public int code() {
+        return code;
+    }
+
     @SuppressWarnings("unused")
     @JsonCreator
     public static SpecialPurpose valueOf(int code) {
@@ -3,35 +3,34 @@ package org.prebid.server.privacy.gdpr.vendorlist.proto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.util.EnumSet;
+import java.util.Set;
 
 @AllArgsConstructor
-@NoArgsConstructor
 @Builder(toBuilder = true)
-@Data
+@Value
 public class Vendor {
 
     Integer id;
 
-    EnumSet<PurposeCode> purposes;
+    Set<PurposeCode> purposes;
 
     @JsonProperty("legIntPurposes")
-    EnumSet<PurposeCode> legIntPurposes;
+    Set<PurposeCode> legIntPurposes;
 
     @JsonProperty("flexiblePurposes")
-    EnumSet<PurposeCode> flexiblePurposes;
+    Set<PurposeCode> flexiblePurposes;
 
     @JsonProperty("specialPurposes")
-    EnumSet<SpecialPurpose> specialPurposes;
+    Set<SpecialPurpose> specialPurposes;
 
     @JsonProperty("features")
-    EnumSet<Feature> features;
+    Set<Feature> features;
 
     @JsonProperty("specialFeatures")
-    EnumSet<SpecialFeature> specialFeatures;
+    Set<SpecialFeature> specialFeatures;
 
     public static Vendor empty(Integer id) {
         return Vendor.builder()
@@ -45,4 +44,3 @@ public class Vendor {
                 .build();
     }
 }
-
@@ -117,11 +117,37 @@ public class CachingApplicationSettings implements ApplicationSettings {
     }
 
     /**
-     * Delegates stored response retrieve to original fetcher, as caching is not supported fot stored response.
+     * Retrieves stored responses from cache and delegates absent ones to original fetcher.
+     * Responses found by original fetcher are saved to cache, errors are not cached.
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
-        return delegate.getStoredResponses(responseIds, timeout);
+        final Map<String, String> responseCache = cache.getResponseCache();
+
+        final Map<String, String> idToStoredResponse = new HashMap<>(responseIds.size());
+        final Set<String> missedResponseIds = new HashSet<>();
+        for (String responseId : responseIds) {
+            final String storedResponse = responseCache.get(responseId);
+            if (storedResponse != null) {
+                idToStoredResponse.put(responseId, storedResponse);
+            } else {
+                missedResponseIds.add(responseId);
+            }
+        }
+
+        if (missedResponseIds.isEmpty()) {
+            return Future.succeededFuture(StoredResponseDataResult.of(idToStoredResponse, Collections.emptyList()));
+        }
+
+        return delegate.getStoredResponses(missedResponseIds, timeout).map(result -> {
+            final Map<String, String> idToStoredResponseFromDelegate = result.getIdToStoredResponses();
+            idToStoredResponse.putAll(idToStoredResponseFromDelegate);
+            for (Map.Entry<String, String> entry : idToStoredResponseFromDelegate.entrySet()) {
+                cache.saveResponseCache(entry.getKey(), entry.getValue());
+            }
+
+            return StoredResponseDataResult.of(idToStoredResponse, result.getErrors());
+        });
     }
 
     @Override
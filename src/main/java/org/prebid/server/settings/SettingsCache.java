@@ -2,6 +2,7 @@ package org.prebid.server.settings;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.checkerframework.checker.index.qual.NonNegative;
@@ -15,12 +16,13 @@ import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Just a simple wrapper over in-memory caches for requests and imps.
+ * Just a simple wrapper over in-memory caches for requests, imps and responses.
  */
 public class SettingsCache implements CacheNotificationListener {
 
     private final Map<String, Set<StoredItem>> requestCache;
     private final Map<String, Set<StoredItem>> impCache;
+    private final Map<String, String> responseCache;
 
     public SettingsCache(int ttl, int size, int jitter) {
         if (ttl <= 0 || size <= 0) {
@@ -32,6 +34,7 @@ public class SettingsCache implements CacheNotificationListener {
 
         requestCache = createCache(ttl, size, jitter);
         impCache = createCache(ttl, size, jitter);
+        responseCache = createCache(ttl, size, jitter);
     }
 
     public static <T> Map<String, T> createCache(int ttlSeconds, int size, int jitterSeconds) {
@@ -55,6 +58,10 @@ public class SettingsCache implements CacheNotificationListener {
         return impCache;
     }
 
+    Map<String, String> getResponseCache() {
+        return responseCache;
+    }
+
     void saveRequestCache(String accountId, String requestId, String requestValue) {
         saveCachedValue(requestCache, accountId, requestId, requestValue);
     }
@@ -63,6 +70,10 @@ public class SettingsCache implements CacheNotificationListener {
         saveCachedValue(impCache, accountId, impId, impValue);
     }
 
+    void saveResponseCache(String responseId, String responseValue) {
+        responseCache.put(responseId, responseValue);
+    }
+
     private static void saveCachedValue(Map<String, Set<StoredItem>> cache,
                                         String accountId,
                                         String id,
@@ -90,8 +101,20 @@ public class SettingsCache implements CacheNotificationListener {
 
     @Override
     public void invalidate(List<String> requests, List<String> imps) {
-        requests.forEach(requestCache.keySet()::remove);
-        imps.forEach(impCache.keySet()::remove);
+        ListUtils.emptyIfNull(requests).forEach(requestCache.keySet()::remove);
+        ListUtils.emptyIfNull(imps).forEach(impCache.keySet()::remove);
+    }
+
+    @Override
+    public void saveResponses(Map<String, String> responses) {
+        if (MapUtils.isNotEmpty(responses)) {
+            responseCache.putAll(responses);
+        }
+    }
+
+    @Override
+    public void invalidateResponses(List<String> responses) {
+        ListUtils.emptyIfNull(responses).forEach(responseCache.keySet()::remove);
     }
 
     private static class StaticExpiry<K, V> implements Expiry<K, V> {
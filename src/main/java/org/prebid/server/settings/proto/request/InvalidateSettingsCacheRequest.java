@@ -12,4 +12,6 @@ public class InvalidateSettingsCacheRequest {
     List<String> requests;
 
     List<String> imps;
+
+    List<String> responses;
 }
@@ -7,6 +7,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
+import org.prebid.server.execution.BlockingExecutorFactory;
 import org.prebid.server.execution.RemoteFileSyncer;
 import org.prebid.server.execution.retry.ExponentialBackoffRetryPolicy;
 import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
@@ -48,6 +49,8 @@ public class GeoLocationConfiguration {
     @ConditionalOnExpression("${geolocation.enabled} == true and '${geolocation.type}' == 'maxmind'")
     static class MaxMindGeoLocationConfiguration {
 
+        private static final String MAXMIND_EXECUTOR_NAME = "geolocation-maxmind";
+
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "true")
         @ConfigurationProperties(prefix = "geolocation.circuit-breaker")
@@ -65,28 +68,45 @@ public class GeoLocationConfiguration {
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
         GeoLocationService basicGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
-
-            return createGeoLocationService(fileSyncerProperties, vertx);
+                                                   @Value("${geolocation.maxmind.lookup-cache-size}")
+                                                   int lookupCacheSize,
+                                                   Vertx vertx,
+                                                   BlockingExecutorFactory blockingExecutorFactory,
+                                                   Metrics metrics,
+                                                   Clock clock) {
+
+            return createGeoLocationService(
+                    fileSyncerProperties, lookupCacheSize, vertx, blockingExecutorFactory, metrics, clock);
         }
 
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "true")
         CircuitBreakerSecuredGeoLocationService circuitBreakerSecuredGeoLocationService(
                 Vertx vertx,
+                BlockingExecutorFactory blockingExecutorFactory,
                 Metrics metrics,
                 RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.lookup-cache-size}") int lookupCacheSize,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(
+                            fileSyncerProperties, lookupCacheSize, vertx, blockingExecutorFactory, metrics, clock),
+                    metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties properties, Vertx vertx) {
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+        private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties properties,
+                                                            int lookupCacheSize,
+                                                            Vertx vertx,
+                                                            BlockingExecutorFactory blockingExecutorFactory,
+                                                            Metrics metrics,
+                                                            Clock clock) {
+
+            final MaxMindGeoLocationService maxMindGeoLocationService =
+                    new MaxMindGeoLocationService(lookupCacheSize, metrics, clock);
             final HttpClientProperties httpClientProperties = properties.getHttpClient();
             final HttpClientOptions httpClientOptions = new HttpClientOptions()
                     .setConnectTimeout(httpClientProperties.getConnectTimeoutMs())
@@ -101,7 +121,8 @@ public class GeoLocationConfiguration {
                     properties.getTimeoutMs(),
                     properties.getUpdateIntervalMs(),
                     vertx.createHttpClient(httpClientOptions),
-                    vertx);
+                    vertx,
+                    blockingExecutorFactory.executor(MAXMIND_EXECUTOR_NAME, 1));
 
             remoteFileSyncer.sync();
             return maxMindGeoLocationService;
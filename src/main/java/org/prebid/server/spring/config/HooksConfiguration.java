@@ -4,6 +4,7 @@ import io.vertx.core.Vertx;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.hooks.creative.CreativeScanner;
 import org.prebid.server.hooks.execution.HookCatalog;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.hooks.v1.Module;
@@ -42,6 +43,11 @@ public class HooksConfiguration {
                 mapper);
     }
 
+    @Bean
+    CreativeScanner creativeScanner() {
+        return new CreativeScanner();
+    }
+
     @Bean
     @ConfigurationProperties("hooks")
     HooksConfigurationProperties hooksConfigurationProperties() {
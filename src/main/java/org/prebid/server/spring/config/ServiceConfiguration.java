@@ -80,6 +80,7 @@ import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.CoopSyncProvider;
 import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
+import org.prebid.server.cookie.UidsCookieCodec;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.events.EventsService;
@@ -95,6 +96,7 @@ import org.prebid.server.identity.NoneIdGenerator;
 import org.prebid.server.identity.UUIDIdGenerator;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.log.AuctionCaptureWriter;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.CriteriaManager;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -421,7 +423,8 @@ public class ServiceConfiguration {
             AuctionPrivacyContextFactory auctionPrivacyContextFactory,
             DebugResolver debugResolver,
             JacksonMapper mapper,
-            GeoLocationServiceWrapper geoLocationServiceWrapper) {
+            GeoLocationServiceWrapper geoLocationServiceWrapper,
+            Metrics metrics) {
 
         return new AuctionRequestFactory(
                 maxRequestSize,
@@ -437,7 +440,8 @@ public class ServiceConfiguration {
                 auctionPrivacyContextFactory,
                 debugResolver,
                 mapper,
-                geoLocationServiceWrapper);
+                geoLocationServiceWrapper,
+                metrics);
     }
 
     @Bean
@@ -652,6 +656,7 @@ public class ServiceConfiguration {
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
+            UidsCookieCodec uidsCookieCodec,
             Metrics metrics,
             JacksonMapper mapper) {
 
@@ -664,10 +669,20 @@ public class ServiceConfiguration {
                 ttlDays,
                 maxCookieSizeBytes,
                 prioritizedCoopSyncProvider,
+                uidsCookieCodec,
                 metrics,
                 mapper);
     }
 
+    @Bean
+    UidsCookieCodec uidsCookieCodec(
+            @Value("${host-cookie.binary-format-enabled:false}") boolean binaryFormatEnabled,
+            @Value("${host-cookie.decode-cache-size:0}") int decodeCacheSize,
+            JacksonMapper mapper) {
+
+        return new UidsCookieCodec(binaryFormatEnabled, decodeCacheSize, mapper);
+    }
+
     @Bean
     UidUpdater uidUpdater(
             @Value("${host-cookie.family:#{null}}") String hostCookieFamily,
@@ -1035,8 +1050,14 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            BidderCatalog bidderCatalog,
+            @Value("${auction.validations.bidder-params-cache-size:0}") int bidderParamsCacheSize,
+            @Value("${auction.validations.bidder-params-lazy-compile:false}") boolean bidderParamsLazyCompile,
+            JacksonMapper mapper) {
+
+        return BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", bidderParamsCacheSize, bidderParamsLazyCompile, mapper);
     }
 
     @Bean
@@ -1139,8 +1160,19 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    HttpInteractionLogger httpInteractionLogger(JacksonMapper mapper) {
-        return new HttpInteractionLogger(mapper);
+    AuctionCaptureWriter auctionCaptureWriter(Vertx vertx,
+                                              @Value("${logging.http-interaction.capture-dir}") String captureDir,
+                                              Clock clock) {
+
+        return new AuctionCaptureWriter(vertx.fileSystem(), captureDir, clock);
+    }
+
+    @Bean
+    HttpInteractionLogger httpInteractionLogger(JacksonMapper mapper,
+                                                AuctionCaptureWriter auctionCaptureWriter,
+                                                Clock clock) {
+
+        return new HttpInteractionLogger(mapper, auctionCaptureWriter, clock);
     }
 
     @Bean
@@ -0,0 +1,137 @@
+package org.prebid.server.spring.config;
+
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reports where startup time goes, using steps recorded by {@link BufferingApplicationStartup}.
+ * <p>
+ * Steps are buffered only if startup timing is enabled on start, see {@link org.prebid.server.Application}.
+ * They are drained when application is ready and summarized if {@code startup.timing-enabled} is set.
+ */
+@Configuration
+public class StartupTimingReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimingReporter.class);
+
+    static final String VERTICLES_DEPLOY_STEP = "prebid.verticles.deploy";
+
+    private static final Map<String, String> PHASES = phases();
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+    private static final String BEAN_NAME_TAG = "beanName";
+    private static final String BIDDER_DEPS_BEAN_SUFFIX = "BidderDeps";
+    private static final int SLOWEST_BEANS_COUNT = 10;
+
+    @Value("${startup.timing-enabled:false}")
+    private boolean timingEnabled;
+
+    @Autowired
+    private ApplicationStartup applicationStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingApplicationStartup)) {
+            if (timingEnabled) {
+                logger.warn("Startup timing was not recorded, it should be enabled by command line argument,"
+                        + " system property or environment variable");
+            }
+            return;
+        }
+
+        final StartupTimeline timeline = bufferingApplicationStartup.drainBufferedTimeline();
+        if (timingEnabled) {
+            summary(timeline.getEvents()).forEach(logger::info);
+        }
+    }
+
+    private static Map<String, String> phases() {
+        final Map<String, String> phases = new LinkedHashMap<>();
+        phases.put("spring.boot.application.environment-prepared", "environment preparation");
+        phases.put("spring.context.config-classes.parse", "configuration classes parsing");
+        phases.put("spring.context.beans.post-process", "bean factory post-processing");
+        phases.put("spring.context.refresh", "context refresh");
+        phases.put(VERTICLES_DEPLOY_STEP, "verticles deployment");
+        return phases;
+    }
+
+    static List<String> summary(List<StartupTimeline.TimelineEvent> events) {
+        final Map<Long, Duration> childrenDurations = new HashMap<>();
+        final Map<String, Duration> phaseDurations = new LinkedHashMap<>();
+        final Map<String, Duration> beanSelfDurations = new HashMap<>();
+        Duration bidderDepsDuration = Duration.ZERO;
+        int bidderDepsCount = 0;
+
+        for (StartupTimeline.TimelineEvent event : events) {
+            final Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childrenDurations.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        for (StartupTimeline.TimelineEvent event : events) {
+            final StartupStep step = event.getStartupStep();
+            final String phase = PHASES.get(step.getName());
+            if (phase != null) {
+                phaseDurations.merge(phase, event.getDuration(), Duration::plus);
+            }
+
+            final String beanName = BEAN_INSTANTIATE_STEP.equals(step.getName()) ? beanName(step) : null;
+            if (beanName != null) {
+                final Duration selfDuration = event.getDuration()
+                        .minus(childrenDurations.getOrDefault(step.getId(), Duration.ZERO));
+                beanSelfDurations.merge(beanName, selfDuration, Duration::plus);
+
+                if (beanName.endsWith(BIDDER_DEPS_BEAN_SUFFIX)) {
+                    bidderDepsDuration = bidderDepsDuration.plus(event.getDuration());
+                    bidderDepsCount++;
+                }
+            }
+        }
+
+        final List<String> summary = new ArrayList<>();
+        phaseDurations.forEach((phase, duration) ->
+                summary.add("Startup phase '%s' took %d ms".formatted(phase, duration.toMillis())));
+        if (bidderDepsCount > 0) {
+            summary.add("Startup of %d bidders took %d ms".formatted(bidderDepsCount, bidderDepsDuration.toMillis()));
+        }
+        if (!beanSelfDurations.isEmpty()) {
+            summary.add("Slowest beans to instantiate: " + slowestBeans(beanSelfDurations));
+        }
+        return summary;
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (BEAN_NAME_TAG.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String slowestBeans(Map<String, Duration> beanDurations) {
+        return beanDurations.entrySet().stream()
+                .sorted(Map.Entry.<String, Duration>comparingByValue(Comparator.reverseOrder()))
+                .limit(SLOWEST_BEANS_COUNT)
+                .map(entry -> "%s (%d ms)".formatted(entry.getKey(), entry.getValue().toMillis()))
+                .collect(Collectors.joining(", "));
+    }
+}
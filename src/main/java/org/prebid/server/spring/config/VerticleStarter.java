@@ -8,6 +8,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 
 import java.util.List;
 
@@ -23,18 +25,29 @@ public class VerticleStarter {
     @Autowired
     private List<VerticleDefinition> definitions;
 
+    @Autowired
+    private ApplicationStartup applicationStartup;
+
     @EventListener(ContextRefreshedEvent.class)
     public void start() {
-        for (VerticleDefinition definition : definitions) {
-            if (definition.getAmount() <= 0) {
-                continue;
+        final StartupStep startupStep = applicationStartup.start(StartupTimingReporter.VERTICLES_DEPLOY_STEP);
+
+        // each deployment is waited for until all its verticle instances are started, so the step ends
+        // only when deployment is completed, or failed
+        try {
+            for (VerticleDefinition definition : definitions) {
+                if (definition.getAmount() <= 0) {
+                    continue;
+                }
+
+                contextRunner.<String>runBlocking(promise ->
+                        vertx.deployVerticle(
+                                definition.getFactory(),
+                                new DeploymentOptions().setInstances(definition.getAmount()),
+                                promise));
             }
-
-            contextRunner.<String>runBlocking(promise ->
-                    vertx.deployVerticle(
-                            definition.getFactory(),
-                            new DeploymentOptions().setInstances(definition.getAmount()),
-                            promise));
+        } finally {
+            startupStep.end();
         }
     }
 }
@@ -7,14 +7,18 @@ import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.dropwizard.Match;
 import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
+import org.prebid.server.execution.BlockingExecutorFactory;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.metrics.MetricsConfiguration;
 import org.prebid.server.vertx.ContextRunner;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
+
 @Configuration
 public class VertxConfiguration {
 
@@ -56,4 +60,14 @@ public class VertxConfiguration {
     ContextRunner contextRunner(Vertx vertx, @Value("${vertx.init-timeout-ms}") long initTimeoutMs) {
         return new ContextRunner(vertx, initTimeoutMs);
     }
+
+    @Bean
+    BlockingExecutorFactory blockingExecutorFactory(
+            Vertx vertx,
+            @Value("${vertx.virtual-threads-enabled:false}") boolean virtualThreadsEnabled,
+            Metrics metrics,
+            Clock clock) {
+
+        return new BlockingExecutorFactory(vertx, virtualThreadsEnabled, metrics, clock);
+    }
 }
@@ -51,6 +51,8 @@ public class BidderConfigurationProperties {
 
     private Ortb ortb;
 
+    private Boolean lazyInit;
+
     private final Class<? extends BidderConfigurationProperties> selfClass;
 
     public BidderConfigurationProperties() {
@@ -69,6 +71,7 @@ public class BidderConfigurationProperties {
         deprecatedNames = ObjectUtils.defaultIfNull(deprecatedNames, defaultProperties.getDeprecatedNames());
         endpointCompression = ObjectUtils.defaultIfNull(
                 endpointCompression, defaultProperties.getEndpointCompression());
+        lazyInit = ObjectUtils.defaultIfNull(lazyInit, defaultProperties.getLazyInit());
         ortb = ortb != null && ortb.getMultiFormatSupported() != null
                 ? ortb
                 : defaultProperties.getOrtb();
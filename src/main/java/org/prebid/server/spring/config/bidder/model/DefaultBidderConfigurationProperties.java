@@ -31,6 +31,8 @@ public class DefaultBidderConfigurationProperties {
     @NotNull
     private Ortb ortb;
 
+    private Boolean lazyInit = false;
+
     private final Map<String, Object> aliases = Collections.emptyMap();
 
     private final List<String> deprecatedNames = Collections.emptyList();
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
@@ -15,6 +16,7 @@ import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.bidder.BidderInstanceDeps;
 import org.prebid.server.bidder.DisabledBidder;
+import org.prebid.server.bidder.LazyBidder;
 import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
 import org.prebid.server.spring.config.bidder.model.MediaType;
@@ -154,9 +156,18 @@ public class BidderDepsAssembler<CFG extends BidderConfigurationProperties> {
     }
 
     private Bidder<?> bidder(CFG configProperties) {
-        return configProperties.getEnabled()
-                ? bidderCreator.apply(configProperties)
-                : new DisabledBidder(ERROR_MESSAGE_TEMPLATE_FOR_DISABLED.formatted(bidderName));
+        if (!configProperties.getEnabled()) {
+            return new DisabledBidder(ERROR_MESSAGE_TEMPLATE_FOR_DISABLED.formatted(bidderName));
+        }
+
+        return BooleanUtils.isTrue(configProperties.getLazyInit())
+                ? lazyBidder(configProperties)
+                : bidderCreator.apply(configProperties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Bidder<T> lazyBidder(CFG configProperties) {
+        return new LazyBidder<>(() -> (Bidder<T>) bidderCreator.apply(configProperties));
     }
 
     private CFG updateAliasProperties(CFG aliasProperties) {
@@ -1,16 +1,19 @@
 package org.prebid.server.spring.config.server.application;
 
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.net.JksOptions;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.handler.CorsHandler;
 import io.vertx.ext.web.handler.StaticHandler;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureCreator;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.AmpResponsePostProcessor;
@@ -29,7 +32,9 @@ import org.prebid.server.cache.CoreCacheService;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.UidsCookieService;
+import org.prebid.server.execution.AdmissionController;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.handler.AdmissionControlHandler;
 import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
 import org.prebid.server.handler.ExceptionHandler;
@@ -37,6 +42,7 @@ import org.prebid.server.handler.GetuidsHandler;
 import org.prebid.server.handler.NoCacheHandler;
 import org.prebid.server.handler.NotificationEventHandler;
 import org.prebid.server.handler.OptoutHandler;
+import org.prebid.server.handler.RequestBodyAccountIdResolver;
 import org.prebid.server.handler.SetuidHandler;
 import org.prebid.server.handler.StatusHandler;
 import org.prebid.server.handler.VtrackHandler;
@@ -57,11 +63,14 @@ import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.spring.config.server.admin.AdminResourcesBinder;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.system.CpuLoadAverageStats;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.EventLoopLagMonitor;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.ServerVerticle;
 import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -76,10 +85,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 @Configuration
 public class ApplicationServerConfiguration {
 
+    private static final String AMP_ACCOUNT_PARAM = "account";
+
     @Value("${logging.sampling-rate:0.01}")
     private double logSamplingRate;
 
@@ -90,6 +102,7 @@ public class ApplicationServerConfiguration {
             @Value("${server.http.port}") int port,
             Router applicationServerRouter,
             ExceptionHandler exceptionHandler,
+            @Autowired(required = false) EventLoopLagMonitor eventLoopLagMonitor,
             @Value("${server.http.server-instances}") int instances) {
 
         return VerticleDefinition.ofMultiInstance(
@@ -98,7 +111,8 @@ public class ApplicationServerConfiguration {
                         httpServerOptions,
                         SocketAddress.inetSocketAddress(port, "0.0.0.0"),
                         applicationServerRouter,
-                        exceptionHandler),
+                        exceptionHandler,
+                        eventLoopLagMonitor),
                 instances);
     }
 
@@ -109,6 +123,7 @@ public class ApplicationServerConfiguration {
             @Value("${server.unix-socket.path}") String path,
             Router applicationServerRouter,
             ExceptionHandler exceptionHandler,
+            @Autowired(required = false) EventLoopLagMonitor eventLoopLagMonitor,
             @Value("${server.unix-socket.server-instances}") Integer instances) {
 
         return VerticleDefinition.ofMultiInstance(
@@ -117,7 +132,8 @@ public class ApplicationServerConfiguration {
                         httpServerOptions,
                         SocketAddress.domainSocketAddress(path),
                         applicationServerRouter,
-                        exceptionHandler),
+                        exceptionHandler,
+                        eventLoopLagMonitor),
                 instances);
     }
 
@@ -161,7 +177,8 @@ public class ApplicationServerConfiguration {
 
     @Bean
     Router applicationServerRouter(Vertx vertx,
-                                   BodyHandler bodyHandler,
+                                   @Value("${vertx.uploads-dir}") String uploadsDir,
+                                   @Value("${server.max-request-body-size}") long maxRequestBodySize,
                                    NoCacheHandler noCacheHandler,
                                    CorsHandler corsHandler,
                                    List<ApplicationResource> resources,
@@ -169,7 +186,8 @@ public class ApplicationServerConfiguration {
                                    StaticHandler staticHandler) {
 
         final Router router = Router.router(vertx);
-        router.route().handler(bodyHandler);
+        // body limit is checked against decompressed bytes, so compressed requests can't be inflated unbounded
+        router.route().handler(BodyHandler.create(uploadsDir).setBodyLimit(maxRequestBodySize));
         router.route().handler(noCacheHandler);
         router.route().handler(corsHandler);
 
@@ -204,7 +222,39 @@ public class ApplicationServerConfiguration {
     }
 
     @Bean
-    org.prebid.server.handler.openrtb2.AuctionHandler openrtbAuctionHandler(
+    @ConditionalOnProperty(prefix = "server.admission-control", name = "enabled", havingValue = "true")
+    EventLoopLagMonitor eventLoopLagMonitor(
+            @Value("${server.admission-control.event-loop-lag-probe-interval-ms}") long probeIntervalMillis) {
+
+        return new EventLoopLagMonitor(probeIntervalMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "server.admission-control", name = "enabled", havingValue = "true")
+    AdmissionController admissionController(
+            @Value("${server.admission-control.max-inflight-requests}") int maxInflightRequests,
+            @Value("${server.admission-control.max-cpu-load}") double maxCpuLoad,
+            @Value("${server.admission-control.max-event-loop-lag-ms}") long maxEventLoopLagMillis,
+            @Value("${server.admission-control.priority-accounts:}") Set<String> priorityAccounts,
+            @Value("${server.admission-control.priority-reserved-inflight-requests:0}")
+            int priorityReservedInflightRequests,
+            @Autowired(required = false) CpuLoadAverageStats cpuLoadAverageStats,
+            EventLoopLagMonitor eventLoopLagMonitor,
+            Metrics metrics) {
+
+        return new AdmissionController(
+                maxInflightRequests,
+                maxCpuLoad,
+                maxEventLoopLagMillis,
+                priorityAccounts,
+                priorityReservedInflightRequests,
+                cpuLoadAverageStats,
+                eventLoopLagMonitor,
+                metrics);
+    }
+
+    @Bean
+    ApplicationResource openrtbAuctionHandler(
             ExchangeService exchangeService,
             SkippedAuctionService skippedAuctionService,
             AuctionRequestFactory auctionRequestFactory,
@@ -213,23 +263,28 @@ public class ApplicationServerConfiguration {
             Clock clock,
             HttpInteractionLogger httpInteractionLogger,
             PrebidVersionProvider prebidVersionProvider,
-            JacksonMapper mapper) {
-
-        return new org.prebid.server.handler.openrtb2.AuctionHandler(
-                logSamplingRate,
-                auctionRequestFactory,
-                exchangeService,
-                skippedAuctionService,
-                analyticsReporter,
-                metrics,
-                clock,
-                httpInteractionLogger,
-                prebidVersionProvider,
-                mapper);
+            JacksonMapper mapper,
+            @Autowired(required = false) AdmissionController admissionController) {
+
+        return withAdmissionControl(
+                new org.prebid.server.handler.openrtb2.AuctionHandler(
+                        logSamplingRate,
+                        auctionRequestFactory,
+                        exchangeService,
+                        skippedAuctionService,
+                        analyticsReporter,
+                        metrics,
+                        clock,
+                        httpInteractionLogger,
+                        prebidVersionProvider,
+                        mapper),
+                admissionController,
+                HttpResponseStatus.SERVICE_UNAVAILABLE,
+                new RequestBodyAccountIdResolver(mapper));
     }
 
     @Bean
-    AmpHandler openrtbAmpHandler(
+    ApplicationResource openrtbAmpHandler(
             AmpRequestFactory ampRequestFactory,
             ExchangeService exchangeService,
             AnalyticsReporterDelegator analyticsReporter,
@@ -240,25 +295,30 @@ public class ApplicationServerConfiguration {
             AmpResponsePostProcessor ampResponsePostProcessor,
             HttpInteractionLogger httpInteractionLogger,
             PrebidVersionProvider prebidVersionProvider,
-            JacksonMapper mapper) {
-
-        return new AmpHandler(
-                ampRequestFactory,
-                exchangeService,
-                analyticsReporter,
-                metrics,
-                clock,
-                bidderCatalog,
-                ampProperties.getCustomTargetingSet(),
-                ampResponsePostProcessor,
-                httpInteractionLogger,
-                prebidVersionProvider,
-                mapper,
-                logSamplingRate);
+            JacksonMapper mapper,
+            @Autowired(required = false) AdmissionController admissionController) {
+
+        return withAdmissionControl(
+                new AmpHandler(
+                        ampRequestFactory,
+                        exchangeService,
+                        analyticsReporter,
+                        metrics,
+                        clock,
+                        bidderCatalog,
+                        ampProperties.getCustomTargetingSet(),
+                        ampResponsePostProcessor,
+                        httpInteractionLogger,
+                        prebidVersionProvider,
+                        mapper,
+                        logSamplingRate),
+                admissionController,
+                HttpResponseStatus.NO_CONTENT,
+                ApplicationServerConfiguration::ampAccountId);
     }
 
     @Bean
-    VideoHandler openrtbVideoHandler(
+    ApplicationResource openrtbVideoHandler(
             VideoRequestFactory videoRequestFactory,
             VideoResponseFactory videoResponseFactory,
             ExchangeService exchangeService,
@@ -267,17 +327,22 @@ public class ApplicationServerConfiguration {
             Metrics metrics,
             Clock clock,
             PrebidVersionProvider prebidVersionProvider,
-            JacksonMapper mapper) {
-
-        return new VideoHandler(
-                videoRequestFactory,
-                videoResponseFactory,
-                exchangeService,
-                coreCacheService, analyticsReporter,
-                metrics,
-                clock,
-                prebidVersionProvider,
-                mapper);
+            JacksonMapper mapper,
+            @Autowired(required = false) AdmissionController admissionController) {
+
+        return withAdmissionControl(
+                new VideoHandler(
+                        videoRequestFactory,
+                        videoResponseFactory,
+                        exchangeService,
+                        coreCacheService, analyticsReporter,
+                        metrics,
+                        clock,
+                        prebidVersionProvider,
+                        mapper),
+                admissionController,
+                HttpResponseStatus.SERVICE_UNAVAILABLE,
+                new RequestBodyAccountIdResolver(mapper));
     }
 
     @Bean
@@ -438,6 +503,24 @@ public class ApplicationServerConfiguration {
         return StaticHandler.create("static").setCachingEnabled(false);
     }
 
+    private static ApplicationResource withAdmissionControl(ApplicationResource resource,
+                                                            AdmissionController admissionController,
+                                                            HttpResponseStatus rejectedStatus,
+                                                            Function<RoutingContext, String> accountIdResolver) {
+
+        return admissionController != null
+                ? new AdmissionControlHandler(resource, admissionController, rejectedStatus, accountIdResolver)
+                : resource;
+    }
+
+    /**
+     * AMP requests carry the account in query string, other auction requests have it in the body,
+     * see {@link RequestBodyAccountIdResolver}.
+     */
+    private static String ampAccountId(RoutingContext routingContext) {
+        return StringUtils.trimToNull(routingContext.request().getParam(AMP_ACCOUNT_PARAM));
+    }
+
     @Component
     @ConfigurationProperties(prefix = "amp")
     @Data
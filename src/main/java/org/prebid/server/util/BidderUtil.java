@@ -7,6 +7,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.bidder.ImpRequestSplitter;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.Price;
 import org.prebid.server.bidder.model.PriceFloorInfo;
@@ -47,6 +48,25 @@ public class BidderUtil {
                 .build();
     }
 
+    /**
+     * Returns splitter making one {@link #defaultRequest} per impression, without encoding
+     * the whole request for each of them.
+     */
+    public static ImpRequestSplitter impRequestSplitter(BidRequest bidRequest,
+                                                        String endpointUrl,
+                                                        JacksonMapper mapper) {
+
+        return impRequestSplitter(bidRequest, HttpUtil.headers(), endpointUrl, mapper);
+    }
+
+    public static ImpRequestSplitter impRequestSplitter(BidRequest bidRequest,
+                                                        MultiMap headers,
+                                                        String endpointUrl,
+                                                        JacksonMapper mapper) {
+
+        return new ImpRequestSplitter(bidRequest, headers, endpointUrl, mapper);
+    }
+
     public static Set<String> impIds(BidRequest bidRequest) {
         return bidRequest.getImp().stream()
                 .map(Imp::getId)
@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
@@ -15,7 +16,9 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -24,6 +27,12 @@ import java.util.stream.Collectors;
 /**
  * This Component aimed to validate <i>bidrequest.imp[i].ext.{bidder}</i> portion of bidRequest. It relies on
  * JSON schemas that need to be located as resources on classpath.
+ * <p>
+ * Schemas are also compiled into {@link CompiledParamSchema} where possible, so params proven to be valid
+ * by it are not walked through by the full validator. Other validation results are cached by bidder and params.
+ * <p>
+ * Schemas can be compiled lazily on first validation for the bidder to speed up startup,
+ * in this case invalid schema is reported only when the bidder params are validated.
  */
 public class BidderParamValidator {
 
@@ -31,21 +40,52 @@ public class BidderParamValidator {
     private static final String JSON_FILE_EXT = ".json";
     private static final String FILE_SEP = "/";
 
-    private final Map<String, JsonSchema> bidderSchemas;
+    private final Map<String, BidderSchemaHolder> bidderSchemas;
     private final String schemas;
+    private final Map<ValidatedParams, Set<String>> resultCache;
+
+    private BidderParamValidator(Map<String, BidderSchemaHolder> bidderSchemas,
+                                 String schemas,
+                                 int resultCacheSize) {
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.resultCache = resultCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(resultCacheSize).<ValidatedParams, Set<String>>build().asMap()
+                : null;
     }
 
     /**
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
+        final BidderSchema bidderSchema = bidderSchemas.get(bidder).get();
+
+        final CompiledParamSchema compiledSchema = bidderSchema.compiledSchema();
+        if (compiledSchema != null && compiledSchema.validate(jsonNode) == CompiledParamSchema.Result.VALID) {
+            return Collections.emptySet();
+        }
+
+        if (resultCache == null) {
+            return validate(bidderSchema.schema(), jsonNode);
+        }
+
+        final String normalizedBidder = bidder.toLowerCase(Locale.ROOT);
+        final Set<String> cachedResult = resultCache.get(new ValidatedParams(normalizedBidder, jsonNode));
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        final Set<String> result = validate(bidderSchema.schema(), jsonNode);
+        // params are copied as cache key should not change after the request is modified
+        resultCache.put(new ValidatedParams(normalizedBidder, jsonNode.deepCopy()), result);
+        return result;
+    }
+
+    private static Set<String> validate(JsonSchema schema, JsonNode jsonNode) {
+        return schema.validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
-                .collect(Collectors.toSet());
+                .collect(Collectors.collectingAndThen(Collectors.toSet(), Collections::unmodifiableSet));
     }
 
     /**
@@ -81,6 +121,19 @@ public class BidderParamValidator {
                                               String schemaDirectory,
                                               JacksonMapper mapper) {
 
+        return create(bidderCatalog, schemaDirectory, 0, false, mapper);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} caching up to the given number of validation results
+     * and optionally compiling schemas lazily.
+     */
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              int resultCacheSize,
+                                              boolean lazyCompile,
+                                              JacksonMapper mapper) {
+
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
@@ -90,14 +143,19 @@ public class BidderParamValidator {
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        final Map<String, BidderSchemaHolder> bidderSchemas = toBidderSchemas(bidderRawSchemas);
+        if (!lazyCompile) {
+            bidderSchemas.values().forEach(BidderSchemaHolder::get);
+        }
+
+        return new BidderParamValidator(bidderSchemas, toSchemas(bidderRawSchemas, mapper), resultCacheSize);
     }
 
-    private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
+    private static Map<String, BidderSchemaHolder> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
         return bidderRawSchemas.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        e -> toBidderSchema(e.getValue(), e.getKey()),
+                        e -> new BidderSchemaHolder(e.getKey(), e.getValue()),
                         (first, second) -> second,
                         CaseInsensitiveMap::new));
     }
@@ -152,4 +210,32 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    private record BidderSchema(JsonSchema schema, CompiledParamSchema compiledSchema) {
+    }
+
+    private static class BidderSchemaHolder {
+
+        private final String bidder;
+        private final JsonNode rawSchema;
+        private volatile BidderSchema bidderSchema;
+
+        BidderSchemaHolder(String bidder, JsonNode rawSchema) {
+            this.bidder = bidder;
+            this.rawSchema = rawSchema;
+        }
+
+        BidderSchema get() {
+            BidderSchema result = bidderSchema;
+            if (result == null) {
+                // concurrent compilation of the same schema is harmless as it always gives the same result
+                result = new BidderSchema(toBidderSchema(rawSchema, bidder), CompiledParamSchema.compile(rawSchema));
+                bidderSchema = result;
+            }
+            return result;
+        }
+    }
+
+    private record ValidatedParams(String bidder, JsonNode params) {
+    }
 }
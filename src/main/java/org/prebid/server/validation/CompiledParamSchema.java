@@ -0,0 +1,448 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Restricted interpreter of draft-4 JSON schemas used as a fast path of bidder params validation.
+ * <p>
+ * Schema is compiled into a tree of checks once. Only keywords which semantics is known to be the same
+ * as in the full schema validator are supported, schemas using any other keyword are not compiled at all.
+ * <p>
+ * Check gives {@link Result#UNKNOWN} whenever the full validator could decide otherwise
+ * (for example, for numbers compared with {@code enum}), so only {@link Result#VALID} can be trusted
+ * without running the full validator, which is also needed to get validation messages.
+ */
+class CompiledParamSchema {
+
+    private static final Set<String> ANNOTATIONS = Set.of("$schema", "title", "description", "default");
+
+    private final List<Check> checks;
+
+    private CompiledParamSchema(List<Check> checks) {
+        this.checks = checks;
+    }
+
+    /**
+     * Returns compiled schema or null if schema uses unsupported keywords.
+     */
+    static CompiledParamSchema compile(JsonNode schema) {
+        try {
+            return new CompiledParamSchema(compileChecks(schema));
+        } catch (UnsupportedSchemaException e) {
+            return null;
+        }
+    }
+
+    Result validate(JsonNode node) {
+        return validate(checks, node);
+    }
+
+    private static Result validate(List<Check> checks, JsonNode node) {
+        Result result = Result.VALID;
+        for (Check check : checks) {
+            final Result checkResult = check.validate(node);
+            if (checkResult == Result.INVALID) {
+                return Result.INVALID;
+            }
+            if (checkResult == Result.UNKNOWN) {
+                result = Result.UNKNOWN;
+            }
+        }
+        return result;
+    }
+
+    private static List<Check> compileChecks(JsonNode schema) {
+        if (schema == null || !schema.isObject()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<Check> checks = new ArrayList<>();
+        final Map<String, List<Check>> properties = new LinkedHashMap<>();
+        BigDecimal minimum = null;
+        BigDecimal maximum = null;
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = schema.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "type" -> checks.add(typeCheck(value));
+                case "properties" -> {
+                    properties.putAll(compileSchemas(value));
+                    checks.add(propertiesCheck(properties));
+                }
+                case "required" -> checks.add(requiredCheck(textValues(value)));
+                case "additionalProperties" -> checks.add(additionalPropertiesCheck(value, properties.keySet()));
+                case "dependencies" -> checks.add(dependenciesCheck(value));
+                case "enum" -> checks.add(enumCheck(value));
+                case "minLength" -> checks.add(lengthCheck(intValue(value), true));
+                case "maxLength" -> checks.add(lengthCheck(intValue(value), false));
+                case "minItems" -> checks.add(itemsCountCheck(intValue(value), true));
+                case "maxItems" -> checks.add(itemsCountCheck(intValue(value), false));
+                case "minimum" -> minimum = decimalValue(value);
+                case "maximum" -> maximum = decimalValue(value);
+                case "exclusiveMinimum", "exclusiveMaximum" -> booleanValue(value);
+                case "items" -> checks.add(itemsCheck(compileChecks(value)));
+                case "oneOf" -> checks.add(oneOfCheck(compileSchemaList(value)));
+                case "anyOf" -> checks.add(anyOfCheck(compileSchemaList(value)));
+                case "not" -> checks.add(notCheck(compileChecks(value)));
+                default -> {
+                    if (!ANNOTATIONS.contains(field.getKey())) {
+                        throw new UnsupportedSchemaException();
+                    }
+                }
+            }
+        }
+
+        if (minimum != null) {
+            checks.add(rangeCheck(minimum, schema.path("exclusiveMinimum").asBoolean(), true));
+        }
+        if (maximum != null) {
+            checks.add(rangeCheck(maximum, schema.path("exclusiveMaximum").asBoolean(), false));
+        }
+
+        return checks;
+    }
+
+    private static Map<String, List<Check>> compileSchemas(JsonNode schemas) {
+        if (!schemas.isObject()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final Map<String, List<Check>> result = new HashMap<>();
+        schemas.fields().forEachRemaining(field -> result.put(field.getKey(), compileChecks(field.getValue())));
+        return result;
+    }
+
+    private static List<List<Check>> compileSchemaList(JsonNode schemas) {
+        if (!schemas.isArray() || schemas.isEmpty()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<List<Check>> result = new ArrayList<>();
+        schemas.forEach(schema -> result.add(compileChecks(schema)));
+        return result;
+    }
+
+    private static Check typeCheck(JsonNode value) {
+        final List<String> types = value.isArray() ? textValues(value) : List.of(textValue(value));
+        for (String type : types) {
+            if (!Set.of("object", "array", "string", "number", "integer", "boolean", "null").contains(type)) {
+                throw new UnsupportedSchemaException();
+            }
+        }
+
+        return node -> {
+            Result result = Result.INVALID;
+            for (String type : types) {
+                final Result typeResult = matchesType(type, node);
+                if (typeResult == Result.VALID) {
+                    return Result.VALID;
+                }
+                if (typeResult == Result.UNKNOWN) {
+                    result = Result.UNKNOWN;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Result matchesType(String type, JsonNode node) {
+        final boolean matches = switch (type) {
+            case "object" -> node.isObject();
+            case "array" -> node.isArray();
+            case "string" -> node.isTextual();
+            case "number" -> node.isNumber();
+            case "integer" -> node.isIntegralNumber();
+            case "boolean" -> node.isBoolean();
+            case "null" -> node.isNull();
+            default -> false;
+        };
+
+        if (matches) {
+            return Result.VALID;
+        }
+        // whole floating point numbers may be treated as integers
+        return type.equals("integer") && node.isFloatingPointNumber() ? Result.UNKNOWN : Result.INVALID;
+    }
+
+    private static Check propertiesCheck(Map<String, List<Check>> properties) {
+        return node -> {
+            if (!node.isObject()) {
+                return Result.VALID;
+            }
+
+            Result result = Result.VALID;
+            for (Map.Entry<String, List<Check>> property : properties.entrySet()) {
+                final JsonNode value = node.get(property.getKey());
+                final Result propertyResult = value != null ? validate(property.getValue(), value) : Result.VALID;
+                if (propertyResult == Result.INVALID) {
+                    return Result.INVALID;
+                }
+                if (propertyResult == Result.UNKNOWN) {
+                    result = Result.UNKNOWN;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check requiredCheck(List<String> required) {
+        return node -> {
+            if (!node.isObject()) {
+                return Result.VALID;
+            }
+
+            for (String property : required) {
+                if (node.get(property) == null) {
+                    return Result.INVALID;
+                }
+            }
+            return Result.VALID;
+        };
+    }
+
+    private static Check additionalPropertiesCheck(JsonNode value, Set<String> properties) {
+        if (value.isBoolean() && value.booleanValue()) {
+            return node -> Result.VALID;
+        }
+
+        final List<Check> additionalChecks = value.isBoolean() ? null : compileChecks(value);
+        return node -> {
+            if (!node.isObject()) {
+                return Result.VALID;
+            }
+
+            Result result = Result.VALID;
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                if (properties.contains(field.getKey())) {
+                    continue;
+                }
+                if (additionalChecks == null) {
+                    return Result.INVALID;
+                }
+
+                final Result additionalResult = validate(additionalChecks, field.getValue());
+                if (additionalResult == Result.INVALID) {
+                    return Result.INVALID;
+                }
+                if (additionalResult == Result.UNKNOWN) {
+                    result = Result.UNKNOWN;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check dependenciesCheck(JsonNode value) {
+        if (!value.isObject()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<Check> checks = new ArrayList<>();
+        value.fields().forEachRemaining(field -> {
+            final String property = field.getKey();
+            final Check dependencyCheck = field.getValue().isArray()
+                    ? requiredCheck(textValues(field.getValue()))
+                    : schemaCheck(compileChecks(field.getValue()));
+
+            checks.add(node -> node.isObject() && node.get(property) != null
+                    ? dependencyCheck.validate(node)
+                    : Result.VALID);
+        });
+
+        return node -> validate(checks, node);
+    }
+
+    private static Check enumCheck(JsonNode value) {
+        if (!value.isArray()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final Set<JsonNode> values = new HashSet<>();
+        value.forEach(values::add);
+
+        return node -> {
+            if (values.contains(node)) {
+                return Result.VALID;
+            }
+            // numbers and containers may be compared more loosely
+            return node.isTextual() || node.isBoolean() || node.isNull() ? Result.INVALID : Result.UNKNOWN;
+        };
+    }
+
+    private static Check lengthCheck(int limit, boolean isMinimum) {
+        return node -> {
+            if (!node.isTextual()) {
+                return Result.VALID;
+            }
+
+            final String text = node.textValue();
+            final int length = text.codePointCount(0, text.length());
+            return (isMinimum ? length >= limit : length <= limit) ? Result.VALID : Result.INVALID;
+        };
+    }
+
+    private static Check itemsCountCheck(int limit, boolean isMinimum) {
+        return node -> {
+            if (!node.isArray()) {
+                return Result.VALID;
+            }
+
+            final int size = node.size();
+            return (isMinimum ? size >= limit : size <= limit) ? Result.VALID : Result.INVALID;
+        };
+    }
+
+    private static Check rangeCheck(BigDecimal limit, boolean exclusive, boolean isMinimum) {
+        return node -> {
+            if (!node.isNumber()) {
+                return Result.VALID;
+            }
+
+            final int comparison = node.decimalValue().compareTo(limit);
+            final boolean valid = isMinimum
+                    ? comparison > 0 || (!exclusive && comparison == 0)
+                    : comparison < 0 || (!exclusive && comparison == 0);
+            return valid ? Result.VALID : Result.INVALID;
+        };
+    }
+
+    private static Check itemsCheck(List<Check> itemChecks) {
+        return node -> {
+            if (!node.isArray()) {
+                return Result.VALID;
+            }
+
+            Result result = Result.VALID;
+            for (JsonNode item : node) {
+                final Result itemResult = validate(itemChecks, item);
+                if (itemResult == Result.INVALID) {
+                    return Result.INVALID;
+                }
+                if (itemResult == Result.UNKNOWN) {
+                    result = Result.UNKNOWN;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check schemaCheck(List<Check> checks) {
+        return node -> validate(checks, node);
+    }
+
+    private static Check oneOfCheck(List<List<Check>> schemas) {
+        return node -> {
+            int validCount = 0;
+            int unknownCount = 0;
+            for (List<Check> schema : schemas) {
+                final Result schemaResult = validate(schema, node);
+                if (schemaResult == Result.VALID) {
+                    validCount++;
+                } else if (schemaResult == Result.UNKNOWN) {
+                    unknownCount++;
+                }
+            }
+
+            if (validCount > 1) {
+                return Result.INVALID;
+            }
+            if (unknownCount > 0) {
+                return Result.UNKNOWN;
+            }
+            return validCount == 1 ? Result.VALID : Result.INVALID;
+        };
+    }
+
+    private static Check anyOfCheck(List<List<Check>> schemas) {
+        return node -> {
+            Result result = Result.INVALID;
+            for (List<Check> schema : schemas) {
+                final Result schemaResult = validate(schema, node);
+                if (schemaResult == Result.VALID) {
+                    return Result.VALID;
+                }
+                if (schemaResult == Result.UNKNOWN) {
+                    result = Result.UNKNOWN;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Check notCheck(List<Check> checks) {
+        return node -> switch (validate(checks, node)) {
+            case VALID -> Result.INVALID;
+            case INVALID -> Result.VALID;
+            case UNKNOWN -> Result.UNKNOWN;
+        };
+    }
+
+    private static List<String> textValues(JsonNode value) {
+        if (!value.isArray()) {
+            throw new UnsupportedSchemaException();
+        }
+
+        final List<String> result = new ArrayList<>();
+        value.forEach(item -> result.add(textValue(item)));
+        return result;
+    }
+
+    private static String textValue(JsonNode value) {
+        if (!value.isTextual()) {
+            throw new UnsupportedSchemaException();
+        }
+        return value.textValue();
+    }
+
+    private static int intValue(JsonNode value) {
+        if (!value.canConvertToInt() || !value.isIntegralNumber()) {
+            throw new UnsupportedSchemaException();
+        }
+        return value.intValue();
+    }
+
+    private static BigDecimal decimalValue(JsonNode value) {
+        if (!value.isNumber()) {
+            throw new UnsupportedSchemaException();
+        }
+        return value.decimalValue();
+    }
+
+    private static void booleanValue(JsonNode value) {
+        if (!value.isBoolean()) {
+            throw new UnsupportedSchemaException();
+        }
+    }
+
+    enum Result {
+
+        VALID, INVALID, UNKNOWN
+    }
+
+    @FunctionalInterface
+    private interface Check {
+
+        Result validate(JsonNode node);
+    }
+
+    private static class UnsupportedSchemaException extends RuntimeException {
+
+        UnsupportedSchemaException() {
+            super(null, null, false, false);
+        }
+    }
+}
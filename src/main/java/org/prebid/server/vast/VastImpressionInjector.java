@@ -0,0 +1,188 @@
+package org.prebid.server.vast;
+
+import java.util.Optional;
+
+/**
+ * Inserts an {@code <Impression>} tracking tag into VAST XML.
+ * <p>
+ * Walks the markup once, looking only at tag openings, and finds the insertion point: after the last
+ * {@code </Impression>} following the first {@code <InLine>} (or {@code <Wrapper>} if there is no InLine),
+ * or right before the closing InLine/Wrapper tag when there are no impressions. Tag names are matched
+ * ASCII case-insensitively, whitespace is allowed after {@code <} and {@code /}, and garbage attributes are
+ * tolerated up to the first {@code >} on the same line.
+ * <p>
+ * The result is built with a single pre-sized copy of the input.
+ */
+public final class VastImpressionInjector {
+
+    private static final String INLINE = "inline";
+    private static final String WRAPPER = "wrapper";
+    private static final String IMPRESSION = "impression";
+
+    private static final String IMPRESSION_TAG_PREFIX = "<Impression><![CDATA[";
+    private static final String IMPRESSION_TAG_SUFFIX = "]]></Impression>";
+
+    private VastImpressionInjector() {
+    }
+
+    /**
+     * Returns VAST XML with an impression tag for the given url inserted,
+     * the same {@code vastXml} if InLine/Wrapper is found but there is no place to insert the tag
+     * or empty {@link Optional} if VAST XML contains neither InLine nor Wrapper.
+     */
+    public static Optional<String> inject(String vastXml, String impressionUrl) {
+        final InsertionPoints inline = new InsertionPoints();
+        final InsertionPoints wrapper = new InsertionPoints();
+
+        for (int index = vastXml.indexOf('<'); index >= 0; index = vastXml.indexOf('<', index + 1)) {
+            processTag(vastXml, index, inline, wrapper);
+        }
+
+        final InsertionPoints insertionPoints = inline.isOpened()
+                ? inline
+                : wrapper.isOpened() ? wrapper : null;
+        if (insertionPoints == null) {
+            return Optional.empty();
+        }
+
+        final int insertionIndex = insertionPoints.insertionIndex();
+        return Optional.of(insertionIndex != -1 ? insert(vastXml, insertionIndex, impressionUrl) : vastXml);
+    }
+
+    private static void processTag(String xml, int start, InsertionPoints inline, InsertionPoints wrapper) {
+        final int length = xml.length();
+        int i = skipWhitespaces(xml, start + 1);
+        final boolean closing = i < length && xml.charAt(i) == '/';
+        if (closing) {
+            i = skipWhitespaces(xml, i + 1);
+        }
+
+        if (!closing) {
+            if (!inline.isOpened() && regionMatches(xml, i, INLINE)) {
+                inline.openEnd = tagEnd(xml, i + INLINE.length());
+            } else if (!wrapper.isOpened() && regionMatches(xml, i, WRAPPER)) {
+                wrapper.openEnd = tagEnd(xml, i + WRAPPER.length());
+            }
+            return;
+        }
+
+        if (regionMatches(xml, i, IMPRESSION)) {
+            final int end = tagEnd(xml, i + IMPRESSION.length());
+            if (end != -1) {
+                inline.impression(start, end);
+                wrapper.impression(start, end);
+            }
+        } else if (regionMatches(xml, i, INLINE)) {
+            if (tagEnd(xml, i + INLINE.length()) != -1) {
+                inline.close(start);
+            }
+        } else if (regionMatches(xml, i, WRAPPER)) {
+            if (tagEnd(xml, i + WRAPPER.length()) != -1) {
+                wrapper.close(start);
+            }
+        }
+    }
+
+    private static int skipWhitespaces(String xml, int from) {
+        int i = from;
+        while (i < xml.length() && isWhitespace(xml.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean regionMatches(String xml, int from, String lowerCaseName) {
+        final int nameLength = lowerCaseName.length();
+        if (from + nameLength > xml.length()) {
+            return false;
+        }
+        for (int i = 0; i < nameLength; i++) {
+            final char ch = xml.charAt(from + i);
+            final char lowerCaseCh = ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+            if (lowerCaseCh != lowerCaseName.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index right after the tag's {@code >} or -1 if the name is followed by anything but
+     * {@code >} or a whitespace, or if {@code >} is not found on the same line.
+     */
+    private static int tagEnd(String xml, int afterName) {
+        final int length = xml.length();
+        if (afterName >= length) {
+            return -1;
+        }
+
+        final char next = xml.charAt(afterName);
+        if (next == '>') {
+            return afterName + 1;
+        }
+        if (!isWhitespace(next)) {
+            return -1;
+        }
+
+        for (int i = afterName + 1; i < length; i++) {
+            final char ch = xml.charAt(i);
+            if (ch == '>') {
+                return i + 1;
+            }
+            if (isLineTerminator(ch)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWhitespace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+    }
+
+    private static boolean isLineTerminator(char ch) {
+        return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+    }
+
+    private static String insert(String vastXml, int index, String impressionUrl) {
+        return new StringBuilder(vastXml.length()
+                + IMPRESSION_TAG_PREFIX.length()
+                + impressionUrl.length()
+                + IMPRESSION_TAG_SUFFIX.length())
+                .append(vastXml, 0, index)
+                .append(IMPRESSION_TAG_PREFIX)
+                .append(impressionUrl)
+                .append(IMPRESSION_TAG_SUFFIX)
+                .append(vastXml, index, vastXml.length())
+                .toString();
+    }
+
+    private static class InsertionPoints {
+
+        private int openEnd = -1;
+
+        private int lastImpressionEnd = -1;
+
+        private int firstCloseStart = -1;
+
+        boolean isOpened() {
+            return openEnd != -1;
+        }
+
+        void impression(int start, int end) {
+            if (isOpened() && start >= openEnd) {
+                lastImpressionEnd = end;
+            }
+        }
+
+        void close(int start) {
+            if (isOpened() && start >= openEnd && firstCloseStart == -1) {
+                firstCloseStart = start;
+            }
+        }
+
+        int insertionIndex() {
+            return lastImpressionEnd != -1 ? lastImpressionEnd : firstCloseStart;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Vertx;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures event loop lag by scheduling probe timers on event loops and comparing the time they actually fired with
+ * the time they were expected to fire.
+ * <p>
+ * Each {@link #register(Vertx)} call should be done from the event loop context to be monitored,
+ * e.g. from verticle start.
+ */
+public class EventLoopLagMonitor {
+
+    private final long probeIntervalMillis;
+
+    private final List<AtomicLong> lags = new CopyOnWriteArrayList<>();
+
+    public EventLoopLagMonitor(long probeIntervalMillis) {
+        if (probeIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Probe interval should be greater than 0");
+        }
+        this.probeIntervalMillis = probeIntervalMillis;
+    }
+
+    public void register(Vertx vertx) {
+        final AtomicLong lag = new AtomicLong();
+        lags.add(lag);
+        scheduleProbe(vertx, lag);
+    }
+
+    private void scheduleProbe(Vertx vertx, AtomicLong lag) {
+        final long scheduledAt = System.nanoTime();
+        vertx.setTimer(probeIntervalMillis, timerId -> {
+            final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAt);
+            lag.set(Math.max(0, elapsedMillis - probeIntervalMillis));
+            scheduleProbe(vertx, lag);
+        });
+    }
+
+    /**
+     * Returns the biggest lag in milliseconds observed by the last probes across all registered event loops.
+     */
+    public long getMaxLagMillis() {
+        long maxLag = 0;
+        for (AtomicLong lag : lags) {
+            maxLag = Math.max(maxLag, lag.get());
+        }
+        return maxLag;
+    }
+}
@@ -1,5 +1,6 @@
 package org.prebid.server.vertx.httpclient;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -15,6 +16,7 @@ import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
@@ -23,12 +25,18 @@ import java.util.concurrent.TimeoutException;
  */
 public class BasicHttpClient implements HttpClient {
 
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final int ORIGINS_CACHE_SIZE = 10000;
+
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final Map<String, Origin> origins;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+
+        origins = Caffeine.newBuilder().maximumSize(ORIGINS_CACHE_SIZE).<String, Origin>build().asMap();
     }
 
     @Override
@@ -52,9 +60,9 @@ public class BasicHttpClient implements HttpClient {
             return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
         }
 
-        final URL absoluteUrl;
+        final RequestOptions options = new RequestOptions();
         try {
-            absoluteUrl = new URL(url);
+            setAbsoluteUri(options, url);
         } catch (MalformedURLException e) {
             return Future.failedFuture(e);
         }
@@ -64,11 +72,9 @@ public class BasicHttpClient implements HttpClient {
                 responsePromise.tryFail(
                         new TimeoutException("Timeout period of %dms has been exceeded".formatted(timeoutMs))));
 
-        final RequestOptions options = new RequestOptions()
-                .setFollowRedirects(true)
+        options.setFollowRedirects(true)
                 .setConnectTimeout(timeoutMs)
                 .setMethod(method)
-                .setAbsoluteURI(absoluteUrl)
                 .setHeaders(headers);
 
         final Future<HttpClientRequest> requestFuture = makeRequest(options);
@@ -84,6 +90,42 @@ public class BasicHttpClient implements HttpClient {
                 .onFailure(ignored -> requestFuture.onSuccess(HttpClientRequest::reset));
     }
 
+    /**
+     * Sets URL the same way as {@link RequestOptions#setAbsoluteURI(URL)} does, but scheme, host and port
+     * are parsed only once for each origin, so requests to the same endpoints do not parse the whole URL again.
+     */
+    private void setAbsoluteUri(RequestOptions options, String url) throws MalformedURLException {
+        final int schemeEnd = url != null ? url.indexOf(SCHEME_SEPARATOR) : -1;
+        if (schemeEnd < 0) {
+            options.setAbsoluteURI(new URL(url));
+            return;
+        }
+
+        int originEnd = schemeEnd + SCHEME_SEPARATOR.length();
+        while (originEnd < url.length() && "/?#".indexOf(url.charAt(originEnd)) < 0) {
+            originEnd++;
+        }
+        final String originUrl = url.substring(0, originEnd);
+
+        Origin origin = origins.get(originUrl);
+        if (origin == null) {
+            origin = Origin.of(new URL(originUrl));
+            if (origin == null) {
+                options.setAbsoluteURI(new URL(url));
+                return;
+            }
+            origins.put(originUrl, origin);
+        }
+
+        final int fragmentStart = url.indexOf('#', originEnd);
+        final String file = url.substring(originEnd, fragmentStart >= 0 ? fragmentStart : url.length());
+
+        options.setSsl(origin.ssl())
+                .setHost(origin.host())
+                .setPort(origin.port())
+                .setURI(file.startsWith("/") ? file : "/" + file);
+    }
+
     private Future<HttpClientRequest> makeRequest(RequestOptions options) {
         try {
             return httpClient.request(options);
@@ -109,4 +151,24 @@ public class BasicHttpClient implements HttpClient {
                         body.toString(StandardCharsets.UTF_8)));
 
     }
+
+    private record Origin(boolean ssl, String host, int port) {
+
+        /**
+         * Returns origin of the HTTP or HTTPS URL, or null for other schemes.
+         */
+        static Origin of(URL url) {
+            final boolean ssl;
+            switch (url.getProtocol()) {
+                case "http" -> ssl = false;
+                case "https" -> ssl = true;
+                default -> {
+                    return null;
+                }
+            }
+
+            final int port = url.getPort();
+            return new Origin(ssl, url.getHost(), port != -1 ? port : ssl ? 443 : 80);
+        }
+    }
 }
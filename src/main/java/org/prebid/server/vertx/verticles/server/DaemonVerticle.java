@@ -14,6 +14,7 @@ import org.prebid.server.vertx.Initializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -33,7 +34,17 @@ public class DaemonVerticle extends AbstractVerticle {
 
     @Override
     public void start(Promise<Void> startPromise) {
-        all(initializables, initializable -> initializable::initialize).onComplete(startPromise);
+        all(initializables, initializable -> promise -> initialize(initializable, promise)).onComplete(startPromise);
+    }
+
+    private static void initialize(Initializable initializable, Promise<Void> promise) {
+        final long startTime = System.nanoTime();
+        promise.future().onSuccess(ignored -> logger.debug(
+                "{} initialized in {} ms",
+                initializable.getClass().getSimpleName(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+
+        initializable.initialize(promise);
     }
 
     @Override
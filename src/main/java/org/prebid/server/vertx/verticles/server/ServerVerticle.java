@@ -11,6 +11,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.handler.ExceptionHandler;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.vertx.EventLoopLagMonitor;
 
 import java.util.Objects;
 
@@ -23,6 +24,7 @@ public class ServerVerticle extends AbstractVerticle {
     private final SocketAddress address;
     private final Router router;
     private final ExceptionHandler exceptionHandler;
+    private final EventLoopLagMonitor eventLoopLagMonitor;
 
     public ServerVerticle(String name,
                           HttpServerOptions serverOptions,
@@ -30,11 +32,22 @@ public class ServerVerticle extends AbstractVerticle {
                           Router router,
                           ExceptionHandler exceptionHandler) {
 
+        this(name, serverOptions, address, router, exceptionHandler, null);
+    }
+
+    public ServerVerticle(String name,
+                          HttpServerOptions serverOptions,
+                          SocketAddress address,
+                          Router router,
+                          ExceptionHandler exceptionHandler,
+                          EventLoopLagMonitor eventLoopLagMonitor) {
+
         this.name = Objects.requireNonNull(name);
         this.serverOptions = Objects.requireNonNull(serverOptions);
         this.address = Objects.requireNonNull(address);
         this.router = Objects.requireNonNull(router);
         this.exceptionHandler = Objects.requireNonNull(exceptionHandler);
+        this.eventLoopLagMonitor = eventLoopLagMonitor;
     }
 
     public ServerVerticle(String name, SocketAddress address, Router router) {
@@ -43,6 +56,7 @@ public class ServerVerticle extends AbstractVerticle {
         this.address = Objects.requireNonNull(address);
         this.router = Objects.requireNonNull(router);
         this.exceptionHandler = null;
+        this.eventLoopLagMonitor = null;
     }
 
     @Override
@@ -55,6 +69,10 @@ public class ServerVerticle extends AbstractVerticle {
             server.exceptionHandler(exceptionHandler);
         }
 
+        if (eventLoopLagMonitor != null) {
+            eventLoopLagMonitor.register(vertx);
+        }
+
         server.listen(address, result -> onServerStarted(result, startPromise));
     }
 
@@ -18,6 +18,7 @@ class Debug {
     DebugPrivacy privacy
     PgMetrics pgmetrics
     Trace trace
+    Map<String, BigDecimal> stageTimeMillis
 
     Map<String, List<BidderCall>> getBidders() {
         def result = httpcalls?.findAll { it.key != "cache" }
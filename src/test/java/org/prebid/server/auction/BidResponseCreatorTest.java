@@ -3034,6 +3034,7 @@ public class BidResponseCreatorTest extends VertxTest {
                                 .build())));
 
         assertThat(responseExt.getDebug().getResolvedrequest()).isEqualTo(bidRequest);
+        assertThat(responseExt.getDebug().getStagetimemillis()).containsOnlyKeys("response_creation", "cache");
 
         assertThat(responseExt.getWarnings())
                 .containsOnly(
@@ -1321,7 +1321,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1351,7 +1351,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
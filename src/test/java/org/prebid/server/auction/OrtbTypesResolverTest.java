@@ -4,10 +4,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.json.JsonMerger;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -561,6 +564,47 @@ public class OrtbTypesResolverTest extends VertxTest {
         assertThat(fpd.path("app")).isEqualTo(requestFpdApp);
     }
 
+    @Test
+    public void readNormalizedBidRequestShouldReadBidRequestAsBoundFromTree() throws IOException {
+        // given
+        final String body = """
+                {"id":"id","imp":[{"id":"imp","bidfloor":1.10,"ext":{"prebid":{"bidder":{"b":{"p":1.10}}}}}],
+                "site":{"page":"page","keywords":"k1,k2","ext":{"data":{"d":1}}},
+                "user":{"gender":null,"data":[{"id":"data"}]},"ext":{"prebid":{"debug":1}}}""";
+
+        // when
+        final BidRequest result = readNormalizedBidRequest(body);
+
+        // then
+        assertThat(result).isEqualTo(mapper.treeToValue(mapper.readTree(body), BidRequest.class));
+    }
+
+    @Test
+    public void readNormalizedBidRequestShouldReturnNullIfBodyHasToBeNormalized() {
+        // when and then
+        assertThat(readNormalizedBidRequest("{\"site\":null}")).isNull();
+        assertThat(readNormalizedBidRequest("{\"app\":\"app\"}")).isNull();
+        assertThat(readNormalizedBidRequest("{\"site\":{\"page\":[\"page\"]}}")).isNull();
+        assertThat(readNormalizedBidRequest("{\"app\":{\"id\":1}}")).isNull();
+        assertThat(readNormalizedBidRequest("{\"user\":{\"keywords\":[\"k1\",\"k2\"]}}")).isNull();
+        assertThat(readNormalizedBidRequest("{\"user\":{\"data\":{\"id\":\"data\"}}}")).isNull();
+        assertThat(readNormalizedBidRequest("{\"site\":{\"data\":{\"id\":\"data\"}}}")).isNull();
+        assertThat(readNormalizedBidRequest("{\"ext\":{\"prebid\":{\"bidderconfig\":[]}}}")).isNull();
+    }
+
+    @Test
+    public void readNormalizedBidRequestShouldReturnNullIfBodyIsNotBidRequest() {
+        // when and then
+        assertThat(readNormalizedBidRequest("body")).isNull();
+        assertThat(readNormalizedBidRequest("null")).isNull();
+        assertThat(readNormalizedBidRequest("")).isNull();
+    }
+
+    private BidRequest readNormalizedBidRequest(String body) {
+        final byte[] bytes = (" " + body + " ").getBytes(StandardCharsets.UTF_8);
+        return ortbTypesResolver.readNormalizedBidRequest(bytes, 1, bytes.length - 2);
+    }
+
     private static ArrayNode array(String... fields) {
         final ArrayNode arrayNode = mapper.createArrayNode();
         Arrays.stream(fields).forEach(arrayNode::add);
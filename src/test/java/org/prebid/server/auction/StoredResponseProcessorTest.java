@@ -104,6 +104,33 @@ public class StoredResponseProcessorTest extends VertxTest {
                 emptyMap()));
     }
 
+    @Test
+    public void getStoredResponseResultShouldNotShareBidsBetweenCallsForSameStoredResponse()
+            throws JsonProcessingException {
+
+        // given
+        final String storedResponse = mapper.writeValueAsString(singletonList(SeatBid.builder()
+                .seat("rubicon")
+                .bid(singletonList(Bid.builder().id("id").ext(mapper.createObjectNode().put("field", 1)).build()))
+                .build()));
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("1", storedResponse), emptyList())));
+
+        // when
+        final StoredResponseResult first = target.getStoredResponseResult(
+                singletonList(givenImp("impId1", ExtStoredAuctionResponse.of("1", null), null)), timeout).result();
+        final StoredResponseResult second = target.getStoredResponseResult(
+                singletonList(givenImp("impId2", ExtStoredAuctionResponse.of("1", null), null)), timeout).result();
+
+        // then
+        final Bid firstBid = first.getAuctionStoredResponse().getFirst().getBid().getFirst();
+        final Bid secondBid = second.getAuctionStoredResponse().getFirst().getBid().getFirst();
+        assertThat(firstBid.getImpid()).isEqualTo("impId1");
+        assertThat(secondBid.getImpid()).isEqualTo("impId2");
+        assertThat(secondBid.getExt()).isEqualTo(firstBid.getExt()).isNotSameAs(firstBid.getExt());
+    }
+
     @Test
     public void getStoredResponseResultShouldNotChangeImpsAndReturnSeatBidsWhenThereAreNoStoredIds() {
         // given
@@ -0,0 +1,151 @@
+package org.prebid.server.auction.model;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AuctionStageTimerTest {
+
+    private AuctionStageTimer target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new AuctionStageTimer();
+    }
+
+    @Test
+    public void stageNanosShouldReturnOnlyStartedStages() {
+        // when
+        target.time(AuctionStage.floors, () -> "result");
+
+        // then
+        assertThat(target.stageNanos()).containsOnlyKeys(AuctionStage.floors);
+    }
+
+    @Test
+    public void timeShouldReturnResultAndMeasureStage() {
+        // when
+        final String result = target.time(AuctionStage.request_parsing, () -> {
+            sleep(20);
+            return "result";
+        });
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(target.stageNanos().get(AuctionStage.request_parsing))
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void timeShouldStopStageWhenSupplierThrowsException() {
+        // when
+        assertThatThrownBy(() -> target.time(AuctionStage.floors, () -> {
+            throw new IllegalStateException("error");
+        })).isInstanceOf(IllegalStateException.class);
+        final long stopped = target.stageNanos().get(AuctionStage.floors);
+        sleep(20);
+
+        // then
+        assertThat(target.stageNanos().get(AuctionStage.floors)).isEqualTo(stopped);
+    }
+
+    @Test
+    public void timeAsyncShouldMeasureStageUntilFutureCompletion() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        final Future<String> future = target.timeAsync(AuctionStage.cache, promise::future);
+
+        // when
+        sleep(20);
+        promise.complete("result");
+        final long completed = target.stageNanos().get(AuctionStage.cache);
+        sleep(20);
+
+        // then
+        assertThat(future.result()).isEqualTo("result");
+        assertThat(completed).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(target.stageNanos().get(AuctionStage.cache)).isEqualTo(completed);
+    }
+
+    @Test
+    public void stageNanosShouldNotReturnStageInProgress() {
+        // given
+        target.start(AuctionStage.bidders);
+        target.start(AuctionStage.bidders);
+        target.stop(AuctionStage.bidders);
+        target.start(AuctionStage.response_creation);
+
+        // when and then
+        assertThat(target.stageNanos()).isEmpty();
+        assertThat(target.incompleteStages())
+                .containsExactlyInAnyOrder(AuctionStage.bidders, AuctionStage.response_creation);
+    }
+
+    @Test
+    public void elapsedStageNanosShouldCountStageInProgressUntilNow() {
+        // given
+        target.start(AuctionStage.bidders);
+        target.stop(AuctionStage.bidders);
+        final long startTime = System.nanoTime();
+        target.start(AuctionStage.response_creation);
+        sleep(20);
+
+        // when
+        final Map<AuctionStage, Long> result = target.elapsedStageNanos();
+
+        // then
+        final long elapsed = System.nanoTime() - startTime;
+        assertThat(result).containsOnlyKeys(AuctionStage.bidders, AuctionStage.response_creation);
+        assertThat(result.get(AuctionStage.bidders)).isEqualTo(target.stageNanos().get(AuctionStage.bidders));
+        assertThat(result.get(AuctionStage.response_creation))
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20))
+                .isLessThanOrEqualTo(elapsed);
+        assertThat(target.incompleteStages()).containsExactly(AuctionStage.response_creation);
+    }
+
+    @Test
+    public void incompleteStagesShouldNotReturnCompletedStages() {
+        // given
+        target.start(AuctionStage.bidders);
+        target.stop(AuctionStage.bidders);
+
+        // when and then
+        assertThat(target.incompleteStages()).isEmpty();
+        assertThat(target.stageNanos()).containsOnlyKeys(AuctionStage.bidders);
+    }
+
+    @Test
+    public void stageNanosShouldNotCountConcurrentRunsOfStageTwice() {
+        // given
+        final long startTime = System.nanoTime();
+        target.start(AuctionStage.bidders);
+        target.start(AuctionStage.bidders);
+        sleep(20);
+        target.stop(AuctionStage.bidders);
+        target.stop(AuctionStage.bidders);
+        final long elapsed = System.nanoTime() - startTime;
+
+        // when
+        final long nanos = target.stageNanos().get(AuctionStage.bidders);
+
+        // then
+        assertThat(nanos)
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20))
+                .isLessThanOrEqualTo(elapsed);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.prebid.server.auction.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DecodedExtCacheTest extends VertxTest {
+
+    private DecodedExtCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new DecodedExtCache();
+    }
+
+    @Test
+    public void decodeShouldDecodeSameNodeOnlyOnce() {
+        // given
+        final ObjectNode node = mapper.createObjectNode().put("field", "value");
+        final AtomicInteger decodings = new AtomicInteger();
+        final Function<JsonNode, String> decoder = jsonNode -> {
+            decodings.incrementAndGet();
+            return jsonNode.get("field").asText();
+        };
+
+        // when
+        final String first = target.decode(node, String.class, decoder);
+        final String second = target.decode(node, String.class, decoder);
+
+        // then
+        assertThat(first).isEqualTo("value").isSameAs(second);
+        assertThat(decodings).hasValue(1);
+        assertThat(target.getDecodedCount()).isOne();
+        assertThat(target.getReusedCount()).isOne();
+    }
+
+    @Test
+    public void decodeShouldDistinguishEqualNodesByIdentity() {
+        // given
+        final ObjectNode node = mapper.createObjectNode().put("field", "value");
+        final AtomicInteger decodings = new AtomicInteger();
+        final Function<JsonNode, String> decoder = jsonNode -> {
+            decodings.incrementAndGet();
+            return jsonNode.get("field").asText();
+        };
+
+        // when
+        target.decode(node, String.class, decoder);
+        target.decode(node.deepCopy(), String.class, decoder);
+
+        // then
+        assertThat(decodings).hasValue(2);
+        assertThat(target.getReusedCount()).isZero();
+    }
+
+    @Test
+    public void decodeShouldDistinguishTargetTypes() {
+        // given
+        final ObjectNode node = mapper.createObjectNode().put("field", 1);
+
+        // when
+        final String stringValue = target.decode(node, String.class, jsonNode -> jsonNode.get("field").asText());
+        final Integer intValue = target.decode(node, Integer.class, jsonNode -> jsonNode.get("field").asInt());
+
+        // then
+        assertThat(stringValue).isEqualTo("1");
+        assertThat(intValue).isEqualTo(1);
+        assertThat(target.getDecodedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void decodeShouldMemoizeNullResult() {
+        // given
+        final ObjectNode node = mapper.createObjectNode();
+        final AtomicInteger decodings = new AtomicInteger();
+
+        // when
+        target.decode(node, String.class, jsonNode -> {
+            decodings.incrementAndGet();
+            return null;
+        });
+        final String result = target.decode(node, String.class, jsonNode -> "unexpected");
+
+        // then
+        assertThat(result).isNull();
+        assertThat(decodings).hasValue(1);
+    }
+
+    @Test
+    public void decodeShouldNotMemoizeFailedDecoding() {
+        // given
+        final ObjectNode node = mapper.createObjectNode();
+
+        // when and then
+        assertThatThrownBy(() -> target.decode(node, String.class, jsonNode -> {
+            throw new IllegalArgumentException("failed");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(target.decode(node, String.class, jsonNode -> "value")).isEqualTo("value");
+    }
+}
@@ -14,8 +14,10 @@ import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Source;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +42,7 @@ import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.ccpa.Ccpa;
@@ -54,7 +57,9 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidData;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidDataEidPermissions;
 import org.prebid.server.settings.model.Account;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -63,6 +68,7 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -70,6 +76,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
@@ -108,6 +115,10 @@ public class AuctionRequestFactoryTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
+    private RequestBody requestBody;
+    @Mock
+    private Metrics metrics;
+    @Mock(strictness = LENIENT)
     private HttpServerRequest httpRequest;
 
     private Account defaultAccount;
@@ -144,6 +155,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .willAnswer(invocation -> invocation.getArgument(0));
 
         given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.body()).willReturn(requestBody);
         given(routingContext.queryParams()).willReturn(MultiMap.caseInsensitiveMultiMap());
         given(httpRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
         given(httpRequest.remoteAddress()).willReturn(new SocketAddressImpl(1234, "host"));
@@ -201,13 +213,14 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 auctionPrivacyContextFactory,
                 debugResolver,
                 jacksonMapper,
-                geoLocationServiceWrapper);
+                geoLocationServiceWrapper,
+                metrics);
     }
 
     @Test
     public void shouldReturnFailedFutureIfRequestBodyIsMissing() {
         // given
-        given(routingContext.getBody()).willReturn(null);
+        givenRequestBody(null);
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -236,9 +249,10 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 auctionPrivacyContextFactory,
                 debugResolver,
                 jacksonMapper,
-                geoLocationServiceWrapper);
+                geoLocationServiceWrapper,
+                metrics);
 
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenRequestBody("body");
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -250,10 +264,43 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .hasMessage("Request size exceeded max size of 1 bytes.");
     }
 
+    @Test
+    public void shouldCheckRequestBodySizeInBytes() {
+        // given
+        target = new AuctionRequestFactory(
+                4,
+                ortb2RequestFactory,
+                storedRequestProcessor,
+                ortbVersionConversionManager,
+                auctionGppService,
+                cookieDeprecationService,
+                paramsExtractor,
+                paramsResolver,
+                interstitialProcessor,
+                ortbTypesResolver,
+                auctionPrivacyContextFactory,
+                debugResolver,
+                jacksonMapper,
+                geoLocationServiceWrapper,
+                metrics);
+
+        givenRequestBody("\u00e9\u00e9\u00e9");
+
+        // when
+        final Future<?> future = target.parseRequest(routingContext, 0L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Request size exceeded max size of 4 bytes.");
+        verify(metrics).updateRequestBodySizeMetric(6);
+    }
+
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenRequestBody("body");
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -469,7 +516,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putObject("data")
                 .set("eidpermissions", eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        givenRequestBody(requestNode.toString());
 
         // when
         final Future<?> result = target.parseRequest(routingContext, 0L);
@@ -505,7 +552,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putArray("eidpermissions");
         arrayNode.add(eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        givenRequestBody(requestNode.toString());
 
         // when
         final Future<?> result = target.parseRequest(routingContext, 0L);
@@ -547,7 +594,53 @@ public class AuctionRequestFactoryTest extends VertxTest {
         target.parseRequest(routingContext, 0L).result();
 
         // then
-        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
+        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldNotNormalizeBidRequestReadStraightFromBody() {
+        // given
+        givenValidBidRequest();
+        final BidRequest readBidRequest = BidRequest.builder().id("read").build();
+        given(ortbTypesResolver.readNormalizedBidRequest(any(), anyInt(), anyInt())).willReturn(readBidRequest);
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue()).isEqualTo(readBidRequest);
+        verify(ortbTypesResolver, never()).normalizeBidRequest(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldNotReadBidRequestStraightFromBodyModifiedByEntrypointHooks() {
+        // given
+        givenValidBidRequest();
+        final String modifiedBody = bidRequestToString(BidRequest.builder().id("modified").build());
+        doAnswer(invocation -> Future.succeededFuture(HttpRequestContext.builder().body(modifiedBody).build()))
+                .when(ortb2RequestFactory)
+                .executeEntrypointHooks(any(), any(), any());
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        verify(ortbTypesResolver, never()).readNormalizedBidRequest(any(), anyInt(), anyInt());
+        verify(ortbTypesResolver).normalizeBidRequest(any(), eq(modifiedBody), any(), any());
+    }
+
+    @Test
+    public void shouldUpdateRequestParseTimeMetric() {
+        // given
+        givenValidBidRequest();
+
+        // when
+        target.parseRequest(routingContext, 0L).result();
+
+        // then
+        verify(metrics).updateRequestParseTimeMetric(anyLong(), eq(TimeUnit.NANOSECONDS));
     }
 
     @Test
@@ -758,7 +851,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
     private void givenBidRequest(BidRequest bidRequest) {
         try {
-            given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(bidRequest));
+            givenRequestBody(mapper.writeValueAsString(bidRequest));
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -812,4 +905,11 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
         return mapBuilder.build();
     }
+
+    private void givenRequestBody(String body) {
+        given(requestBody.length()).willReturn(body != null ? body.getBytes(StandardCharsets.UTF_8).length : -1);
+        if (body != null) {
+            given(requestBody.buffer()).willReturn(Buffer.buffer(body));
+        }
+    }
 }
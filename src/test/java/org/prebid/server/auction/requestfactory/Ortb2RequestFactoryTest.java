@@ -144,7 +144,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
 
         given(timeoutResolver.limitToMax(any())).willReturn(2000L);
 
-        given(hookStageExecutor.executeEntrypointStage(any(), any(), any(), any()))
+        given(hookStageExecutor.executeEntrypointStage(any(), any(), any(), any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
                         false,
                         EntrypointPayloadImpl.of(
@@ -1088,7 +1088,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
         final CaseInsensitiveMultiMap headerParams = CaseInsensitiveMultiMap.builder()
                 .add("DHT", "1")
                 .build();
-        given(hookStageExecutor.executeEntrypointStage(any(), any(), any(), any()))
+        given(hookStageExecutor.executeEntrypointStage(any(), any(), any(), any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
                         false,
                         EntrypointPayloadImpl.of(
@@ -1124,7 +1124,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
         given(routingContext.queryParams()).willReturn(MultiMap.caseInsensitiveMultiMap());
         given(httpServerRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
 
-        given(hookStageExecutor.executeEntrypointStage(any(), any(), any(), any()))
+        given(hookStageExecutor.executeEntrypointStage(any(), any(), any(), any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(true, null)));
 
         final AuctionContext auctionContext =
@@ -14,6 +14,7 @@ import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidCacheVastxml;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
 import org.prebid.server.util.HttpUtil;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -90,6 +92,8 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
+    private RequestBody requestBody;
+    @Mock(strictness = LENIENT)
     private HttpServerRequest httpServerRequest;
     @Mock(strictness = LENIENT)
     private DebugResolver debugResolver;
@@ -113,6 +117,7 @@ public class VideoRequestFactoryTest extends VertxTest {
                 .willReturn(DebugContext.of(true, true, null));
 
         given(routingContext.request()).willReturn(httpServerRequest);
+        given(routingContext.body()).willReturn(requestBody);
         given(routingContext.queryParams()).willReturn(MultiMap.caseInsensitiveMultiMap());
         given(httpServerRequest.remoteAddress()).willReturn(new SocketAddressImpl(1234, "host"));
         given(httpServerRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
@@ -147,7 +152,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyIsMissing() {
         // given
-        given(routingContext.getBodyAsString()).willReturn(null);
+        givenRequestBody(null);
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -162,8 +167,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfStoredRequestIsEnforcedAndIdIsNotProvided() throws JsonProcessingException {
         // given
-        given(routingContext.getBodyAsString())
-                .willReturn(mapper.writeValueAsString(BidRequestVideo.builder().build()));
+        givenRequestBody(mapper.writeValueAsString(BidRequestVideo.builder().build()));
         given(routingContext.request().headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.USER_AGENT_HEADER, "123"));
         target = new VideoRequestFactory(
@@ -205,7 +209,7 @@ public class VideoRequestFactoryTest extends VertxTest {
                 jacksonMapper,
                 geoLocationServiceWrapper);
 
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenRequestBody("body");
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -220,7 +224,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenRequestBody("body");
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -237,7 +241,7 @@ public class VideoRequestFactoryTest extends VertxTest {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
         final String body = mapper.writeValueAsString(requestVideo);
-        given(routingContext.getBodyAsString()).willReturn(body);
+        givenRequestBody(body);
 
         given(routingContext.request().headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.USER_AGENT_HEADER, "user-agent-123"));
@@ -272,7 +276,7 @@ public class VideoRequestFactoryTest extends VertxTest {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().device(
                 Device.builder().ua("123").build()).build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenRequestBody(mapper.writeValueAsString(requestVideo));
         givenBidRequest(BidRequest.builder().build(), emptyList());
 
         // when
@@ -329,7 +333,7 @@ public class VideoRequestFactoryTest extends VertxTest {
 
         final BidRequestVideo requestVideo = BidRequestVideo.builder().device(
                 Device.builder().ua("123").build()).build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenRequestBody(mapper.writeValueAsString(requestVideo));
 
         final List<PodError> podErrors = singletonList(PodError.of(1, 1, singletonList("TEST")));
         givenBidRequest(bidRequest, podErrors);
@@ -338,7 +342,7 @@ public class VideoRequestFactoryTest extends VertxTest {
         final Future<WithPodErrors<AuctionContext>> result = target.fromRequest(routingContext, 0L);
 
         // then
-        verify(routingContext).getBodyAsString();
+        verify(requestBody).asString();
         verify(videoStoredRequestProcessor).processVideoRequest("", null, emptySet(), requestVideo);
         verify(ortb2RequestFactory).createAuctionContext(any(), eq(MetricName.video));
         verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), eq(bidRequest), eq(0L));
@@ -356,7 +360,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     public void shouldReplaceDeviceUaWithUserAgentHeaderIfPresented() throws JsonProcessingException {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenRequestBody(mapper.writeValueAsString(requestVideo));
         given(routingContext.request().headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.USER_AGENT_HEADER, "user-agent-123"));
 
@@ -379,7 +383,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     public void shouldReturnErrorIfDeviceUaAndUserAgentHeaderIsEmpty() throws JsonProcessingException {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenRequestBody(mapper.writeValueAsString(requestVideo));
         given(httpServerRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
 
         // when
@@ -517,7 +521,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     private void prepareMinimumSuccessfulConditions() throws JsonProcessingException {
         final BidRequestVideo requestVideo = BidRequestVideo.builder().device(Device.builder()
                 .ua("123").build()).build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenRequestBody(mapper.writeValueAsString(requestVideo));
         final ExtRequestPrebid ext = ExtRequestPrebid.builder()
                 .targeting(ExtRequestTargeting.builder().build())
                 .build();
@@ -527,4 +531,9 @@ public class VideoRequestFactoryTest extends VertxTest {
                 .build();
         givenBidRequest(bidRequest, singletonList(PodError.of(1, 1, singletonList("TEST"))));
     }
+
+    private void givenRequestBody(String body) {
+        given(requestBody.length()).willReturn(body != null ? body.getBytes(StandardCharsets.UTF_8).length : -1);
+        given(requestBody.asString()).willReturn(body);
+    }
 }
@@ -0,0 +1,56 @@
+package org.prebid.server.bidder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class EndpointTemplateTest {
+
+    @Test
+    public void resolveShouldReplaceAllMacroOccurrences() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of(
+                "https://{{Host}}.example.com/{{AccountID}}?source={{SourceId}}&account={{AccountID}}");
+
+        // when
+        final String result = target.resolver()
+                .set("{{Host}}", "us-east")
+                .set("{{AccountID}}", "acc")
+                .set("{{SourceId}}", "src")
+                .resolve();
+
+        // then
+        assertThat(result).isEqualTo("https://us-east.example.com/acc?source=src&account=acc");
+    }
+
+    @Test
+    public void resolveShouldLeaveMacrosWithoutValue() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of("https://example.com/{{AccountID}}?source={{SourceId}");
+
+        // when
+        final String result = target.resolver().set("{{Unknown}}", "value").resolve();
+
+        // then
+        assertThat(result).isEqualTo("https://example.com/{{AccountID}}?source={{SourceId}");
+    }
+
+    @Test
+    public void resolveShouldReturnTemplateWithoutMacros() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.of("https://example.com/path");
+
+        // when and then
+        assertThat(target.resolver().resolve()).isSameAs(target.template());
+    }
+
+    @Test
+    public void setShouldFailOnNullValue() {
+        // given
+        final EndpointTemplate.Resolver resolver = EndpointTemplate.of("https://{{Host}}").resolver();
+
+        // when and then
+        assertThatNullPointerException().isThrownBy(() -> resolver.set("{{Host}}", null));
+    }
+}
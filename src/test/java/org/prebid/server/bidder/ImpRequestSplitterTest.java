@@ -0,0 +1,76 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Video;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.util.BidderUtil;
+import org.prebid.server.util.HttpUtil;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImpRequestSplitterTest extends VertxTest {
+
+    private static final String ENDPOINT_URL = "https://test.endpoint.com";
+
+    @Test
+    public void requestShouldReturnSameRequestAsDefaultRequestForEachImp() {
+        // given
+        final ObjectNode impExt = mapper.createObjectNode();
+        impExt.putObject("bidder").put("placementId", "pl\"aceément").put("count", 2);
+        final List<Imp> imps = List.of(
+                Imp.builder().id("imp1").banner(Banner.builder().w(300).h(250).build()).build(),
+                Imp.builder().id("imp2").video(Video.builder().w(640).build())
+                        .bidfloor(BigDecimal.valueOf(1.25)).bidfloorcur("EUR").ext(impExt).build(),
+                Imp.builder().id("imp3").build());
+        final BidRequest bidRequest = BidRequest.builder()
+                .id("request-id")
+                .imp(imps)
+                .site(Site.builder().page("https://page.com").publisher(Publisher.builder().id("pub").build()).build())
+                .device(Device.builder().ua("ua").ip("1.2.3.4").build())
+                .tmax(1000L)
+                .cur(singletonList("USD"))
+                .build();
+
+        final ImpRequestSplitter target = BidderUtil.impRequestSplitter(bidRequest, ENDPOINT_URL, jacksonMapper);
+
+        for (Imp imp : imps) {
+            // when
+            final HttpRequest<BidRequest> result = target.request(imp);
+
+            // then
+            final HttpRequest<BidRequest> expected = BidderUtil.defaultRequest(
+                    bidRequest.toBuilder().imp(singletonList(imp)).build(), ENDPOINT_URL, jacksonMapper);
+            assertThat(result.getBody()).isEqualTo(expected.getBody());
+            assertThat(result).usingRecursiveComparison().ignoringFields("headers").isEqualTo(expected);
+            assertThat(result.getHeaders().entries()).isEqualTo(HttpUtil.headers().entries());
+        }
+    }
+
+    @Test
+    public void requestShouldReturnSameBodyAsDefaultRequestForRequestWithImpOnly() {
+        // given
+        final Imp imp = Imp.builder().id("imp").build();
+        final BidRequest bidRequest = BidRequest.builder().imp(List.of(imp, Imp.builder().id("other").build())).build();
+
+        // when
+        final HttpRequest<BidRequest> result = BidderUtil.impRequestSplitter(bidRequest, ENDPOINT_URL, jacksonMapper)
+                .request(imp);
+
+        // then
+        assertThat(new String(result.getBody())).isEqualTo("{\"imp\":[{\"id\":\"imp\"}]}");
+        assertThat(result.getImpIds()).containsExactly("imp");
+        assertThat(result.getPayload()).isEqualTo(BidRequest.builder().imp(singletonList(imp)).build());
+    }
+}
@@ -0,0 +1,34 @@
+package org.prebid.server.bidder;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.Result;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyBidderTest {
+
+    @Test
+    public void makeHttpRequestsShouldCreateBidderOnFirstCallOnly() {
+        // given
+        final AtomicInteger createdBidders = new AtomicInteger();
+        final LazyBidder<Void> target = new LazyBidder<>(() -> {
+            createdBidders.incrementAndGet();
+            return new DisabledBidder("error message");
+        });
+
+        // when
+        final int createdBeforeCall = createdBidders.get();
+        target.makeHttpRequests(null);
+        final Result<List<HttpRequest<Void>>> result = target.makeHttpRequests(null);
+
+        // then
+        assertThat(createdBeforeCall).isZero();
+        assertThat(createdBidders.get()).isOne();
+        assertThat(result.getErrors()).containsOnly(BidderError.badInput("error message"));
+    }
+}
@@ -14,6 +14,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.cache.proto.request.module.ModuleCacheRequest;
 import org.prebid.server.cache.proto.request.module.StorageDataType;
 import org.prebid.server.cache.proto.response.module.ModuleCacheResponse;
+import org.prebid.server.cache.utils.CacheServiceUtil;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
@@ -224,6 +225,22 @@ public class BasicPbcStorageServiceTest extends VertxTest {
         assertThat(result.get(HttpUtil.X_PBC_API_KEY_HEADER)).isEqualTo("pbc-api-key");
     }
 
+    @Test
+    public void storeEntryShouldNotAddApiKeyToSharedCacheHeaders() {
+        // when
+        target.storeEntry("some-key",
+                "some-value",
+                StorageDataType.TEXT,
+                12,
+                "some-application",
+                "some-module-code");
+        target.retrieveEntry("some-key", "some-module-code", "some-app");
+
+        // then
+        assertThat(CacheServiceUtil.CACHE_HEADERS.contains(HttpUtil.X_PBC_API_KEY_HEADER)).isFalse();
+        assertThat(captureStoreRequestHeaders().getAll(HttpUtil.X_PBC_API_KEY_HEADER).size()).isEqualTo(1);
+    }
+
     @Test
     public void retrieveModuleEntryShouldReturnFailedFutureIfKeyIsMissed() {
         // when
@@ -0,0 +1,94 @@
+package org.prebid.server.cookie;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.cookie.model.RejectionReason;
+import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CookieSyncBidderIndexTest {
+
+    @Mock(strictness = LENIENT)
+    private BidderCatalog bidderCatalog;
+
+    @Test
+    public void rejectionReasonShouldReturnReasonForIndexedBidders() {
+        // given
+        givenBidder("syncable", true, givenUsersyncer(true), false);
+        givenBidder("disabled", false, givenUsersyncer(true), false);
+        givenBidder("unconfigured", true, null, false);
+        givenBidder("usersync-disabled", true, givenUsersyncer(false), false);
+        given(bidderCatalog.names()).willReturn(Set.of("syncable", "disabled", "unconfigured", "usersync-disabled"));
+
+        final CookieSyncBidderIndex target = new CookieSyncBidderIndex(bidderCatalog);
+
+        // when and then
+        assertThat(target.rejectionReason("syncable")).isNull();
+        assertThat(target.rejectionReason("disabled")).isEqualTo(RejectionReason.DISABLED_BIDDER);
+        assertThat(target.rejectionReason("unconfigured")).isEqualTo(RejectionReason.UNCONFIGURED_USERSYNC);
+        assertThat(target.rejectionReason("usersync-disabled")).isEqualTo(RejectionReason.DISABLED_USERSYNC);
+        verify(bidderCatalog, never()).isValidName(any());
+        verify(bidderCatalog, never()).isActive(any());
+    }
+
+    @Test
+    public void rejectionReasonShouldFallbackToCatalogForNotIndexedBidders() {
+        // given
+        given(bidderCatalog.names()).willReturn(Set.of());
+        given(bidderCatalog.isValidName("Bidder")).willReturn(true);
+        given(bidderCatalog.isActive("Bidder")).willReturn(true);
+        given(bidderCatalog.usersyncerByName("Bidder")).willReturn(Optional.of(givenUsersyncer(false)));
+
+        final CookieSyncBidderIndex target = new CookieSyncBidderIndex(bidderCatalog);
+
+        // when and then
+        assertThat(target.rejectionReason("invalid")).isEqualTo(RejectionReason.INVALID_BIDDER);
+        assertThat(target.rejectionReason(null)).isEqualTo(RejectionReason.INVALID_BIDDER);
+        assertThat(target.rejectionReason("Bidder")).isEqualTo(RejectionReason.DISABLED_USERSYNC);
+    }
+
+    @Test
+    public void cookieFamilyNameAndIsCcpaEnforcedShouldReturnIndexedValues() {
+        // given
+        givenBidder("bidder", true, givenUsersyncer(true), true);
+        givenBidder("unconfigured", true, null, false);
+        given(bidderCatalog.names()).willReturn(Set.of("bidder", "unconfigured"));
+
+        final CookieSyncBidderIndex target = new CookieSyncBidderIndex(bidderCatalog);
+
+        // when and then
+        assertThat(target.cookieFamilyName("bidder")).contains("family");
+        assertThat(target.cookieFamilyName("unconfigured")).isEmpty();
+        assertThat(target.isCcpaEnforced("bidder")).isTrue();
+        assertThat(target.isCcpaEnforced("unconfigured")).isFalse();
+    }
+
+    private void givenBidder(String bidder, boolean enabled, Usersyncer usersyncer, boolean ccpaEnforced) {
+        final BidderInfo bidderInfo = BidderInfo.create(enabled, null, false, null, null, null, null, null, null,
+                null, 0, null, ccpaEnforced, false, CompressionType.NONE, Ortb.of(false));
+
+        given(bidderCatalog.bidderInfoByName(bidder)).willReturn(bidderInfo);
+        given(bidderCatalog.usersyncerByName(bidder)).willReturn(Optional.ofNullable(usersyncer));
+    }
+
+    private static Usersyncer givenUsersyncer(boolean enabled) {
+        return Usersyncer.of(enabled, "family", CookieFamilySource.ROOT, null, null);
+    }
+}
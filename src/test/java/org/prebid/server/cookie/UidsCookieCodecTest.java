@@ -0,0 +1,135 @@
+package org.prebid.server.cookie;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.DecodeException;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class UidsCookieCodecTest extends VertxTest {
+
+    private static final ZonedDateTime EXPIRES = ZonedDateTime.of(2030, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
+    @Test
+    public void decodeShouldReadBinaryFormat() {
+        // given
+        final UidsCookieCodec target = new UidsCookieCodec(true, 0, jacksonMapper);
+        final Uids uids = givenUids(true);
+
+        // when
+        final Uids result = target.decode(target.encode(uids));
+
+        // then
+        assertThat(result).isEqualTo(uids);
+    }
+
+    @Test
+    public void decodeShouldReadJsonFormatWhenBinaryFormatIsEnabled() {
+        // given
+        final Uids uids = givenUids(null);
+        final String jsonCookieValue = new UidsCookieCodec(false, 0, jacksonMapper).encode(uids);
+
+        // when
+        final Uids result = new UidsCookieCodec(true, 0, jacksonMapper).decode(jsonCookieValue);
+
+        // then
+        assertThat(result.getUids()).containsOnlyKeys("rubicon", "adnxs", "legacy");
+        assertThat(result.getUids().get("rubicon").getUid()).isEqualTo("J5VLCWQP-26-CWFT");
+        assertThat(result.getUids().get("rubicon").getExpires().toInstant()).isEqualTo(EXPIRES.toInstant());
+        assertThat(result.getUids().get("legacy").getExpires()).isNull();
+    }
+
+    @Test
+    public void encodeShouldUseJsonFormatByDefault() {
+        // given
+        final UidsCookieCodec target = new UidsCookieCodec(false, 0, jacksonMapper);
+
+        // when
+        final String result = target.encode(Uids.builder().uids(emptyMap()).optout(true).build());
+
+        // then
+        assertThat(new String(Base64.getUrlDecoder().decode(result))).isEqualTo("{\"tempUIDs\":{},\"optout\":true}");
+    }
+
+    @Test
+    public void decodeShouldFailOnTruncatedBinaryFormat() {
+        // given
+        final UidsCookieCodec target = new UidsCookieCodec(true, 0, jacksonMapper);
+        final byte[] payload = Base64.getUrlDecoder().decode(target.encode(givenUids(false)));
+        final byte[] truncated = new byte[payload.length - 3];
+        System.arraycopy(payload, 0, truncated, 0, truncated.length);
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.decode(Base64.getUrlEncoder().encodeToString(truncated)));
+    }
+
+    @Test
+    public void decodeShouldFailOnInvalidJson() {
+        // given
+        final UidsCookieCodec target = new UidsCookieCodec(true, 0, jacksonMapper);
+
+        // when and then
+        assertThatExceptionOfType(DecodeException.class)
+                .isThrownBy(() -> target.decode(Base64.getUrlEncoder().encodeToString("{invalid".getBytes())));
+    }
+
+    @Test
+    public void decodeShouldReturnCachedUidsForSameCookieValue() {
+        // given
+        final UidsCookieCodec target = new UidsCookieCodec(true, 10, jacksonMapper);
+        final String cookieValue = target.encode(givenUids(null));
+
+        // when
+        final Uids first = target.decode(cookieValue);
+        final Uids second = target.decode(cookieValue);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void encodedLengthShouldMatchEncodedValueLength() {
+        for (boolean binaryFormatEnabled : new boolean[]{false, true}) {
+            // given
+            final UidsCookieCodec target = new UidsCookieCodec(binaryFormatEnabled, 0, jacksonMapper);
+            final Uids uids = givenUids(false);
+
+            // when and then
+            assertThat(target.encodedLength(uids)).isEqualTo(target.encode(uids).length());
+            for (int count = 0; count <= uids.getUids().size(); count++) {
+                final Uids trimmedUids = givenUids(false, count);
+                assertThat(target.encodedLength(trimmedUids)).isEqualTo(target.encode(trimmedUids).length());
+            }
+        }
+    }
+
+    private static Uids givenUids(Boolean optout) {
+        return givenUids(optout, 3);
+    }
+
+    private static Uids givenUids(Boolean optout, int count) {
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        final String[] families = {"rubicon", "adnxs", "legacy"};
+        final UidWithExpiry[] values = {
+                new UidWithExpiry("J5VLCWQP-26-CWFT", EXPIRES),
+                new UidWithExpiry("12345", EXPIRES.plusDays(1)),
+                new UidWithExpiry("legacy-uid", null)};
+        for (int i = 0; i < count; i++) {
+            uids.put(families[i], values[i]);
+        }
+
+        return Uids.builder().uids(uids).optout(optout).build();
+    }
+}
@@ -65,6 +65,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
     }
@@ -271,6 +272,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
@@ -295,6 +297,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
@@ -319,6 +322,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
         given(routingContext.cookieMap()).willReturn(singletonMap("khaos", Cookie.cookie("khaos", "abc123")));
@@ -342,6 +346,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
 
@@ -443,6 +448,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
 
@@ -484,6 +490,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
 
@@ -506,6 +513,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
 
@@ -539,6 +547,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
 
@@ -563,6 +572,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
 
@@ -674,6 +684,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
         given(prioritizedCoopSyncProvider.hasPrioritizedBidders()).willReturn(true);
@@ -705,6 +716,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
         given(prioritizedCoopSyncProvider.hasPrioritizedBidders()).willReturn(true);
@@ -745,6 +757,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 prioritizedCoopSyncProvider,
+                new UidsCookieCodec(false, 0, jacksonMapper),
                 metrics,
                 jacksonMapper);
         given(prioritizedCoopSyncProvider.hasPrioritizedBidders()).willReturn(false);
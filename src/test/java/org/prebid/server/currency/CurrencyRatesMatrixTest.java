@@ -0,0 +1,52 @@
+package org.prebid.server.currency;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CurrencyRatesMatrixTest {
+
+    private static final Map<String, Map<String, BigDecimal>> RATES = Map.of(
+            "USD", Map.of("EUR", new BigDecimal("0.9"), "AUD", new BigDecimal("1.5")),
+            "GBP", Map.of("AUD", new BigDecimal("2.0")));
+
+    @Test
+    public void ofShouldReturnNullForEmptyRates() {
+        // when and then
+        assertThat(CurrencyRatesMatrix.of(emptyMap())).isNull();
+        assertThat(CurrencyRatesMatrix.of(null)).isNull();
+    }
+
+    @Test
+    public void rateShouldResolveStraightReverseIntermediateAndCrossRates() {
+        // given
+        final CurrencyRatesMatrix target = CurrencyRatesMatrix.of(RATES);
+
+        // when and then
+        assertThat(target.rate("USD", "EUR")).isEqualByComparingTo("0.9");
+        assertThat(target.rate("EUR", "USD")).isEqualByComparingTo("1.111");
+        assertThat(target.rate("USD", "GBP")).isEqualByComparingTo("0.75");
+        assertThat(target.rate("EUR", "AUD")).isEqualByComparingTo("1.667");
+        assertThat(target.rate("EUR", "GBP")).isNull();
+        assertThat(target.rate("USD", "JPY")).isNull();
+        assertThat(target.rate("JPY", "USD")).isNull();
+    }
+
+    @Test
+    public void resolveAllShouldGiveSameRatesAsResolvingOnDemand() {
+        // given
+        final CurrencyRatesMatrix onDemand = CurrencyRatesMatrix.of(RATES);
+        final CurrencyRatesMatrix resolved = CurrencyRatesMatrix.of(RATES).resolveAll();
+
+        // when and then
+        for (String from : new String[]{"USD", "EUR", "AUD", "GBP"}) {
+            for (String to : new String[]{"USD", "EUR", "AUD", "GBP"}) {
+                assertThat(resolved.rate(from, to)).isEqualTo(onDemand.rate(from, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.prebid.server.execution;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.system.CpuLoadAverageStats;
+import org.prebid.server.vertx.EventLoopLagMonitor;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AdmissionControllerTest {
+
+    @Mock
+    private CpuLoadAverageStats cpuLoadAverageStats;
+    @Mock
+    private EventLoopLagMonitor eventLoopLagMonitor;
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void creationShouldFailWhenCpuLoadLimitIsSetWithoutCpuLoadMonitoring() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdmissionController(
+                        0, 0.8, 0, emptySet(), 0, null, eventLoopLagMonitor, metrics))
+                .withMessage("CPU load limit requires CPU load monitoring to be enabled");
+    }
+
+    @Test
+    public void creationShouldFailWhenAllInflightRequestsAreReserved() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdmissionController(
+                        2, 0, 0, singleton("priority"), 2, cpuLoadAverageStats, eventLoopLagMonitor, metrics))
+                .withMessage("Reserved in-flight requests must be less than in-flight limit");
+    }
+
+    @Test
+    public void tryAdmitShouldAdmitAnyRequestWhenNoLimitsConfigured() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(0, 0, 0);
+
+        // when and then
+        assertThat(admissionController.tryAdmit(null)).isTrue();
+        assertThat(admissionController.tryAdmit(null)).isTrue();
+        verifyNoInteractions(cpuLoadAverageStats);
+        verify(metrics, never()).updateAdmissionControlRejectedMetric(any());
+    }
+
+    @Test
+    public void tryAdmitShouldRejectWhenCpuLoadExceedsLimit() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(0, 0.8, 0);
+        given(cpuLoadAverageStats.getCpuLoadAverage()).willReturn(0.9);
+
+        // when
+        final boolean result = admissionController.tryAdmit(null);
+
+        // then
+        assertThat(result).isFalse();
+        verify(metrics).updateAdmissionControlRejectedMetric(MetricName.cpu_load);
+    }
+
+    @Test
+    public void tryAdmitShouldAdmitWhenCpuLoadIsNotMeasuredYet() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(0, 0.8, 0);
+        given(cpuLoadAverageStats.getCpuLoadAverage()).willReturn(-1.0);
+
+        // when and then
+        assertThat(admissionController.tryAdmit(null)).isTrue();
+    }
+
+    @Test
+    public void tryAdmitShouldRejectWhenEventLoopLagExceedsLimit() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(0, 0, 50);
+        given(eventLoopLagMonitor.getMaxLagMillis()).willReturn(51L);
+
+        // when
+        final boolean result = admissionController.tryAdmit(null);
+
+        // then
+        assertThat(result).isFalse();
+        verify(metrics).updateAdmissionControlRejectedMetric(MetricName.event_loop_lag);
+    }
+
+    @Test
+    public void tryAdmitShouldRejectWhenInflightRequestsExceedLimitUntilReleased() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(2, 0, 0);
+
+        // when and then
+        assertThat(admissionController.tryAdmit(null)).isTrue();
+        assertThat(admissionController.tryAdmit(null)).isTrue();
+        assertThat(admissionController.tryAdmit(null)).isFalse();
+
+        admissionController.release();
+        assertThat(admissionController.tryAdmit(null)).isTrue();
+
+        verify(metrics).updateAdmissionControlRejectedMetric(MetricName.inflight_requests);
+    }
+
+    @Test
+    public void tryAdmitShouldNotShedPriorityAccountBecauseOfCpuLoadAndEventLoopLag() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(0, 0.8, 50);
+
+        // when and then
+        assertThat(admissionController.tryAdmit("priority")).isTrue();
+        verifyNoInteractions(cpuLoadAverageStats);
+        verify(eventLoopLagMonitor, never()).getMaxLagMillis();
+    }
+
+    @Test
+    public void tryAdmitShouldShedRegularAccountBecauseOfCpuLoad() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(0, 0.8, 50);
+        given(cpuLoadAverageStats.getCpuLoadAverage()).willReturn(0.9);
+
+        // when and then
+        assertThat(admissionController.tryAdmit("regular")).isFalse();
+        verify(metrics).updateAdmissionControlRejectedMetric(MetricName.cpu_load);
+    }
+
+    @Test
+    public void tryAdmitShouldKeepReservedInflightRequestsForPriorityAccounts() {
+        // given
+        final AdmissionController admissionController = givenAdmissionController(3, 0, 0, 1);
+
+        // when and then
+        assertThat(admissionController.tryAdmit("regular")).isTrue();
+        assertThat(admissionController.tryAdmit(null)).isTrue();
+        assertThat(admissionController.tryAdmit("regular")).isFalse();
+        assertThat(admissionController.tryAdmit("priority")).isTrue();
+        assertThat(admissionController.tryAdmit("priority")).isFalse();
+
+        verify(metrics, times(2)).updateAdmissionControlRejectedMetric(MetricName.inflight_requests);
+    }
+
+    private AdmissionController givenAdmissionController(int maxInflightRequests,
+                                                         double maxCpuLoad,
+                                                         long maxEventLoopLagMillis) {
+
+        return givenAdmissionController(maxInflightRequests, maxCpuLoad, maxEventLoopLagMillis, 0);
+    }
+
+    private AdmissionController givenAdmissionController(int maxInflightRequests,
+                                                         double maxCpuLoad,
+                                                         long maxEventLoopLagMillis,
+                                                         int priorityReservedInflightRequests) {
+
+        return new AdmissionController(
+                maxInflightRequests,
+                maxCpuLoad,
+                maxEventLoopLagMillis,
+                singleton("priority"),
+                priorityReservedInflightRequests,
+                cpuLoadAverageStats,
+                eventLoopLagMonitor,
+                metrics);
+    }
+}
@@ -0,0 +1,87 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class BlockingExecutorFactoryTest {
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private WorkerExecutor workerExecutor;
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void executorShouldReturnSameExecutorForSameName() {
+        // given
+        final BlockingExecutorFactory target = new BlockingExecutorFactory(vertx, true, metrics, Clock.systemUTC());
+
+        // when
+        final BlockingExecutor executor = target.executor("name", 2);
+
+        // then
+        assertThat(target.executor("name", 2)).isSameAs(executor);
+        assertThat(target.executor("other", 2)).isNotSameAs(executor);
+        target.close();
+    }
+
+    @Test
+    public void executorShouldFailWhenSameNameIsGivenWithOtherMaxConcurrency() {
+        // given
+        final BlockingExecutorFactory target = new BlockingExecutorFactory(vertx, true, metrics, Clock.systemUTC());
+        target.executor("name", 2);
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.executor("name", 3))
+                .withMessage("Executor name is already created with max concurrency 2, but 3 is given");
+        target.close();
+    }
+
+    @Test
+    public void closeShouldCloseVirtualThreadExecutors() {
+        // given
+        final BlockingExecutorFactory target = new BlockingExecutorFactory(vertx, true, metrics, Clock.systemUTC());
+        final BlockingExecutor executor = target.executor("name", 1);
+
+        // when
+        target.close();
+
+        // then
+        final Future<String> result = executor.execute(() -> "result");
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void closeShouldCloseWorkerPoolExecutors() {
+        // given
+        given(vertx.createSharedWorkerExecutor("name", 1)).willReturn(workerExecutor);
+        final BlockingExecutorFactory target = new BlockingExecutorFactory(vertx, false, metrics, Clock.systemUTC());
+        target.executor("name", 1);
+
+        // when
+        target.close();
+
+        // then
+        verify(workerExecutor).close();
+    }
+}
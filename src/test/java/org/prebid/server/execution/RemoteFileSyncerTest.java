@@ -25,6 +25,7 @@ import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
 import org.prebid.server.execution.retry.RetryPolicy;
 
 import java.io.File;
+import java.util.concurrent.Callable;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -80,36 +81,44 @@ public class RemoteFileSyncerTest extends VertxTest {
     @Mock
     private HttpClientResponse httpClientResponse;
 
+    @Mock(strictness = LENIENT)
+    private BlockingExecutor blockingExecutor;
+
     private RemoteFileSyncer remoteFileSyncer;
 
     @BeforeEach
     public void setUp() {
         when(vertx.fileSystem()).thenReturn(fileSystem);
+        given(blockingExecutor.execute(any())).willAnswer(invocation ->
+                Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call()));
         remoteFileSyncer = new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, 0, httpClient, vertx);
+                TIMEOUT, 0, httpClient, vertx, blockingExecutor);
     }
 
     @Test
     public void shouldThrowNullPointerExceptionWhenIllegalArgumentsWhenNullArguments() {
         assertThatNullPointerException().isThrownBy(
                 () -> new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, null, TMP_FILE_PATH, RETRY_POLICY, TIMEOUT,
-                        UPDATE_INTERVAL, httpClient, vertx));
+                        UPDATE_INTERVAL, httpClient, vertx, blockingExecutor));
+        assertThatNullPointerException().isThrownBy(
+                () -> new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
+                        TIMEOUT, UPDATE_INTERVAL, null, vertx, blockingExecutor));
         assertThatNullPointerException().isThrownBy(
                 () -> new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                        TIMEOUT, UPDATE_INTERVAL, null, vertx));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, null, blockingExecutor));
         assertThatNullPointerException().isThrownBy(
                 () -> new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                        TIMEOUT, UPDATE_INTERVAL, httpClient, null));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, null));
     }
 
     @Test
     public void shouldThrowIllegalArgumentExceptionWhenIllegalArguments() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> new RemoteFileSyncer(remoteFileProcessor, null, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor));
         assertThatIllegalArgumentException().isThrownBy(
                 () -> new RemoteFileSyncer(remoteFileProcessor, "bad url", FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx));
+                        TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor));
     }
 
     @Test
@@ -120,7 +129,7 @@ public class RemoteFileSyncerTest extends VertxTest {
 
         // when
         new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY, TIMEOUT,
-                UPDATE_INTERVAL, httpClient, vertx);
+                UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         // then
         verify(fileSystem).mkdirsBlocking(eq(DIR_PATH));
@@ -137,7 +146,7 @@ public class RemoteFileSyncerTest extends VertxTest {
 
         // when
         new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY, TIMEOUT,
-                UPDATE_INTERVAL, httpClient, vertx);
+                UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         // then
         verify(fileSystem).mkdirsBlocking(eq(DIR_PATH));
@@ -152,10 +161,40 @@ public class RemoteFileSyncerTest extends VertxTest {
 
         // when and then
         assertThatThrownBy(() -> new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH,
-                RETRY_POLICY, TIMEOUT, UPDATE_INTERVAL, httpClient, vertx))
+                RETRY_POLICY, TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor))
                 .isInstanceOf(PreBidException.class);
     }
 
+    @Test
+    public void syncShouldProcessSavedFileWithBlockingExecutor() {
+        // given
+        given(fileSystem.exists(anyString())).willReturn(Future.succeededFuture(true));
+        given(remoteFileProcessor.setDataPath(anyString())).willReturn(Future.succeededFuture());
+
+        // when
+        remoteFileSyncer.sync();
+
+        // then
+        verify(blockingExecutor).execute(any());
+        verify(remoteFileProcessor).setDataPath(eq(FILE_PATH));
+        verify(fileSystem, never()).delete(anyString());
+    }
+
+    @Test
+    public void syncShouldDeleteSavedFileWhenBlockingExecutorRejectedProcessing() {
+        // given
+        given(fileSystem.exists(anyString())).willReturn(Future.succeededFuture(true));
+        doReturn(Future.failedFuture("rejected")).when(blockingExecutor).execute(any());
+        given(fileSystem.delete(anyString())).willReturn(Future.succeededFuture());
+
+        // when
+        remoteFileSyncer.sync();
+
+        // then
+        verifyNoInteractions(remoteFileProcessor);
+        verify(fileSystem).delete(eq(FILE_PATH));
+    }
+
     @Test
     public void syncForFilepathShouldNotTriggerServiceWhenCantCheckIfUsableFileExist() {
         // given
@@ -175,7 +214,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldNotUpdateWhenHeadRequestReturnInvalidHead() {
         // given
         remoteFileSyncer = new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -204,7 +243,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldNotUpdateWhenPropsIsFailed() {
         // given
         remoteFileSyncer = new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -238,7 +277,7 @@ public class RemoteFileSyncerTest extends VertxTest {
     public void syncForFilepathShouldNotUpdateServiceWhenSizeEqualsContentLength() {
         // given
         remoteFileSyncer = new RemoteFileSyncer(remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -275,7 +314,7 @@ public class RemoteFileSyncerTest extends VertxTest {
         // given
         remoteFileSyncer = new RemoteFileSyncer(
                 remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -493,7 +532,7 @@ public class RemoteFileSyncerTest extends VertxTest {
         // given
         remoteFileSyncer = new RemoteFileSyncer(
                 remoteFileProcessor, SOURCE_URL, FILE_PATH, TMP_FILE_PATH, RETRY_POLICY,
-                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx);
+                TIMEOUT, UPDATE_INTERVAL, httpClient, vertx, blockingExecutor);
 
         givenTriggerUpdate();
 
@@ -0,0 +1,135 @@
+package org.prebid.server.execution;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class VirtualThreadBlockingExecutorTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private VirtualThreadBlockingExecutor target;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        target = new VirtualThreadBlockingExecutor("name", 1, metrics, Clock.systemUTC());
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        target.close();
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxConcurrency() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new VirtualThreadBlockingExecutor("name", 0, metrics, Clock.systemUTC()));
+    }
+
+    @Test
+    public void executeShouldRunActionOnVirtualThread() {
+        // when
+        final Future<Boolean> result = target.execute(() -> Thread.currentThread().isVirtual());
+
+        // then
+        assertThat(result.toCompletionStage().toCompletableFuture().join()).isTrue();
+    }
+
+    @Test
+    public void executeShouldFailIfActionFails() {
+        // when
+        final Future<Object> result = target.execute(() -> {
+            throw new IllegalStateException("failed");
+        });
+
+        // then
+        assertThat(result.toCompletionStage().toCompletableFuture())
+                .failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void executeShouldCompleteOnCallerContext(VertxTestContext testContext) {
+        // given
+        final Context context = vertx.getOrCreateContext();
+
+        // when
+        context.runOnContext(ignored -> target.execute(() -> "value")
+                .onComplete(testContext.succeeding(value -> testContext.verify(() -> {
+                    assertThat(Vertx.currentContext()).isSameAs(context);
+                    assertThat(value).isEqualTo("value");
+                    testContext.completeNow();
+                }))));
+    }
+
+    @Test
+    public void executeShouldNotRunMoreActionsThanMaxConcurrency() throws InterruptedException {
+        // given
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        final Future<Object> first = target.execute(() -> runExclusively(running, maxRunning, release));
+        final Future<Object> second = target.execute(() -> runExclusively(running, maxRunning, release));
+        Thread.sleep(50L);
+        release.countDown();
+
+        // then
+        first.toCompletionStage().toCompletableFuture().join();
+        second.toCompletionStage().toCompletableFuture().join();
+        assertThat(maxRunning.get()).isOne();
+    }
+
+    @Test
+    public void executeShouldUpdateMetrics() {
+        // when
+        target.execute(() -> "value").toCompletionStage().toCompletableFuture().join();
+
+        // then
+        verify(metrics).createBlockingExecutorQueuedTasksGauge(eq("name"), any(LongSupplier.class));
+        verify(metrics, timeout(1000L)).updateBlockingExecutorWaitTime(eq("name"), anyLong());
+        verify(metrics, timeout(1000L)).updateBlockingExecutorExecutionTime(eq("name"), anyLong());
+    }
+
+    private static Object runExclusively(AtomicInteger running,
+                                         AtomicInteger maxRunning,
+                                         CountDownLatch release) throws InterruptedException {
+
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        release.await(1, TimeUnit.SECONDS);
+        running.decrementAndGet();
+        return null;
+    }
+}
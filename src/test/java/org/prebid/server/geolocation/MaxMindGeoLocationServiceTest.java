@@ -1,39 +1,58 @@
 package org.prebid.server.geolocation;
 
-import com.maxmind.geoip2.DatabaseReader;
-import com.maxmind.geoip2.exception.GeoIp2Exception;
-import com.maxmind.geoip2.model.CityResponse;
-import com.maxmind.geoip2.record.City;
-import com.maxmind.geoip2.record.Continent;
-import com.maxmind.geoip2.record.Country;
-import com.maxmind.geoip2.record.Location;
-import com.maxmind.geoip2.record.Subdivision;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.maxmind.db.ClosedDatabaseException;
+import com.maxmind.db.Reader;
 import io.vertx.core.Future;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
+import org.prebid.server.VertxTest;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.zip.GZIPOutputStream;
 
-import static java.util.Collections.singletonList;
-import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
-public class MaxMindGeoLocationServiceTest {
+@ExtendWith(MockitoExtension.class)
+public class MaxMindGeoLocationServiceTest extends VertxTest {
 
     private static final String TEST_IP = "80.215.195.122";
 
+    @Mock
+    private Metrics metrics;
+
+    @TempDir
+    private Path tempDir;
+
     private MaxMindGeoLocationService maxMindGeoLocationService;
 
     @BeforeEach
     public void setUp() {
-        maxMindGeoLocationService = new MaxMindGeoLocationService();
+        maxMindGeoLocationService = new MaxMindGeoLocationService(10, metrics, Clock.systemUTC());
     }
 
     @Test
@@ -59,24 +78,86 @@ public class MaxMindGeoLocationServiceTest {
     }
 
     @Test
-    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws NoSuchFieldException, IOException,
-            GeoIp2Exception, IllegalAccessException {
+    public void setDatabaseReaderShouldReturnFailedFutureIfDatabaseFileNotFoundInArchive() throws IOException {
         // given
-        final Country country = new Country(null, null, null, "fr", null);
-        final Continent continent = new Continent(null, "eu", null, null);
-        final City city = new City(singletonList("test"), null, null, singletonMap("test", "Paris"));
-        final Location location = new Location(null, null, 48.8566, 2.3522,
-                null, null, null);
-        final ArrayList<Subdivision> subdivisions = new ArrayList<>();
-        subdivisions.add(new Subdivision(null, null, null, "paris", null));
-        final CityResponse cityResponse = new CityResponse(city, continent, country, location, null,
-                null, null, null, subdivisions, null);
-
-        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
-        given(databaseReader.city(any())).willReturn(cityResponse);
+        final String archivePath = givenArchive("other.file").toString();
 
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archivePath);
+
+        // then
+        assertTrue(result.failed());
+        assertThat(result.cause())
+                .hasMessage("Database file GeoLite2-City.mmdb not found in %s archive".formatted(archivePath));
+    }
+
+    @Test
+    public void setDatabaseReaderShouldExtractDatabaseFileNextToArchive() throws IOException {
+        // given
+        final Path archivePath = givenArchive("GeoLite2-City_20240101/GeoLite2-City.mmdb", givenDatabase());
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archivePath.toString());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(tempDir.resolve("GeoLite2-City.mmdb")).hasBinaryContent(givenDatabase());
+    }
+
+    @Test
+    public void setDatabaseReaderShouldDeleteExtractedFileIfItIsNotValidDatabase() throws IOException {
+        // given
+        final Path archivePath = givenArchive("GeoLite2-City_20240101/GeoLite2-City.mmdb");
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archivePath.toString());
+
+        // then
+        assertTrue(result.failed());
+        assertThat(tempDir.resolve("GeoLite2-City.mmdb")).doesNotExist();
+    }
+
+    @Test
+    public void setDatabaseReaderShouldExtractDatabaseAgainIfExtractedFileIsNotValidDatabase() throws IOException {
+        // given
+        final Path archivePath = givenArchive("GeoLite2-City.mmdb", givenDatabase());
+        final Path databasePath = Files.write(tempDir.resolve("GeoLite2-City.mmdb"), "corrupted".getBytes());
+        assertTrue(databasePath.toFile().setLastModified(archivePath.toFile().lastModified() + 1000));
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archivePath.toString());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(databasePath).hasBinaryContent(givenDatabase());
+    }
+
+    @Test
+    public void setDatabaseReaderShouldCloseReplacedReader() throws Exception {
+        // given
+        final Reader previousReader = Mockito.mock(Reader.class);
+        setDatabaseReader(previousReader);
+        final Path archivePath = givenArchive("GeoLite2-City.mmdb", givenDatabase());
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archivePath.toString());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        verify(previousReader).close();
+    }
+
+    @Test
+    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws Exception {
+        // given
+        final ObjectNode record = mapper.createObjectNode();
+        record.putObject("country").put("iso_code", "FR");
+        record.putObject("continent").put("code", "EU");
+        record.putObject("city").putObject("names").put("en", "Paris");
+        record.putObject("location").put("latitude", 48.8566).put("longitude", 2.3522);
+        record.putArray("subdivisions").addObject().put("iso_code", "paris");
+
+        givenDatabaseReader(record);
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -93,17 +174,13 @@ public class MaxMindGeoLocationServiceTest {
                         .lat(48.8566f)
                         .lon(2.3522f)
                         .build());
+        verify(metrics).updateGeoLocationRequestTimeMetric(anyLong(), any());
     }
 
     @Test
-    public void lookupShouldTolerateMissingGeoInfo() throws IOException, GeoIp2Exception, NoSuchFieldException,
-            IllegalAccessException {
+    public void lookupShouldTolerateMissingGeoInfo() throws Exception {
         // given
-        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
-        given(databaseReader.city(any())).willReturn(null);
-
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        givenDatabaseReader(null);
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -112,4 +189,113 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    @Test
+    public void lookupShouldReturnCachedResultForSameIp() throws Exception {
+        // given
+        final ObjectNode record = mapper.createObjectNode();
+        record.putObject("country").put("iso_code", "FR");
+        final Reader reader = givenDatabaseReader(record);
+
+        // when
+        final GeoInfo first = maxMindGeoLocationService.lookup(TEST_IP, null).result();
+        final GeoInfo second = maxMindGeoLocationService.lookup(TEST_IP, null).result();
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(reader, times(1)).get(eq(InetAddress.getByName(TEST_IP)));
+    }
+
+    @Test
+    public void lookupShouldRetryWithCurrentReaderIfReaderWasClosedByReload() throws Exception {
+        // given
+        final ObjectNode record = mapper.createObjectNode();
+        record.putObject("country").put("iso_code", "FR");
+
+        final Reader closedReader = givenDatabaseReader(null);
+        final Reader currentReader = Mockito.mock(Reader.class);
+        given(currentReader.get(any())).willReturn(record);
+        given(closedReader.get(any())).willAnswer(invocation -> {
+            setDatabaseReader(currentReader);
+            throw Mockito.mock(ClosedDatabaseException.class);
+        });
+
+        // when
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getCountry()).isEqualTo("fr");
+    }
+
+    private Reader givenDatabaseReader(ObjectNode record) throws Exception {
+        final Reader reader = Mockito.mock(Reader.class);
+        given(reader.get(any())).willReturn(record);
+
+        setDatabaseReader(reader);
+
+        return reader;
+    }
+
+    private void setDatabaseReader(Reader reader) throws Exception {
+        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
+                maxMindGeoLocationService, reader);
+    }
+
+    /**
+     * Returns minimal valid database: no search tree and data, only metadata section.
+     */
+    private static byte[] givenDatabase() {
+        final ByteArrayOutputStream database = new ByteArrayOutputStream();
+        database.writeBytes(new byte[]{(byte) 0xAB, (byte) 0xCD, (byte) 0xEF});
+        database.writeBytes("MaxMind.com".getBytes(StandardCharsets.US_ASCII));
+
+        database.write(0xE9); // map of 9 entries
+        writeKey(database, "binary_format_major_version");
+        database.writeBytes(new byte[]{(byte) 0xA1, 2}); // uint16
+        writeKey(database, "binary_format_minor_version");
+        database.write(0xA0); // uint16 zero
+        writeKey(database, "build_epoch");
+        database.writeBytes(new byte[]{0x00, 0x02}); // uint64 zero
+        writeKey(database, "database_type");
+        writeKey(database, "GeoLite2-City");
+        writeKey(database, "languages");
+        database.writeBytes(new byte[]{0x00, 0x04}); // empty array
+        writeKey(database, "description");
+        database.write(0xE0); // empty map
+        writeKey(database, "ip_version");
+        database.writeBytes(new byte[]{(byte) 0xA1, 4}); // uint16
+        writeKey(database, "node_count");
+        database.write(0xC0); // uint32 zero
+        writeKey(database, "record_size");
+        database.writeBytes(new byte[]{(byte) 0xA1, 24}); // uint16
+
+        return database.toByteArray();
+    }
+
+    private static void writeKey(ByteArrayOutputStream output, String key) {
+        final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        output.write(0x40 | bytes.length); // utf8 string shorter than 29 bytes
+        output.writeBytes(bytes);
+    }
+
+    private Path givenArchive(String entryName) throws IOException {
+        return givenArchive(entryName, "content".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path givenArchive(String entryName, byte[] content) throws IOException {
+        final Path archivePath = tempDir.resolve("GeoLite2-City.tar.gz");
+
+        try (TarArchiveOutputStream tarOutput = new TarArchiveOutputStream(
+                new GZIPOutputStream(new FileOutputStream(archivePath.toFile())))) {
+
+            final TarArchiveEntry entry = new TarArchiveEntry(entryName);
+            entry.setSize(content.length);
+            tarOutput.putArchiveEntry(entry);
+            tarOutput.write(content);
+            tarOutput.closeArchiveEntry();
+        }
+
+        return archivePath;
+    }
 }
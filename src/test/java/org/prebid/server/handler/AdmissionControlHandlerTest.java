@@ -0,0 +1,108 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.AdmissionController;
+import org.prebid.server.vertx.verticles.server.HttpEndpoint;
+import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class AdmissionControlHandlerTest {
+
+    @Mock
+    private ApplicationResource resource;
+    @Mock
+    private AdmissionController admissionController;
+    @Mock(strictness = LENIENT)
+    private RoutingContext routingContext;
+    @Mock(strictness = LENIENT)
+    private HttpServerRequest httpRequest;
+    @Mock(strictness = LENIENT)
+    private HttpServerResponse httpResponse;
+
+    private AdmissionControlHandler target;
+
+    @BeforeEach
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpRequest.path()).willReturn("/openrtb2/auction");
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+
+        given(httpRequest.getParam("account")).willReturn("accountId");
+
+        target = new AdmissionControlHandler(
+                resource,
+                admissionController,
+                HttpResponseStatus.SERVICE_UNAVAILABLE,
+                context -> context.request().getParam("account"));
+    }
+
+    @Test
+    public void endpointsShouldReturnEndpointsOfGuardedResource() {
+        // given
+        final List<HttpEndpoint> endpoints = singletonList(HttpEndpoint.of(HttpMethod.POST, "/openrtb2/auction"));
+        given(resource.endpoints()).willReturn(endpoints);
+
+        // when and then
+        assertThat(target.endpoints()).isSameAs(endpoints);
+    }
+
+    @Test
+    public void handleShouldRespondWithConfiguredStatusWhenRequestIsNotAdmitted() {
+        // given
+        given(admissionController.tryAdmit("accountId")).willReturn(false);
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(503);
+        verify(httpResponse).end();
+        verify(resource, never()).handle(any());
+        verify(admissionController, never()).release();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void handleShouldPassAdmittedRequestToResourceAndReleaseItWhenFinished() {
+        // given
+        given(admissionController.tryAdmit("accountId")).willReturn(true);
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(resource).handle(routingContext);
+
+        final ArgumentCaptor<Handler<AsyncResult<Void>>> endHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(routingContext).addEndHandler(endHandlerCaptor.capture());
+        verify(admissionController, never()).release();
+
+        endHandlerCaptor.getValue().handle(null);
+        verify(admissionController).release();
+    }
+}
@@ -171,4 +171,56 @@ public class HttpInteractionLogHandlerTest {
 
         verifyNoInteractions(httpInteractionLogger);
     }
+
+    @Test
+    public void shouldSetCaptureSpecWhenCaptureRequested() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("capture", "true")
+                .add("endpoint", "auction")
+                .add("account", "123")
+                .add("limit", "2"));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpInteractionLogger)
+                .setCaptureSpec(HttpLogSpec.of(HttpLogSpec.Endpoint.auction, null, "123", null, 2));
+    }
+
+    @Test
+    public void shouldRespondWithErrorWhenCaptureNotValid() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("capture", "yes")
+                .add("limit", "2"));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(400));
+        verify(httpResponse).end(eq("Invalid 'capture' parameter value"));
+
+        verifyNoInteractions(httpInteractionLogger);
+    }
+
+    @Test
+    public void shouldRespondWithErrorWhenBidderRequestedWithCapture() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("capture", "true")
+                .add("bidder", "ix")
+                .add("limit", "2"));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(400));
+        verify(httpResponse).end(eq("Parameter 'bidder' is not supported with 'capture'"));
+
+        verifyNoInteractions(httpInteractionLogger);
+    }
 }
@@ -0,0 +1,94 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RequestBody;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class RequestBodyAccountIdResolverTest extends VertxTest {
+
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private RequestBody requestBody;
+
+    private RequestBodyAccountIdResolver target;
+
+    @BeforeEach
+    public void setUp() {
+        given(routingContext.body()).willReturn(requestBody);
+
+        target = new RequestBodyAccountIdResolver(jacksonMapper);
+    }
+
+    @Test
+    public void applyShouldReturnSitePublisherId() {
+        // given
+        givenBody("""
+                {"id":"id","imp":[{"id":"imp","ext":{"site":{"publisher":{"id":"imp"}}}}],
+                "site":{"page":"page","publisher":{"name":"name","id":"accountId"}},"user":{"id":"user"}}""");
+
+        // when and then
+        assertThat(target.apply(routingContext)).isEqualTo("accountId");
+    }
+
+    @Test
+    public void applyShouldPreferAppAndDoohPublisherIdOverSite() {
+        // when and then
+        givenBody("{\"site\":{\"publisher\":{\"id\":\"site\"}},\"dooh\":{\"publisher\":{\"id\":\"dooh\"}}}");
+        assertThat(target.apply(routingContext)).isEqualTo("dooh");
+
+        givenBody("{\"dooh\":{\"publisher\":{\"id\":\"dooh\"}},\"app\":{\"publisher\":{\"id\":\"app\"}}}");
+        assertThat(target.apply(routingContext)).isEqualTo("app");
+    }
+
+    @Test
+    public void applyShouldPreferParentAccountOverPublisherId() {
+        // given
+        givenBody("""
+                {"app":{"publisher":{"ext":{"prebid":{"parentAccount":" parent "}},"id":"accountId"}}}""");
+
+        // when and then
+        assertThat(target.apply(routingContext)).isEqualTo("parent");
+    }
+
+    @Test
+    public void applyShouldReturnNullIfPublisherIsAbsent() {
+        // given
+        givenBody("{\"site\":{\"page\":\"page\"},\"ext\":{\"prebid\":{\"storedrequest\":{\"id\":\"id\"}}}}");
+
+        // when and then
+        assertThat(target.apply(routingContext)).isNull();
+    }
+
+    @Test
+    public void applyShouldReturnNullIfBodyIsMalformed() {
+        // given
+        givenBody("{\"site\":{\"publisher\":");
+
+        // when and then
+        assertThat(target.apply(routingContext)).isNull();
+    }
+
+    @Test
+    public void applyShouldReturnNullIfBodyIsAbsent() {
+        // given
+        given(requestBody.buffer()).willReturn(null);
+
+        // when and then
+        assertThat(target.apply(routingContext)).isNull();
+    }
+
+    private void givenBody(String body) {
+        given(requestBody.buffer()).willReturn(Buffer.buffer(body));
+    }
+}
@@ -83,7 +83,9 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         given(routingContext.request().method()).willReturn(HttpMethod.POST);
 
         final UpdateSettingsCacheRequest cacheRequest = UpdateSettingsCacheRequest.of(
-                singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+                singletonMap("reqId1", "reqValue1"),
+                singletonMap("impId1", "impValue1"),
+                singletonMap("respId1", "respValue1"));
         given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
 
         // when
@@ -92,6 +94,7 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         // then
         verify(cacheNotificationListener).save(
                 eq(singletonMap("reqId1", "reqValue1")), eq(singletonMap("impId1", "impValue1")));
+        verify(cacheNotificationListener).saveResponses(eq(singletonMap("respId1", "respValue1")));
     }
 
     @Test
@@ -128,7 +131,7 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         given(routingContext.request().method()).willReturn(HttpMethod.DELETE);
 
         final InvalidateSettingsCacheRequest cacheRequest = InvalidateSettingsCacheRequest.of(
-                singletonList("reqId1"), singletonList("impId1"));
+                singletonList("reqId1"), singletonList("impId1"), singletonList("respId1"));
         given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
 
         // when
@@ -137,6 +140,7 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         // then
         verify(cacheNotificationListener).invalidate(
                 eq(singletonList("reqId1")), eq(singletonList("impId1")));
+        verify(cacheNotificationListener).invalidateResponses(eq(singletonList("respId1")));
     }
 
     @Test
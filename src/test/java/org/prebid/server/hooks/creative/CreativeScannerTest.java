@@ -0,0 +1,108 @@
+package org.prebid.server.hooks.creative;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.auction.model.AuctionContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CreativeScannerTest {
+
+    private CreativeScanner target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new CreativeScanner();
+        target.registerPatterns(Arrays.asList("mraid.js", "", null, "<VAST"));
+    }
+
+    @Test
+    public void scanShouldFindRegisteredPatterns() {
+        // when
+        final CreativeMatches result = target.scan(null, "<script src=\"mraid.js\"></script>");
+
+        // then
+        assertThat(result.contains("mraid.js")).isTrue();
+        assertThat(result.contains("<VAST")).isFalse();
+    }
+
+    @Test
+    public void containsShouldRespectCaseOfRegisteredPattern() {
+        // when
+        final CreativeMatches result = target.scan(null, "<script src=\"MRAID.JS\"></script>");
+
+        // then
+        assertThat(result.contains("mraid.js")).isFalse();
+        assertThat(result.contains("MRAID.JS")).isTrue();
+    }
+
+    @Test
+    public void scanShouldFallbackToDirectLookupForNotRegisteredPatterns() {
+        // when
+        final CreativeMatches result = target.scan(null, "<div>banner</div>");
+
+        // then
+        assertThat(result.contains("banner")).isTrue();
+        assertThat(result.contains("BANNER")).isFalse();
+        assertThat(result.contains("video")).isFalse();
+    }
+
+    @Test
+    public void scanShouldReturnNoMatchesForNullAdm() {
+        // when
+        final CreativeMatches result = target.scan(null, (String) null);
+
+        // then
+        assertThat(result.contains("mraid.js")).isFalse();
+        assertThat(result.contains("banner")).isFalse();
+    }
+
+    @Test
+    public void scanShouldReuseMatchesForSameAdmWithinAuction() {
+        // given
+        final AuctionContext auctionContext = AuctionContext.builder().build();
+        final String adm = "<script src=\"mraid.js\"></script>";
+
+        // when
+        final CreativeMatches first = target.scan(auctionContext, adm);
+        final CreativeMatches second = target.scan(auctionContext.toBuilder().build(), adm);
+        final CreativeMatches otherAuction = target.scan(AuctionContext.builder().build(), adm);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(otherAuction).isNotSameAs(first);
+    }
+
+    @Test
+    public void scanShouldFindSinglePattern() {
+        // given
+        final CreativeScanner singlePatternScanner = new CreativeScanner();
+        singlePatternScanner.registerPatterns(List.of("mraid.js"));
+
+        // when
+        final CreativeMatches result = singlePatternScanner.scan(null, "<script src=\"mraid.js\"></script>");
+        final CreativeMatches otherCaseResult = singlePatternScanner.scan(null, "<script src=\"MRAID.JS\"></script>");
+
+        // then
+        assertThat(result.contains("mraid.js")).isTrue();
+        assertThat(result.contains("script")).isTrue();
+        assertThat(otherCaseResult.contains("mraid.js")).isFalse();
+    }
+
+    @Test
+    public void registerPatternsShouldKeepPreviouslyRegisteredPatterns() {
+        // given
+        target.registerPatterns(List.of("<iframe"));
+
+        // when
+        final CreativeMatches result = target.scan(null, "<VAST><iframe src=\"mraid.js\"></iframe>");
+
+        // then
+        assertThat(result.contains("<VAST")).isTrue();
+        assertThat(result.contains("<iframe")).isTrue();
+        assertThat(result.contains("mraid.js")).isTrue();
+    }
+}
@@ -23,6 +23,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionStage;
+import org.prebid.server.auction.model.AuctionStageTimer;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.debug.DebugContext;
@@ -85,6 +87,7 @@ import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -194,7 +197,8 @@ public class HookStageExecutorTest extends VertxTest {
 
         // when
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
-                queryParams, headers, body, HookExecutionContext.of(Endpoint.openrtb2_auction));
+                queryParams, headers, body, HookExecutionContext.of(Endpoint.openrtb2_auction),
+                new AuctionStageTimer());
 
         // then
         assertThat(future).isSucceeded();
@@ -227,6 +231,60 @@ public class HookStageExecutorTest extends VertxTest {
         assertThat(payload.bidRequest()).isSameAs(bidRequest);
     }
 
+    @Test
+    public void shouldNotTimeHooksStageWhenExecutionPlanIsEmpty() {
+        // given
+        final HookStageExecutor executor = createExecutor(null, null);
+        final AuctionStageTimer stageTimer = new AuctionStageTimer();
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                HookExecutionContext.of(Endpoint.openrtb2_auction),
+                stageTimer);
+
+        // then
+        assertThat(future).isSucceeded();
+        assertThat(stageTimer.stageNanos()).isEmpty();
+    }
+
+    @Test
+    public void shouldTimeHooksStage(VertxTestContext context) {
+        // given
+        givenEntrypointHook(
+                "module-alpha",
+                "hook-a",
+                delayedHook(InvocationResultImpl.succeeded(identity()), 40));
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.entrypoint, execPlanOneGroupOneHook("module-alpha", "hook-a"))))));
+
+        final AuctionStageTimer stageTimer = new AuctionStageTimer();
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                HookExecutionContext.of(Endpoint.openrtb2_auction),
+                stageTimer);
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(stageTimer.stageNanos())
+                    .containsOnlyKeys(AuctionStage.hooks)
+                    .hasEntrySatisfying(AuctionStage.hooks, nanos ->
+                            assertThat(nanos).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40)));
+
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void shouldExecuteEntrypointHooksHappyPath(VertxTestContext context) {
         // given
@@ -270,7 +328,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -352,7 +411,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -384,7 +444,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -442,7 +503,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -554,7 +616,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -653,7 +716,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -741,7 +805,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -818,7 +883,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -918,7 +984,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -1012,7 +1079,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
@@ -1066,7 +1134,8 @@ public class HookStageExecutorTest extends VertxTest {
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
                 "body",
-                hookExecutionContext);
+                hookExecutionContext,
+                new AuctionStageTimer());
 
         // then
         future.onComplete(context.succeeding(result -> {
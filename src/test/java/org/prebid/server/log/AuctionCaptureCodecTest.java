@@ -0,0 +1,96 @@
+package org.prebid.server.log;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.log.model.CapturedAuction;
+import org.prebid.server.log.model.CapturedBidderCall;
+import org.prebid.server.log.model.HttpLogSpec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AuctionCaptureCodecTest {
+
+    @Test
+    public void decodeShouldReturnEncodedAuctions() throws IOException {
+        // given
+        final CapturedAuction auction = CapturedAuction.builder()
+                .timestamp(1000L)
+                .endpoint(HttpLogSpec.Endpoint.auction)
+                .method("POST")
+                .uri("/openrtb2/auction")
+                .headers(Map.of("Cookie", List.of("uids=value")))
+                .body("{\"id\":\"requestId\"}")
+                .account("accountId")
+                .bidderCalls(asList(
+                        CapturedBidderCall.builder()
+                                .bidder("bidder")
+                                .uri("https://bidder.com")
+                                .requestBody("bidderRequest")
+                                .status(200)
+                                .responseBody("bidderResponse")
+                                .responseTimeMillis(50)
+                                .build(),
+                        CapturedBidderCall.builder()
+                                .bidder("timedOutBidder")
+                                .uri("https://timed-out-bidder.com")
+                                .requestBody("bidderRequest")
+                                .responseTimeMillis(100)
+                                .build()))
+                .status(200)
+                .responseBody("responseBody")
+                .durationMillis(120L)
+                .build();
+        final CapturedAuction ampAuction = CapturedAuction.builder()
+                .endpoint(HttpLogSpec.Endpoint.amp)
+                .method("GET")
+                .uri("/openrtb2/amp?tag_id=tagId")
+                .bidderCalls(List.of())
+                .status(400)
+                .build();
+
+        final Buffer file = AuctionCaptureCodec.header()
+                .appendBuffer(AuctionCaptureCodec.encode(auction))
+                .appendBuffer(AuctionCaptureCodec.encode(ampAuction));
+
+        // when
+        final List<CapturedAuction> result = AuctionCaptureCodec.decode(new ByteArrayInputStream(file.getBytes()));
+
+        // then
+        assertThat(result).containsExactly(auction, ampAuction);
+    }
+
+    @Test
+    public void decodeShouldSkipIncompleteLastRecord() throws IOException {
+        // given
+        final CapturedAuction auction = CapturedAuction.builder().bidderCalls(List.of()).build();
+        final Buffer record = AuctionCaptureCodec.encode(auction);
+        final Buffer file = AuctionCaptureCodec.header()
+                .appendBuffer(record)
+                .appendBuffer(record.getBuffer(0, record.length() - 1));
+
+        // when
+        final List<CapturedAuction> result = AuctionCaptureCodec.decode(new ByteArrayInputStream(file.getBytes()));
+
+        // then
+        assertThat(result).containsExactly(auction);
+    }
+
+    @Test
+    public void decodeShouldFailOnUnknownFile() {
+        // given
+        final byte[] file = "{\"id\":\"requestId\"}".getBytes();
+
+        // when and then
+        assertThatThrownBy(() -> AuctionCaptureCodec.decode(new ByteArrayInputStream(file)))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Not an auction capture file");
+    }
+}
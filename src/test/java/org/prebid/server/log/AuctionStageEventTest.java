@@ -0,0 +1,134 @@
+package org.prebid.server.log;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.settings.model.Account;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class AuctionStageEventTest {
+
+    private static final String EVENT_NAME = "org.prebid.server.AuctionStage";
+
+    @Test
+    public void beginShouldReturnSameEventWhenNotRecorded() {
+        // when and then
+        assertThat(AuctionStageEvent.begin(AuctionStageEvent.BIDDER_CALL))
+                .isSameAs(AuctionStageEvent.begin(AuctionStageEvent.CACHE));
+    }
+
+    @Test
+    public void endShouldRecordStageAccountAndBidder() throws IOException {
+        // given
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+
+            // when
+            AuctionStageEvent.begin(AuctionStageEvent.BIDDER_CALL).end("accountId", "bidder");
+
+            events = stopAndRead(recording);
+        }
+
+        // then
+        assertThat(events)
+                .extracting(event -> event.getString("stage"),
+                        event -> event.getString("account"),
+                        event -> event.getString("bidder"),
+                        event -> event.getLong("allocated"))
+                .containsExactly(tuple(AuctionStageEvent.BIDDER_CALL, "accountId", "bidder", 0L));
+    }
+
+    @Test
+    public void endShouldRecordAllocationsOfSynchronousStage() throws IOException {
+        // given
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+
+            // when
+            final AuctionStageEvent event = AuctionStageEvent.beginSynchronous(AuctionStageEvent.BIDDER_REQUEST);
+            final byte[] allocated = new byte[100_000];
+            event.end("accountId", "bidder");
+
+            events = stopAndRead(recording);
+            assertThat(allocated).hasSize(100_000);
+        }
+
+        // then
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(event.getLong("allocated")).isGreaterThanOrEqualTo(100_000L));
+    }
+
+    @Test
+    public void endOnCompleteShouldRecordAccountOfAuctionContext() throws IOException {
+        // given
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+
+            final Promise<AuctionContext> promise = Promise.promise();
+            final Future<AuctionContext> future = AuctionStageEvent.begin(AuctionStageEvent.REQUEST_ENRICH)
+                    .endOnComplete(promise.future());
+
+            // when
+            promise.complete(AuctionContext.builder().account(Account.empty("accountId")).build());
+
+            events = stopAndRead(recording);
+            assertThat(future.succeeded()).isTrue();
+        }
+
+        // then
+        assertThat(events)
+                .extracting(event -> event.getString("stage"), event -> event.getString("account"))
+                .containsExactly(tuple(AuctionStageEvent.REQUEST_ENRICH, "accountId"));
+    }
+
+    @Test
+    public void endShouldNotRecordEventBegunBeforeRecording() throws IOException {
+        // given
+        final AuctionStageEvent event = AuctionStageEvent.begin(AuctionStageEvent.CACHE);
+
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+
+            // when
+            event.end("accountId", null);
+
+            events = stopAndRead(recording);
+        }
+
+        // then
+        assertThat(events).isEmpty();
+    }
+
+    private static List<RecordedEvent> stopAndRead(Recording recording) throws IOException {
+        recording.stop();
+
+        final Path file = Files.createTempFile("auction-stage", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
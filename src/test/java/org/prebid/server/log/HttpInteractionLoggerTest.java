@@ -3,24 +3,41 @@ package org.prebid.server.log;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.log.model.AuctionCapture;
+import org.prebid.server.log.model.CapturedAuction;
+import org.prebid.server.log.model.CapturedBidderCall;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.settings.model.Account;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 import java.util.function.UnaryOperator;
 
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static java.util.function.UnaryOperator.identity;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -36,6 +53,8 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
     @Mock
     private Logger logger;
+    @Mock
+    private AuctionCaptureWriter captureWriter;
     @Mock(strictness = LENIENT)
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
@@ -45,7 +64,8 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
     @BeforeEach
     public void setUp() {
-        target = new HttpInteractionLogger(jacksonMapper);
+        target = new HttpInteractionLogger(
+                jacksonMapper, captureWriter, Clock.fixed(Instant.ofEpochMilli(1500L), ZoneOffset.UTC));
         given(routingContext.getBodyAsString()).willReturn("{}");
         given(routingContext.request()).willReturn(serverRequest);
         given(serverRequest.uri()).willReturn("example.com");
@@ -61,7 +81,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, "responseBody");
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, Buffer.buffer("responseBody"));
 
         // then
         verify(logger)
@@ -191,7 +211,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
 
         // when
         target.setSpec(givenSpec);
-        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, "responseBody");
+        target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, Buffer.buffer("responseBody"));
 
         // then
         verify(logger)
@@ -458,12 +478,120 @@ public class HttpInteractionLoggerTest extends VertxTest {
         verify(logger).info(anyString(), anyString(), anyString());
     }
 
+    @Test
+    public void shouldCaptureShouldReturnFalseIfCaptureSpecIsNotSet() {
+        // given
+        final AuctionContext givenAuctionContext = givenAuctionContext(identity());
+
+        // when and then
+        assertThat(target.shouldCapture(givenAuctionContext)).isFalse();
+    }
+
+    @Test
+    public void shouldCaptureShouldReturnTrueOnlyIfAccountIdEqualsToGivenInCaptureSpec() {
+        // given
+        target.setCaptureSpec(HttpLogSpec.of(null, 200, "123", null, 1));
+
+        // when and then
+        assertThat(target.shouldCapture(givenAuctionContext(accountBuilder -> accountBuilder.id("123")))).isTrue();
+        assertThat(target.shouldCapture(givenAuctionContext(accountBuilder -> accountBuilder.id("456")))).isFalse();
+        verify(captureWriter).open();
+    }
+
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldWriteCapturedAuction() {
+        // given
+        given(routingContext.getBodyAsString()).willReturn("{\"id\":\"requestId\"}");
+        given(serverRequest.method()).willReturn(HttpMethod.POST);
+        given(serverRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("Content-Type", "application/json")
+                .add("Cookie", "uids=value")
+                .add("Authorization", "secret")
+                .add("User-Agent", "userAgent")
+                .add("X-Forwarded-For", "192.168.1.1")
+                .add("X-Real-IP", "192.168.1.2")
+                .add("x-prebid", "pbjs"));
+
+        final AuctionCapture capture = new AuctionCapture();
+        capture.record(givenBidderResponse(), true);
+        final AuctionContext givenAuctionContext = givenAuctionContext(accountBuilder -> accountBuilder.id("123"))
+                .with(capture);
+
+        // when
+        target.setCaptureSpec(HttpLogSpec.of(null, null, "123", null, 1));
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, Buffer.buffer("responseBody"));
+
+        // then
+        final ArgumentCaptor<CapturedAuction> captor = ArgumentCaptor.forClass(CapturedAuction.class);
+        verify(captureWriter).write(captor.capture());
+        assertThat(captor.getValue()).isEqualTo(CapturedAuction.builder()
+                .timestamp(1000L)
+                .endpoint(HttpLogSpec.Endpoint.auction)
+                .method("POST")
+                .uri("example.com")
+                .headers(Map.of(
+                        "Content-Type", List.of("application/json"),
+                        "x-prebid", List.of("pbjs")))
+                .body("{\"id\":\"requestId\"}")
+                .account("123")
+                .bidderCalls(singletonList(CapturedBidderCall.builder()
+                        .bidder("bidder")
+                        .uri("bidder.com")
+                        .requestBody("bidderRequest")
+                        .status(200)
+                        .responseBody("bidderResponse")
+                        .responseTimeMillis(50)
+                        .build()))
+                .status(200)
+                .responseBody("responseBody")
+                .durationMillis(500L)
+                .build());
+        verify(captureWriter).close();
+    }
+
+    @Test
+    public void maybeLogOpenrtb2AuctionShouldNotCaptureAuctionNotCollectedForCapture() {
+        // given
+        final AuctionContext givenAuctionContext = givenAuctionContext(accountBuilder -> accountBuilder.id("123"));
+
+        // when
+        target.setCaptureSpec(HttpLogSpec.of(null, null, "123", null, 1));
+        target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+
+        // then
+        verify(captureWriter, never()).write(any());
+    }
+
+    @Test
+    public void recordShouldRemoveHttpCallsFromBidderResponseIfDebugIsDisabled() {
+        // given
+        final AuctionCapture capture = new AuctionCapture();
+
+        // when
+        final BidderResponse result = capture.record(givenBidderResponse(), false);
+
+        // then
+        assertThat(result.getSeatBid().getHttpCalls()).isEmpty();
+        assertThat(capture.getBidderCalls()).hasSize(1);
+    }
+
     private static AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountBuilderCustomizer) {
         final Account account = accountBuilderCustomizer.apply(Account.builder()).build();
 
         return AuctionContext.builder()
                 .account(account)
+                .timeoutContext(TimeoutContext.of(1000L, null, 0))
+                .build();
+    }
+
+    private static BidderResponse givenBidderResponse() {
+        final ExtHttpCall httpCall = ExtHttpCall.builder()
+                .uri("bidder.com")
+                .requestbody("bidderRequest")
+                .responsebody("bidderResponse")
+                .status(200)
                 .build();
+        return BidderResponse.of("bidder", BidderSeatBid.builder().httpCalls(singletonList(httpCall)).build(), 50);
     }
 
     private static BidderRequest givenBidderRequest(UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
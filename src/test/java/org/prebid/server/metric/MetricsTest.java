@@ -20,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.model.AuctionStage;
 import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
 import org.prebid.server.hooks.execution.model.Stage;
@@ -31,9 +32,12 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -331,6 +335,35 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("imps_requested").getCount()).isEqualTo(4);
     }
 
+    @Test
+    public void updateGeoLocationDatabaseLoadTimeMetricShouldUpdateTimer() {
+        // when
+        metrics.updateGeoLocationDatabaseLoadTimeMetric(100L);
+
+        // then
+        assertThat(metricRegistry.timer("geolocation_database_load_time").getCount()).isOne();
+    }
+
+    @Test
+    public void createGeoLocationDatabaseSizeGaugeShouldCreateGauge() {
+        // when
+        metrics.createGeoLocationDatabaseSizeGauge(() -> 42L);
+
+        // then
+        assertThat(metricRegistry.gauge("geolocation_database_size", () -> null).getValue()).isEqualTo(42L);
+    }
+
+    @Test
+    public void updateExtDecodingMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updateExtDecodingMetrics(3, 5);
+        metrics.updateExtDecodingMetrics(1, 0);
+
+        // then
+        assertThat(metricRegistry.counter("ext_decoded").getCount()).isEqualTo(4);
+        assertThat(metricRegistry.counter("ext_decoding_reused").getCount()).isEqualTo(5);
+    }
+
     @Test
     public void updateImpTypesMetricsByCountPerMediaTypeShouldIncrementMetrics() {
         // given
@@ -518,6 +551,52 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("account.accountId.adapter.conversant.request_time").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void updateAuctionStageMetricsShouldIncrementBucketOfStageTime() {
+        // when
+        metrics.updateAuctionStageMetrics(Account.empty(ACCOUNT_ID), Map.of(
+                AuctionStage.request_parsing, TimeUnit.MICROSECONDS.toNanos(300),
+                AuctionStage.bidders, TimeUnit.MILLISECONDS.toNanos(100),
+                AuctionStage.cache, TimeUnit.MILLISECONDS.toNanos(1500)), emptySet());
+        metrics.updateAuctionStageMetrics(Account.empty(ACCOUNT_ID), Map.of(
+                AuctionStage.bidders, TimeUnit.MILLISECONDS.toNanos(101)), emptySet());
+
+        // then
+        assertThat(metricRegistry.counter("auction.stage.request_parsing.le_1").getCount()).isOne();
+        assertThat(metricRegistry.counter("auction.stage.bidders.le_100").getCount()).isOne();
+        assertThat(metricRegistry.counter("auction.stage.bidders.le_250").getCount()).isOne();
+        assertThat(metricRegistry.counter("auction.stage.cache.le_inf").getCount()).isOne();
+        assertThat(metricRegistry.counter("account.accountId.auction.stage.bidders.le_100").getCount()).isOne();
+        assertThat(metricRegistry.counter("account.accountId.auction.stage.bidders.le_250").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAuctionStageMetricsShouldNotUpdateAccountMetricsIfVerbosityIsNotDetailed() {
+        // given
+        given(accountMetricsVerbosityResolver.forAccount(any())).willReturn(AccountMetricsVerbosityLevel.basic);
+
+        // when
+        metrics.updateAuctionStageMetrics(Account.empty(ACCOUNT_ID), Map.of(
+                AuctionStage.bidders, TimeUnit.MILLISECONDS.toNanos(100)), emptySet());
+
+        // then
+        assertThat(metricRegistry.counter("auction.stage.bidders.le_100").getCount()).isOne();
+        assertThat(metricRegistry.getCounters()).doesNotContainKey("account.accountId.auction.stage.bidders.le_100");
+    }
+
+    @Test
+    public void updateAuctionStageMetricsShouldIncrementIncompleteCounterOfStageInProgress() {
+        // when
+        metrics.updateAuctionStageMetrics(Account.empty(ACCOUNT_ID), Map.of(
+                AuctionStage.bidders, TimeUnit.MILLISECONDS.toNanos(100)), singleton(AuctionStage.cache));
+
+        // then
+        assertThat(metricRegistry.counter("auction.stage.cache.incomplete").getCount()).isOne();
+        assertThat(metricRegistry.counter("account.accountId.auction.stage.cache.incomplete").getCount()).isOne();
+        assertThat(metricRegistry.getCounters()).doesNotContainKeys(
+                "auction.stage.cache.le_inf", "auction.stage.bidders.incomplete");
+    }
+
     @Test
     public void updateAdapterRequestNobidMetricsShouldIncrementMetrics() {
         // when
@@ -910,6 +989,16 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.v1.vendorlist.fallback").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updatePrivacyTcfVendorListLoadMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updatePrivacyTcfVendorListLoadMetrics(2, 1024L, 15L);
+
+        // then
+        assertThat(metricRegistry.histogram("privacy.tcf.v2.vendorlist.size").getCount()).isOne();
+        assertThat(metricRegistry.timer("privacy.tcf.v2.vendorlist.load_time").getCount()).isOne();
+    }
+
     @Test
     public void shouldNotUpdateAccountMetricsIfVerbosityIsNone() {
         // given
@@ -1126,6 +1215,28 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("currency-rates.stale.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateAdmissionControlRejectedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdmissionControlRejectedMetric(MetricName.event_loop_lag);
+
+        // then
+        assertThat(metricRegistry.counter("admission-control.rejected.event_loop_lag").getCount()).isOne();
+    }
+
+    @Test
+    public void shouldCreateAdmissionControlGaugeMetrics() {
+        // when
+        metrics.createAdmissionControlInflightRequestsGauge(() -> 5L);
+        metrics.createAdmissionControlEventLoopLagGauge(() -> 20L);
+
+        // then
+        assertThat(metricRegistry.gauge("admission-control.inflight_requests", () -> null).getValue())
+                .isEqualTo(5L);
+        assertThat(metricRegistry.gauge("admission-control.event_loop_lag", () -> null).getValue())
+                .isEqualTo(20L);
+    }
+
     @Test
     public void updateSettingsCacheRefreshTimeShouldUpdateTimer() {
         // when
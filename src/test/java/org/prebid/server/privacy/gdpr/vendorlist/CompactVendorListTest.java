@@ -0,0 +1,163 @@
+package org.prebid.server.privacy.gdpr.vendorlist;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Feature;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.SpecialFeature;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.SpecialPurpose;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompactVendorListTest {
+
+    @Test
+    public void ofShouldIndexVendorsById() {
+        // given
+        final Vendor vendor = givenVendor(52);
+
+        // when
+        final CompactVendorList result = CompactVendorList.of(singletonMap(52, vendor));
+
+        // then
+        assertThat(result.get(52)).isEqualTo(vendor);
+        assertThat(result.get(51)).isNull();
+        assertThat(result.get(1000)).isNull();
+        assertThat(result.get(-1)).isNull();
+        assertThat(result).hasSize(1).isEqualTo(singletonMap(52, vendor));
+    }
+
+    @Test
+    public void ofShouldReturnVendorsWithUnmodifiablePurposes() {
+        // given
+        final Vendor vendor = givenVendor(52);
+
+        // when
+        final CompactVendorList result = CompactVendorList.of(singletonMap(52, vendor));
+
+        // then
+        assertThatThrownBy(() -> result.get(52).getPurposes().add(PurposeCode.THREE))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(vendor.getPurposes()).containsOnly(PurposeCode.ONE);
+    }
+
+    @Test
+    public void ofShouldFailOnInvalidVendorId() {
+        // when and then
+        assertThatThrownBy(() -> CompactVendorList.of(singletonMap(-1, givenVendor(-1))))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Invalid vendor id: -1");
+    }
+
+    @Test
+    public void fromBufferShouldRestoreVendorListWrittenByToBuffer() {
+        // given
+        final Map<Integer, Vendor> vendors = new HashMap<>();
+        vendors.put(1, givenVendor(1));
+        vendors.put(755, Vendor.builder()
+                .id(755)
+                .purposes(EnumSet.allOf(PurposeCode.class))
+                .legIntPurposes(EnumSet.of(PurposeCode.TWO, PurposeCode.TEN))
+                .flexiblePurposes(EnumSet.of(PurposeCode.UNKNOWN))
+                .specialPurposes(EnumSet.allOf(SpecialPurpose.class))
+                .features(EnumSet.of(Feature.THREE))
+                .specialFeatures(EnumSet.of(SpecialFeature.ONE))
+                .build());
+
+        // when
+        final CompactVendorList result = CompactVendorList.fromBuffer(
+                CompactVendorList.of(vendors).toBuffer(52, 42L), 52, 42L);
+
+        // then
+        assertThat(result).isEqualTo(vendors);
+        assertThatThrownBy(() -> result.get(1).getFeatures().add(Feature.ONE))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void fromBufferShouldFailOnAnotherVersion() {
+        // given
+        final Buffer buffer = CompactVendorList.of(singletonMap(52, givenVendor(52))).toBuffer(52, 42L);
+
+        // when and then
+        assertThatThrownBy(() -> CompactVendorList.fromBuffer(buffer, 53, 42L))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Compact vendor list does not match its source");
+    }
+
+    @Test
+    public void fromBufferShouldFailOnAnotherSourceSize() {
+        // given
+        final Buffer buffer = CompactVendorList.of(singletonMap(52, givenVendor(52))).toBuffer(52, 42L);
+
+        // when and then
+        assertThatThrownBy(() -> CompactVendorList.fromBuffer(buffer, 52, 43L))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Compact vendor list does not match its source");
+    }
+
+    @Test
+    public void fromBufferShouldFailOnCorruptedRecords() {
+        // given
+        final Buffer buffer = CompactVendorList.of(singletonMap(52, givenVendor(52))).toBuffer(52, 42L);
+        buffer.setInt(buffer.length() - Integer.BYTES, 1);
+
+        // when and then
+        assertThatThrownBy(() -> CompactVendorList.fromBuffer(buffer, 52, 42L))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Compact vendor list is corrupted");
+    }
+
+    @Test
+    public void toBufferShouldTreatMissingPurposesAndFeaturesAsEmpty() {
+        // given
+        final CompactVendorList vendorList = CompactVendorList.of(singletonMap(52, Vendor.builder().id(52).build()));
+
+        // when
+        final CompactVendorList result = CompactVendorList.fromBuffer(vendorList.toBuffer(52, 42L), 52, 42L);
+
+        // then
+        assertThat(result).isEqualTo(vendorList);
+        assertThat(result.get(52).getPurposes()).isEmpty();
+        assertThat(result.get(52).getSpecialFeatures()).isEmpty();
+    }
+
+    @Test
+    public void fromBufferShouldFailOnUnsupportedFormat() {
+        // when and then
+        assertThatThrownBy(() -> CompactVendorList.fromBuffer(Buffer.buffer("{\"vendors\":{}}"), 52, 42L))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Unsupported compact vendor list format");
+    }
+
+    @Test
+    public void fromBufferShouldFailOnTruncatedBuffer() {
+        // given
+        final Buffer buffer = CompactVendorList.of(singletonMap(52, givenVendor(52))).toBuffer(52, 42L);
+
+        // when and then
+        assertThatThrownBy(() -> CompactVendorList.fromBuffer(buffer.getBuffer(0, buffer.length() - 1), 52, 42L))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Compact vendor list is corrupted");
+    }
+
+    private static Vendor givenVendor(int id) {
+        return Vendor.builder()
+                .id(id)
+                .purposes(EnumSet.of(PurposeCode.ONE))
+                .legIntPurposes(EnumSet.of(PurposeCode.TWO))
+                .flexiblePurposes(EnumSet.noneOf(PurposeCode.class))
+                .specialPurposes(EnumSet.noneOf(SpecialPurpose.class))
+                .features(EnumSet.noneOf(Feature.class))
+                .specialFeatures(EnumSet.noneOf(SpecialFeature.class))
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileProps;
 import io.vertx.core.file.FileSystem;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +33,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
@@ -44,6 +46,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -85,21 +88,7 @@ public class VendorListServiceTest extends VertxTest {
 
         given(fetchThrottler.registerFetchAttempt(anyInt())).willReturn(true);
 
-        target = new VendorListService(
-                0,
-                CACHE_DIR,
-                "http://vendorlist/{VERSION}",
-                0,
-                REFRESH_MISSING_LIST_PERIOD_MS,
-                false,
-                FALLBACK_VENDOR_LIST_PATH,
-                vertx,
-                fileSystem,
-                httpClient,
-                metrics,
-                GENERATION_VERSION,
-                jacksonMapper,
-                fetchThrottler);
+        target = createVendorListService();
     }
 
     // Creation related tests
@@ -422,6 +411,81 @@ public class VendorListServiceTest extends VertxTest {
         verify(fileSystem).writeFile(eq(filePath), eq(Buffer.buffer(vendorListAsString)), any());
     }
 
+    @Test
+    public void shouldSaveCompactFileIfVendorListNotFound() throws JsonProcessingException {
+        // given
+        final String vendorListAsString = mapper.writeValueAsString(givenVendorList());
+        givenHttpClientReturnsResponse(200, vendorListAsString);
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+        final String filePath = new File("/cache/dir/1.bin").getPath();
+
+        // when
+        target.forVersion(1);
+
+        // then
+        verify(fileSystem).writeFile(
+                eq(filePath), eq(givenCompactFile(1, Buffer.buffer(vendorListAsString))), any());
+    }
+
+    @Test
+    public void creationShouldReadCompactFileInsteadOfParsingJsonFile() throws JsonProcessingException {
+        // given
+        final Buffer jsonFile = Buffer.buffer(mapper.writeValueAsString(givenVendorList()));
+        given(fileSystem.readDirBlocking(anyString())).willReturn(asList("/cache/dir/1.json", "/cache/dir/1.bin"));
+        givenFileSize("/cache/dir/1.json", jsonFile.length());
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.bin"))).willReturn(givenCompactFile(1, jsonFile));
+
+        // when
+        target = createVendorListService();
+
+        // then
+        assertThat(target.forVersion(1)).succeededWith(givenVendorList().getVendors());
+        verify(fileSystem, never()).readFileBlocking(eq("/cache/dir/1.json"));
+        verify(fileSystem, never()).writeFileBlocking(anyString(), any());
+        verify(metrics).updatePrivacyTcfVendorListLoadMetrics(eq(2), anyLong(), anyLong());
+    }
+
+    @Test
+    public void creationShouldReadJsonFileAndSaveCompactFileIfCompactFileIsCorrupted()
+            throws JsonProcessingException {
+
+        // given
+        final Buffer jsonFile = Buffer.buffer(mapper.writeValueAsString(givenVendorList()));
+        given(fileSystem.readDirBlocking(anyString())).willReturn(asList("/cache/dir/1.json", "/cache/dir/1.bin"));
+        givenFileSize("/cache/dir/1.json", jsonFile.length());
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.bin"))).willReturn(Buffer.buffer("corrupted"));
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.json"))).willReturn(jsonFile);
+
+        // when
+        target = createVendorListService();
+
+        // then
+        assertThat(target.forVersion(1)).succeededWith(givenVendorList().getVendors());
+        verify(fileSystem).writeFileBlocking(eq("/cache/dir/1.bin"), eq(givenCompactFile(1, jsonFile)));
+    }
+
+    @Test
+    public void creationShouldReadJsonFileAndSaveCompactFileIfCompactFileIsStale() throws JsonProcessingException {
+        // given
+        final Buffer jsonFile = Buffer.buffer(mapper.writeValueAsString(givenVendorList()));
+        final Buffer staleJsonFile = Buffer.buffer(mapper.writeValueAsString(
+                VendorList.of(1, new Date(), singletonMap(2, Vendor.empty(2)))));
+        given(fileSystem.readDirBlocking(anyString())).willReturn(asList("/cache/dir/1.json", "/cache/dir/1.bin"));
+        givenFileSize("/cache/dir/1.json", jsonFile.length());
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.json"))).willReturn(jsonFile);
+        given(fileSystem.readFileBlocking(eq("/cache/dir/1.bin")))
+                .willReturn(CompactVendorList.of(singletonMap(2, Vendor.empty(2)))
+                        .toBuffer(1, staleJsonFile.length()));
+
+        // when
+        target = createVendorListService();
+
+        // then
+        assertThat(target.forVersion(1)).succeededWith(givenVendorList().getVendors());
+        verify(fileSystem).writeFileBlocking(eq("/cache/dir/1.bin"), eq(givenCompactFile(1, jsonFile)));
+    }
+
     // In-memory cache related tests
 
     @Test
@@ -613,6 +677,24 @@ public class VendorListServiceTest extends VertxTest {
         verify(metrics).updatePrivacyTcfVendorListFallbackMetric(eq(2));
     }
 
+    private VendorListService createVendorListService() {
+        return new VendorListService(
+                0,
+                CACHE_DIR,
+                "http://vendorlist/{VERSION}",
+                0,
+                REFRESH_MISSING_LIST_PERIOD_MS,
+                false,
+                FALLBACK_VENDOR_LIST_PATH,
+                vertx,
+                fileSystem,
+                httpClient,
+                metrics,
+                GENERATION_VERSION,
+                jacksonMapper,
+                fetchThrottler);
+    }
+
     private static VendorList givenVendorList() {
         final Vendor vendor = Vendor.builder()
                 .id(52)
@@ -644,4 +726,15 @@ public class VendorListServiceTest extends VertxTest {
             return inv.getMock();
         };
     }
+
+    private void givenFileSize(String filepath, long size) {
+        final FileProps fileProps = mock(FileProps.class);
+        given(fileProps.size()).willReturn(size);
+        given(fileSystem.propsBlocking(eq(filepath))).willReturn(fileProps);
+    }
+
+    private static Buffer givenCompactFile(int version, Buffer jsonFile) {
+        return CompactVendorList.of(givenVendorList().getVendors())
+                .toBuffer(version, jsonFile.length());
+    }
 }
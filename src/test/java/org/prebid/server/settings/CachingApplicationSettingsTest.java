@@ -21,6 +21,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Collections.emptyList;
@@ -445,4 +446,40 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    @Test
+    public void getStoredResponsesShouldReturnResultFromCacheOnSuccessiveCalls() {
+        // given
+        given(delegateSettings.getStoredResponses(anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id1", "json1"), emptyList())));
+
+        // when
+        target.getStoredResponses(singleton("id1"), timeout);
+        final Future<StoredResponseDataResult> future = target.getStoredResponses(singleton("id1"), timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(StoredResponseDataResult.of(singletonMap("id1", "json1"), emptyList()));
+        verify(delegateSettings).getStoredResponses(eq(singleton("id1")), same(timeout));
+        verifyNoMoreInteractions(delegateSettings);
+    }
+
+    @Test
+    public void getStoredResponsesShouldDelegateOnlyMissedIds() {
+        // given
+        given(delegateSettings.getStoredResponses(anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id1", "json1"), emptyList())))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(emptyMap(), singletonList("id2 not found"))));
+
+        // when
+        target.getStoredResponses(singleton("id1"), timeout);
+        final Future<StoredResponseDataResult> future = target.getStoredResponses(Set.of("id1", "id2"), timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(
+                StoredResponseDataResult.of(singletonMap("id1", "json1"), singletonList("id2 not found")));
+        verify(delegateSettings).getStoredResponses(eq(singleton("id2")), same(timeout));
+    }
 }
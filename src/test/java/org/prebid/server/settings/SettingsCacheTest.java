@@ -75,4 +75,41 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void saveResponsesShouldAddNewResponsesToCache() {
+        // when
+        settingsCache.saveResponses(singletonMap("respId1", "respValue1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).hasSize(1)
+                .containsEntry("respId1", "respValue1");
+    }
+
+    @Test
+    public void invalidateResponsesShouldRemoveResponsesFromCache() {
+        // given
+        settingsCache.saveResponseCache("respId1", "respValue1");
+        settingsCache.saveResponseCache("respId2", "respValue2");
+
+        // when
+        settingsCache.invalidateResponses(singletonList("respId1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).hasSize(1)
+                .containsEntry("respId2", "respValue2");
+    }
+
+    @Test
+    public void invalidateShouldTolerateMissingIds() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+
+        // when
+        settingsCache.invalidate(null, singletonList("impId1"));
+
+        // then
+        assertThat(settingsCache.getRequestCache()).hasSize(1);
+        assertThat(settingsCache.getImpCache()).isEmpty();
+    }
 }
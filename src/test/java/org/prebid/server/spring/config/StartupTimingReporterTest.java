@@ -0,0 +1,37 @@
+package org.prebid.server.spring.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupTimingReporterTest {
+
+    @Test
+    public void summaryShouldReportPhasesBiddersAndSlowestBeans() {
+        // given
+        final BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+
+        final StartupStep refresh = applicationStartup.start("spring.context.refresh");
+        final StartupStep catalog = applicationStartup.start("spring.beans.instantiate").tag("beanName", "catalog");
+        applicationStartup.start("spring.beans.instantiate").tag("beanName", "rubiconBidderDeps").end();
+        applicationStartup.start("spring.beans.instantiate").tag("beanName", "appnexusBidderDeps").end();
+        catalog.end();
+        refresh.end();
+        applicationStartup.start(StartupTimingReporter.VERTICLES_DEPLOY_STEP).end();
+
+        // when
+        final List<String> result = StartupTimingReporter.summary(applicationStartup.getBufferedTimeline().getEvents());
+
+        // then
+        assertThat(result).hasSize(4);
+        assertThat(result.get(0)).matches("Startup phase 'context refresh' took \\d+ ms");
+        assertThat(result.get(1)).matches("Startup phase 'verticles deployment' took \\d+ ms");
+        assertThat(result.get(2)).matches("Startup of 2 bidders took \\d+ ms");
+        assertThat(result.get(3)).startsWith("Slowest beans to instantiate: ")
+                .contains("catalog (", "rubiconBidderDeps (", "appnexusBidderDeps (");
+    }
+}
@@ -0,0 +1,77 @@
+package org.prebid.server.spring.config;
+
+import io.vertx.core.Verticle;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.verticles.VerticleDefinition;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class VerticleStarterTest {
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private ContextRunner contextRunner;
+
+    @Spy
+    private List<VerticleDefinition> definitions = new ArrayList<>();
+
+    @Mock
+    private ApplicationStartup applicationStartup;
+
+    @Mock
+    private StartupStep startupStep;
+
+    @InjectMocks
+    private VerticleStarter target;
+
+    @BeforeEach
+    public void setUp() {
+        given(applicationStartup.start(StartupTimingReporter.VERTICLES_DEPLOY_STEP)).willReturn(startupStep);
+        definitions.add(VerticleDefinition.ofSingleInstance(() -> mock(Verticle.class)));
+    }
+
+    @Test
+    public void startShouldEndStartupStepAfterDeploymentIsCompleted() {
+        // when
+        target.start();
+
+        // then
+        final InOrder inOrder = inOrder(applicationStartup, contextRunner, startupStep);
+        inOrder.verify(applicationStartup).start(StartupTimingReporter.VERTICLES_DEPLOY_STEP);
+        inOrder.verify(contextRunner).runBlocking(any());
+        inOrder.verify(startupStep).end();
+    }
+
+    @Test
+    public void startShouldEndStartupStepWhenDeploymentFailed() {
+        // given
+        willThrow(new RuntimeException("failed")).given(contextRunner).runBlocking(any());
+
+        // when and then
+        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> target.start());
+        verify(startupStep).end();
+    }
+}
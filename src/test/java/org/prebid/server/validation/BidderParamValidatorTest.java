@@ -118,6 +118,38 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages.size()).isEqualTo(1);
     }
 
+    @Test
+    public void validateShouldReturnCachedValidationMessagesForSameParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10, false, jacksonMapper);
+        final JsonNode node = mapper.convertValue(
+                ExtImpAppnexus.builder().member("memberId").build(), JsonNode.class);
+
+        // when
+        final Set<String> first = bidderParamValidator.validate(APPNEXUS, node);
+        final Set<String> second = bidderParamValidator.validate(APPNEXUS, node.deepCopy());
+
+        // then
+        assertThat(first).hasSize(4);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void validateShouldReturnSameValidationMessagesWhenSchemasAreCompiledLazily() {
+        // given
+        final BidderParamValidator lazyBidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 0, true, jacksonMapper);
+        final JsonNode node = mapper.convertValue(
+                ExtImpAppnexus.builder().member("memberId").build(), JsonNode.class);
+
+        // when
+        final Set<String> result = lazyBidderParamValidator.validate(APPNEXUS, node);
+
+        // then
+        assertThat(result).isEqualTo(bidderParamValidator.validate(APPNEXUS, node));
+    }
+
     @Test
     public void validateShouldReturnValidationMessagesWhenAppnexusImpExtNotValid() {
         // given
@@ -0,0 +1,87 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.validation.CompiledParamSchema.Result;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledParamSchemaTest extends VertxTest {
+
+    @Test
+    public void compileShouldReturnNullForUnsupportedKeyword() throws IOException {
+        // when
+        final CompiledParamSchema result = CompiledParamSchema.compile(
+                toJson("{\"type\":\"object\",\"properties\":{\"id\":{\"type\":\"string\",\"pattern\":\"^a\"}}}"));
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void validateShouldCheckTypesAndRequiredProperties() throws IOException {
+        // given
+        final CompiledParamSchema target = CompiledParamSchema.compile(toJson("""
+                {
+                  "type": "object",
+                  "properties": {
+                    "placementId": {"type": "integer", "minimum": 1},
+                    "siteId": {"type": "string", "minLength": 1}
+                  },
+                  "required": ["placementId"]
+                }"""));
+
+        // when and then
+        assertThat(target.validate(toJson("{\"placementId\":1,\"siteId\":\"site\"}"))).isEqualTo(Result.VALID);
+        assertThat(target.validate(toJson("{\"siteId\":\"site\"}"))).isEqualTo(Result.INVALID);
+        assertThat(target.validate(toJson("{\"placementId\":0}"))).isEqualTo(Result.INVALID);
+        assertThat(target.validate(toJson("{\"placementId\":1,\"siteId\":\"\"}"))).isEqualTo(Result.INVALID);
+        assertThat(target.validate(toJson("{\"placementId\":\"1\"}"))).isEqualTo(Result.INVALID);
+    }
+
+    @Test
+    public void validateShouldReturnUnknownForWholeFloatingNumberAsInteger() throws IOException {
+        // given
+        final CompiledParamSchema target = CompiledParamSchema.compile(toJson("{\"type\":\"integer\"}"));
+
+        // when and then
+        assertThat(target.validate(toJson("1.0"))).isEqualTo(Result.UNKNOWN);
+    }
+
+    @Test
+    public void validateShouldRequireExactlyOneMatchingSchemaForOneOf() throws IOException {
+        // given
+        final CompiledParamSchema target = CompiledParamSchema.compile(toJson("""
+                {
+                  "type": "object",
+                  "oneOf": [{"required": ["siteId"]}, {"required": ["placementId"]}]
+                }"""));
+
+        // when and then
+        assertThat(target.validate(toJson("{\"siteId\":1}"))).isEqualTo(Result.VALID);
+        assertThat(target.validate(toJson("{\"siteId\":1,\"placementId\":1}"))).isEqualTo(Result.INVALID);
+        assertThat(target.validate(toJson("{}"))).isEqualTo(Result.INVALID);
+    }
+
+    @Test
+    public void validateShouldRejectAdditionalPropertiesWhenNotAllowed() throws IOException {
+        // given
+        final CompiledParamSchema target = CompiledParamSchema.compile(toJson("""
+                {
+                  "type": "object",
+                  "additionalProperties": false,
+                  "properties": {"siteId": {"type": "string"}}
+                }"""));
+
+        // when and then
+        assertThat(target.validate(toJson("{\"siteId\":\"site\"}"))).isEqualTo(Result.VALID);
+        assertThat(target.validate(toJson("{\"siteId\":\"site\",\"other\":1}"))).isEqualTo(Result.INVALID);
+    }
+
+    private static JsonNode toJson(String json) throws IOException {
+        return mapper.readTree(json);
+    }
+}
@@ -0,0 +1,148 @@
+package org.prebid.server.vast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VastImpressionInjectorTest {
+
+    private static final String URL = "http://external-url/event";
+
+    private static final Pattern WRAPPER_OPEN_TAG_PATTERN =
+            Pattern.compile("<\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WRAPPER_CLOSE_TAG_PATTERN =
+            Pattern.compile("<\\s*/\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INLINE_OPEN_TAG_PATTERN =
+            Pattern.compile("<\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INLINE_CLOSE_TAG_PATTERN =
+            Pattern.compile("<\\s*/\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern IMPRESSION_CLOSE_TAG_PATTERN =
+            Pattern.compile("<\\s*/\\s*impression(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+
+    private static final List<String> GOLDEN_VAST_XMLS = List.of(
+            "",
+            "vast",
+            "<Impression>http:/test.com</Impression>",
+            "<VAST version=\"3.0\"><Ad><Wrapper><AdSystem>prebid.org wrapper</AdSystem>"
+                    + "<VASTAdTagURI><![CDATA[adm2]]></VASTAdTagURI><Impression></Impression>"
+                    + "<Creatives></Creatives></Wrapper></Ad></VAST>",
+            "<Wrapper><Impression>http:/test.com</Impression></Wrapper>",
+            "<Wrapper><  impreSSion garbage >http:/test.com<  /ImPression  garbage ></Wrapper>",
+            "<InLine><Impression>http:/test.com</Impression>"
+                    + "<Impression>http:/test2.com</Impression><Creatives></Creatives></InLine>",
+            "<InLine>< Impression  >http:/test.com<   /Impression  ><Creatives></Creatives></InLine>",
+            "<InLine></InLine>",
+            "<InLine>",
+            "<  wraPPer garbage><Impression>http:/test.com</Impression><  / wraPPer garbage>",
+            "<  wraPPer garbage>< / wrapPer  garbage>",
+            "<Inline><Impression>http:/test.com</Impression></Inline>",
+            "< / InLIne garbage ><  InLIne garbage >< / InLIne garbage >",
+            "<Impression>before</Impression><InLine><Impression>after</Impression></InLine>",
+            "<Wrapper><Impression>w</Impression></Wrapper><InLine></InLine>",
+            "<InLine></InLine><Wrapper><Impression>w</Impression></Wrapper>",
+            "<InLineX><Impression>i</Impression></InLineX>",
+            "<Wrappers><Impression>i</Impression></Wrappers><Wrapper></Wrapper>",
+            "<InLine\n><Impression>i</Impression></InLine>",
+            "<InLine attr\n=\"1\"><Impression>i</Impression></InLine><InLine a=\"2\"></InLine>",
+            "<InLine>< /Impression x\n></InLine>",
+            "<InLine></Impression x </Impression></InLine>",
+            "<InLine a </Impression><Impression>i</Impression></InLine>",
+            "<InLine></InLine x\n></InLine>",
+            "<InLine> </InLine  ></InLine>",
+            "<InLine></Impression",
+            "<InLine></Impression ",
+            "<Wrapper>",
+            "<<<Wrapper>>></Impression>>");
+
+    @Test
+    public void injectShouldProduceSameResultAsRegexBasedImplementationForGoldenVastXmls() {
+        for (String vastXml : GOLDEN_VAST_XMLS) {
+            assertThat(VastImpressionInjector.inject(vastXml, URL))
+                    .describedAs(vastXml)
+                    .isEqualTo(regexInject(vastXml, URL));
+        }
+    }
+
+    @Test
+    public void injectShouldProduceSameResultAsRegexBasedImplementationForRandomVastXmls() {
+        // given
+        final String[] tokens = {"<", ">", "/", " ", "\n", "\r", "InLine", "inline", "Wrapper", "WRAPPER",
+                "Impression", "impression", "x", "<![CDATA[", "]]>", "Ad", "VAST"};
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder builder = new StringBuilder();
+            final int size = random.nextInt(40);
+            for (int j = 0; j < size; j++) {
+                builder.append(tokens[random.nextInt(tokens.length)]);
+            }
+            final String vastXml = builder.toString();
+
+            // when and then
+            assertThat(VastImpressionInjector.inject(vastXml, URL))
+                    .describedAs(vastXml)
+                    .isEqualTo(regexInject(vastXml, URL));
+        }
+    }
+
+    @Test
+    public void injectShouldReturnSameInstanceIfThereIsNoPlaceToInsertImpression() {
+        // given
+        final String vastXml = "<InLine>";
+
+        // when and then
+        assertThat(VastImpressionInjector.inject(vastXml, URL)).get().isSameAs(vastXml);
+    }
+
+    @Test
+    public void injectShouldReturnEmptyResultIfThereIsNeitherInLineNorWrapper() {
+        // when and then
+        assertThat(VastImpressionInjector.inject("<Impression>i</Impression>", URL)).isEmpty();
+    }
+
+    /**
+     * Reference implementation used by {@link VastModifier} before the single-pass injector.
+     */
+    private static Optional<String> regexInject(String xml, String urlTracking) {
+        return regexInject(xml, urlTracking, INLINE_OPEN_TAG_PATTERN, INLINE_CLOSE_TAG_PATTERN)
+                .or(() -> regexInject(xml, urlTracking, WRAPPER_OPEN_TAG_PATTERN, WRAPPER_CLOSE_TAG_PATTERN));
+    }
+
+    private static Optional<String> regexInject(String vastXml,
+                                                String vastUrlTracking,
+                                                Pattern openTagPattern,
+                                                Pattern closeTagPattern) {
+
+        final Matcher openTagMatcher = openTagPattern.matcher(vastXml);
+        if (!openTagMatcher.find()) {
+            return Optional.empty();
+        }
+
+        final Matcher impressionCloseTagMatcher = IMPRESSION_CLOSE_TAG_PATTERN.matcher(vastXml);
+        if (impressionCloseTagMatcher.find(openTagMatcher.end())) {
+            int replacementEnd = impressionCloseTagMatcher.end();
+            while (impressionCloseTagMatcher.find(replacementEnd)) {
+                replacementEnd = impressionCloseTagMatcher.end();
+            }
+            return Optional.of(regexInsert(vastXml, replacementEnd, vastUrlTracking));
+        }
+
+        final Matcher closeTagMatcher = closeTagPattern.matcher(vastXml);
+        if (!closeTagMatcher.find(openTagMatcher.end())) {
+            return Optional.of(vastXml);
+        }
+
+        return Optional.of(regexInsert(vastXml, closeTagMatcher.start(), vastUrlTracking));
+    }
+
+    private static String regexInsert(String vastXml, int index, String vastUrlTracking) {
+        final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
+        return vastXml.substring(0, index) + impressionTag + vastXml.substring(index);
+    }
+}
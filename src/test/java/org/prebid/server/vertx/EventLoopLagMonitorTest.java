@@ -0,0 +1,57 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EventLoopLagMonitorTest {
+
+    @Mock
+    private Vertx vertx;
+
+    @Test
+    public void creationShouldFailOnNonPositiveProbeInterval() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new EventLoopLagMonitor(0));
+    }
+
+    @Test
+    public void getMaxLagMillisShouldReturnZeroWhenNoProbesFired() {
+        // given
+        final EventLoopLagMonitor target = new EventLoopLagMonitor(10);
+        target.register(vertx);
+
+        // when and then
+        assertThat(target.getMaxLagMillis()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void getMaxLagMillisShouldReturnLagOfDelayedProbeAndRescheduleIt() throws InterruptedException {
+        // given
+        final EventLoopLagMonitor target = new EventLoopLagMonitor(10);
+        target.register(vertx);
+
+        final ArgumentCaptor<Handler<Long>> probeCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(10L), probeCaptor.capture());
+
+        // when
+        Thread.sleep(50);
+        probeCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(target.getMaxLagMillis()).isGreaterThanOrEqualTo(40);
+        verify(vertx, times(2)).setTimer(eq(10L), any());
+    }
+}
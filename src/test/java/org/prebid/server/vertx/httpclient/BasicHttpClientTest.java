@@ -33,6 +33,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -80,6 +81,29 @@ public class BasicHttpClientTest {
         verify(httpClientRequest).send(eq(Buffer.buffer("body".getBytes())));
     }
 
+    @Test
+    public void requestShouldSetUrlPartsSameAsParsedAbsoluteUrl() {
+        // given
+        final String url = "https://www.example.com:8443/path/to?query=value#fragment";
+
+        // when
+        httpClient.request(HttpMethod.GET, url, null, (String) null, 500L);
+        httpClient.request(HttpMethod.GET, "https://www.example.com:8443?query=value", null, (String) null, 500L);
+
+        // then
+        final ArgumentCaptor<RequestOptions> requestOptionsArgumentCaptor =
+                ArgumentCaptor.forClass(RequestOptions.class);
+        verify(wrappedHttpClient, times(2)).request(requestOptionsArgumentCaptor.capture());
+
+        final RequestOptions first = requestOptionsArgumentCaptor.getAllValues().getFirst();
+        final RequestOptions expected = new RequestOptions().setAbsoluteURI(url);
+        assertThat(first.isSsl()).isTrue();
+        assertThat(first.getHost()).isEqualTo(expected.getHost());
+        assertThat(first.getPort()).isEqualTo(expected.getPort());
+        assertThat(first.getURI()).isEqualTo("/path/to?query=value");
+        assertThat(requestOptionsArgumentCaptor.getAllValues().get(1).getURI()).isEqualTo("/?query=value");
+    }
+
     @Test
     public void requestShouldSucceedIfHttpRequestSucceeds() {
         // given